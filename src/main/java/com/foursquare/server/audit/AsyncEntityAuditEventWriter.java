@@ -1,22 +1,21 @@
 package com.foursquare.server.audit;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.foursquare.server.domain.AbstractAuditingEntity;
 import com.foursquare.server.domain.EntityAuditEvent;
 import com.foursquare.server.domain.enumeration.EntityAuditAction;
-import com.foursquare.server.repository.EntityAuditEventRepository;
 import java.io.IOException;
-import java.lang.reflect.Field;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
-import org.springframework.core.convert.ConversionService;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
  * Async Entity Audit Event writer
- * This is invoked by Hibernate entity listeners to write audit event for entities
+ * This is invoked by Hibernate entity listeners to write audit event for entities.
+ * Events are captured in the calling thread and appended to the {@link EntityAuditJournal} when it is enabled, or else
+ * handed to the {@link EntityAuditEventQueue}; both write them in batches.
  */
 @Component
 @Profile("!testdev & !testprod")
@@ -24,32 +23,39 @@ public class AsyncEntityAuditEventWriter implements EntityAuditEventWriter {
 
     private final Logger log = LoggerFactory.getLogger(AsyncEntityAuditEventWriter.class);
 
-    private final EntityAuditEventRepository auditingEntityRepository;
+    private final EntityAuditEventQueue auditEventQueue;
 
-    private final ObjectMapper objectMapper; //Jackson object mapper
+    private final EntityAuditJournal auditJournal;
 
-    private final ConversionService conversionService;
+    private final EntityAuditAccessorRegistry accessorRegistry;
 
     public AsyncEntityAuditEventWriter(
-        EntityAuditEventRepository auditingEntityRepository,
-        ObjectMapper objectMapper,
-        ConversionService conversionService
+        EntityAuditEventQueue auditEventQueue,
+        ObjectProvider<EntityAuditJournal> auditJournal,
+        EntityAuditAccessorRegistry accessorRegistry
     ) {
-        this.auditingEntityRepository = auditingEntityRepository;
-        this.objectMapper = objectMapper;
-        this.conversionService = conversionService;
+        this.auditEventQueue = auditEventQueue;
+        this.auditJournal = auditJournal.getIfAvailable();
+        this.accessorRegistry = accessorRegistry;
     }
 
     /**
-     * Writes audit events to DB asynchronously in a new thread
+     * Journals or queues audit events to be written to DB asynchronously. Events that cannot be journaled are queued.
      */
-    @Async
     public void writeAuditEvent(Object target, EntityAuditAction action) {
         log.debug("-------------- Post {} audit  --------------", action.value());
         try {
             EntityAuditEvent auditedEntity = prepareAuditEntity(target, action);
             if (auditedEntity != null) {
-                auditingEntityRepository.save(auditedEntity);
+                if (auditJournal != null) {
+                    try {
+                        auditJournal.append(auditedEntity);
+                        return;
+                    } catch (IOException e) {
+                        log.error("Could not journal {} audit event for {}, queueing it", action.value(), target, e);
+                    }
+                }
+                auditEventQueue.offer(auditedEntity);
             }
         } catch (Exception e) {
             log.error("Exception while persisting audit entity for {} error: {}", target, e);
@@ -63,54 +69,34 @@ public class AsyncEntityAuditEventWriter implements EntityAuditEventWriter {
      * @param action
      * @return
      */
-    private EntityAuditEvent prepareAuditEntity(final Object entity, EntityAuditAction action) {
+    EntityAuditEvent prepareAuditEntity(final Object target, EntityAuditAction action) {
         EntityAuditEvent auditedEntity = new EntityAuditEvent();
-        Class<?> entityClass = entity.getClass(); // Retrieve entity class with reflection
+        final Object entity = accessorRegistry.unproxy(target);
+        EntityAuditAccessorRegistry.EntityAccessor accessor = accessorRegistry.accessorFor(entity);
         auditedEntity.setAction(action.value());
-        auditedEntity.setEntityType(entityClass.getName());
+        auditedEntity.setEntityType(accessor.entityClass().getName());
         Object entityId;
         String entityData;
         log.trace("Getting Entity Id and Content");
         try {
-            Field privateLongField = entityClass.getDeclaredField("id");
-            privateLongField.setAccessible(true);
-            entityId = privateLongField.get(entity);
-            privateLongField.setAccessible(false);
-            entityData = objectMapper.writeValueAsString(entity);
-        } catch (IllegalArgumentException | IllegalAccessException | NoSuchFieldException | SecurityException | IOException e) {
+            entityId = accessor.getId(entity);
+            entityData = accessor.writeValueAsString(entity);
+        } catch (IllegalStateException | JsonProcessingException e) {
             log.error("Exception while getting entity ID and content", e);
             // returning null as we don't want to raise an application exception here
             return null;
         }
-        auditedEntity.setEntityId(conversionService.convert(entityId, String.class));
+        auditedEntity.setEntityId(entityId == null ? null : entityId.toString());
         auditedEntity.setEntityValue(entityData);
         final AbstractAuditingEntity abstractAuditEntity = (AbstractAuditingEntity) entity;
         if (EntityAuditAction.CREATE.equals(action)) {
             auditedEntity.setModifiedBy(abstractAuditEntity.getCreatedBy());
             auditedEntity.setModifiedDate(abstractAuditEntity.getCreatedDate());
-            auditedEntity.setCommitVersion(1);
         } else {
             auditedEntity.setModifiedBy(abstractAuditEntity.getLastModifiedBy());
             auditedEntity.setModifiedDate(abstractAuditEntity.getLastModifiedDate());
-            calculateVersion(auditedEntity);
         }
-        log.trace("Audit Entity --> {} ", auditedEntity.toString());
+        log.trace("Audit Entity --> {} ", auditedEntity);
         return auditedEntity;
     }
-
-    private void calculateVersion(EntityAuditEvent auditedEntity) {
-        log.trace("Version calculation. for update/remove");
-        Integer lastCommitVersion = auditingEntityRepository.findMaxCommitVersion(
-            auditedEntity.getEntityType(),
-            auditedEntity.getEntityId()
-        );
-        log.trace("Last commit version of entity => {}", lastCommitVersion);
-        if (lastCommitVersion != null && lastCommitVersion != 0) {
-            log.trace("Present. Adding version..");
-            auditedEntity.setCommitVersion(lastCommitVersion + 1);
-        } else {
-            log.trace("No entities.. Adding new version 1");
-            auditedEntity.setCommitVersion(1);
-        }
-    }
 }
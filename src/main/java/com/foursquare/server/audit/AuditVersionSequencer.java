@@ -0,0 +1,14 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.domain.EntityAuditEvent;
+
+/**
+ * Hands out commit versions for {@link EntityAuditEvent}s, one sequence per audited entity.
+ * <p>
+ * A CREATE event restarts the sequence at 1. Any other event continues from the last version handed out for the
+ * same entity; the sequence is seeded from the stored audit events the first time an entity is seen.
+ */
+@FunctionalInterface
+public interface AuditVersionSequencer {
+    int nextVersion(EntityAuditEvent auditedEntity);
+}
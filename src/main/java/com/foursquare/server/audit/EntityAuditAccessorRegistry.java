@@ -0,0 +1,93 @@
+package com.foursquare.server.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.foursquare.server.domain.AbstractAuditingEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds, per audited entity class, a method handle reading the entity id and a Jackson writer bound to the class.
+ * <p>
+ * Accessors are built once at startup for every {@link AbstractAuditingEntity} subclass known to JPA, so that writing an
+ * audit event needs neither reflective field access nor a serializer lookup. Hibernate proxies are unwrapped before an
+ * accessor is chosen, so an event always carries the entity class and its initialized state.
+ */
+@Component
+public class EntityAuditAccessorRegistry {
+
+    private static final MethodType ID_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Logger log = LoggerFactory.getLogger(EntityAuditAccessorRegistry.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, EntityAccessor> accessors = new ConcurrentHashMap<>();
+
+    public EntityAuditAccessorRegistry(EntityManagerFactory entityManagerFactory, ObjectMapper objectMapper) {
+        this(entityManagerFactory.getMetamodel().getEntities().stream().<Class<?>>map(EntityType::getJavaType).toList(), objectMapper);
+    }
+
+    EntityAuditAccessorRegistry(Collection<Class<?>> entityClasses, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Class<?> entityClass : entityClasses) {
+            if (AbstractAuditingEntity.class.isAssignableFrom(entityClass)) {
+                accessors.put(entityClass, createAccessor(entityClass));
+            }
+        }
+        log.debug("Built audit accessors for {} entity classes", accessors.size());
+    }
+
+    /**
+     * Return the entity behind a Hibernate proxy, or the entity itself if it is not a proxy.
+     */
+    public Object unproxy(Object entity) {
+        return Hibernate.unproxy(entity);
+    }
+
+    /**
+     * Return the accessor of an unproxied entity, creating it if the class was not known at startup.
+     */
+    public EntityAccessor accessorFor(Object entity) {
+        return accessors.computeIfAbsent(entity.getClass(), this::createAccessor);
+    }
+
+    private EntityAccessor createAccessor(Class<?> entityClass) {
+        try {
+            MethodHandle idGetter = MethodHandles.publicLookup().unreflect(entityClass.getMethod("getId")).asType(ID_GETTER_TYPE);
+            return new EntityAccessor(entityClass, idGetter, objectMapper.writerFor(entityClass));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access the id of audited entity " + entityClass.getName(), e);
+        }
+    }
+
+    /**
+     * Precompiled access to one audited entity class.
+     */
+    public record EntityAccessor(Class<?> entityClass, MethodHandle idGetter, ObjectWriter writer) {
+        public Object getId(Object entity) {
+            try {
+                return idGetter.invokeExact(entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read the id of " + entityClass.getName(), e);
+            }
+        }
+
+        public String writeValueAsString(Object entity) throws JsonProcessingException {
+            return writer.writeValueAsString(entity);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.foursquare.server.audit;
+
+import java.util.Set;
+
+/**
+ * Notified by the {@link EntityAuditEventListener} once changes to audited entities are committed, such as to
+ * invalidate what was derived from them.
+ */
+@FunctionalInterface
+public interface EntityAuditCommitListener {
+    /**
+     * Called after a transaction which created, updated or deleted entities of the given classes has committed, or
+     * right after the change when there was no transaction.
+     *
+     * @param entityClasses the classes of the changed entities.
+     */
+    void onEntitiesCommitted(Set<Class<?>> entityClasses);
+}
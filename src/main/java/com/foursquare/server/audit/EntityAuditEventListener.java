@@ -4,10 +4,14 @@ import com.foursquare.server.domain.enumeration.EntityAuditAction;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
+import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class EntityAuditEventListener extends AuditingEntityListener {
 
@@ -15,6 +19,8 @@ public class EntityAuditEventListener extends AuditingEntityListener {
 
     private static EntityAuditEventWriter entityAuditEventWriter;
 
+    private static List<EntityAuditCommitListener> entityAuditCommitListeners = List.of();
+
     @PostPersist
     public void onPostCreate(Object target) {
         writeEvent(target, EntityAuditAction.CREATE);
@@ -30,12 +36,24 @@ public class EntityAuditEventListener extends AuditingEntityListener {
         writeEvent(target, EntityAuditAction.DELETE);
     }
 
+    /**
+     * Inside a transaction, the event is buffered and written once the transaction commits,
+     * see {@link EntityAuditTransactionBuffer}. Outside of one, it is written right away.
+     * The {@link EntityAuditCommitListener}s are notified after the event is written.
+     */
     public void writeEvent(Object target, EntityAuditAction action) {
         if (entityAuditEventWriter == null) {
             throw new RuntimeException("AsyncEntityAuditEventWriter instace is not set");
         }
         try {
-            entityAuditEventWriter.writeAuditEvent(target, action);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                EntityAuditTransactionBuffer.current(entityAuditEventWriter, entityAuditCommitListeners).add(target, action);
+            } else {
+                entityAuditEventWriter.writeAuditEvent(target, action);
+                for (EntityAuditCommitListener entityAuditCommitListener : entityAuditCommitListeners) {
+                    entityAuditCommitListener.onEntitiesCommitted(Set.of(target.getClass()));
+                }
+            }
         } catch (Exception e) {
             log.error("Exception while persisting delete audit entity", e);
         }
@@ -48,8 +66,12 @@ public class EntityAuditEventListener extends AuditingEntityListener {
     @Configuration
     static class AuditConfig {
 
-        public AuditConfig(EntityAuditEventWriter entityAuditEventWriter) {
+        public AuditConfig(
+            EntityAuditEventWriter entityAuditEventWriter,
+            ObjectProvider<EntityAuditCommitListener> entityAuditCommitListeners
+        ) {
             EntityAuditEventListener.entityAuditEventWriter = entityAuditEventWriter;
+            EntityAuditEventListener.entityAuditCommitListeners = entityAuditCommitListeners.orderedStream().toList();
         }
     }
 }
@@ -0,0 +1,235 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bounded in-memory queue for {@link EntityAuditEvent}s.
+ * <p>
+ * A single drainer thread collects queued events and writes them in one transaction per batch, so Hibernate can
+ * send them as JDBC batch inserts. A batch is flushed when it reaches {@code application.audit.batch-size} events
+ * or when {@code application.audit.flush-interval} has elapsed, whichever comes first. Pending events are flushed
+ * when the application context stops.
+ */
+@Component
+@Profile("!testdev & !testprod")
+public class EntityAuditEventQueue implements SmartLifecycle {
+
+    public static final String QUEUE_DEPTH_METER_NAME = "audit.queue.depth";
+    public static final String FLUSH_LATENCY_METER_NAME = "audit.flush.latency";
+    public static final String DROPPED_EVENTS_METER_NAME = "audit.events.dropped";
+    public static final String FAILED_EVENTS_METER_NAME = "audit.events.failed";
+
+    /**
+     * Offered on stop to wake the drainer up from a pending poll; never written.
+     */
+    private static final EntityAuditEvent WAKE_UP = new EntityAuditEvent();
+
+    private final Logger log = LoggerFactory.getLogger(EntityAuditEventQueue.class);
+
+    private final EntityAuditEventRepository auditingEntityRepository;
+
+    private final AuditVersionSequencer versionSequencer;
+
+    private final EntityAuditPayloadCodec payloadCodec;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Audit properties;
+
+    private final BlockingQueue<EntityAuditEvent> queue;
+
+    private final Timer flushTimer;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+
+    private Thread drainer;
+
+    public EntityAuditEventQueue(
+        EntityAuditEventRepository auditingEntityRepository,
+        AuditVersionSequencer versionSequencer,
+        EntityAuditPayloadCodec payloadCodec,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.auditingEntityRepository = auditingEntityRepository;
+        this.versionSequencer = versionSequencer;
+        this.payloadCodec = payloadCodec;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getAudit();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder(QUEUE_DEPTH_METER_NAME, queue, BlockingQueue::size)
+            .description("Number of audit events waiting to be written")
+            .baseUnit("events")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_LATENCY_METER_NAME)
+            .description("Time taken to write one batch of audit events")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_EVENTS_METER_NAME)
+            .description("Audit events rejected because the queue was full")
+            .baseUnit("events")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_EVENTS_METER_NAME)
+            .description("Audit events lost because their batch could not be written")
+            .baseUnit("events")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue an audit event for writing, applying the configured overflow policy when the queue is full.
+     *
+     * @param auditEvent the event to write.
+     * @return {@code true} if the event was accepted.
+     */
+    public boolean offer(EntityAuditEvent auditEvent) {
+        boolean accepted;
+        if (properties.getOverflowPolicy() == ApplicationProperties.Audit.OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(auditEvent, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(auditEvent);
+        }
+        if (!accepted) {
+            droppedCounter.increment();
+            log.warn("Audit queue is full, dropping {} event for {}", auditEvent.getAction(), auditEvent.getEntityType());
+        }
+        return accepted;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drain, "entity-audit-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = drainer;
+        }
+        queue.offer(WAKE_UP);
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Audit queue did not drain within {}, {} events left unwritten", properties.getShutdownTimeout(), queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        int batchSize = properties.getBatchSize();
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        List<EntityAuditEvent> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + intervalNanos;
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            long remaining = deadline - System.nanoTime();
+            if (running && remaining > 0 && batch.size() < batchSize) {
+                try {
+                    EntityAuditEvent event = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (event != null && event != WAKE_UP) {
+                        batch.add(event);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                }
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            batch.removeIf(event -> event == WAKE_UP);
+            if (batch.size() >= batchSize || System.nanoTime() - deadline >= 0 || !running) {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+                deadline = System.nanoTime() + intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Send the inserts of the next batch to the database in a single JDBC batch.
+     */
+    void setJdbcBatchSize(int batchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+    }
+
+    /**
+     * Write a batch of audit events in one transaction, assigning the commit versions they do not have yet.
+     *
+     * @return {@code true} if the batch was written.
+     */
+    boolean flush(List<EntityAuditEvent> batch) {
+        log.debug("Writing batch of {} audit events", batch.size());
+        try {
+            flushTimer.record(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    setJdbcBatchSize(batch.size());
+                    for (EntityAuditEvent auditedEntity : batch) {
+                        if (auditedEntity.getCommitVersion() == null) {
+                            auditedEntity.setCommitVersion(versionSequencer.nextVersion(auditedEntity));
+                        }
+                        payloadCodec.encode(auditedEntity);
+                    }
+                    auditingEntityRepository.saveAll(batch);
+                    entityManager.flush();
+                    entityManager.clear();
+                })
+            );
+            return true;
+        } catch (Exception e) {
+            payloadCodec.reset();
+            failedCounter.increment(batch.size());
+            log.error("Exception while persisting batch of {} audit events", batch.size(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,543 @@
+package com.foursquare.server.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only write-ahead journal for {@link EntityAuditEvent}s on local disk.
+ * <p>
+ * Events are appended to memory-mapped segment files of {@code application.audit.journal-segment-size} bytes, each
+ * record being its length, a CRC32 checksum, the commit version of the event once assigned and the event as JSON. A
+ * replayer thread reads the journal in order and writes the events to the database in batches through
+ * {@link EntityAuditEventQueue#flush(List)}, retrying a batch until it succeeds. The position of the last written
+ * record is saved in a checkpoint file, and segments are deleted once they are fully written, so that appending never
+ * waits for the database and no event is lost on restart.
+ * <p>
+ * Appending does not wait for the disk either: a syncer thread forces the records appended since its last pass every
+ * {@code application.audit.journal-fsync-interval}, and a segment is forced when it is full and on stop. A crash of the
+ * process loses no record, as the operating system still writes back the mapped pages, but a crash or power loss of the
+ * host loses the records appended within the last interval.
+ * <p>
+ * The commit versions of a batch are assigned once and saved in its records before it is written, so that retrying it,
+ * even after a restart, does not leave gaps in the versions. After a restart or a failed batch, it is not known
+ * whether the next batch already reached the database, so its events whose journal key is already stored are skipped.
+ * A record failing its checksum is copied to the {@value #QUARANTINE_DIRECTORY} directory, counted in
+ * {@value #CORRUPTED_METER_NAME} and skipped.
+ * <p>
+ * Journaled events bypass the bounded queue of {@link EntityAuditEventQueue}, and its dropped events metric, so the
+ * journal is only enabled with {@code application.audit.journal-enabled}.
+ */
+@Component
+@Profile("!testdev & !testprod")
+@ConditionalOnProperty(prefix = "application.audit", name = "journal-enabled", havingValue = "true")
+public class EntityAuditJournal implements SmartLifecycle {
+
+    public static final String SEGMENTS_METER_NAME = "audit.journal.segments";
+    public static final String CORRUPTED_METER_NAME = "audit.journal.corrupted";
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private static final String QUARANTINE_DIRECTORY = "quarantine";
+
+    /**
+     * Length, checksum and commit version of a record, the version being 0 until assigned.
+     */
+    private static final int HEADER_SIZE = 12;
+
+    private static final int VERSION_OFFSET = 8;
+
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+
+    private final Logger log = LoggerFactory.getLogger(EntityAuditJournal.class);
+
+    private final EntityAuditEventQueue auditEventQueue;
+
+    private final EntityAuditEventRepository auditingEntityRepository;
+
+    private final AuditVersionSequencer versionSequencer;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties.Audit properties;
+
+    private final Path directory;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private final Object appended = new Object();
+
+    private final Counter corruptedCounter;
+
+    private Segment activeSegment;
+
+    private Segment readSegment;
+
+    private int readPosition;
+
+    private boolean verifyNextBatch = true;
+
+    private volatile boolean running;
+
+    private Thread replayer;
+
+    private Thread syncer;
+
+    public EntityAuditJournal(
+        EntityAuditEventQueue auditEventQueue,
+        EntityAuditEventRepository auditingEntityRepository,
+        AuditVersionSequencer versionSequencer,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.auditEventQueue = auditEventQueue;
+        this.auditingEntityRepository = auditingEntityRepository;
+        this.versionSequencer = versionSequencer;
+        this.objectMapper = objectMapper;
+        this.properties = applicationProperties.getAudit();
+        this.directory = Paths.get(properties.getJournalDirectory());
+        open();
+        Gauge.builder(SEGMENTS_METER_NAME, segments, Map::size)
+            .description("Number of audit journal segments not yet fully written to the database")
+            .register(meterRegistry);
+        this.corruptedCounter = Counter.builder(CORRUPTED_METER_NAME)
+            .description("Number of audit journal records skipped because they failed their checksum")
+            .register(meterRegistry);
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                    String name = file.getFileName().toString();
+                    Segment segment = Segment.recover(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+                    segments.put(segment.sequence, segment);
+                }
+            }
+            long[] checkpoint = readCheckpoint();
+            for (Segment segment : segments.headMap(checkpoint[0]).values()) {
+                delete(segment);
+            }
+            long nextSequence = segments.isEmpty() ? checkpoint[0] + 1 : segments.lastKey() + 1;
+            activeSegment = Segment.create(nextSequence, directory.resolve(segmentName(nextSequence)), segmentSize(0));
+            segments.put(activeSegment.sequence, activeSegment);
+            readSegment = segments.firstEntry().getValue();
+            readPosition = readSegment.sequence == checkpoint[0] ? (int) checkpoint[1] : 0;
+            if (segments.size() > 1) {
+                log.info("Audit journal has {} segments left to write from a previous run", segments.size() - 1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the audit journal in " + directory, e);
+        }
+    }
+
+    /**
+     * Append an audit event to the journal; it is written to the database by the replayer.
+     *
+     * @param auditEvent the event to write.
+     * @throws IOException if the event could not be serialized or a new segment could not be created.
+     */
+    public void append(EntityAuditEvent auditEvent) throws IOException {
+        auditEvent.setJournalKey(UUID.randomUUID());
+        byte[] payload = objectMapper.writeValueAsBytes(auditEvent);
+        CRC32 checksum = new CRC32();
+        checksum.update(payload);
+        synchronized (this) {
+            if (activeSegment.buffer.capacity() - activeSegment.writePosition < HEADER_SIZE + payload.length) {
+                roll(payload.length);
+            }
+            MappedByteBuffer buffer = activeSegment.buffer;
+            int position = activeSegment.writePosition;
+            buffer.putInt(position + 4, (int) checksum.getValue());
+            buffer.put(position + HEADER_SIZE, payload);
+            // The length is written last, so a torn record reads as the end of the segment
+            buffer.putInt(position, payload.length);
+            activeSegment.writePosition = position + HEADER_SIZE + payload.length;
+        }
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+    }
+
+    private void roll(int payloadLength) throws IOException {
+        Segment next = Segment.create(
+            activeSegment.sequence + 1,
+            directory.resolve(segmentName(activeSegment.sequence + 1)),
+            segmentSize(payloadLength)
+        );
+        segments.put(next.sequence, next);
+        activeSegment.buffer.force();
+        activeSegment.sealed = true;
+        activeSegment = next;
+    }
+
+    private int segmentSize(int payloadLength) {
+        // One extra header leaves room for the zero length that ends a full segment
+        return (int) Math.max(properties.getJournalSegmentSize().toBytes(), 2L * HEADER_SIZE + payloadLength);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        replayer = new Thread(this::replay, "entity-audit-journal-replayer");
+        replayer.setDaemon(true);
+        replayer.start();
+        syncer = new Thread(this::syncPeriodically, "entity-audit-journal-syncer");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = replayer;
+            syncer.interrupt();
+        }
+        synchronized (appended) {
+            appended.notifyAll();
+        }
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            activeSegment.buffer.force();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Force the records appended to the active segment since the last call to disk.
+     */
+    void sync() {
+        Segment segment;
+        int end;
+        synchronized (this) {
+            segment = activeSegment;
+            end = segment.writePosition;
+        }
+        // The records up to the end are complete, and a segment rolled over meanwhile was forced whole
+        if (end > segment.forcedPosition) {
+            segment.buffer.force(segment.forcedPosition, end - segment.forcedPosition);
+            segment.forcedPosition = end;
+        }
+    }
+
+    private void syncPeriodically() {
+        while (running) {
+            sleep(properties.getJournalFsyncInterval().toMillis());
+            sync();
+        }
+    }
+
+    private void replay() {
+        long retryDelay = properties.getFlushInterval().toMillis();
+        while (running) {
+            try {
+                if (!replayBatch()) {
+                    waitForEvents();
+                }
+                retryDelay = properties.getFlushInterval().toMillis();
+            } catch (RuntimeException e) {
+                log.error("Could not write audit journal batch, retrying in {} ms", retryDelay, e);
+                verifyNextBatch = true;
+                sleep(retryDelay);
+                retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Write the next batch of journaled events to the database.
+     *
+     * @return {@code false} if there was nothing to write.
+     */
+    boolean replayBatch() {
+        boolean sealed = readSegment.sealed;
+        int end = readSegment.writePosition;
+        MappedByteBuffer buffer = readSegment.buffer;
+        List<EntityAuditEvent> batch = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        int position = readPosition;
+        while (batch.size() < properties.getBatchSize() && position + HEADER_SIZE <= end) {
+            int length = buffer.getInt(position);
+            boolean valid = length > 0 && length <= end - position - HEADER_SIZE;
+            byte[] payload = new byte[valid ? length : 0];
+            if (valid) {
+                buffer.get(position + HEADER_SIZE, payload);
+                CRC32 checksum = new CRC32();
+                checksum.update(payload);
+                valid = (int) checksum.getValue() == buffer.getInt(position + 4);
+            }
+            int version = buffer.getInt(position + VERSION_OFFSET);
+            if (!batch.isEmpty() && (!valid || (version != 0) != (batch.get(0).getCommitVersion() != null))) {
+                // Corrupted records are skipped on their own, and a batch retried keeps the events it had
+                break;
+            }
+            if (!valid) {
+                // Without a valid length, the rest of what was appended to the segment is skipped
+                int skipped = payload.length == 0 ? end - position : HEADER_SIZE + length;
+                quarantine(buffer, position, skipped);
+                readPosition = position + skipped;
+                writeCheckpoint();
+                return true;
+            }
+            EntityAuditEvent event = read(payload);
+            if (version != 0) {
+                event.setCommitVersion(version);
+            }
+            batch.add(event);
+            positions.add(position);
+            position += HEADER_SIZE + length;
+        }
+        if (!batch.isEmpty()) {
+            assignVersions(buffer, batch, positions, position);
+            write(batch);
+            readPosition = position;
+            writeCheckpoint();
+            return true;
+        }
+        if (sealed) {
+            Segment finished = readSegment;
+            readSegment = segments.higherEntry(finished.sequence).getValue();
+            readPosition = 0;
+            writeCheckpoint();
+            delete(finished);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Assign the commit versions of a batch that was never tried, and save them in its records.
+     */
+    private void assignVersions(MappedByteBuffer buffer, List<EntityAuditEvent> batch, List<Integer> positions, int end) {
+        if (batch.get(0).getCommitVersion() != null) {
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            EntityAuditEvent event = batch.get(i);
+            event.setCommitVersion(versionSequencer.nextVersion(event));
+            buffer.putInt(positions.get(i) + VERSION_OFFSET, event.getCommitVersion());
+        }
+        buffer.force(readPosition, end - readPosition);
+    }
+
+    private void write(List<EntityAuditEvent> batch) {
+        List<EntityAuditEvent> events = batch;
+        if (verifyNextBatch) {
+            List<Instant> dates = batch.stream().map(EntityAuditEvent::getModifiedDate).sorted().toList();
+            // The dates bound the partitions to search; the database keeps microseconds, rounding the dates of the events
+            Set<UUID> written = auditingEntityRepository.findJournalKeys(
+                batch.stream().map(EntityAuditEvent::getJournalKey).toList(),
+                dates.get(0).minus(1, ChronoUnit.MICROS),
+                dates.get(dates.size() - 1).plus(1, ChronoUnit.MICROS)
+            );
+            events = batch.stream().filter(event -> !written.contains(event.getJournalKey())).toList();
+        }
+        if (!events.isEmpty() && !auditEventQueue.flush(events)) {
+            throw new IllegalStateException("Batch of " + events.size() + " audit events was not written");
+        }
+        verifyNextBatch = false;
+    }
+
+    /**
+     * Copy a corrupted record out of the journal before skipping it.
+     */
+    private void quarantine(ByteBuffer buffer, int position, int length) {
+        corruptedCounter.increment();
+        Path file = directory.resolve(QUARANTINE_DIRECTORY).resolve(readSegment.file.getFileName() + "." + position);
+        log.error("Skipping corrupted audit journal record in {} at {}, copied to {}", readSegment.file, position, file);
+        byte[] record = new byte[length];
+        buffer.get(position, record);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, record);
+        } catch (IOException e) {
+            log.warn("Could not quarantine corrupted audit journal record to {}", file, e);
+        }
+    }
+
+    private EntityAuditEvent read(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, EntityAuditEvent.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read audit journal record", e);
+        }
+    }
+
+    private void waitForEvents() {
+        synchronized (appended) {
+            if (running && readSegment.writePosition == readPosition && !readSegment.sealed) {
+                try {
+                    appended.wait(properties.getFlushInterval().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                }
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private long[] readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return new long[] { 0, 0 };
+        }
+        ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(file));
+        return new long[] { checkpoint.getLong(), checkpoint.getLong() };
+    }
+
+    private void writeCheckpoint() {
+        ByteBuffer checkpoint = ByteBuffer.allocate(16).putLong(readSegment.sequence).putLong(readPosition).flip();
+        try {
+            Path tempFile = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (
+                FileChannel channel = FileChannel.open(
+                    tempFile,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING
+                )
+            ) {
+                channel.write(checkpoint);
+                channel.force(true);
+            }
+            Files.move(tempFile, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the audit journal checkpoint", e);
+        }
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment.sequence);
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            log.warn("Could not delete audit journal segment {}", segment.file, e);
+        }
+    }
+
+    private static String segmentName(long sequence) {
+        return String.format("%020d%s", sequence, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * One memory-mapped segment file. Records are appended until the segment is sealed by the next one.
+     */
+    private static final class Segment {
+
+        private final long sequence;
+
+        private final Path file;
+
+        private final MappedByteBuffer buffer;
+
+        private volatile int writePosition;
+
+        private volatile boolean sealed;
+
+        /**
+         * The position up to which the segment was forced by the syncer.
+         */
+        private int forcedPosition;
+
+        private Segment(long sequence, Path file, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        static Segment create(long sequence, Path file, int size) throws IOException {
+            try (
+                FileChannel channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                return new Segment(sequence, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        /**
+         * Open a segment left by a previous run, sealed after its last record. Records failing their checksum are left
+         * to the replayer to quarantine.
+         */
+        static Segment recover(long sequence, Path file) throws IOException {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            }
+            Segment segment = new Segment(sequence, file, buffer);
+            int position = 0;
+            while (position + HEADER_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || length > buffer.capacity() - position - HEADER_SIZE) {
+                    break;
+                }
+                position += HEADER_SIZE + length;
+            }
+            segment.writePosition = position;
+            segment.sealed = true;
+            return segment;
+        }
+    }
+}
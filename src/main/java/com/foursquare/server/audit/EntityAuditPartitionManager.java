@@ -0,0 +1,219 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.config.ApplicationProperties;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the monthly partitions of the {@code jhi_entity_audit_event} table.
+ * <p>
+ * Partitions are created {@code application.audit.partitions-ahead} months in advance, on startup and then daily, so
+ * that new events do not land in the default partition. Events of a month which did land there, for instance before
+ * the first run, are moved to the partition of the month when it is created. Partitions whose month ended more than
+ * {@code application.audit.retention-months} months ago are detached, exported to a gzipped NDJSON file in
+ * {@code application.audit.archive-directory}, and dropped. A partition is only dropped once its file is complete, and
+ * a detached partition that could not be exported is picked up again on the next run.
+ */
+@Component
+@Profile("!testdev & !testprod")
+public class EntityAuditPartitionManager {
+
+    static final String TABLE_NAME = "jhi_entity_audit_event";
+
+    static final String DEFAULT_PARTITION_NAME = TABLE_NAME + "_default";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE_NAME + "_p(\\d{4})_(\\d{2})");
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(EntityAuditPartitionManager.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Audit properties;
+
+    public EntityAuditPartitionManager(
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getAudit();
+    }
+
+    /**
+     * Create the upcoming partitions and archive the expired ones.
+     * <p>
+     * This runs on startup, and is scheduled by {@code application.audit.partition-maintenance-cron}, every day at
+     * 02:30 (am) by default.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${application.audit.partition-maintenance-cron}")
+    public void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        try {
+            createPartitions(currentMonth);
+        } catch (DataAccessException e) {
+            log.error("Could not create the upcoming partitions of {}", TABLE_NAME, e);
+        }
+        for (Partition partition : findPartitions()) {
+            if (isExpired(partition.month(), currentMonth)) {
+                try {
+                    archivePartition(partition);
+                } catch (DataAccessException | UncheckedIOException e) {
+                    log.error("Could not archive audit partition {}", partitionName(partition.month()), e);
+                }
+            }
+        }
+    }
+
+    void createPartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= properties.getPartitionsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            transactionTemplate.executeWithoutResult(status -> createPartition(month));
+        }
+    }
+
+    /**
+     * Create the partition of a month, unless it exists.
+     * <p>
+     * A partition cannot be created while the default partition holds rows of its month, so the partition is created
+     * as a table, those rows are moved to it, and it is then attached. The default partition is locked meanwhile, so
+     * that no row of the month lands there before the partition is attached.
+     */
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?::text) IS NOT NULL", Boolean.class, name))) {
+            return;
+        }
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION_NAME + " IN EXCLUSIVE MODE");
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + TABLE_NAME + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update(
+            "WITH moved AS (DELETE FROM " +
+            DEFAULT_PARTITION_NAME +
+            " WHERE modified_date >= ? AND modified_date < ? RETURNING *) INSERT INTO " +
+            name +
+            " SELECT * FROM moved",
+            from,
+            to
+        );
+        jdbcTemplate.execute(
+            "ALTER TABLE " + TABLE_NAME + " ATTACH PARTITION " + name + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')"
+        );
+        if (moved > 0) {
+            log.info("Created audit partition {} with {} events moved from {}", name, moved, DEFAULT_PARTITION_NAME);
+        } else {
+            log.debug("Created audit partition {}", name);
+        }
+    }
+
+    private List<Partition> findPartitions() {
+        List<Partition> partitions = new ArrayList<>();
+        jdbcTemplate.query(
+            "SELECT c.relname, c.relispartition FROM pg_class c WHERE c.relkind = 'r' AND c.relname LIKE ?",
+            rs -> {
+                Matcher matcher = PARTITION_NAME.matcher(rs.getString(1));
+                if (matcher.matches()) {
+                    YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                    partitions.add(new Partition(month, rs.getBoolean(2)));
+                }
+            },
+            TABLE_NAME + "\\_p%"
+        );
+        return partitions;
+    }
+
+    private void archivePartition(Partition partition) {
+        String name = partitionName(partition.month());
+        if (partition.attached()) {
+            // Detached on its own, so that the lock on the parent table is not held while exporting
+            log.info("Detaching expired audit partition {}", name);
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DETACH PARTITION " + name)
+            );
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, name);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("Audit partition {} is being archived by another node", name);
+                return;
+            }
+            Path file = exportPartition(name);
+            jdbcTemplate.execute("DROP TABLE " + name);
+            log.info("Archived audit partition {} to {}", name, file);
+        });
+    }
+
+    private Path exportPartition(String name) {
+        try {
+            Path directory = Paths.get(properties.getArchiveDirectory());
+            Files.createDirectories(directory);
+            Path file = directory.resolve(name + ".ndjson.gz");
+            Path tempFile = Files.createTempFile(directory, name, ".tmp");
+            try (
+                Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8)
+                )
+            ) {
+                jdbcTemplate.query("SELECT row_to_json(t)::text FROM " + name + " t", rs -> {
+                    try {
+                        writer.write(rs.getString(1));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+            return Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not export audit partition " + name, e);
+        }
+    }
+
+    boolean isExpired(YearMonth month, YearMonth currentMonth) {
+        return properties.getRetentionMonths() > 0 && month.isBefore(currentMonth.minusMonths(properties.getRetentionMonths()));
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("%s_p%04d_%02d", TABLE_NAME, month.getYear(), month.getMonthValue());
+    }
+
+    private record Partition(YearMonth month, boolean attached) {}
+}
@@ -0,0 +1,238 @@
+package com.foursquare.server.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.domain.enumeration.EntityAuditPayloadType;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes and decodes the entity value of {@link EntityAuditEvent}s.
+ * <p>
+ * In {@code FULL} payload mode every event keeps the complete JSON document of the entity. In {@code DELTA} mode an
+ * event only keeps the fields that changed since the previous commit version, in the style of a JSON merge patch
+ * (RFC 7386): nested objects are diffed recursively, any other changed value is replaced as a whole, and a field that
+ * disappeared is recorded as {@code null}. A full snapshot is still written for the first version, every
+ * {@code application.audit.snapshot-interval} versions, and whenever the previous version of the entity is not known
+ * to this node.
+ */
+@Component
+public class EntityAuditPayloadCodec {
+
+    /**
+     * Rebuilt entity values of delta events, keyed by entity type, entity id and commit version. A version never changes
+     * once written, so entries are never evicted on write.
+     */
+    public static final String ENTITY_VERSIONS_CACHE = "entityAuditVersions";
+
+    private final Logger log = LoggerFactory.getLogger(EntityAuditPayloadCodec.class);
+
+    private final EntityAuditEventRepository auditingEntityRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties.Audit properties;
+
+    private final Map<String, Snapshot> lastDocuments;
+
+    public EntityAuditPayloadCodec(
+        EntityAuditEventRepository auditingEntityRepository,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.auditingEntityRepository = auditingEntityRepository;
+        this.objectMapper = objectMapper;
+        this.properties = applicationProperties.getAudit();
+        int maxSize = properties.getPayloadCacheSize();
+        this.lastDocuments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Replace the full entity value of a versioned audit event with a delta when the payload mode allows it.
+     *
+     * @param auditedEntity the event, with its commit version already assigned.
+     */
+    public void encode(EntityAuditEvent auditedEntity) {
+        if (properties.getPayloadMode() != ApplicationProperties.Audit.PayloadMode.DELTA || auditedEntity.getEntityValue() == null) {
+            auditedEntity.setPayloadType(EntityAuditPayloadType.FULL);
+            return;
+        }
+        String key = auditedEntity.getEntityType() + ':' + auditedEntity.getEntityId();
+        int version = auditedEntity.getCommitVersion();
+        JsonNode document;
+        try {
+            document = objectMapper.readTree(auditedEntity.getEntityValue());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not parse audit payload of {}, keeping it in full", key, e);
+            auditedEntity.setPayloadType(EntityAuditPayloadType.FULL);
+            return;
+        }
+        Snapshot previous;
+        synchronized (lastDocuments) {
+            previous = lastDocuments.put(key, new Snapshot(version, document));
+        }
+        if (isSnapshotVersion(auditedEntity, version) || previous == null || previous.version() != version - 1) {
+            auditedEntity.setPayloadType(EntityAuditPayloadType.FULL);
+            return;
+        }
+        auditedEntity.setPayloadType(EntityAuditPayloadType.DELTA);
+        auditedEntity.setEntityValue(diff(previous.document(), document).toString());
+    }
+
+    /**
+     * Forget the documents remembered for delta encoding, so that the next event of every entity is a full snapshot.
+     * Called when a batch could not be written, as its events can no longer serve as a base.
+     */
+    public void reset() {
+        synchronized (lastDocuments) {
+            lastDocuments.clear();
+        }
+    }
+
+    /**
+     * Return the audit event with its full entity value, rebuilding it from the last snapshot if it is stored as a delta.
+     * Rebuilding takes two indexed reads, for the snapshot version and for the events from it on, and its result is
+     * cached in {@link #ENTITY_VERSIONS_CACHE}.
+     *
+     * @param auditedEntity a stored audit event, may be {@code null}.
+     * @return the event itself if it holds the full value, otherwise a detached copy with the rebuilt value.
+     */
+    @Cacheable(
+        cacheNames = ENTITY_VERSIONS_CACHE,
+        key = "#auditedEntity.entityType + ':' + #auditedEntity.entityId + ':' + #auditedEntity.commitVersion",
+        condition = "#auditedEntity != null && #auditedEntity.payloadType?.name() == 'DELTA'",
+        unless = "#result?.entityValue == null"
+    )
+    public EntityAuditEvent decode(EntityAuditEvent auditedEntity) {
+        if (auditedEntity == null || auditedEntity.getPayloadType() != EntityAuditPayloadType.DELTA) {
+            return auditedEntity;
+        }
+        EntityAuditEvent decoded = copyOf(auditedEntity);
+        decoded.setPayloadType(EntityAuditPayloadType.FULL);
+        decoded.setEntityValue(rebuild(auditedEntity));
+        return decoded;
+    }
+
+    private String rebuild(EntityAuditEvent auditedEntity) {
+        Integer snapshotVersion = auditingEntityRepository.findLastSnapshotVersion(
+            auditedEntity.getEntityType(),
+            auditedEntity.getEntityId(),
+            auditedEntity.getCommitVersion()
+        );
+        if (snapshotVersion == null) {
+            log.warn("No snapshot found for delta audit event {}", auditedEntity.getId());
+            return null;
+        }
+        List<EntityAuditEvent> chain =
+            auditingEntityRepository.findAllByEntityTypeAndEntityIdAndCommitVersionBetweenOrderByCommitVersionAsc(
+                auditedEntity.getEntityType(),
+                auditedEntity.getEntityId(),
+                snapshotVersion,
+                auditedEntity.getCommitVersion()
+            );
+        try {
+            JsonNode document = null;
+            for (EntityAuditEvent link : chain) {
+                JsonNode value = objectMapper.readTree(link.getEntityValue());
+                document = document == null || link.getPayloadType() != EntityAuditPayloadType.DELTA ? value : apply(document, value);
+            }
+            return document == null ? null : document.toString();
+        } catch (JsonProcessingException e) {
+            log.error("Could not rebuild audit payload of event {}", auditedEntity.getId(), e);
+            return null;
+        }
+    }
+
+    private boolean isSnapshotVersion(EntityAuditEvent auditedEntity, int version) {
+        return (
+            EntityAuditAction.CREATE.value().equals(auditedEntity.getAction()) ||
+            properties.getSnapshotInterval() <= 1 ||
+            (version - 1) % properties.getSnapshotInterval() == 0
+        );
+    }
+
+    /**
+     * Compute the changes turning {@code from} into {@code to}.
+     */
+    static ObjectNode diff(JsonNode from, JsonNode to) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = to.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode oldValue = from.get(field.getKey());
+            JsonNode newValue = field.getValue();
+            if (oldValue != null && oldValue.isObject() && newValue.isObject()) {
+                ObjectNode nested = diff(oldValue, newValue);
+                if (!nested.isEmpty()) {
+                    patch.set(field.getKey(), nested);
+                }
+            } else if (!newValue.equals(oldValue)) {
+                patch.set(field.getKey(), newValue);
+            }
+        }
+        Iterator<String> oldNames = from.fieldNames();
+        while (oldNames.hasNext()) {
+            String name = oldNames.next();
+            if (!to.has(name)) {
+                patch.set(name, NullNode.getInstance());
+            }
+        }
+        return patch;
+    }
+
+    /**
+     * Apply changes computed by {@link #diff(JsonNode, JsonNode)} on a copy of {@code base}.
+     */
+    static JsonNode apply(JsonNode base, JsonNode patch) {
+        if (!base.isObject() || !patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = ((ObjectNode) base).deepCopy();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode current = result.get(field.getKey());
+            if (current != null && current.isObject() && field.getValue().isObject()) {
+                result.set(field.getKey(), apply(current, field.getValue()));
+            } else {
+                result.set(field.getKey(), field.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static EntityAuditEvent copyOf(EntityAuditEvent auditedEntity) {
+        EntityAuditEvent copy = new EntityAuditEvent();
+        copy.setId(auditedEntity.getId());
+        copy.setEntityId(auditedEntity.getEntityId());
+        copy.setEntityType(auditedEntity.getEntityType());
+        copy.setAction(auditedEntity.getAction());
+        copy.setEntityValue(auditedEntity.getEntityValue());
+        copy.setPayloadType(auditedEntity.getPayloadType());
+        copy.setCommitVersion(auditedEntity.getCommitVersion());
+        copy.setModifiedBy(auditedEntity.getModifiedBy());
+        copy.setModifiedDate(auditedEntity.getModifiedDate());
+        return copy;
+    }
+
+    private record Snapshot(int version, JsonNode document) {}
+}
@@ -0,0 +1,120 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.domain.AbstractAuditingEntity;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the audit events of one transaction and hands them to the {@link EntityAuditEventWriter} once it has
+ * committed.
+ * <p>
+ * Events are collapsed to at most one per entity: an entity created and then updated is written as a single CREATE,
+ * repeated updates as a single UPDATE and an update followed by a delete as a DELETE. An entity created and deleted in
+ * the same transaction is not written at all. The entity state is read when the event is written, so the written
+ * event holds the state as committed. Nothing is written if the transaction rolls back.
+ * <p>
+ * Once the events are written, the {@link EntityAuditCommitListener}s are notified of the classes of the committed
+ * entities.
+ */
+class EntityAuditTransactionBuffer implements TransactionSynchronization {
+
+    private final Logger log = LoggerFactory.getLogger(EntityAuditTransactionBuffer.class);
+
+    private final EntityAuditEventWriter entityAuditEventWriter;
+
+    private final List<EntityAuditCommitListener> entityAuditCommitListeners;
+
+    private final Map<Key, PendingEvent> pendingEvents = new LinkedHashMap<>();
+
+    private EntityAuditTransactionBuffer(
+        EntityAuditEventWriter entityAuditEventWriter,
+        List<EntityAuditCommitListener> entityAuditCommitListeners
+    ) {
+        this.entityAuditEventWriter = entityAuditEventWriter;
+        this.entityAuditCommitListeners = entityAuditCommitListeners;
+    }
+
+    /**
+     * Return the buffer of the current transaction, registering a new one on first use.
+     * Requires transaction synchronization to be active.
+     */
+    static EntityAuditTransactionBuffer current(
+        EntityAuditEventWriter entityAuditEventWriter,
+        List<EntityAuditCommitListener> entityAuditCommitListeners
+    ) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof EntityAuditTransactionBuffer buffer) {
+                return buffer;
+            }
+        }
+        EntityAuditTransactionBuffer buffer = new EntityAuditTransactionBuffer(entityAuditEventWriter, entityAuditCommitListeners);
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    void add(Object target, EntityAuditAction action) {
+        Object id = ((AbstractAuditingEntity<?>) target).getId();
+        Key key = new Key(target.getClass(), id != null ? id : target);
+        PendingEvent previous = pendingEvents.get(key);
+        if (previous == null) {
+            pendingEvents.put(key, new PendingEvent(target, action));
+        } else if (previous.action() == EntityAuditAction.CREATE && action == EntityAuditAction.DELETE) {
+            pendingEvents.remove(key);
+        } else if (previous.action() == EntityAuditAction.CREATE) {
+            pendingEvents.put(key, new PendingEvent(target, EntityAuditAction.CREATE));
+        } else {
+            pendingEvents.put(key, new PendingEvent(target, action));
+        }
+    }
+
+    int size() {
+        return pendingEvents.size();
+    }
+
+    @Override
+    public void afterCommit() {
+        log.debug("Writing {} audit events after commit", pendingEvents.size());
+        Set<Class<?>> entityClasses = new LinkedHashSet<>();
+        for (PendingEvent pendingEvent : pendingEvents.values()) {
+            entityClasses.add(pendingEvent.target().getClass());
+            try {
+                entityAuditEventWriter.writeAuditEvent(pendingEvent.target(), pendingEvent.action());
+            } catch (Exception e) {
+                log.error("Exception while writing {} audit event for {}", pendingEvent.action(), pendingEvent.target(), e);
+            }
+        }
+        if (!entityClasses.isEmpty()) {
+            notifyCommitListeners(entityClasses);
+        }
+    }
+
+    private void notifyCommitListeners(Set<Class<?>> entityClasses) {
+        for (EntityAuditCommitListener entityAuditCommitListener : entityAuditCommitListeners) {
+            try {
+                entityAuditCommitListener.onEntitiesCommitted(entityClasses);
+            } catch (Exception e) {
+                log.error("Exception while notifying {} of committed {}", entityAuditCommitListener, entityClasses, e);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED && !pendingEvents.isEmpty()) {
+            log.debug("Discarding {} audit events of a transaction that did not commit", pendingEvents.size());
+        }
+        pendingEvents.clear();
+    }
+
+    private record Key(Class<?> entityClass, Object id) {}
+
+    private record PendingEvent(Object target, EntityAuditAction action) {}
+}
@@ -0,0 +1,69 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link AuditVersionSequencer} keeping the last version of recently audited entities in memory.
+ * <p>
+ * Only suitable when a single node writes audit events. At most {@code application.audit.version-cache-size}
+ * entities are tracked; the least recently audited ones are evicted and seeded again from the database when needed.
+ */
+@Component
+@Profile("!testdev & !testprod")
+@ConditionalOnProperty(prefix = "application.audit", name = "version-sequencer", havingValue = "local", matchIfMissing = true)
+public class LocalAuditVersionSequencer implements AuditVersionSequencer {
+
+    private final Logger log = LoggerFactory.getLogger(LocalAuditVersionSequencer.class);
+
+    private final EntityAuditEventRepository auditingEntityRepository;
+
+    private final Map<String, Integer> lastVersions;
+
+    public LocalAuditVersionSequencer(EntityAuditEventRepository auditingEntityRepository, ApplicationProperties applicationProperties) {
+        this.auditingEntityRepository = auditingEntityRepository;
+        int maxSize = applicationProperties.getAudit().getVersionCacheSize();
+        this.lastVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public int nextVersion(EntityAuditEvent auditedEntity) {
+        String key = auditedEntity.getEntityType() + ':' + auditedEntity.getEntityId();
+        if (EntityAuditAction.CREATE.value().equals(auditedEntity.getAction())) {
+            synchronized (lastVersions) {
+                lastVersions.put(key, 1);
+            }
+            return 1;
+        }
+        boolean known;
+        synchronized (lastVersions) {
+            known = lastVersions.containsKey(key);
+        }
+        Integer seed = null;
+        if (!known) {
+            // Query outside the lock so that a slow database does not block other entities
+            seed = auditingEntityRepository.findMaxCommitVersion(auditedEntity.getEntityType(), auditedEntity.getEntityId());
+            log.trace("Seeded commit version of {} => {}", key, seed);
+        }
+        synchronized (lastVersions) {
+            Integer last = lastVersions.getOrDefault(key, seed);
+            int next = last != null ? last + 1 : 1;
+            lastVersions.put(key, next);
+            return next;
+        }
+    }
+}
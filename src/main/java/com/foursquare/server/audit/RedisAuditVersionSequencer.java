@@ -0,0 +1,69 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import java.time.Duration;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link AuditVersionSequencer} keeping the last version of each audited entity in a Redis atomic counter, so that
+ * several nodes can write audit events for the same entity.
+ * <p>
+ * Counters expire after {@code application.audit.version-time-to-live} without activity and are then seeded again
+ * from the database.
+ */
+@Component
+@Profile("!testdev & !testprod")
+@ConditionalOnProperty(prefix = "application.audit", name = "version-sequencer", havingValue = "redis")
+public class RedisAuditVersionSequencer implements AuditVersionSequencer {
+
+    static final String KEY_PREFIX = "audit:version:";
+
+    private final Logger log = LoggerFactory.getLogger(RedisAuditVersionSequencer.class);
+
+    private final EntityAuditEventRepository auditingEntityRepository;
+
+    private final RedissonClient redissonClient;
+
+    private final Duration timeToLive;
+
+    public RedisAuditVersionSequencer(
+        EntityAuditEventRepository auditingEntityRepository,
+        RedissonClient redissonClient,
+        ApplicationProperties applicationProperties
+    ) {
+        this.auditingEntityRepository = auditingEntityRepository;
+        this.redissonClient = redissonClient;
+        this.timeToLive = applicationProperties.getAudit().getVersionTimeToLive();
+    }
+
+    @Override
+    public int nextVersion(EntityAuditEvent auditedEntity) {
+        RAtomicLong counter = redissonClient.getAtomicLong(KEY_PREFIX + auditedEntity.getEntityType() + ':' + auditedEntity.getEntityId());
+        long next;
+        if (EntityAuditAction.CREATE.value().equals(auditedEntity.getAction())) {
+            counter.set(1);
+            next = 1;
+        } else {
+            if (!counter.isExists()) {
+                Integer seed = auditingEntityRepository.findMaxCommitVersion(auditedEntity.getEntityType(), auditedEntity.getEntityId());
+                log.trace("Seeded commit version of {} {} => {}", auditedEntity.getEntityType(), auditedEntity.getEntityId(), seed);
+                if (seed != null && seed > 0) {
+                    // Only the first node to seed wins, the others increment from its value
+                    counter.compareAndSet(0, seed);
+                }
+            }
+            next = counter.incrementAndGet();
+        }
+        counter.expire(timeToLive);
+        return Math.toIntExact(next);
+    }
+}
@@ -1,5 +1,9 @@
 package com.foursquare.server.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.util.unit.DataSize;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +17,42 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Audit audit = new Audit();
+
+    private final CriteriaCache criteriaCache = new CriteriaCache();
+
+    private final ApproximateCount approximateCount = new ApproximateCount();
+
+    private final Bulk bulk = new Bulk();
+
+    private final NearCache nearCache = new NearCache();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Audit getAudit() {
+        return audit;
+    }
+
+    public CriteriaCache getCriteriaCache() {
+        return criteriaCache;
+    }
+
+    public ApproximateCount getApproximateCount() {
+        return approximateCount;
+    }
+
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public NearCache getNearCache() {
+        return nearCache;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +67,359 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Audit {
+
+        /**
+         * What to do with a new audit event when the in-memory queue is full.
+         */
+        public enum OverflowPolicy {
+            /**
+             * Wait up to {@code offer-timeout} for free space, then drop the event.
+             */
+            BLOCK,
+            /**
+             * Drop the event immediately.
+             */
+            DROP,
+        }
+
+        /**
+         * Where the last commit version of each audited entity is kept.
+         */
+        public enum VersionSequencer {
+            /**
+             * In the heap of this node, for single-node deployments.
+             */
+            LOCAL,
+            /**
+             * In Redis, shared by all nodes.
+             */
+            REDIS,
+        }
+
+        /**
+         * How the entity value of an audit event is stored.
+         */
+        public enum PayloadMode {
+            /**
+             * Every event stores the complete entity.
+             */
+            FULL,
+            /**
+             * Events store the changes since the previous version, with a full snapshot every {@code snapshot-interval} versions.
+             */
+            DELTA,
+        }
+
+        private int queueCapacity = 10000;
+
+        private int batchSize = 100;
+
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+        private Duration offerTimeout = Duration.ofMillis(100);
+
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+        private VersionSequencer versionSequencer = VersionSequencer.LOCAL;
+
+        private int versionCacheSize = 100000;
+
+        private Duration versionTimeToLive = Duration.ofDays(1);
+
+        private PayloadMode payloadMode = PayloadMode.FULL;
+
+        private int snapshotInterval = 10;
+
+        private int payloadCacheSize = 10000;
+
+        private int partitionsAhead = 3;
+
+        private int retentionMonths = 24;
+
+        private String archiveDirectory = "archive/audit";
+
+        private String partitionMaintenanceCron = "0 30 2 * * ?";
+
+        private boolean journalEnabled = false;
+
+        private String journalDirectory = "journal/audit";
+
+        private DataSize journalSegmentSize = DataSize.ofMegabytes(64);
+
+        private Duration journalFsyncInterval = Duration.ofSeconds(1);
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public Duration getOfferTimeout() {
+            return offerTimeout;
+        }
+
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+
+        public VersionSequencer getVersionSequencer() {
+            return versionSequencer;
+        }
+
+        public void setVersionSequencer(VersionSequencer versionSequencer) {
+            this.versionSequencer = versionSequencer;
+        }
+
+        public int getVersionCacheSize() {
+            return versionCacheSize;
+        }
+
+        public void setVersionCacheSize(int versionCacheSize) {
+            this.versionCacheSize = versionCacheSize;
+        }
+
+        public Duration getVersionTimeToLive() {
+            return versionTimeToLive;
+        }
+
+        public void setVersionTimeToLive(Duration versionTimeToLive) {
+            this.versionTimeToLive = versionTimeToLive;
+        }
+
+        public PayloadMode getPayloadMode() {
+            return payloadMode;
+        }
+
+        public void setPayloadMode(PayloadMode payloadMode) {
+            this.payloadMode = payloadMode;
+        }
+
+        public int getSnapshotInterval() {
+            return snapshotInterval;
+        }
+
+        public void setSnapshotInterval(int snapshotInterval) {
+            this.snapshotInterval = snapshotInterval;
+        }
+
+        public int getPayloadCacheSize() {
+            return payloadCacheSize;
+        }
+
+        public void setPayloadCacheSize(int payloadCacheSize) {
+            this.payloadCacheSize = payloadCacheSize;
+        }
+
+        public int getPartitionsAhead() {
+            return partitionsAhead;
+        }
+
+        public void setPartitionsAhead(int partitionsAhead) {
+            this.partitionsAhead = partitionsAhead;
+        }
+
+        public int getRetentionMonths() {
+            return retentionMonths;
+        }
+
+        public void setRetentionMonths(int retentionMonths) {
+            this.retentionMonths = retentionMonths;
+        }
+
+        public String getArchiveDirectory() {
+            return archiveDirectory;
+        }
+
+        public void setArchiveDirectory(String archiveDirectory) {
+            this.archiveDirectory = archiveDirectory;
+        }
+
+        public String getPartitionMaintenanceCron() {
+            return partitionMaintenanceCron;
+        }
+
+        public void setPartitionMaintenanceCron(String partitionMaintenanceCron) {
+            this.partitionMaintenanceCron = partitionMaintenanceCron;
+        }
+
+        public boolean isJournalEnabled() {
+            return journalEnabled;
+        }
+
+        public void setJournalEnabled(boolean journalEnabled) {
+            this.journalEnabled = journalEnabled;
+        }
+
+        public String getJournalDirectory() {
+            return journalDirectory;
+        }
+
+        public void setJournalDirectory(String journalDirectory) {
+            this.journalDirectory = journalDirectory;
+        }
+
+        public DataSize getJournalSegmentSize() {
+            return journalSegmentSize;
+        }
+
+        public void setJournalSegmentSize(DataSize journalSegmentSize) {
+            this.journalSegmentSize = journalSegmentSize;
+        }
+
+        public Duration getJournalFsyncInterval() {
+            return journalFsyncInterval;
+        }
+
+        public void setJournalFsyncInterval(Duration journalFsyncInterval) {
+            this.journalFsyncInterval = journalFsyncInterval;
+        }
+    }
+
+    public static class CriteriaCache {
+
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class ApproximateCount {
+
+        private long exactThreshold = 10000;
+
+        public long getExactThreshold() {
+            return exactThreshold;
+        }
+
+        public void setExactThreshold(long exactThreshold) {
+            this.exactThreshold = exactThreshold;
+        }
+    }
+
+    public static class Bulk {
+
+        private int chunkSize = 500;
+
+        private int jdbcBatchSize = 100;
+
+        private int maxItems = 10000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getJdbcBatchSize() {
+            return jdbcBatchSize;
+        }
+
+        public void setJdbcBatchSize(int jdbcBatchSize) {
+            this.jdbcBatchSize = jdbcBatchSize;
+        }
+
+        public int getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(int maxItems) {
+            this.maxItems = maxItems;
+        }
+    }
+
+    public static class NearCache {
+
+        private boolean enabled = false;
+
+        /**
+         * Names of the JCache caches read through a local cache. Their values are shared between the callers of a node,
+         * so they must not be modified by them, as the entries of Hibernate second-level cache regions.
+         */
+        private List<String> regions = new ArrayList<>();
+
+        private long maximumSize = 1000;
+
+        /**
+         * Bounds how long a node may serve an entry after a missed invalidation.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(List<String> regions) {
+            this.regions = regions;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -7,11 +7,14 @@ import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 import org.hibernate.cache.jcache.ConfigSettings;
 import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
 import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
 import org.redisson.config.SingleServerConfig;
 import org.redisson.jcache.configuration.RedissonConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
@@ -32,9 +35,7 @@ public class CacheConfiguration {
     private BuildProperties buildProperties;
 
     @Bean
-    public javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(JHipsterProperties jHipsterProperties) {
-        MutableConfiguration<Object, Object> jcacheConfig = new MutableConfiguration<>();
-
+    public RedissonClient redissonClient(JHipsterProperties jHipsterProperties) {
         URI redisUri = URI.create(jHipsterProperties.getCache().getRedis().getServer()[0]);
 
         Config config = new Config();
@@ -63,11 +64,44 @@ public class CacheConfiguration {
                 singleServerConfig.setPassword(redisUri.getUserInfo().substring(redisUri.getUserInfo().indexOf(':') + 1));
             }
         }
+        return Redisson.create(config);
+    }
+
+    @Bean
+    public javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(
+        JHipsterProperties jHipsterProperties,
+        RedissonClient redissonClient
+    ) {
+        MutableConfiguration<Object, Object> jcacheConfig = new MutableConfiguration<>();
         jcacheConfig.setStatisticsEnabled(true);
         jcacheConfig.setExpiryPolicyFactory(
             CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, jHipsterProperties.getCache().getRedis().getExpiration()))
         );
-        return RedissonConfiguration.fromInstance(Redisson.create(config), jcacheConfig);
+        return RedissonConfiguration.fromInstance(redissonClient, jcacheConfig);
+    }
+
+    /**
+     * Put the local caches of {@link NearCacheManager} in front of the JCache cache manager, once its caches are created,
+     * for Hibernate and Spring caching to use them.
+     */
+    @Bean
+    public static BeanPostProcessor nearCacheManagerPostProcessor(
+        ObjectProvider<ApplicationProperties> applicationProperties,
+        ObjectProvider<RedissonClient> redissonClient
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof javax.cache.CacheManager cacheManager) || bean instanceof NearCacheManager) {
+                    return bean;
+                }
+                ApplicationProperties.NearCache nearCache = applicationProperties.getObject().getNearCache();
+                if (!nearCache.isEnabled()) {
+                    return bean;
+                }
+                return new NearCacheManager(cacheManager, redissonClient.getObject(), nearCache);
+            }
+        };
     }
 
     @Bean
@@ -84,6 +118,8 @@ public class CacheConfiguration {
             createCache(cm, com.foursquare.server.domain.Authority.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.User.class.getName() + ".authorities", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.EntityAuditEvent.class.getName(), jcacheConfiguration);
+            createCache(cm, com.foursquare.server.audit.EntityAuditPayloadCodec.ENTITY_VERSIONS_CACHE, jcacheConfiguration);
+            createCache(cm, com.foursquare.server.service.helper.CriteriaResultCache.CRITERIA_RESULTS_CACHE, jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.UserDetails.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.StaffInfo.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Address.class.getName(), jcacheConfiguration);
@@ -92,13 +128,11 @@ public class CacheConfiguration {
             createCache(cm, com.foursquare.server.domain.Conversation.class.getName() + ".participants", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Participant.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Participant.class.getName() + ".messages", jcacheConfiguration);
-            createCache(cm, com.foursquare.server.domain.Participant.class.getName() + ".seenMessages", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.InvoiceStatus.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Invoice.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Invoice.class.getName() + ".childInvoices", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Invoice.class.getName() + ".shipments", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.Message.class.getName(), jcacheConfiguration);
-            createCache(cm, com.foursquare.server.domain.Message.class.getName() + ".seenParticipants", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.OrderItem.class.getName(), jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.OrderItem.class.getName() + ".internalOrderItems", jcacheConfiguration);
             createCache(cm, com.foursquare.server.domain.OrderStatus.class.getName(), jcacheConfiguration);
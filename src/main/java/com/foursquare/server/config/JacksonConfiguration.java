@@ -1,9 +1,17 @@
 package com.foursquare.server.config;
 
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module.Feature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foursquare.server.service.dto.AdminUserDTO;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -31,4 +39,37 @@ public class JacksonConfiguration {
     public Hibernate6Module hibernate6Module() {
         return new Hibernate6Module().configure(Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS, true);
     }
+
+    /*
+     * Support for sparse fieldsets: the DTOs are serialized with the SparseFieldsets filter, which is only set for the
+     * responses of requests with a fieldset, so that the DTOs are serialized whole otherwise.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetsCustomizer() {
+        return builder ->
+            builder
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .postConfigurer(objectMapper -> {
+                    AnnotationIntrospector introspector = objectMapper.getSerializationConfig().getAnnotationIntrospector();
+                    objectMapper.setAnnotationIntrospector(AnnotationIntrospector.pair(new DtoFilterIntrospector(), introspector));
+                });
+    }
+
+    /**
+     * Gives the DTOs the {@link SparseFieldsets#FILTER_ID} filter.
+     */
+    static class DtoFilterIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final String DTO_PACKAGE = AdminUserDTO.class.getPackageName();
+
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            if (annotated instanceof AnnotatedClass && DTO_PACKAGE.equals(annotated.getRawType().getPackageName())) {
+                return SparseFieldsets.FILTER_ID;
+            }
+            return null;
+        }
+    }
 }
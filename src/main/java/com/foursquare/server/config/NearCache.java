@@ -0,0 +1,301 @@
+package com.foursquare.server.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+
+/**
+ * A JCache cache read through a local Caffeine cache, see {@link NearCacheManager}.
+ * <p>
+ * Every write goes to the delegate cache, then drops the written keys from the local cache of every node. A read
+ * missing the local cache stores the value of the delegate cache in it, unless a key was dropped meanwhile, so that a
+ * value read before a write is not kept after it.
+ */
+final class NearCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> delegate;
+
+    private final NearCacheManager cacheManager;
+
+    private final com.github.benmanes.caffeine.cache.Cache<K, V> local;
+
+    /**
+     * Incremented whenever keys are dropped from the local cache.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    NearCache(Cache<K, V> delegate, NearCacheManager cacheManager, long maximumSize, Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cacheManager = cacheManager;
+        this.local = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+    }
+
+    @Override
+    public V get(K key) {
+        V value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        long before = invalidations.get();
+        value = delegate.get(key);
+        if (value != null) {
+            store(key, value, before);
+        }
+        return value;
+    }
+
+    @Override
+    public Map<K, V> getAll(Set<? extends K> keys) {
+        Map<K, V> values = local.getAllPresent(keys);
+        if (values.size() == keys.size()) {
+            return values;
+        }
+        Set<K> missing = new HashSet<>(keys);
+        missing.removeAll(values.keySet());
+        long before = invalidations.get();
+        Map<K, V> loaded = delegate.getAll(missing);
+        loaded.forEach((key, value) -> store(key, value, before));
+        Map<K, V> all = new HashMap<>(values);
+        all.putAll(loaded);
+        return all;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return local.getIfPresent(key) != null || delegate.containsKey(key);
+    }
+
+    @Override
+    public void loadAll(Set<? extends K> keys, boolean replaceExistingValues, CompletionListener completionListener) {
+        delegate.loadAll(keys, replaceExistingValues, completionListener);
+        keys.forEach(this::invalidate);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        delegate.put(key, value);
+        invalidate(key);
+    }
+
+    @Override
+    public V getAndPut(K key, V value) {
+        V previous = delegate.getAndPut(key, value);
+        invalidate(key);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        delegate.putAll(map);
+        map.keySet().forEach(this::invalidate);
+    }
+
+    @Override
+    public boolean putIfAbsent(K key, V value) {
+        boolean put = delegate.putIfAbsent(key, value);
+        if (put) {
+            invalidate(key);
+        }
+        return put;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        boolean removed = delegate.remove(key);
+        invalidate(key);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(K key, V oldValue) {
+        boolean removed = delegate.remove(key, oldValue);
+        if (removed) {
+            invalidate(key);
+        }
+        return removed;
+    }
+
+    @Override
+    public V getAndRemove(K key) {
+        V previous = delegate.getAndRemove(key);
+        invalidate(key);
+        return previous;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        boolean replaced = delegate.replace(key, oldValue, newValue);
+        if (replaced) {
+            invalidate(key);
+        }
+        return replaced;
+    }
+
+    @Override
+    public boolean replace(K key, V value) {
+        boolean replaced = delegate.replace(key, value);
+        if (replaced) {
+            invalidate(key);
+        }
+        return replaced;
+    }
+
+    @Override
+    public V getAndReplace(K key, V value) {
+        V previous = delegate.getAndReplace(key, value);
+        invalidate(key);
+        return previous;
+    }
+
+    @Override
+    public void removeAll(Set<? extends K> keys) {
+        delegate.removeAll(keys);
+        keys.forEach(this::invalidate);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+        invalidateAll();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        invalidateAll();
+    }
+
+    @Override
+    public <C extends Configuration<K, V>> C getConfiguration(Class<C> clazz) {
+        return delegate.getConfiguration(clazz);
+    }
+
+    @Override
+    public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments) throws EntryProcessorException {
+        try {
+            return delegate.invoke(key, entryProcessor, arguments);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public <T> Map<K, EntryProcessorResult<T>> invokeAll(
+        Set<? extends K> keys,
+        EntryProcessor<K, V, T> entryProcessor,
+        Object... arguments
+    ) {
+        try {
+            return delegate.invokeAll(keys, entryProcessor, arguments);
+        } finally {
+            keys.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public CacheManager getCacheManager() {
+        return cacheManager;
+    }
+
+    @Override
+    public void close() {
+        invalidateAllLocally();
+        delegate.close();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> clazz) {
+        if (clazz.isAssignableFrom(getClass())) {
+            return clazz.cast(this);
+        }
+        return delegate.unwrap(clazz);
+    }
+
+    @Override
+    public void registerCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+        delegate.registerCacheEntryListener(cacheEntryListenerConfiguration);
+    }
+
+    @Override
+    public void deregisterCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+        delegate.deregisterCacheEntryListener(cacheEntryListenerConfiguration);
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        Iterator<Entry<K, V>> iterator = delegate.iterator();
+        return new Iterator<>() {
+            private Entry<K, V> last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Entry<K, V> next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                invalidate(last.getKey());
+            }
+        };
+    }
+
+    void invalidateLocally(Object key) {
+        invalidations.incrementAndGet();
+        local.asMap().remove(key);
+    }
+
+    void invalidateAllLocally() {
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private void invalidate(K key) {
+        invalidateLocally(key);
+        cacheManager.publish(getName(), key);
+    }
+
+    private void invalidateAll() {
+        invalidateAllLocally();
+        cacheManager.publish(getName(), null);
+    }
+
+    /**
+     * Store a value read from the delegate cache, unless keys were dropped since it was read.
+     */
+    private void store(K key, V value, long before) {
+        local.put(key, value);
+        if (invalidations.get() != before) {
+            local.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.foursquare.server.config;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.Configuration;
+import javax.cache.spi.CachingProvider;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link CacheManager} putting a local cache in front of the Redisson caches of the configured regions, see
+ * {@link ApplicationProperties.NearCache}. The other caches are those of the Redisson cache manager.
+ * <p>
+ * The local caches are bounded Caffeine caches, evicting with W-TinyLFU, so a hit is served from the heap without a
+ * round trip to Redis nor deserialization. A write to a region is made in Redis, then the key is dropped from the
+ * local cache and an {@link Invalidation} is published on the {@value #INVALIDATIONS_TOPIC} topic, for the other nodes
+ * to drop it too. As Redis pub/sub may lose messages, for instance while a node reconnects, the local caches are
+ * cleared when the topic is subscribed again, and entries expire after {@code expire-after-write}.
+ */
+public class NearCacheManager implements CacheManager {
+
+    public static final String INVALIDATIONS_TOPIC = "nearCacheInvalidations";
+
+    private static final Logger log = LoggerFactory.getLogger(NearCacheManager.class);
+
+    private final CacheManager delegate;
+
+    private final ApplicationProperties.NearCache properties;
+
+    private final RTopic topic;
+
+    private final UUID nodeId = UUID.randomUUID();
+
+    private final Map<String, NearCache<?, ?>> nearCaches = new ConcurrentHashMap<>();
+
+    private final int invalidationListenerId;
+
+    private final int statusListenerId;
+
+    public NearCacheManager(CacheManager delegate, RedissonClient redissonClient, ApplicationProperties.NearCache properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.topic = redissonClient.getTopic(INVALIDATIONS_TOPIC);
+        this.invalidationListenerId = topic.addListener(Invalidation.class, (channel, invalidation) -> onInvalidation(invalidation));
+        this.statusListenerId = topic.addListener(
+            new BaseStatusListener() {
+                @Override
+                public void onSubscribe(String channel) {
+                    nearCaches.values().forEach(NearCache::invalidateAllLocally);
+                }
+            }
+        );
+    }
+
+    /**
+     * Drop the given keys of a region from the local caches of the other nodes, {@code null} meaning all its keys.
+     */
+    void publish(String cacheName, Object key) {
+        topic
+            .publishAsync(new Invalidation(nodeId, cacheName, key))
+            .whenComplete((receivers, e) -> {
+                if (e != null) {
+                    log.warn("Could not publish the invalidation of {} in near cache {}", key, cacheName, e);
+                }
+            });
+    }
+
+    private void onInvalidation(Invalidation invalidation) {
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        NearCache<?, ?> nearCache = nearCaches.get(invalidation.cacheName());
+        if (nearCache == null) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            nearCache.invalidateAllLocally();
+        } else {
+            nearCache.invalidateLocally(invalidation.key());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Cache<K, V> near(Cache<K, V> cache) {
+        if (cache == null || !properties.getRegions().contains(cache.getName())) {
+            return cache;
+        }
+        return (Cache<K, V>) nearCaches.computeIfAbsent(cache.getName(), name ->
+            new NearCache<>(cache, this, properties.getMaximumSize(), properties.getExpireAfterWrite())
+        );
+    }
+
+    @Override
+    public CachingProvider getCachingProvider() {
+        return delegate.getCachingProvider();
+    }
+
+    @Override
+    public URI getURI() {
+        return delegate.getURI();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return delegate.getClassLoader();
+    }
+
+    @Override
+    public Properties getProperties() {
+        return delegate.getProperties();
+    }
+
+    @Override
+    public <K, V, C extends Configuration<K, V>> Cache<K, V> createCache(String cacheName, C configuration) {
+        return near(delegate.createCache(cacheName, configuration));
+    }
+
+    @Override
+    public <K, V> Cache<K, V> getCache(String cacheName, Class<K> keyType, Class<V> valueType) {
+        return near(delegate.getCache(cacheName, keyType, valueType));
+    }
+
+    @Override
+    public <K, V> Cache<K, V> getCache(String cacheName) {
+        return near(delegate.<K, V>getCache(cacheName));
+    }
+
+    @Override
+    public Iterable<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void destroyCache(String cacheName) {
+        delegate.destroyCache(cacheName);
+        NearCache<?, ?> nearCache = nearCaches.remove(cacheName);
+        if (nearCache != null) {
+            nearCache.invalidateAllLocally();
+            publish(cacheName, null);
+        }
+    }
+
+    @Override
+    public void enableManagement(String cacheName, boolean enabled) {
+        delegate.enableManagement(cacheName, enabled);
+    }
+
+    @Override
+    public void enableStatistics(String cacheName, boolean enabled) {
+        delegate.enableStatistics(cacheName, enabled);
+    }
+
+    @Override
+    public void close() {
+        topic.removeListener(invalidationListenerId, statusListenerId);
+        nearCaches.clear();
+        delegate.close();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> clazz) {
+        if (clazz.isAssignableFrom(getClass())) {
+            return clazz.cast(this);
+        }
+        return delegate.unwrap(clazz);
+    }
+
+    /**
+     * Message dropping a key of a region, or all its keys when {@code key} is {@code null}, from the local caches of the
+     * nodes other than the publishing one.
+     */
+    record Invalidation(UUID nodeId, String cacheName, Object key) implements Serializable {}
+}
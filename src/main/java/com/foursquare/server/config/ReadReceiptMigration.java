@@ -0,0 +1,95 @@
+package com.foursquare.server.config;
+
+import com.foursquare.server.domain.ReadReceipt;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Liquibase change creating the {@link ReadReceipt}s of the participants from the former
+ * {@code rel_message__seen_participant} join table, see the {@code 20261018150000} changelog.
+ * <p>
+ * The seen messages are read participant by participant, and only those of the conversation of the participant are
+ * kept, as the sequences of the messages are numbered by conversation.
+ */
+public class ReadReceiptMigration implements CustomTaskChange {
+
+    private static final String SEEN_MESSAGES =
+        "select participant.id, participant.conversation_id, message.sequence from rel_message__seen_participant seen " +
+        "join participant participant on participant.id = seen.seen_participant_id " +
+        "join message message on message.id = seen.message_id " +
+        "join participant sender on sender.id = message.participant_id " +
+        "where sender.conversation_id = participant.conversation_id and message.sequence is not null " +
+        "order by participant.id";
+
+    private static final String INSERT_RECEIPT =
+        "insert into read_receipt (participant_id, conversation_id, watermark, out_of_order) values (?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private int count;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try (
+            PreparedStatement select = connection.prepareStatement(SEEN_MESSAGES);
+            PreparedStatement insert = connection.prepareStatement(INSERT_RECEIPT);
+            ResultSet resultSet = select.executeQuery()
+        ) {
+            ReadReceipt receipt = null;
+            while (resultSet.next()) {
+                UUID participantId = resultSet.getObject(1, UUID.class);
+                if (receipt == null || !receipt.getParticipantId().equals(participantId)) {
+                    if (receipt != null) {
+                        addBatch(insert, receipt);
+                    }
+                    receipt = new ReadReceipt().participantId(participantId).conversationId(resultSet.getObject(2, UUID.class));
+                }
+                receipt.markSeen(resultSet.getInt(3));
+            }
+            if (receipt != null) {
+                addBatch(insert, receipt);
+            }
+            insert.executeBatch();
+        } catch (DatabaseException | SQLException e) {
+            throw new CustomChangeException("Could not create the read receipts", e);
+        }
+    }
+
+    private void addBatch(PreparedStatement insert, ReadReceipt receipt) throws SQLException {
+        insert.setObject(1, receipt.getParticipantId());
+        insert.setObject(2, receipt.getConversationId());
+        insert.setInt(3, receipt.getWatermark());
+        insert.setBytes(4, receipt.getOutOfOrder());
+        insert.addBatch();
+        if (++count % BATCH_SIZE == 0) {
+            insert.executeBatch();
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Created " + count + " read receipts";
+    }
+
+    @Override
+    public void setUp() throws SetupException {}
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {}
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
@@ -1,11 +1,13 @@
 package com.foursquare.server.domain;
 
+import com.foursquare.server.domain.enumeration.EntityAuditPayloadType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.UUID;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
@@ -38,6 +40,10 @@ public class EntityAuditEvent implements Serializable {
     @Column(name = "entity_value")
     private String entityValue;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payload_type", length = 10)
+    private EntityAuditPayloadType payloadType;
+
     @Column(name = "commit_version")
     private Integer commitVersion;
 
@@ -49,6 +55,9 @@ public class EntityAuditEvent implements Serializable {
     @Column(name = "modified_date", nullable = false)
     private Instant modifiedDate;
 
+    @Column(name = "journal_key")
+    private UUID journalKey;
+
     public Long getId() {
         return id;
     }
@@ -89,6 +98,14 @@ public class EntityAuditEvent implements Serializable {
         this.entityValue = entityValue;
     }
 
+    public EntityAuditPayloadType getPayloadType() {
+        return payloadType;
+    }
+
+    public void setPayloadType(EntityAuditPayloadType payloadType) {
+        this.payloadType = payloadType;
+    }
+
     public Integer getCommitVersion() {
         return commitVersion;
     }
@@ -113,6 +130,14 @@ public class EntityAuditEvent implements Serializable {
         this.modifiedDate = modifiedDate;
     }
 
+    public UUID getJournalKey() {
+        return journalKey;
+    }
+
+    public void setJournalKey(UUID journalKey) {
+        this.journalKey = journalKey;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -148,6 +173,9 @@ public class EntityAuditEvent implements Serializable {
             ", entityValue='" +
             entityValue +
             "'" +
+            ", payloadType='" +
+            payloadType +
+            "'" +
             ", commitVersion='" +
             commitVersion +
             "'" +
@@ -6,8 +6,6 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -46,20 +44,16 @@ public class Message extends AbstractAuditingEntity<UUID> implements Serializabl
     @Transient
     private boolean isPersisted;
 
+    /**
+     * The position of the message in the conversation of its participant, from 1, see {@link ReadReceipt}.
+     */
+    @Column(name = "sequence", updatable = false)
+    private Integer sequence;
+
     @ManyToOne(fetch = FetchType.LAZY)
-    @JsonIgnoreProperties(value = { "user", "conversation", "messages", "seenMessages" }, allowSetters = true)
+    @JsonIgnoreProperties(value = { "user", "conversation", "messages" }, allowSetters = true)
     private Participant participant;
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-        name = "rel_message__seen_participant",
-        joinColumns = @JoinColumn(name = "message_id"),
-        inverseJoinColumns = @JoinColumn(name = "seen_participant_id")
-    )
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-    @JsonIgnoreProperties(value = { "user", "conversation", "messages", "seenMessages" }, allowSetters = true)
-    private Set<Participant> seenParticipants = new HashSet<>();
-
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public UUID getId() {
@@ -101,6 +95,19 @@ public class Message extends AbstractAuditingEntity<UUID> implements Serializabl
         this.content = content;
     }
 
+    public Integer getSequence() {
+        return this.sequence;
+    }
+
+    public Message sequence(Integer sequence) {
+        this.setSequence(sequence);
+        return this;
+    }
+
+    public void setSequence(Integer sequence) {
+        this.sequence = sequence;
+    }
+
     // Inherited createdBy methods
     public Message createdBy(String createdBy) {
         this.setCreatedBy(createdBy);
@@ -155,29 +162,6 @@ public class Message extends AbstractAuditingEntity<UUID> implements Serializabl
         return this;
     }
 
-    public Set<Participant> getSeenParticipants() {
-        return this.seenParticipants;
-    }
-
-    public void setSeenParticipants(Set<Participant> participants) {
-        this.seenParticipants = participants;
-    }
-
-    public Message seenParticipants(Set<Participant> participants) {
-        this.setSeenParticipants(participants);
-        return this;
-    }
-
-    public Message addSeenParticipant(Participant participant) {
-        this.seenParticipants.add(participant);
-        return this;
-    }
-
-    public Message removeSeenParticipant(Participant participant) {
-        this.seenParticipants.remove(participant);
-        return this;
-    }
-
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -204,6 +188,7 @@ public class Message extends AbstractAuditingEntity<UUID> implements Serializabl
             "id=" + getId() +
             ", type='" + getType() + "'" +
             ", content='" + getContent() + "'" +
+            ", sequence=" + getSequence() +
             ", createdBy='" + getCreatedBy() + "'" +
             ", createdDate='" + getCreatedDate() + "'" +
             ", lastModifiedBy='" + getLastModifiedBy() + "'" +
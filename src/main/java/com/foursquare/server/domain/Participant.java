@@ -50,14 +50,9 @@ public class Participant extends AbstractAuditingEntity<UUID> implements Seriali
 
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "participant")
     @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-    @JsonIgnoreProperties(value = { "participant", "seenParticipants" }, allowSetters = true)
+    @JsonIgnoreProperties(value = { "participant" }, allowSetters = true)
     private Set<Message> messages = new HashSet<>();
 
-    @ManyToMany(fetch = FetchType.LAZY, mappedBy = "seenParticipants")
-    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-    @JsonIgnoreProperties(value = { "participant", "seenParticipants" }, allowSetters = true)
-    private Set<Message> seenMessages = new HashSet<>();
-
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public UUID getId() {
@@ -184,37 +179,6 @@ public class Participant extends AbstractAuditingEntity<UUID> implements Seriali
         return this;
     }
 
-    public Set<Message> getSeenMessages() {
-        return this.seenMessages;
-    }
-
-    public void setSeenMessages(Set<Message> messages) {
-        if (this.seenMessages != null) {
-            this.seenMessages.forEach(i -> i.removeSeenParticipant(this));
-        }
-        if (messages != null) {
-            messages.forEach(i -> i.addSeenParticipant(this));
-        }
-        this.seenMessages = messages;
-    }
-
-    public Participant seenMessages(Set<Message> messages) {
-        this.setSeenMessages(messages);
-        return this;
-    }
-
-    public Participant addSeenMessage(Message message) {
-        this.seenMessages.add(message);
-        message.getSeenParticipants().add(this);
-        return this;
-    }
-
-    public Participant removeSeenMessage(Message message) {
-        this.seenMessages.remove(message);
-        message.getSeenParticipants().remove(this);
-        return this;
-    }
-
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
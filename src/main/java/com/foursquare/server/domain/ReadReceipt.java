@@ -0,0 +1,192 @@
+package com.foursquare.server.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * The messages of its conversation which a {@link Participant} has seen.
+ * <p>
+ * The messages of a conversation are numbered by their {@link Message#getSequence() sequence}. The receipt holds the
+ * watermark, the sequence up to which all the messages are seen, and the compressed bitmap of the sequences seen
+ * above the watermark, out of order. As the participant reads on, the watermark moves up and the bitmap empties, so a
+ * receipt is one row of a few bytes per participant, whatever the number of messages.
+ * <p>
+ * A participant without a receipt has seen no message.
+ */
+@Entity
+@Table(name = "read_receipt")
+public class ReadReceipt implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "participant_id")
+    private UUID participantId;
+
+    @NotNull
+    @Column(name = "conversation_id", nullable = false)
+    private UUID conversationId;
+
+    @Column(name = "watermark", nullable = false)
+    private int watermark;
+
+    @Column(name = "out_of_order")
+    private byte[] outOfOrder;
+
+    public UUID getParticipantId() {
+        return participantId;
+    }
+
+    public ReadReceipt participantId(UUID participantId) {
+        this.participantId = participantId;
+        return this;
+    }
+
+    public UUID getConversationId() {
+        return conversationId;
+    }
+
+    public ReadReceipt conversationId(UUID conversationId) {
+        this.conversationId = conversationId;
+        return this;
+    }
+
+    public int getWatermark() {
+        return watermark;
+    }
+
+    public ReadReceipt watermark(int watermark) {
+        this.setWatermark(watermark);
+        return this;
+    }
+
+    public void setWatermark(int watermark) {
+        this.watermark = watermark;
+    }
+
+    public byte[] getOutOfOrder() {
+        return outOfOrder;
+    }
+
+    public ReadReceipt outOfOrder(byte[] outOfOrder) {
+        this.setOutOfOrder(outOfOrder);
+        return this;
+    }
+
+    public void setOutOfOrder(byte[] outOfOrder) {
+        this.outOfOrder = outOfOrder;
+    }
+
+    /**
+     * Whether the message of the given sequence is seen.
+     */
+    public boolean hasSeen(int sequence) {
+        return sequence <= watermark || (outOfOrder != null && bitmap().contains(sequence));
+    }
+
+    /**
+     * Mark the message of the given sequence seen.
+     *
+     * @return whether it was not seen yet.
+     */
+    public boolean markSeen(int sequence) {
+        if (sequence <= watermark) {
+            return false;
+        }
+        RoaringBitmap bitmap = bitmap();
+        if (!bitmap.checkedAdd(sequence)) {
+            return false;
+        }
+        store(bitmap);
+        return true;
+    }
+
+    /**
+     * Mark the messages up to the given sequence seen.
+     */
+    public void markSeenUpTo(int sequence) {
+        if (sequence <= watermark) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmap();
+        bitmap.remove(watermark + 1L, sequence + 1L);
+        watermark = sequence;
+        store(bitmap);
+    }
+
+    /**
+     * Count the messages which are not seen among those up to the given sequence.
+     *
+     * @param lastSequence the sequence of the last message of the conversation.
+     */
+    public long countUnseen(int lastSequence) {
+        if (lastSequence <= watermark) {
+            return 0;
+        }
+        long seen = outOfOrder == null ? 0 : bitmap().rangeCardinality(watermark + 1L, lastSequence + 1L);
+        return lastSequence - watermark - seen;
+    }
+
+    /**
+     * Move the watermark over the sequences seen right above it, and store the remaining ones.
+     */
+    private void store(RoaringBitmap bitmap) {
+        if (bitmap.contains(watermark + 1)) {
+            int next = (int) bitmap.nextAbsentValue(watermark + 1);
+            bitmap.remove(watermark + 1L, next);
+            watermark = next - 1;
+        }
+        if (bitmap.isEmpty()) {
+            outOfOrder = null;
+            return;
+        }
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        outOfOrder = buffer.array();
+    }
+
+    private RoaringBitmap bitmap() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (outOfOrder != null) {
+            try {
+                bitmap.deserialize(ByteBuffer.wrap(outOfOrder));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReadReceipt)) {
+            return false;
+        }
+        return getParticipantId() != null && getParticipantId().equals(((ReadReceipt) o).getParticipantId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ReadReceipt{" +
+            "participantId=" + getParticipantId() +
+            ", conversationId=" + getConversationId() +
+            ", watermark=" + getWatermark() +
+            "}";
+    }
+}
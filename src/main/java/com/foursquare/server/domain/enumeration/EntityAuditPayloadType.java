@@ -0,0 +1,15 @@
+package com.foursquare.server.domain.enumeration;
+
+/**
+ * Enum for the way an audit event stores the entity value
+ */
+public enum EntityAuditPayloadType {
+    /**
+     * The complete JSON document of the entity.
+     */
+    FULL,
+    /**
+     * The changes since the previous commit version, to be applied on top of the last full document.
+     */
+    DELTA,
+}
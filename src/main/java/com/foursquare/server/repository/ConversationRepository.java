@@ -1,13 +1,39 @@
 package com.foursquare.server.repository;
 
 import com.foursquare.server.domain.Conversation;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Conversation entity.
  */
-@SuppressWarnings("unused")
 @Repository
-public interface ConversationRepository extends JpaRepository<Conversation, UUID>, JpaSpecificationExecutor<Conversation> {}
+public interface ConversationRepository extends JpaRepository<Conversation, UUID>, JpaSpecificationExecutor<Conversation> {
+    /**
+     * Count one more message in the conversation of a participant. The row of the conversation stays locked until the
+     * end of the transaction, so that the messages of a conversation are counted one after the other. The statement is
+     * run as a query, see {@link ReadReceiptRepository#insertIfAbsent(UUID)}.
+     *
+     * @return the new number of messages, which is the sequence of the message, or empty if there is no such participant.
+     */
+    @Query(
+        value = "update conversation set message_count = message_count + 1 " +
+        "where id = (select participant.conversation_id from participant participant where participant.id = :participantId) " +
+        "returning message_count",
+        nativeQuery = true
+    )
+    Optional<Integer> incrementMessageCount(@Param("participantId") UUID participantId);
+
+    /**
+     * Return the number of messages of the conversation of a participant, or empty if there is no such participant.
+     */
+    @Query(
+        value = "select conversation.message_count from conversation conversation " +
+        "join participant participant on participant.conversation_id = conversation.id where participant.id = :participantId",
+        nativeQuery = true
+    )
+    Optional<Integer> findMessageCountByParticipantId(@Param("participantId") UUID participantId);
+}
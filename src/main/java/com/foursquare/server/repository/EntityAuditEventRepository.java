@@ -1,22 +1,62 @@
 package com.foursquare.server.repository;
 
 import com.foursquare.server.domain.EntityAuditEvent;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 /**
  * Spring Data JPA repository for the EntityAuditEvent entity.
  */
-public interface EntityAuditEventRepository extends JpaRepository<EntityAuditEvent, Long> {
+public interface EntityAuditEventRepository extends JpaRepository<EntityAuditEvent, Long>, JpaSpecificationExecutor<EntityAuditEvent> {
     List<EntityAuditEvent> findAllByEntityTypeAndEntityId(String entityType, String entityId);
 
     @Query("SELECT max(a.commitVersion) FROM EntityAuditEvent a where a.entityType = :type and a.entityId = :entityId")
     Integer findMaxCommitVersion(@Param("type") String type, @Param("entityId") String entityId);
 
+    @Query(
+        "SELECT max(a.commitVersion) FROM EntityAuditEvent a where a.entityType = :type and a.entityId = :entityId and " +
+        "a.commitVersion <= :commitVersion and " +
+        "(a.payloadType is null or a.payloadType <> com.foursquare.server.domain.enumeration.EntityAuditPayloadType.DELTA)"
+    )
+    Integer findLastSnapshotVersion(
+        @Param("type") String type,
+        @Param("entityId") String entityId,
+        @Param("commitVersion") Integer commitVersion
+    );
+
+    List<EntityAuditEvent> findAllByEntityTypeAndEntityIdAndCommitVersionBetweenOrderByCommitVersionAsc(
+        String entityType,
+        String entityId,
+        Integer fromCommitVersion,
+        Integer toCommitVersion
+    );
+
+    Optional<EntityAuditEvent> findFirstByEntityTypeAndEntityIdAndModifiedDateLessThanEqualOrderByModifiedDateDescIdDesc(
+        String entityType,
+        String entityId,
+        Instant modifiedDate
+    );
+
+    @Query(
+        "SELECT a.journalKey FROM EntityAuditEvent a where a.journalKey in :journalKeys and " +
+        "a.modifiedDate between :fromModifiedDate and :toModifiedDate"
+    )
+    Set<UUID> findJournalKeys(
+        @Param("journalKeys") Collection<UUID> journalKeys,
+        @Param("fromModifiedDate") Instant fromModifiedDate,
+        @Param("toModifiedDate") Instant toModifiedDate
+    );
+
     @Query("SELECT DISTINCT (a.entityType) from EntityAuditEvent a")
     List<String> findAllEntityTypes();
 
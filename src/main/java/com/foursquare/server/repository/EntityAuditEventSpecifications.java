@@ -0,0 +1,78 @@
+package com.foursquare.server.repository;
+
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.EntityAuditEvent_;
+import java.time.Instant;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications to browse the {@link EntityAuditEvent} history, newest first.
+ * <p>
+ * Pages are read by seeking past the last row of the previous page on {@code (modifiedDate, id)}, which the composite
+ * indexes on {@code jhi_entity_audit_event} serve without an offset scan or a count.
+ */
+public final class EntityAuditEventSpecifications {
+
+    /**
+     * The order of the history, matching the seek predicate of {@link #before(Instant, Long)}.
+     */
+    public static final Sort HISTORY_SORT = Sort.by(
+        Sort.Order.desc(EntityAuditEvent_.MODIFIED_DATE),
+        Sort.Order.desc(EntityAuditEvent_.ID)
+    );
+
+    private EntityAuditEventSpecifications() {}
+
+    public static Specification<EntityAuditEvent> entityType(String entityType) {
+        return (root, query, cb) -> cb.equal(root.get(EntityAuditEvent_.entityType), entityType);
+    }
+
+    public static Specification<EntityAuditEvent> entityId(String entityId) {
+        return entityId == null ? null : (root, query, cb) -> cb.equal(root.get(EntityAuditEvent_.entityId), entityId);
+    }
+
+    public static Specification<EntityAuditEvent> modifiedBy(String modifiedBy) {
+        return modifiedBy == null ? null : (root, query, cb) -> cb.equal(root.get(EntityAuditEvent_.modifiedBy), modifiedBy);
+    }
+
+    public static Specification<EntityAuditEvent> action(String action) {
+        return action == null ? null : (root, query, cb) -> cb.equal(root.get(EntityAuditEvent_.action), action);
+    }
+
+    /**
+     * Events modified at or after {@code from} and strictly before {@code to}, either bound being optional.
+     */
+    public static Specification<EntityAuditEvent> modifiedBetween(Instant from, Instant to) {
+        Specification<EntityAuditEvent> after = from == null
+            ? null
+            : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(EntityAuditEvent_.modifiedDate), from);
+        Specification<EntityAuditEvent> before = to == null
+            ? null
+            : (root, query, cb) -> cb.lessThan(root.get(EntityAuditEvent_.modifiedDate), to);
+        return Specification.where(after).and(before);
+    }
+
+    /**
+     * Events that come after the given row in {@link #HISTORY_SORT} order, or all events if no row is given.
+     * <p>
+     * The redundant {@code modifiedDate <= modifiedDate} conjunct bounds the range scanned on the index, which the
+     * disjunction alone does not.
+     */
+    public static Specification<EntityAuditEvent> before(Instant modifiedDate, Long id) {
+        if (modifiedDate == null || id == null) {
+            return null;
+        }
+        return (root, query, cb) ->
+            cb.and(
+                cb.lessThanOrEqualTo(root.get(EntityAuditEvent_.modifiedDate), modifiedDate),
+                cb.or(
+                    cb.lessThan(root.get(EntityAuditEvent_.modifiedDate), modifiedDate),
+                    cb.and(
+                        cb.equal(root.get(EntityAuditEvent_.modifiedDate), modifiedDate),
+                        cb.lessThan(root.get(EntityAuditEvent_.id), id)
+                    )
+                )
+            );
+    }
+}
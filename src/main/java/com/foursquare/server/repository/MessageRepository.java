@@ -1,32 +1,32 @@
 package com.foursquare.server.repository;
 
 import com.foursquare.server.domain.Message;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Message entity.
- *
- * When extending this class, extend MessageRepositoryWithBagRelationships too.
- * For more information refer to https://github.com/jhipster/generator-jhipster/issues/17990.
  */
 @Repository
-public interface MessageRepository
-    extends MessageRepositoryWithBagRelationships, JpaRepository<Message, UUID>, JpaSpecificationExecutor<Message> {
-    default Optional<Message> findOneWithEagerRelationships(UUID id) {
-        return this.fetchBagRelationships(this.findById(id));
-    }
+public interface MessageRepository extends JpaRepository<Message, UUID>, JpaSpecificationExecutor<Message> {
+    /**
+     * Return the conversation of a message and its sequence in it, without loading the message.
+     */
+    @Query(
+        "select participant.conversation.id as conversationId, message.sequence as sequence " +
+        "from Message message join message.participant participant where message.id = :id and message.sequence is not null"
+    )
+    Optional<Position> findPositionById(@Param("id") UUID id);
 
-    default List<Message> findAllWithEagerRelationships() {
-        return this.fetchBagRelationships(this.findAll());
-    }
+    /**
+     * The position of a message in its conversation.
+     */
+    interface Position {
+        UUID getConversationId();
 
-    default Page<Message> findAllWithEagerRelationships(Pageable pageable) {
-        return this.fetchBagRelationships(this.findAll(pageable));
+        int getSequence();
     }
 }
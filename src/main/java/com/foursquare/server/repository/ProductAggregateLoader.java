@@ -0,0 +1,65 @@
+package com.foursquare.server.repository;
+
+import com.foursquare.server.domain.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Loads the aggregate of products: their tags, images, categories with their colour, and comments with their user.
+ * <p>
+ * Each collection is fetched for all the products at once, by a join fetch query on their ids, so that loading a page
+ * of products takes four more queries whatever its size, or four per {@value #BATCH_SIZE} products. The collections
+ * are fetched by separate queries, as joining them together would return the Cartesian product of their rows. The
+ * queries initialize the collections of the products of the persistence context, so the products must be managed.
+ */
+@Repository
+public class ProductAggregateLoader {
+
+    static final int BATCH_SIZE = 1000;
+
+    static final List<String> FETCH_QUERIES = List.of(
+        "select product from Product product left join fetch product.tags where product.id in :ids",
+        "select product from Product product left join fetch product.productImages where product.id in :ids",
+        "select product from Product product left join fetch product.productCategories category left join fetch category.colour " +
+        "where product.id in :ids",
+        "select product from Product product left join fetch product.comments comment left join fetch comment.user " +
+        "where product.id in :ids"
+    );
+
+    private static final String IDS_PARAMETER = "ids";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Optional<Product> load(Optional<Product> product) {
+        product.ifPresent(result -> load(List.of(result)));
+        return product;
+    }
+
+    public Page<Product> load(Page<Product> products) {
+        load(products.getContent());
+        return products;
+    }
+
+    /**
+     * Load the collections of products.
+     *
+     * @param products the managed products.
+     * @return the same products, in the same order.
+     */
+    public List<Product> load(List<Product> products) {
+        List<UUID> ids = products.stream().map(Product::getId).distinct().toList();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            for (String query : FETCH_QUERIES) {
+                entityManager.createQuery(query, Product.class).setParameter(IDS_PARAMETER, batch).getResultList();
+            }
+        }
+        return products;
+    }
+}
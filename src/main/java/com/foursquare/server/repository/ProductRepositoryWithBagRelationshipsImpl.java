@@ -4,10 +4,8 @@ import com.foursquare.server.domain.Product;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
@@ -16,7 +14,6 @@ import org.springframework.data.domain.PageImpl;
  */
 public class ProductRepositoryWithBagRelationshipsImpl implements ProductRepositoryWithBagRelationships {
 
-    private static final String ID_PARAMETER = "id";
     private static final String PRODUCTS_PARAMETER = "products";
 
     @PersistenceContext
@@ -38,20 +35,16 @@ public class ProductRepositoryWithBagRelationshipsImpl implements ProductReposit
     }
 
     Product fetchTags(Product result) {
-        return entityManager
-            .createQuery("select product from Product product left join fetch product.tags where product.id = :id", Product.class)
-            .setParameter(ID_PARAMETER, result.getId())
-            .getSingleResult();
+        fetchTags(List.of(result));
+        return result;
     }
 
     List<Product> fetchTags(List<Product> products) {
-        HashMap<Object, Integer> order = new HashMap<>();
-        IntStream.range(0, products.size()).forEach(index -> order.put(products.get(index).getId(), index));
-        List<Product> result = entityManager
+        // The query initializes the tags of the managed products, which keep their order
+        entityManager
             .createQuery("select product from Product product left join fetch product.tags where product in :products", Product.class)
             .setParameter(PRODUCTS_PARAMETER, products)
             .getResultList();
-        Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
-        return result;
+        return products;
     }
 }
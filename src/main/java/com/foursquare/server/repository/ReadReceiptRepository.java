@@ -0,0 +1,67 @@
+package com.foursquare.server.repository;
+
+import com.foursquare.server.domain.ReadReceipt;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ReadReceipt entity.
+ */
+@Repository
+public interface ReadReceiptRepository extends JpaRepository<ReadReceipt, UUID> {
+    /**
+     * Create the empty receipt of a participant, unless it exists. The statement is run as a query, returning the
+     * created receipt, as Hibernate would evict all the second-level cache after an update of unknown tables.
+     *
+     * @return the id of the created receipt, none if the receipt exists or if there is no such participant.
+     */
+    @Query(
+        value = "insert into read_receipt (participant_id, conversation_id, watermark) " +
+        "select participant.id, participant.conversation_id, 0 from participant participant where participant.id = :participantId " +
+        "on conflict do nothing returning participant_id",
+        nativeQuery = true
+    )
+    List<UUID> insertIfAbsent(@Param("participantId") UUID participantId);
+
+    /**
+     * Create the empty receipts of the participants of a conversation, unless they exist.
+     *
+     * @return the ids of the created receipts.
+     * @see #insertIfAbsent(UUID)
+     */
+    @Query(
+        value = "insert into read_receipt (participant_id, conversation_id, watermark) " +
+        "select participant.id, participant.conversation_id, 0 from participant participant " +
+        "where participant.conversation_id = :conversationId " +
+        "on conflict do nothing returning participant_id",
+        nativeQuery = true
+    )
+    List<UUID> insertAllIfAbsent(@Param("conversationId") UUID conversationId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select receipt from ReadReceipt receipt where receipt.participantId = :participantId")
+    Optional<ReadReceipt> findForUpdate(@Param("participantId") UUID participantId);
+
+    /**
+     * Return the receipts of a conversation, locked in the order of their participants so that concurrent lockers do
+     * not deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select receipt from ReadReceipt receipt where receipt.conversationId = :conversationId order by receipt.participantId")
+    List<ReadReceipt> findAllForUpdate(@Param("conversationId") UUID conversationId);
+
+    /**
+     * Return the receipts of a conversation which may have seen a message: those whose watermark is above it, and
+     * those with messages seen out of order.
+     */
+    @Query(
+        "select receipt from ReadReceipt receipt where receipt.conversationId = :conversationId " +
+        "and (receipt.watermark >= :sequence or receipt.outOfOrder is not null)"
+    )
+    List<ReadReceipt> findAllMaybeSeen(@Param("conversationId") UUID conversationId, @Param("sequence") int sequence);
+}
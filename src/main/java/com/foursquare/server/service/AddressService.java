@@ -3,12 +3,18 @@ package com.foursquare.server.service;
 import com.foursquare.server.domain.Address;
 import com.foursquare.server.repository.AddressRepository;
 import com.foursquare.server.service.dto.AddressDTO;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.AddressMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,9 +30,20 @@ public class AddressService {
 
     private final AddressMapper addressMapper;
 
-    public AddressService(AddressRepository addressRepository, AddressMapper addressMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public AddressService(
+        AddressRepository addressRepository,
+        AddressMapper addressMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.addressRepository = addressRepository;
         this.addressMapper = addressMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -56,6 +73,52 @@ public class AddressService {
         return addressMapper.toDto(address);
     }
 
+    /**
+     * Save addresses in bulk.
+     *
+     * @param addressDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<AddressDTO> addressDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Addresses", addressDTOs.size());
+        return bulkWriter.create(addressDTOs, AddressDTO::getId, mode, addressDTO -> {
+            Address address = addressMapper.toEntity(addressDTO);
+            return addressRepository.save(address).getId();
+        });
+    }
+
+    /**
+     * Update addresses in bulk.
+     *
+     * @param addressDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<AddressDTO> addressDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Addresses", addressDTOs.size());
+        return bulkWriter.update(Address.class, addressDTOs, AddressDTO::getId, mode, addressDTO -> {
+            Address address = addressMapper.toEntity(addressDTO);
+            address.setIsPersisted();
+            return addressRepository.save(address).getId();
+        });
+    }
+
+    /**
+     * Delete addresses in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Addresses", ids.size());
+        return bulkWriter.delete(Address.class, ids, mode);
+    }
+
     /**
      * Partially update a address.
      *
@@ -88,6 +151,18 @@ public class AddressService {
         return addressRepository.findById(id).map(addressMapper::toDto);
     }
 
+    /**
+     * Get the addresses of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, AddressDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Addresses : {}", ids);
+        return entityBatchLoader.findAllById(Address.class, ids, addressMapper::toDto);
+    }
+
     /**
      * Delete the address by id.
      *
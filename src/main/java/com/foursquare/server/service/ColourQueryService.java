@@ -5,14 +5,24 @@ import com.foursquare.server.domain.Colour;
 import com.foursquare.server.repository.ColourRepository;
 import com.foursquare.server.service.criteria.ColourCriteria;
 import com.foursquare.server.service.dto.ColourDTO;
-import com.foursquare.server.service.mapper.ColourMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Colour} entities in the database.
@@ -22,17 +32,30 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class ColourQueryService extends QueryService<Colour> {
+public class ColourQueryService extends TrigramQueryService<Colour> {
 
     private static final Logger log = LoggerFactory.getLogger(ColourQueryService.class);
 
+    private static final DtoProjection<Colour, ColourDTO> DTO_PROJECTION = DtoProjection.of(Colour.class, ColourDTO.class);
+
     private final ColourRepository colourRepository;
 
-    private final ColourMapper colourMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public ColourQueryService(ColourRepository colourRepository, ColourMapper colourMapper) {
+    private final DtoProjector dtoProjector;
+
+    public ColourQueryService(
+        ColourRepository colourRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.colourRepository = colourRepository;
-        this.colourMapper = colourMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -44,7 +67,96 @@ public class ColourQueryService extends QueryService<Colour> {
     public List<ColourDTO> findByCriteria(ColourCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Colour> specification = createSpecification(criteria);
-        return colourMapper.toDto(colourRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ColourDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ColourDTO> findByCriteria(ColourCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Colour> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> colourRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link ColourDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ColourDTO> findByCriteria(ColourCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Colour> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> colourRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link ColourDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ColourDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Colour> specification = (root, query, builder) -> builder.equal(root.get(Colour_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link ColourDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ColourDTO> scrollByCriteria(ColourCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Colour> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link ColourDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ColourDTO> scrollByCriteria(ColourCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Colour> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link ColourDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(ColourCriteria criteria, CriteriaStreamer.RowConsumer<ColourDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Colour> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -59,6 +171,22 @@ public class ColourQueryService extends QueryService<Colour> {
         return colourRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ColourCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<Colour> specification = createSpecification(criteria);
+        return approximateCounter.count(Colour.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link ColourCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
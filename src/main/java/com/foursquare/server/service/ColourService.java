@@ -2,13 +2,19 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Colour;
 import com.foursquare.server.repository.ColourRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ColourDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ColourMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,9 +30,20 @@ public class ColourService {
 
     private final ColourMapper colourMapper;
 
-    public ColourService(ColourRepository colourRepository, ColourMapper colourMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ColourService(
+        ColourRepository colourRepository,
+        ColourMapper colourMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.colourRepository = colourRepository;
         this.colourMapper = colourMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -56,6 +73,52 @@ public class ColourService {
         return colourMapper.toDto(colour);
     }
 
+    /**
+     * Save colours in bulk.
+     *
+     * @param colourDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ColourDTO> colourDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Colours", colourDTOs.size());
+        return bulkWriter.create(colourDTOs, ColourDTO::getId, mode, colourDTO -> {
+            Colour colour = colourMapper.toEntity(colourDTO);
+            return colourRepository.save(colour).getId();
+        });
+    }
+
+    /**
+     * Update colours in bulk.
+     *
+     * @param colourDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ColourDTO> colourDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Colours", colourDTOs.size());
+        return bulkWriter.update(Colour.class, colourDTOs, ColourDTO::getId, mode, colourDTO -> {
+            Colour colour = colourMapper.toEntity(colourDTO);
+            colour.setIsPersisted();
+            return colourRepository.save(colour).getId();
+        });
+    }
+
+    /**
+     * Delete colours in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Colours", ids.size());
+        return bulkWriter.delete(Colour.class, ids, mode);
+    }
+
     /**
      * Partially update a colour.
      *
@@ -88,6 +151,18 @@ public class ColourService {
         return colourRepository.findById(id).map(colourMapper::toDto);
     }
 
+    /**
+     * Get the colours of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ColourDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Colours : {}", ids);
+        return entityBatchLoader.findAllById(Colour.class, ids, colourMapper::toDto);
+    }
+
     /**
      * Delete the colour by id.
      *
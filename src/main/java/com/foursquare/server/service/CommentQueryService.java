@@ -5,15 +5,25 @@ import com.foursquare.server.domain.Comment;
 import com.foursquare.server.repository.CommentRepository;
 import com.foursquare.server.service.criteria.CommentCriteria;
 import com.foursquare.server.service.dto.CommentDTO;
-import com.foursquare.server.service.mapper.CommentMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Comment} entities in the database.
@@ -23,17 +33,36 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class CommentQueryService extends QueryService<Comment> {
+public class CommentQueryService extends TrigramQueryService<Comment> {
 
     private static final Logger log = LoggerFactory.getLogger(CommentQueryService.class);
 
+    private static final DtoProjection<Comment, CommentDTO> DTO_PROJECTION = DtoProjection.of(
+        Comment.class,
+        CommentDTO.class,
+        "user.id",
+        "user.login",
+        "product.id"
+    );
+
     private final CommentRepository commentRepository;
 
-    private final CommentMapper commentMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public CommentQueryService(CommentRepository commentRepository, CommentMapper commentMapper) {
+    private final DtoProjector dtoProjector;
+
+    public CommentQueryService(
+        CommentRepository commentRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.commentRepository = commentRepository;
-        this.commentMapper = commentMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +74,96 @@ public class CommentQueryService extends QueryService<Comment> {
     public List<CommentDTO> findByCriteria(CommentCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Comment> specification = createSpecification(criteria);
-        return commentMapper.toDto(commentRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link CommentDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentDTO> findByCriteria(CommentCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Comment> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> commentRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link CommentDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentDTO> findByCriteria(CommentCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Comment> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> commentRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link CommentDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CommentDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Comment> specification = (root, query, builder) -> builder.equal(root.get(Comment_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link CommentDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<CommentDTO> scrollByCriteria(CommentCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Comment> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link CommentDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<CommentDTO> scrollByCriteria(CommentCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Comment> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link CommentDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(CommentCriteria criteria, CriteriaStreamer.RowConsumer<CommentDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Comment> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +178,22 @@ public class CommentQueryService extends QueryService<Comment> {
         return commentRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(CommentCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<Comment> specification = createSpecification(criteria);
+        return approximateCounter.count(Comment.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link CommentCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -2,8 +2,14 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Comment;
 import com.foursquare.server.repository.CommentRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.CommentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
+import com.foursquare.server.service.helper.FullTextSearch;
 import com.foursquare.server.service.mapper.CommentMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +33,24 @@ public class CommentService {
 
     private final CommentMapper commentMapper;
 
-    public CommentService(CommentRepository commentRepository, CommentMapper commentMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    private final FullTextSearch fullTextSearch;
+
+    public CommentService(
+        CommentRepository commentRepository,
+        CommentMapper commentMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter,
+        FullTextSearch fullTextSearch
+    ) {
         this.commentRepository = commentRepository;
         this.commentMapper = commentMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
+        this.fullTextSearch = fullTextSearch;
     }
 
     /**
@@ -58,6 +80,52 @@ public class CommentService {
         return commentMapper.toDto(comment);
     }
 
+    /**
+     * Save comments in bulk.
+     *
+     * @param commentDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<CommentDTO> commentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Comments", commentDTOs.size());
+        return bulkWriter.create(commentDTOs, CommentDTO::getId, mode, commentDTO -> {
+            Comment comment = commentMapper.toEntity(commentDTO);
+            return commentRepository.save(comment).getId();
+        });
+    }
+
+    /**
+     * Update comments in bulk.
+     *
+     * @param commentDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<CommentDTO> commentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Comments", commentDTOs.size());
+        return bulkWriter.update(Comment.class, commentDTOs, CommentDTO::getId, mode, commentDTO -> {
+            Comment comment = commentMapper.toEntity(commentDTO);
+            comment.setIsPersisted();
+            return commentRepository.save(comment).getId();
+        });
+    }
+
+    /**
+     * Delete comments in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Comments", ids.size());
+        return bulkWriter.delete(Comment.class, ids, mode);
+    }
+
     /**
      * Partially update a comment.
      *
@@ -99,6 +167,33 @@ public class CommentService {
         return commentRepository.findOneWithEagerRelationships(id).map(commentMapper::toDto);
     }
 
+    /**
+     * Get the comments of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, CommentDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Comments : {}", ids);
+        return entityBatchLoader.findAllById(Comment.class, ids, commentMapper::toDto);
+    }
+
+    /**
+     * Search the comments matching a web search query, most relevant first.
+     *
+     * @param query the web search query, see {@link FullTextSearch}.
+     * @param pageable the pagination information, whose sort is ignored.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentDTO> search(String query, Pageable pageable) {
+        log.debug("Request to search Comments : {}", query);
+        Page<UUID> ids = fullTextSearch.search(Comment.class, query, pageable, UUID.class);
+        Map<UUID, CommentDTO> commentDTOs = findAllById(ids.getContent());
+        return FullTextSearch.toPage(ids, commentDTOs);
+    }
+
     /**
      * Delete the comment by id.
      *
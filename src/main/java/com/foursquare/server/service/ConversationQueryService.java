@@ -5,15 +5,24 @@ import com.foursquare.server.domain.Conversation;
 import com.foursquare.server.repository.ConversationRepository;
 import com.foursquare.server.service.criteria.ConversationCriteria;
 import com.foursquare.server.service.dto.ConversationDTO;
-import com.foursquare.server.service.mapper.ConversationMapper;
-import jakarta.persistence.criteria.JoinType;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Conversation} entities in the database.
@@ -23,17 +32,33 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class ConversationQueryService extends QueryService<Conversation> {
+public class ConversationQueryService extends SemiJoinQueryService<Conversation> {
 
     private static final Logger log = LoggerFactory.getLogger(ConversationQueryService.class);
 
+    private static final DtoProjection<Conversation, ConversationDTO> DTO_PROJECTION = DtoProjection.of(
+        Conversation.class,
+        ConversationDTO.class
+    );
+
     private final ConversationRepository conversationRepository;
 
-    private final ConversationMapper conversationMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public ConversationQueryService(ConversationRepository conversationRepository, ConversationMapper conversationMapper) {
+    private final DtoProjector dtoProjector;
+
+    public ConversationQueryService(
+        ConversationRepository conversationRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.conversationRepository = conversationRepository;
-        this.conversationMapper = conversationMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +70,101 @@ public class ConversationQueryService extends QueryService<Conversation> {
     public List<ConversationDTO> findByCriteria(ConversationCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Conversation> specification = createSpecification(criteria);
-        return conversationMapper.toDto(conversationRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ConversationDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ConversationDTO> findByCriteria(ConversationCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Conversation> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> conversationRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link ConversationDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ConversationDTO> findByCriteria(ConversationCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Conversation> specification = createSpecification(criteria);
+        return dtoProjector.findAll(
+            DTO_PROJECTION.restrict(fields),
+            specification,
+            page,
+            () -> conversationRepository.count(specification)
+        );
+    }
+
+    /**
+     * Return the {@link ConversationDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ConversationDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Conversation> specification = (root, query, builder) -> builder.equal(root.get(Conversation_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link ConversationDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ConversationDTO> scrollByCriteria(ConversationCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Conversation> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link ConversationDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ConversationDTO> scrollByCriteria(ConversationCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Conversation> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link ConversationDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(ConversationCriteria criteria, CriteriaStreamer.RowConsumer<ConversationDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Conversation> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +179,22 @@ public class ConversationQueryService extends QueryService<Conversation> {
         return conversationRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ConversationCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<Conversation> specification = createSpecification(criteria);
+        return approximateCounter.count(Conversation.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link ConversationCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -92,9 +227,9 @@ public class ConversationQueryService extends QueryService<Conversation> {
             }
             if (criteria.getParticipantId() != null) {
                 specification = specification.and(
-                    buildSpecification(
+                    buildExistsSpecification(
                         criteria.getParticipantId(),
-                        root -> root.join(Conversation_.participants, JoinType.LEFT).get(Participant_.id)
+                        root -> root.join(Conversation_.participants).get(Participant_.id)
                     )
                 );
             }
@@ -2,13 +2,19 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Conversation;
 import com.foursquare.server.repository.ConversationRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ConversationDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ConversationMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,9 +30,20 @@ public class ConversationService {
 
     private final ConversationMapper conversationMapper;
 
-    public ConversationService(ConversationRepository conversationRepository, ConversationMapper conversationMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ConversationService(
+        ConversationRepository conversationRepository,
+        ConversationMapper conversationMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.conversationRepository = conversationRepository;
         this.conversationMapper = conversationMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -56,6 +73,52 @@ public class ConversationService {
         return conversationMapper.toDto(conversation);
     }
 
+    /**
+     * Save conversations in bulk.
+     *
+     * @param conversationDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ConversationDTO> conversationDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Conversations", conversationDTOs.size());
+        return bulkWriter.create(conversationDTOs, ConversationDTO::getId, mode, conversationDTO -> {
+            Conversation conversation = conversationMapper.toEntity(conversationDTO);
+            return conversationRepository.save(conversation).getId();
+        });
+    }
+
+    /**
+     * Update conversations in bulk.
+     *
+     * @param conversationDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ConversationDTO> conversationDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Conversations", conversationDTOs.size());
+        return bulkWriter.update(Conversation.class, conversationDTOs, ConversationDTO::getId, mode, conversationDTO -> {
+            Conversation conversation = conversationMapper.toEntity(conversationDTO);
+            conversation.setIsPersisted();
+            return conversationRepository.save(conversation).getId();
+        });
+    }
+
+    /**
+     * Delete conversations in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Conversations", ids.size());
+        return bulkWriter.delete(Conversation.class, ids, mode);
+    }
+
     /**
      * Partially update a conversation.
      *
@@ -88,6 +151,18 @@ public class ConversationService {
         return conversationRepository.findById(id).map(conversationMapper::toDto);
     }
 
+    /**
+     * Get the conversations of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ConversationDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Conversations : {}", ids);
+        return entityBatchLoader.findAllById(Conversation.class, ids, conversationMapper::toDto);
+    }
+
     /**
      * Delete the conversation by id.
      *
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.InternalOrderHistory;
 import com.foursquare.server.repository.InternalOrderHistoryRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InternalOrderHistoryDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.InternalOrderHistoryMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,12 +32,20 @@ public class InternalOrderHistoryService {
 
     private final InternalOrderHistoryMapper internalOrderHistoryMapper;
 
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
     public InternalOrderHistoryService(
         InternalOrderHistoryRepository internalOrderHistoryRepository,
-        InternalOrderHistoryMapper internalOrderHistoryMapper
+        InternalOrderHistoryMapper internalOrderHistoryMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
     ) {
         this.internalOrderHistoryRepository = internalOrderHistoryRepository;
         this.internalOrderHistoryMapper = internalOrderHistoryMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -61,6 +75,58 @@ public class InternalOrderHistoryService {
         return internalOrderHistoryMapper.toDto(internalOrderHistory);
     }
 
+    /**
+     * Save internalOrderHistories in bulk.
+     *
+     * @param internalOrderHistoryDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<InternalOrderHistoryDTO> internalOrderHistoryDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} InternalOrderHistories", internalOrderHistoryDTOs.size());
+        return bulkWriter.create(internalOrderHistoryDTOs, InternalOrderHistoryDTO::getId, mode, internalOrderHistoryDTO -> {
+            InternalOrderHistory internalOrderHistory = internalOrderHistoryMapper.toEntity(internalOrderHistoryDTO);
+            return internalOrderHistoryRepository.save(internalOrderHistory).getId();
+        });
+    }
+
+    /**
+     * Update internalOrderHistories in bulk.
+     *
+     * @param internalOrderHistoryDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<InternalOrderHistoryDTO> internalOrderHistoryDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} InternalOrderHistories", internalOrderHistoryDTOs.size());
+        return bulkWriter.update(
+            InternalOrderHistory.class,
+            internalOrderHistoryDTOs,
+            InternalOrderHistoryDTO::getId,
+            mode,
+            internalOrderHistoryDTO -> {
+                InternalOrderHistory internalOrderHistory = internalOrderHistoryMapper.toEntity(internalOrderHistoryDTO);
+                internalOrderHistory.setIsPersisted();
+                return internalOrderHistoryRepository.save(internalOrderHistory).getId();
+            }
+        );
+    }
+
+    /**
+     * Delete internalOrderHistories in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} InternalOrderHistories", ids.size());
+        return bulkWriter.delete(InternalOrderHistory.class, ids, mode);
+    }
+
     /**
      * Partially update a internalOrderHistory.
      *
@@ -102,6 +168,18 @@ public class InternalOrderHistoryService {
         return internalOrderHistoryRepository.findOneWithEagerRelationships(id).map(internalOrderHistoryMapper::toDto);
     }
 
+    /**
+     * Get the internalOrderHistories of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, InternalOrderHistoryDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get InternalOrderHistories : {}", ids);
+        return entityBatchLoader.findAllById(InternalOrderHistory.class, ids, internalOrderHistoryMapper::toDto);
+    }
+
     /**
      * Delete the internalOrderHistory by id.
      *
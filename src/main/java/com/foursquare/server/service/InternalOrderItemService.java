@@ -2,13 +2,19 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.InternalOrderItem;
 import com.foursquare.server.repository.InternalOrderItemRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InternalOrderItemDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.InternalOrderItemMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,12 +30,20 @@ public class InternalOrderItemService {
 
     private final InternalOrderItemMapper internalOrderItemMapper;
 
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
     public InternalOrderItemService(
         InternalOrderItemRepository internalOrderItemRepository,
-        InternalOrderItemMapper internalOrderItemMapper
+        InternalOrderItemMapper internalOrderItemMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
     ) {
         this.internalOrderItemRepository = internalOrderItemRepository;
         this.internalOrderItemMapper = internalOrderItemMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -59,6 +73,58 @@ public class InternalOrderItemService {
         return internalOrderItemMapper.toDto(internalOrderItem);
     }
 
+    /**
+     * Save internalOrderItems in bulk.
+     *
+     * @param internalOrderItemDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<InternalOrderItemDTO> internalOrderItemDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} InternalOrderItems", internalOrderItemDTOs.size());
+        return bulkWriter.create(internalOrderItemDTOs, InternalOrderItemDTO::getId, mode, internalOrderItemDTO -> {
+            InternalOrderItem internalOrderItem = internalOrderItemMapper.toEntity(internalOrderItemDTO);
+            return internalOrderItemRepository.save(internalOrderItem).getId();
+        });
+    }
+
+    /**
+     * Update internalOrderItems in bulk.
+     *
+     * @param internalOrderItemDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<InternalOrderItemDTO> internalOrderItemDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} InternalOrderItems", internalOrderItemDTOs.size());
+        return bulkWriter.update(
+            InternalOrderItem.class,
+            internalOrderItemDTOs,
+            InternalOrderItemDTO::getId,
+            mode,
+            internalOrderItemDTO -> {
+                InternalOrderItem internalOrderItem = internalOrderItemMapper.toEntity(internalOrderItemDTO);
+                internalOrderItem.setIsPersisted();
+                return internalOrderItemRepository.save(internalOrderItem).getId();
+            }
+        );
+    }
+
+    /**
+     * Delete internalOrderItems in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} InternalOrderItems", ids.size());
+        return bulkWriter.delete(InternalOrderItem.class, ids, mode);
+    }
+
     /**
      * Partially update a internalOrderItem.
      *
@@ -91,6 +157,18 @@ public class InternalOrderItemService {
         return internalOrderItemRepository.findById(id).map(internalOrderItemMapper::toDto);
     }
 
+    /**
+     * Get the internalOrderItems of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, InternalOrderItemDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get InternalOrderItems : {}", ids);
+        return entityBatchLoader.findAllById(InternalOrderItem.class, ids, internalOrderItemMapper::toDto);
+    }
+
     /**
      * Delete the internalOrderItem by id.
      *
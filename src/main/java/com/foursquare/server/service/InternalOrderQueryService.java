@@ -5,15 +5,25 @@ import com.foursquare.server.domain.InternalOrder;
 import com.foursquare.server.repository.InternalOrderRepository;
 import com.foursquare.server.service.criteria.InternalOrderCriteria;
 import com.foursquare.server.service.dto.InternalOrderDTO;
-import com.foursquare.server.service.mapper.InternalOrderMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link InternalOrder} entities in the database.
@@ -23,17 +33,36 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class InternalOrderQueryService extends QueryService<InternalOrder> {
+public class InternalOrderQueryService extends SemiJoinQueryService<InternalOrder> {
 
     private static final Logger log = LoggerFactory.getLogger(InternalOrderQueryService.class);
 
+    static final DtoProjection<InternalOrder, InternalOrderDTO> DTO_PROJECTION = DtoProjection.of(
+        InternalOrder.class,
+        InternalOrderDTO.class,
+        "status.id",
+        "status.statusCode",
+        "rootOrder.id"
+    );
+
     private final InternalOrderRepository internalOrderRepository;
 
-    private final InternalOrderMapper internalOrderMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public InternalOrderQueryService(InternalOrderRepository internalOrderRepository, InternalOrderMapper internalOrderMapper) {
+    private final DtoProjector dtoProjector;
+
+    public InternalOrderQueryService(
+        InternalOrderRepository internalOrderRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.internalOrderRepository = internalOrderRepository;
-        this.internalOrderMapper = internalOrderMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +74,104 @@ public class InternalOrderQueryService extends QueryService<InternalOrder> {
     public List<InternalOrderDTO> findByCriteria(InternalOrderCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<InternalOrder> specification = createSpecification(criteria);
-        return internalOrderMapper.toDto(internalOrderRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link InternalOrderDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<InternalOrderDTO> findByCriteria(InternalOrderCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<InternalOrder> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> internalOrderRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link InternalOrderDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<InternalOrderDTO> findByCriteria(InternalOrderCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<InternalOrder> specification = createSpecification(criteria);
+        return dtoProjector.findAll(
+            DTO_PROJECTION.restrict(fields),
+            specification,
+            page,
+            () -> internalOrderRepository.count(specification)
+        );
+    }
+
+    /**
+     * Return the {@link InternalOrderDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<InternalOrderDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<InternalOrder> specification = (root, query, builder) -> builder.equal(root.get(InternalOrder_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link InternalOrderDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<InternalOrderDTO> scrollByCriteria(InternalOrderCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<InternalOrder> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link InternalOrderDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<InternalOrderDTO> scrollByCriteria(InternalOrderCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<InternalOrder> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link InternalOrderDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(
+        InternalOrderCriteria criteria,
+        CriteriaStreamer.RowConsumer<InternalOrderDTO> consumer
+    ) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<InternalOrder> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +186,22 @@ public class InternalOrderQueryService extends QueryService<InternalOrder> {
         return internalOrderRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(InternalOrderCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<InternalOrder> specification = createSpecification(criteria);
+        return approximateCounter.count(InternalOrder.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link InternalOrderCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -95,9 +237,9 @@ public class InternalOrderQueryService extends QueryService<InternalOrder> {
             }
             if (criteria.getHistoryId() != null) {
                 specification = specification.and(
-                    buildSpecification(
+                    buildExistsSpecification(
                         criteria.getHistoryId(),
-                        root -> root.join(InternalOrder_.histories, JoinType.LEFT).get(InternalOrderHistory_.id)
+                        root -> root.join(InternalOrder_.histories).get(InternalOrderHistory_.id)
                     )
                 );
             }
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.InternalOrder;
 import com.foursquare.server.repository.InternalOrderRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InternalOrderDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.InternalOrderMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class InternalOrderService {
 
     private final InternalOrderMapper internalOrderMapper;
 
-    public InternalOrderService(InternalOrderRepository internalOrderRepository, InternalOrderMapper internalOrderMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public InternalOrderService(
+        InternalOrderRepository internalOrderRepository,
+        InternalOrderMapper internalOrderMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.internalOrderRepository = internalOrderRepository;
         this.internalOrderMapper = internalOrderMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class InternalOrderService {
         return internalOrderMapper.toDto(internalOrder);
     }
 
+    /**
+     * Save internalOrders in bulk.
+     *
+     * @param internalOrderDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<InternalOrderDTO> internalOrderDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} InternalOrders", internalOrderDTOs.size());
+        return bulkWriter.create(internalOrderDTOs, InternalOrderDTO::getId, mode, internalOrderDTO -> {
+            InternalOrder internalOrder = internalOrderMapper.toEntity(internalOrderDTO);
+            return internalOrderRepository.save(internalOrder).getId();
+        });
+    }
+
+    /**
+     * Update internalOrders in bulk.
+     *
+     * @param internalOrderDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<InternalOrderDTO> internalOrderDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} InternalOrders", internalOrderDTOs.size());
+        return bulkWriter.update(InternalOrder.class, internalOrderDTOs, InternalOrderDTO::getId, mode, internalOrderDTO -> {
+            InternalOrder internalOrder = internalOrderMapper.toEntity(internalOrderDTO);
+            internalOrder.setIsPersisted();
+            return internalOrderRepository.save(internalOrder).getId();
+        });
+    }
+
+    /**
+     * Delete internalOrders in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} InternalOrders", ids.size());
+        return bulkWriter.delete(InternalOrder.class, ids, mode);
+    }
+
     /**
      * Partially update a internalOrder.
      *
@@ -99,6 +162,18 @@ public class InternalOrderService {
         return internalOrderRepository.findOneWithEagerRelationships(id).map(internalOrderMapper::toDto);
     }
 
+    /**
+     * Get the internalOrders of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, InternalOrderDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get InternalOrders : {}", ids);
+        return entityBatchLoader.findAllById(InternalOrder.class, ids, internalOrderMapper::toDto);
+    }
+
     /**
      * Delete the internalOrder by id.
      *
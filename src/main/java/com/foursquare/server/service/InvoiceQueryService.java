@@ -5,15 +5,26 @@ import com.foursquare.server.domain.Invoice;
 import com.foursquare.server.repository.InvoiceRepository;
 import com.foursquare.server.service.criteria.InvoiceCriteria;
 import com.foursquare.server.service.dto.InvoiceDTO;
-import com.foursquare.server.service.mapper.InvoiceMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaResultCache;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Invoice} entities in the database.
@@ -23,17 +34,41 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class InvoiceQueryService extends QueryService<Invoice> {
+public class InvoiceQueryService extends SemiJoinQueryService<Invoice> {
 
     private static final Logger log = LoggerFactory.getLogger(InvoiceQueryService.class);
 
+    static final DtoProjection<Invoice, InvoiceDTO> DTO_PROJECTION = DtoProjection.of(
+        Invoice.class,
+        InvoiceDTO.class,
+        "status.id",
+        "status.statusCode",
+        "order.id",
+        "rootInvoice.id"
+    );
+
     private final InvoiceRepository invoiceRepository;
 
-    private final InvoiceMapper invoiceMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final CriteriaResultCache criteriaResultCache;
+
+    private final ApproximateCounter approximateCounter;
+
+    private final DtoProjector dtoProjector;
 
-    public InvoiceQueryService(InvoiceRepository invoiceRepository, InvoiceMapper invoiceMapper) {
+    public InvoiceQueryService(
+        InvoiceRepository invoiceRepository,
+        CriteriaStreamer criteriaStreamer,
+        CriteriaResultCache criteriaResultCache,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.invoiceRepository = invoiceRepository;
-        this.invoiceMapper = invoiceMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.criteriaResultCache = criteriaResultCache;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,19 +80,129 @@ public class InvoiceQueryService extends QueryService<Invoice> {
     public List<InvoiceDTO> findByCriteria(InvoiceCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Invoice> specification = createSpecification(criteria);
-        return invoiceMapper.toDto(invoiceRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link InvoiceDTO} which matches the criteria from the database, or from the
+     * {@link CriteriaResultCache} when enabled.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<InvoiceDTO> findByCriteria(InvoiceCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        return criteriaResultCache.getPage(DTO_PROJECTION, criteria, page, () -> {
+            final Specification<Invoice> specification = createSpecification(criteria);
+            return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> invoiceRepository.count(specification));
+        });
+    }
+
+    /**
+     * Return a {@link Page} of {@link InvoiceDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<InvoiceDTO> findByCriteria(InvoiceCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Invoice> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> invoiceRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link InvoiceDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<InvoiceDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Invoice> specification = (root, query, builder) -> builder.equal(root.get(Invoice_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link InvoiceDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<InvoiceDTO> scrollByCriteria(InvoiceCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Invoice> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
     }
 
     /**
-     * Return the number of matching entities in the database.
+     * Return a {@link Window} of {@link InvoiceDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<InvoiceDTO> scrollByCriteria(InvoiceCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Invoice> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link InvoiceDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(InvoiceCriteria criteria, CriteriaStreamer.RowConsumer<InvoiceDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Invoice> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
+    }
+
+    /**
+     * Return the number of matching entities in the database, or in the {@link CriteriaResultCache} when enabled.
      * @param criteria The object which holds all the filters, which the entities should match.
      * @return the number of matching entities.
      */
     @Transactional(readOnly = true)
     public long countByCriteria(InvoiceCriteria criteria) {
         log.debug("count by criteria : {}", criteria);
+        return criteriaResultCache.getCount(Invoice.class, criteria, () -> {
+            final Specification<Invoice> specification = createSpecification(criteria);
+            return invoiceRepository.count(specification);
+        });
+    }
+
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(InvoiceCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
         final Specification<Invoice> specification = createSpecification(criteria);
-        return invoiceRepository.count(specification);
+        return approximateCounter.count(Invoice.class, specification, () -> countByCriteria(criteria));
     }
 
     /**
@@ -101,15 +246,12 @@ public class InvoiceQueryService extends QueryService<Invoice> {
             }
             if (criteria.getChildInvoiceId() != null) {
                 specification = specification.and(
-                    buildSpecification(
-                        criteria.getChildInvoiceId(),
-                        root -> root.join(Invoice_.childInvoices, JoinType.LEFT).get(Invoice_.id)
-                    )
+                    buildExistsSpecification(criteria.getChildInvoiceId(), root -> root.join(Invoice_.childInvoices).get(Invoice_.id))
                 );
             }
             if (criteria.getShipmentId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getShipmentId(), root -> root.join(Invoice_.shipments, JoinType.LEFT).get(Shipment_.id))
+                    buildExistsSpecification(criteria.getShipmentId(), root -> root.join(Invoice_.shipments).get(Shipment_.id))
                 );
             }
             if (criteria.getStatusId() != null) {
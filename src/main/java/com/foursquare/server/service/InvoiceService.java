@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Invoice;
 import com.foursquare.server.repository.InvoiceRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InvoiceDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.InvoiceMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class InvoiceService {
 
     private final InvoiceMapper invoiceMapper;
 
-    public InvoiceService(InvoiceRepository invoiceRepository, InvoiceMapper invoiceMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public InvoiceService(
+        InvoiceRepository invoiceRepository,
+        InvoiceMapper invoiceMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.invoiceRepository = invoiceRepository;
         this.invoiceMapper = invoiceMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class InvoiceService {
         return invoiceMapper.toDto(invoice);
     }
 
+    /**
+     * Save invoices in bulk.
+     *
+     * @param invoiceDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<InvoiceDTO> invoiceDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Invoices", invoiceDTOs.size());
+        return bulkWriter.create(invoiceDTOs, InvoiceDTO::getId, mode, invoiceDTO -> {
+            Invoice invoice = invoiceMapper.toEntity(invoiceDTO);
+            return invoiceRepository.save(invoice).getId();
+        });
+    }
+
+    /**
+     * Update invoices in bulk.
+     *
+     * @param invoiceDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<InvoiceDTO> invoiceDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Invoices", invoiceDTOs.size());
+        return bulkWriter.update(Invoice.class, invoiceDTOs, InvoiceDTO::getId, mode, invoiceDTO -> {
+            Invoice invoice = invoiceMapper.toEntity(invoiceDTO);
+            invoice.setIsPersisted();
+            return invoiceRepository.save(invoice).getId();
+        });
+    }
+
+    /**
+     * Delete invoices in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Invoices", ids.size());
+        return bulkWriter.delete(Invoice.class, ids, mode);
+    }
+
     /**
      * Partially update a invoice.
      *
@@ -99,6 +162,18 @@ public class InvoiceService {
         return invoiceRepository.findOneWithEagerRelationships(id).map(invoiceMapper::toDto);
     }
 
+    /**
+     * Get the invoices of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, InvoiceDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Invoices : {}", ids);
+        return entityBatchLoader.findAllById(Invoice.class, ids, invoiceMapper::toDto);
+    }
+
     /**
      * Delete the invoice by id.
      *
@@ -5,14 +5,23 @@ import com.foursquare.server.domain.InvoiceStatus;
 import com.foursquare.server.repository.InvoiceStatusRepository;
 import com.foursquare.server.service.criteria.InvoiceStatusCriteria;
 import com.foursquare.server.service.dto.InvoiceStatusDTO;
-import com.foursquare.server.service.mapper.InvoiceStatusMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link InvoiceStatus} entities in the database.
@@ -22,17 +31,33 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class InvoiceStatusQueryService extends QueryService<InvoiceStatus> {
+public class InvoiceStatusQueryService extends TrigramQueryService<InvoiceStatus> {
 
     private static final Logger log = LoggerFactory.getLogger(InvoiceStatusQueryService.class);
 
+    private static final DtoProjection<InvoiceStatus, InvoiceStatusDTO> DTO_PROJECTION = DtoProjection.of(
+        InvoiceStatus.class,
+        InvoiceStatusDTO.class
+    );
+
     private final InvoiceStatusRepository invoiceStatusRepository;
 
-    private final InvoiceStatusMapper invoiceStatusMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public InvoiceStatusQueryService(InvoiceStatusRepository invoiceStatusRepository, InvoiceStatusMapper invoiceStatusMapper) {
+    private final DtoProjector dtoProjector;
+
+    public InvoiceStatusQueryService(
+        InvoiceStatusRepository invoiceStatusRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.invoiceStatusRepository = invoiceStatusRepository;
-        this.invoiceStatusMapper = invoiceStatusMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -44,7 +69,104 @@ public class InvoiceStatusQueryService extends QueryService<InvoiceStatus> {
     public List<InvoiceStatusDTO> findByCriteria(InvoiceStatusCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<InvoiceStatus> specification = createSpecification(criteria);
-        return invoiceStatusMapper.toDto(invoiceStatusRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link InvoiceStatusDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<InvoiceStatusDTO> findByCriteria(InvoiceStatusCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<InvoiceStatus> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> invoiceStatusRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link InvoiceStatusDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<InvoiceStatusDTO> findByCriteria(InvoiceStatusCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<InvoiceStatus> specification = createSpecification(criteria);
+        return dtoProjector.findAll(
+            DTO_PROJECTION.restrict(fields),
+            specification,
+            page,
+            () -> invoiceStatusRepository.count(specification)
+        );
+    }
+
+    /**
+     * Return the {@link InvoiceStatusDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<InvoiceStatusDTO> findOne(Long id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<InvoiceStatus> specification = (root, query, builder) -> builder.equal(root.get(InvoiceStatus_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link InvoiceStatusDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<InvoiceStatusDTO> scrollByCriteria(InvoiceStatusCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<InvoiceStatus> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Return a {@link Window} of {@link InvoiceStatusDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<InvoiceStatusDTO> scrollByCriteria(InvoiceStatusCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<InvoiceStatus> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Stream the {@link InvoiceStatusDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(
+        InvoiceStatusCriteria criteria,
+        CriteriaStreamer.RowConsumer<InvoiceStatusDTO> consumer
+    ) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<InvoiceStatus> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -59,6 +181,22 @@ public class InvoiceStatusQueryService extends QueryService<InvoiceStatus> {
         return invoiceStatusRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(InvoiceStatusCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<InvoiceStatus> specification = createSpecification(criteria);
+        return approximateCounter.count(InvoiceStatus.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link InvoiceStatusCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
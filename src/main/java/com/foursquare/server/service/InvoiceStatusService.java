@@ -2,12 +2,18 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.InvoiceStatus;
 import com.foursquare.server.repository.InvoiceStatusRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InvoiceStatusDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.InvoiceStatusMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -23,9 +29,20 @@ public class InvoiceStatusService {
 
     private final InvoiceStatusMapper invoiceStatusMapper;
 
-    public InvoiceStatusService(InvoiceStatusRepository invoiceStatusRepository, InvoiceStatusMapper invoiceStatusMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public InvoiceStatusService(
+        InvoiceStatusRepository invoiceStatusRepository,
+        InvoiceStatusMapper invoiceStatusMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.invoiceStatusRepository = invoiceStatusRepository;
         this.invoiceStatusMapper = invoiceStatusMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -55,6 +72,52 @@ public class InvoiceStatusService {
         return invoiceStatusMapper.toDto(invoiceStatus);
     }
 
+    /**
+     * Save invoiceStatuses in bulk.
+     *
+     * @param invoiceStatusDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> saveAll(List<InvoiceStatusDTO> invoiceStatusDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} InvoiceStatuses", invoiceStatusDTOs.size());
+        return bulkWriter.create(invoiceStatusDTOs, InvoiceStatusDTO::getId, mode, invoiceStatusDTO -> {
+            InvoiceStatus invoiceStatus = invoiceStatusMapper.toEntity(invoiceStatusDTO);
+            return invoiceStatusRepository.save(invoiceStatus).getId();
+        });
+    }
+
+    /**
+     * Update invoiceStatuses in bulk.
+     *
+     * @param invoiceStatusDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> updateAll(List<InvoiceStatusDTO> invoiceStatusDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} InvoiceStatuses", invoiceStatusDTOs.size());
+        return bulkWriter.update(InvoiceStatus.class, invoiceStatusDTOs, InvoiceStatusDTO::getId, mode, invoiceStatusDTO -> {
+            InvoiceStatus invoiceStatus = invoiceStatusMapper.toEntity(invoiceStatusDTO);
+            invoiceStatus.setIsPersisted();
+            return invoiceStatusRepository.save(invoiceStatus).getId();
+        });
+    }
+
+    /**
+     * Delete invoiceStatuses in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> deleteAll(List<Long> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} InvoiceStatuses", ids.size());
+        return bulkWriter.delete(InvoiceStatus.class, ids, mode);
+    }
+
     /**
      * Partially update a invoiceStatus.
      *
@@ -87,6 +150,18 @@ public class InvoiceStatusService {
         return invoiceStatusRepository.findById(id).map(invoiceStatusMapper::toDto);
     }
 
+    /**
+     * Get the invoiceStatuses of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, InvoiceStatusDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get InvoiceStatuses : {}", ids);
+        return entityBatchLoader.findAllById(InvoiceStatus.class, ids, invoiceStatusMapper::toDto);
+    }
+
     /**
      * Delete the invoiceStatus by id.
      *
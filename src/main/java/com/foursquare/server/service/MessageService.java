@@ -2,8 +2,14 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Message;
 import com.foursquare.server.repository.MessageRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.MessageDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
+import com.foursquare.server.service.helper.FullTextSearch;
 import com.foursquare.server.service.mapper.MessageMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +33,28 @@ public class MessageService {
 
     private final MessageMapper messageMapper;
 
-    public MessageService(MessageRepository messageRepository, MessageMapper messageMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    private final FullTextSearch fullTextSearch;
+
+    private final ReadReceiptService readReceiptService;
+
+    public MessageService(
+        MessageRepository messageRepository,
+        MessageMapper messageMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter,
+        FullTextSearch fullTextSearch,
+        ReadReceiptService readReceiptService
+    ) {
         this.messageRepository = messageRepository;
         this.messageMapper = messageMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
+        this.fullTextSearch = fullTextSearch;
+        this.readReceiptService = readReceiptService;
     }
 
     /**
@@ -40,6 +66,7 @@ public class MessageService {
     public MessageDTO save(MessageDTO messageDTO) {
         log.debug("Request to save Message : {}", messageDTO);
         Message message = messageMapper.toEntity(messageDTO);
+        readReceiptService.post(message);
         message = messageRepository.save(message);
         return messageMapper.toDto(message);
     }
@@ -54,10 +81,57 @@ public class MessageService {
         log.debug("Request to update Message : {}", messageDTO);
         Message message = messageMapper.toEntity(messageDTO);
         message.setIsPersisted();
-        message = messageRepository.save(message);
+        message = messageRepository.save(keepSequence(message));
         return messageMapper.toDto(message);
     }
 
+    /**
+     * Save messages in bulk.
+     *
+     * @param messageDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<MessageDTO> messageDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Messages", messageDTOs.size());
+        return bulkWriter.create(messageDTOs, MessageDTO::getId, mode, messageDTO -> {
+            Message message = messageMapper.toEntity(messageDTO);
+            readReceiptService.post(message);
+            return messageRepository.save(message).getId();
+        });
+    }
+
+    /**
+     * Update messages in bulk.
+     *
+     * @param messageDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<MessageDTO> messageDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Messages", messageDTOs.size());
+        return bulkWriter.update(Message.class, messageDTOs, MessageDTO::getId, mode, messageDTO -> {
+            Message message = messageMapper.toEntity(messageDTO);
+            message.setIsPersisted();
+            return messageRepository.save(keepSequence(message)).getId();
+        });
+    }
+
+    /**
+     * Delete messages in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Messages", ids.size());
+        return bulkWriter.delete(Message.class, ids, mode, readReceiptService::markDeleted);
+    }
+
     /**
      * Partially update a message.
      *
@@ -78,15 +152,6 @@ public class MessageService {
             .map(messageMapper::toDto);
     }
 
-    /**
-     * Get all the messages with eager load of many-to-many relationships.
-     *
-     * @return the list of entities.
-     */
-    public Page<MessageDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return messageRepository.findAllWithEagerRelationships(pageable).map(messageMapper::toDto);
-    }
-
     /**
      * Get one message by id.
      *
@@ -96,7 +161,34 @@ public class MessageService {
     @Transactional(readOnly = true)
     public Optional<MessageDTO> findOne(UUID id) {
         log.debug("Request to get Message : {}", id);
-        return messageRepository.findOneWithEagerRelationships(id).map(messageMapper::toDto);
+        return messageRepository.findById(id).map(messageMapper::toDto);
+    }
+
+    /**
+     * Get the messages of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, MessageDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Messages : {}", ids);
+        return entityBatchLoader.findAllById(Message.class, ids, messageMapper::toDto);
+    }
+
+    /**
+     * Search the messages matching a web search query, most relevant first.
+     *
+     * @param query the web search query, see {@link FullTextSearch}.
+     * @param pageable the pagination information, whose sort is ignored.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MessageDTO> search(String query, Pageable pageable) {
+        log.debug("Request to search Messages : {}", query);
+        Page<UUID> ids = fullTextSearch.search(Message.class, query, pageable, UUID.class);
+        Map<UUID, MessageDTO> messageDTOs = findAllById(ids.getContent());
+        return FullTextSearch.toPage(ids, messageDTOs);
     }
 
     /**
@@ -106,6 +198,15 @@ public class MessageService {
      */
     public void delete(UUID id) {
         log.debug("Request to delete Message : {}", id);
+        readReceiptService.markDeleted(id);
         messageRepository.deleteById(id);
     }
+
+    /**
+     * Keep the sequence of an updated message, which is not updatable.
+     */
+    private Message keepSequence(Message message) {
+        messageRepository.findById(message.getId()).ifPresent(existingMessage -> message.setSequence(existingMessage.getSequence()));
+        return message;
+    }
 }
@@ -0,0 +1,84 @@
+package com.foursquare.server.service;
+
+import com.foursquare.server.domain.*; // for static metamodels
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.service.dto.OrderAggregateDTO;
+import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service assembling the {@link OrderAggregateDTO} of an order in {@value #QUERY_COUNT} queries, whatever the number of
+ * its items, shipments and other related entities.
+ * <p>
+ * Each kind of related entity is read by one query of the DTO projection of its query service, filtered on the id of
+ * the order, through the shipment for the items and assignments of the shipments. As no entity is loaded, neither the
+ * lazy collections nor the eager to-one associations of the entities issue more queries. The related DTOs are sorted
+ * by creation date.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderAggregateLoader {
+
+    static final int QUERY_COUNT = 9;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAggregateLoader.class);
+
+    private static final Sort CREATION_ORDER = Sort.by(AbstractAuditingEntity_.CREATED_DATE, Order_.ID);
+
+    private final DtoProjector dtoProjector;
+
+    public OrderAggregateLoader(DtoProjector dtoProjector) {
+        this.dtoProjector = dtoProjector;
+    }
+
+    /**
+     * Load the aggregate of an order.
+     *
+     * @param id the id of the order.
+     * @return the aggregate, or empty if there is no such order.
+     */
+    public Optional<OrderAggregateDTO> load(UUID id) {
+        log.debug("Request to load the aggregate of Order : {}", id);
+        Specification<Order> byId = (root, query, builder) -> builder.equal(root.get(Order_.id), id);
+        List<OrderDTO> orders = dtoProjector.findAll(OrderQueryService.DTO_PROJECTION, byId);
+        if (orders.isEmpty()) {
+            return Optional.empty();
+        }
+        OrderAggregateDTO aggregate = new OrderAggregateDTO();
+        aggregate.setOrder(orders.get(0));
+        aggregate.setOrderItems(related(OrderItemQueryService.DTO_PROJECTION, root -> root.get(OrderItem_.order), id));
+        aggregate.setInvoices(related(InvoiceQueryService.DTO_PROJECTION, root -> root.get(Invoice_.order), id));
+        aggregate.setShipments(related(ShipmentQueryService.DTO_PROJECTION, root -> root.get(Shipment_.order), id));
+        aggregate.setShipmentItems(
+            related(ShipmentItemQueryService.DTO_PROJECTION, root -> root.get(ShipmentItem_.shipment).get(Shipment_.order), id)
+        );
+        aggregate.setShipmentAssignments(
+            related(ShipmentAssignmentQueryService.DTO_PROJECTION, root -> root.get(ShipmentAssignment_.shipment).get(Shipment_.order), id)
+        );
+        aggregate.setHistories(related(OrderHistoryQueryService.DTO_PROJECTION, root -> root.get(OrderHistory_.order), id));
+        aggregate.setInternalOrders(related(InternalOrderQueryService.DTO_PROJECTION, root -> root.get(InternalOrder_.rootOrder), id));
+        aggregate.setChildOrders(related(OrderQueryService.DTO_PROJECTION, root -> root.get(Order_.rootOrder), id));
+        return Optional.of(aggregate);
+    }
+
+    /**
+     * Return the DTOs of the entities related to an order, in their creation order.
+     */
+    private <E, D> List<D> related(DtoProjection<E, D> projection, Function<Root<E>, Path<Order>> order, UUID id) {
+        Specification<E> specification = (root, query, builder) -> builder.equal(order.apply(root).get(Order_.id), id);
+        return dtoProjector.findAll(projection, specification, CREATION_ORDER);
+    }
+}
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.OrderHistory;
 import com.foursquare.server.repository.OrderHistoryRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderHistoryDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.OrderHistoryMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class OrderHistoryService {
 
     private final OrderHistoryMapper orderHistoryMapper;
 
-    public OrderHistoryService(OrderHistoryRepository orderHistoryRepository, OrderHistoryMapper orderHistoryMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public OrderHistoryService(
+        OrderHistoryRepository orderHistoryRepository,
+        OrderHistoryMapper orderHistoryMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.orderHistoryRepository = orderHistoryRepository;
         this.orderHistoryMapper = orderHistoryMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class OrderHistoryService {
         return orderHistoryMapper.toDto(orderHistory);
     }
 
+    /**
+     * Save orderHistories in bulk.
+     *
+     * @param orderHistoryDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<OrderHistoryDTO> orderHistoryDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} OrderHistories", orderHistoryDTOs.size());
+        return bulkWriter.create(orderHistoryDTOs, OrderHistoryDTO::getId, mode, orderHistoryDTO -> {
+            OrderHistory orderHistory = orderHistoryMapper.toEntity(orderHistoryDTO);
+            return orderHistoryRepository.save(orderHistory).getId();
+        });
+    }
+
+    /**
+     * Update orderHistories in bulk.
+     *
+     * @param orderHistoryDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<OrderHistoryDTO> orderHistoryDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} OrderHistories", orderHistoryDTOs.size());
+        return bulkWriter.update(OrderHistory.class, orderHistoryDTOs, OrderHistoryDTO::getId, mode, orderHistoryDTO -> {
+            OrderHistory orderHistory = orderHistoryMapper.toEntity(orderHistoryDTO);
+            orderHistory.setIsPersisted();
+            return orderHistoryRepository.save(orderHistory).getId();
+        });
+    }
+
+    /**
+     * Delete orderHistories in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} OrderHistories", ids.size());
+        return bulkWriter.delete(OrderHistory.class, ids, mode);
+    }
+
     /**
      * Partially update a orderHistory.
      *
@@ -99,6 +162,18 @@ public class OrderHistoryService {
         return orderHistoryRepository.findOneWithEagerRelationships(id).map(orderHistoryMapper::toDto);
     }
 
+    /**
+     * Get the orderHistories of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, OrderHistoryDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get OrderHistories : {}", ids);
+        return entityBatchLoader.findAllById(OrderHistory.class, ids, orderHistoryMapper::toDto);
+    }
+
     /**
      * Delete the orderHistory by id.
      *
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.OrderItem;
 import com.foursquare.server.repository.OrderItemRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderItemDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.OrderItemMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class OrderItemService {
 
     private final OrderItemMapper orderItemMapper;
 
-    public OrderItemService(OrderItemRepository orderItemRepository, OrderItemMapper orderItemMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public OrderItemService(
+        OrderItemRepository orderItemRepository,
+        OrderItemMapper orderItemMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.orderItemRepository = orderItemRepository;
         this.orderItemMapper = orderItemMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class OrderItemService {
         return orderItemMapper.toDto(orderItem);
     }
 
+    /**
+     * Save orderItems in bulk.
+     *
+     * @param orderItemDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<OrderItemDTO> orderItemDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} OrderItems", orderItemDTOs.size());
+        return bulkWriter.create(orderItemDTOs, OrderItemDTO::getId, mode, orderItemDTO -> {
+            OrderItem orderItem = orderItemMapper.toEntity(orderItemDTO);
+            return orderItemRepository.save(orderItem).getId();
+        });
+    }
+
+    /**
+     * Update orderItems in bulk.
+     *
+     * @param orderItemDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<OrderItemDTO> orderItemDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} OrderItems", orderItemDTOs.size());
+        return bulkWriter.update(OrderItem.class, orderItemDTOs, OrderItemDTO::getId, mode, orderItemDTO -> {
+            OrderItem orderItem = orderItemMapper.toEntity(orderItemDTO);
+            orderItem.setIsPersisted();
+            return orderItemRepository.save(orderItem).getId();
+        });
+    }
+
+    /**
+     * Delete orderItems in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} OrderItems", ids.size());
+        return bulkWriter.delete(OrderItem.class, ids, mode);
+    }
+
     /**
      * Partially update a orderItem.
      *
@@ -99,6 +162,18 @@ public class OrderItemService {
         return orderItemRepository.findOneWithEagerRelationships(id).map(orderItemMapper::toDto);
     }
 
+    /**
+     * Get the orderItems of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, OrderItemDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get OrderItems : {}", ids);
+        return entityBatchLoader.findAllById(OrderItem.class, ids, orderItemMapper::toDto);
+    }
+
     /**
      * Delete the orderItem by id.
      *
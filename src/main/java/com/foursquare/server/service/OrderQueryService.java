@@ -5,15 +5,26 @@ import com.foursquare.server.domain.Order;
 import com.foursquare.server.repository.OrderRepository;
 import com.foursquare.server.service.criteria.OrderCriteria;
 import com.foursquare.server.service.dto.OrderDTO;
-import com.foursquare.server.service.mapper.OrderMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaResultCache;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Order} entities in the database.
@@ -23,17 +34,43 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class OrderQueryService extends QueryService<Order> {
+public class OrderQueryService extends SemiJoinQueryService<Order> {
 
     private static final Logger log = LoggerFactory.getLogger(OrderQueryService.class);
 
+    static final DtoProjection<Order, OrderDTO> DTO_PROJECTION = DtoProjection.of(
+        Order.class,
+        OrderDTO.class,
+        "customer.id",
+        "customer.login",
+        "status.id",
+        "status.statusCode",
+        "address.id",
+        "rootOrder.id"
+    );
+
     private final OrderRepository orderRepository;
 
-    private final OrderMapper orderMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final CriteriaResultCache criteriaResultCache;
+
+    private final ApproximateCounter approximateCounter;
+
+    private final DtoProjector dtoProjector;
 
-    public OrderQueryService(OrderRepository orderRepository, OrderMapper orderMapper) {
+    public OrderQueryService(
+        OrderRepository orderRepository,
+        CriteriaStreamer criteriaStreamer,
+        CriteriaResultCache criteriaResultCache,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.orderRepository = orderRepository;
-        this.orderMapper = orderMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.criteriaResultCache = criteriaResultCache;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,19 +82,129 @@ public class OrderQueryService extends QueryService<Order> {
     public List<OrderDTO> findByCriteria(OrderCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Order> specification = createSpecification(criteria);
-        return orderMapper.toDto(orderRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link OrderDTO} which matches the criteria from the database, or from the
+     * {@link CriteriaResultCache} when enabled.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderDTO> findByCriteria(OrderCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        return criteriaResultCache.getPage(DTO_PROJECTION, criteria, page, () -> {
+            final Specification<Order> specification = createSpecification(criteria);
+            return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> orderRepository.count(specification));
+        });
+    }
+
+    /**
+     * Return a {@link Page} of {@link OrderDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderDTO> findByCriteria(OrderCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Order> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> orderRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link OrderDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Order> specification = (root, query, builder) -> builder.equal(root.get(Order_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link OrderDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<OrderDTO> scrollByCriteria(OrderCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Order> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
     }
 
     /**
-     * Return the number of matching entities in the database.
+     * Return a {@link Window} of {@link OrderDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<OrderDTO> scrollByCriteria(OrderCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Order> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link OrderDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(OrderCriteria criteria, CriteriaStreamer.RowConsumer<OrderDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Order> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
+    }
+
+    /**
+     * Return the number of matching entities in the database, or in the {@link CriteriaResultCache} when enabled.
      * @param criteria The object which holds all the filters, which the entities should match.
      * @return the number of matching entities.
      */
     @Transactional(readOnly = true)
     public long countByCriteria(OrderCriteria criteria) {
         log.debug("count by criteria : {}", criteria);
+        return criteriaResultCache.getCount(Order.class, criteria, () -> {
+            final Specification<Order> specification = createSpecification(criteria);
+            return orderRepository.count(specification);
+        });
+    }
+
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(OrderCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
         final Specification<Order> specification = createSpecification(criteria);
-        return orderRepository.count(specification);
+        return approximateCounter.count(Order.class, specification, () -> countByCriteria(criteria));
     }
 
     /**
@@ -101,35 +248,32 @@ public class OrderQueryService extends QueryService<Order> {
             }
             if (criteria.getInvoiceId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getInvoiceId(), root -> root.join(Order_.invoices, JoinType.LEFT).get(Invoice_.id))
+                    buildExistsSpecification(criteria.getInvoiceId(), root -> root.join(Order_.invoices).get(Invoice_.id))
                 );
             }
             if (criteria.getOrderItemId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getOrderItemId(), root -> root.join(Order_.orderItems, JoinType.LEFT).get(OrderItem_.id))
+                    buildExistsSpecification(criteria.getOrderItemId(), root -> root.join(Order_.orderItems).get(OrderItem_.id))
                 );
             }
             if (criteria.getChildOrderId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getChildOrderId(), root -> root.join(Order_.childOrders, JoinType.LEFT).get(Order_.id))
+                    buildExistsSpecification(criteria.getChildOrderId(), root -> root.join(Order_.childOrders).get(Order_.id))
                 );
             }
             if (criteria.getInternalOrderId() != null) {
                 specification = specification.and(
-                    buildSpecification(
-                        criteria.getInternalOrderId(),
-                        root -> root.join(Order_.internalOrders, JoinType.LEFT).get(InternalOrder_.id)
-                    )
+                    buildExistsSpecification(criteria.getInternalOrderId(), root -> root.join(Order_.internalOrders).get(InternalOrder_.id))
                 );
             }
             if (criteria.getShipmentId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getShipmentId(), root -> root.join(Order_.shipments, JoinType.LEFT).get(Shipment_.id))
+                    buildExistsSpecification(criteria.getShipmentId(), root -> root.join(Order_.shipments).get(Shipment_.id))
                 );
             }
             if (criteria.getHistoryId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getHistoryId(), root -> root.join(Order_.histories, JoinType.LEFT).get(OrderHistory_.id))
+                    buildExistsSpecification(criteria.getHistoryId(), root -> root.join(Order_.histories).get(OrderHistory_.id))
                 );
             }
             if (criteria.getCustomerId() != null) {
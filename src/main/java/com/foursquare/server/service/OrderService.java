@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Order;
 import com.foursquare.server.repository.OrderRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.OrderMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class OrderService {
 
     private final OrderMapper orderMapper;
 
-    public OrderService(OrderRepository orderRepository, OrderMapper orderMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public OrderService(
+        OrderRepository orderRepository,
+        OrderMapper orderMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class OrderService {
         return orderMapper.toDto(order);
     }
 
+    /**
+     * Save orders in bulk.
+     *
+     * @param orderDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<OrderDTO> orderDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Orders", orderDTOs.size());
+        return bulkWriter.create(orderDTOs, OrderDTO::getId, mode, orderDTO -> {
+            Order order = orderMapper.toEntity(orderDTO);
+            return orderRepository.save(order).getId();
+        });
+    }
+
+    /**
+     * Update orders in bulk.
+     *
+     * @param orderDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<OrderDTO> orderDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Orders", orderDTOs.size());
+        return bulkWriter.update(Order.class, orderDTOs, OrderDTO::getId, mode, orderDTO -> {
+            Order order = orderMapper.toEntity(orderDTO);
+            order.setIsPersisted();
+            return orderRepository.save(order).getId();
+        });
+    }
+
+    /**
+     * Delete orders in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Orders", ids.size());
+        return bulkWriter.delete(Order.class, ids, mode);
+    }
+
     /**
      * Partially update a order.
      *
@@ -99,6 +162,18 @@ public class OrderService {
         return orderRepository.findOneWithEagerRelationships(id).map(orderMapper::toDto);
     }
 
+    /**
+     * Get the orders of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, OrderDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Orders : {}", ids);
+        return entityBatchLoader.findAllById(Order.class, ids, orderMapper::toDto);
+    }
+
     /**
      * Delete the order by id.
      *
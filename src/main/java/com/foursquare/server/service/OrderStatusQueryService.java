@@ -5,14 +5,23 @@ import com.foursquare.server.domain.OrderStatus;
 import com.foursquare.server.repository.OrderStatusRepository;
 import com.foursquare.server.service.criteria.OrderStatusCriteria;
 import com.foursquare.server.service.dto.OrderStatusDTO;
-import com.foursquare.server.service.mapper.OrderStatusMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link OrderStatus} entities in the database.
@@ -22,17 +31,33 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class OrderStatusQueryService extends QueryService<OrderStatus> {
+public class OrderStatusQueryService extends TrigramQueryService<OrderStatus> {
 
     private static final Logger log = LoggerFactory.getLogger(OrderStatusQueryService.class);
 
+    private static final DtoProjection<OrderStatus, OrderStatusDTO> DTO_PROJECTION = DtoProjection.of(
+        OrderStatus.class,
+        OrderStatusDTO.class
+    );
+
     private final OrderStatusRepository orderStatusRepository;
 
-    private final OrderStatusMapper orderStatusMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public OrderStatusQueryService(OrderStatusRepository orderStatusRepository, OrderStatusMapper orderStatusMapper) {
+    private final DtoProjector dtoProjector;
+
+    public OrderStatusQueryService(
+        OrderStatusRepository orderStatusRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.orderStatusRepository = orderStatusRepository;
-        this.orderStatusMapper = orderStatusMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -44,7 +69,96 @@ public class OrderStatusQueryService extends QueryService<OrderStatus> {
     public List<OrderStatusDTO> findByCriteria(OrderStatusCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<OrderStatus> specification = createSpecification(criteria);
-        return orderStatusMapper.toDto(orderStatusRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link OrderStatusDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderStatusDTO> findByCriteria(OrderStatusCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<OrderStatus> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> orderStatusRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link OrderStatusDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderStatusDTO> findByCriteria(OrderStatusCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<OrderStatus> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> orderStatusRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link OrderStatusDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderStatusDTO> findOne(Long id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<OrderStatus> specification = (root, query, builder) -> builder.equal(root.get(OrderStatus_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link OrderStatusDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<OrderStatusDTO> scrollByCriteria(OrderStatusCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<OrderStatus> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Return a {@link Window} of {@link OrderStatusDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<OrderStatusDTO> scrollByCriteria(OrderStatusCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<OrderStatus> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Stream the {@link OrderStatusDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(OrderStatusCriteria criteria, CriteriaStreamer.RowConsumer<OrderStatusDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<OrderStatus> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -59,6 +173,22 @@ public class OrderStatusQueryService extends QueryService<OrderStatus> {
         return orderStatusRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(OrderStatusCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<OrderStatus> specification = createSpecification(criteria);
+        return approximateCounter.count(OrderStatus.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link OrderStatusCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -2,12 +2,18 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.OrderStatus;
 import com.foursquare.server.repository.OrderStatusRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderStatusDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.OrderStatusMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -23,9 +29,20 @@ public class OrderStatusService {
 
     private final OrderStatusMapper orderStatusMapper;
 
-    public OrderStatusService(OrderStatusRepository orderStatusRepository, OrderStatusMapper orderStatusMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public OrderStatusService(
+        OrderStatusRepository orderStatusRepository,
+        OrderStatusMapper orderStatusMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.orderStatusRepository = orderStatusRepository;
         this.orderStatusMapper = orderStatusMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -55,6 +72,52 @@ public class OrderStatusService {
         return orderStatusMapper.toDto(orderStatus);
     }
 
+    /**
+     * Save orderStatuses in bulk.
+     *
+     * @param orderStatusDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> saveAll(List<OrderStatusDTO> orderStatusDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} OrderStatuses", orderStatusDTOs.size());
+        return bulkWriter.create(orderStatusDTOs, OrderStatusDTO::getId, mode, orderStatusDTO -> {
+            OrderStatus orderStatus = orderStatusMapper.toEntity(orderStatusDTO);
+            return orderStatusRepository.save(orderStatus).getId();
+        });
+    }
+
+    /**
+     * Update orderStatuses in bulk.
+     *
+     * @param orderStatusDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> updateAll(List<OrderStatusDTO> orderStatusDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} OrderStatuses", orderStatusDTOs.size());
+        return bulkWriter.update(OrderStatus.class, orderStatusDTOs, OrderStatusDTO::getId, mode, orderStatusDTO -> {
+            OrderStatus orderStatus = orderStatusMapper.toEntity(orderStatusDTO);
+            orderStatus.setIsPersisted();
+            return orderStatusRepository.save(orderStatus).getId();
+        });
+    }
+
+    /**
+     * Delete orderStatuses in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> deleteAll(List<Long> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} OrderStatuses", ids.size());
+        return bulkWriter.delete(OrderStatus.class, ids, mode);
+    }
+
     /**
      * Partially update a orderStatus.
      *
@@ -87,6 +150,18 @@ public class OrderStatusService {
         return orderStatusRepository.findById(id).map(orderStatusMapper::toDto);
     }
 
+    /**
+     * Get the orderStatuses of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, OrderStatusDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get OrderStatuses : {}", ids);
+        return entityBatchLoader.findAllById(OrderStatus.class, ids, orderStatusMapper::toDto);
+    }
+
     /**
      * Delete the orderStatus by id.
      *
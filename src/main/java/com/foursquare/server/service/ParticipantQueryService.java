@@ -5,15 +5,25 @@ import com.foursquare.server.domain.Participant;
 import com.foursquare.server.repository.ParticipantRepository;
 import com.foursquare.server.service.criteria.ParticipantCriteria;
 import com.foursquare.server.service.dto.ParticipantDTO;
-import com.foursquare.server.service.mapper.ParticipantMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Participant} entities in the database.
@@ -23,17 +33,37 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class ParticipantQueryService extends QueryService<Participant> {
+public class ParticipantQueryService extends SemiJoinQueryService<Participant> {
 
     private static final Logger log = LoggerFactory.getLogger(ParticipantQueryService.class);
 
+    private static final DtoProjection<Participant, ParticipantDTO> DTO_PROJECTION = DtoProjection.of(
+        Participant.class,
+        ParticipantDTO.class,
+        "user.id",
+        "user.login",
+        "conversation.id",
+        "conversation.title"
+    );
+
     private final ParticipantRepository participantRepository;
 
-    private final ParticipantMapper participantMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public ParticipantQueryService(ParticipantRepository participantRepository, ParticipantMapper participantMapper) {
+    private final DtoProjector dtoProjector;
+
+    public ParticipantQueryService(
+        ParticipantRepository participantRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.participantRepository = participantRepository;
-        this.participantMapper = participantMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +75,96 @@ public class ParticipantQueryService extends QueryService<Participant> {
     public List<ParticipantDTO> findByCriteria(ParticipantCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Participant> specification = createSpecification(criteria);
-        return participantMapper.toDto(participantRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ParticipantDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ParticipantDTO> findByCriteria(ParticipantCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Participant> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> participantRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link ParticipantDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ParticipantDTO> findByCriteria(ParticipantCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Participant> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> participantRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link ParticipantDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ParticipantDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Participant> specification = (root, query, builder) -> builder.equal(root.get(Participant_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link ParticipantDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ParticipantDTO> scrollByCriteria(ParticipantCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Participant> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link ParticipantDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ParticipantDTO> scrollByCriteria(ParticipantCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Participant> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link ParticipantDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(ParticipantCriteria criteria, CriteriaStreamer.RowConsumer<ParticipantDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Participant> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +179,22 @@ public class ParticipantQueryService extends QueryService<Participant> {
         return participantRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ParticipantCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<Participant> specification = createSpecification(criteria);
+        return approximateCounter.count(Participant.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link ParticipantCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -105,15 +240,7 @@ public class ParticipantQueryService extends QueryService<Participant> {
             }
             if (criteria.getMessageId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getMessageId(), root -> root.join(Participant_.messages, JoinType.LEFT).get(Message_.id))
-                );
-            }
-            if (criteria.getSeenMessageId() != null) {
-                specification = specification.and(
-                    buildSpecification(
-                        criteria.getSeenMessageId(),
-                        root -> root.join(Participant_.seenMessages, JoinType.LEFT).get(Message_.id)
-                    )
+                    buildExistsSpecification(criteria.getMessageId(), root -> root.join(Participant_.messages).get(Message_.id))
                 );
             }
         }
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Participant;
 import com.foursquare.server.repository.ParticipantRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ParticipantDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ParticipantMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class ParticipantService {
 
     private final ParticipantMapper participantMapper;
 
-    public ParticipantService(ParticipantRepository participantRepository, ParticipantMapper participantMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ParticipantService(
+        ParticipantRepository participantRepository,
+        ParticipantMapper participantMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.participantRepository = participantRepository;
         this.participantMapper = participantMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class ParticipantService {
         return participantMapper.toDto(participant);
     }
 
+    /**
+     * Save participants in bulk.
+     *
+     * @param participantDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ParticipantDTO> participantDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Participants", participantDTOs.size());
+        return bulkWriter.create(participantDTOs, ParticipantDTO::getId, mode, participantDTO -> {
+            Participant participant = participantMapper.toEntity(participantDTO);
+            return participantRepository.save(participant).getId();
+        });
+    }
+
+    /**
+     * Update participants in bulk.
+     *
+     * @param participantDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ParticipantDTO> participantDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Participants", participantDTOs.size());
+        return bulkWriter.update(Participant.class, participantDTOs, ParticipantDTO::getId, mode, participantDTO -> {
+            Participant participant = participantMapper.toEntity(participantDTO);
+            participant.setIsPersisted();
+            return participantRepository.save(participant).getId();
+        });
+    }
+
+    /**
+     * Delete participants in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Participants", ids.size());
+        return bulkWriter.delete(Participant.class, ids, mode);
+    }
+
     /**
      * Partially update a participant.
      *
@@ -99,6 +162,18 @@ public class ParticipantService {
         return participantRepository.findOneWithEagerRelationships(id).map(participantMapper::toDto);
     }
 
+    /**
+     * Get the participants of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ParticipantDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Participants : {}", ids);
+        return entityBatchLoader.findAllById(Participant.class, ids, participantMapper::toDto);
+    }
+
     /**
      * Delete the participant by id.
      *
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.ProductCategory;
 import com.foursquare.server.repository.ProductCategoryRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductCategoryDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ProductCategoryMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class ProductCategoryService {
 
     private final ProductCategoryMapper productCategoryMapper;
 
-    public ProductCategoryService(ProductCategoryRepository productCategoryRepository, ProductCategoryMapper productCategoryMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ProductCategoryService(
+        ProductCategoryRepository productCategoryRepository,
+        ProductCategoryMapper productCategoryMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.productCategoryRepository = productCategoryRepository;
         this.productCategoryMapper = productCategoryMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class ProductCategoryService {
         return productCategoryMapper.toDto(productCategory);
     }
 
+    /**
+     * Save productCategories in bulk.
+     *
+     * @param productCategoryDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ProductCategoryDTO> productCategoryDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} ProductCategories", productCategoryDTOs.size());
+        return bulkWriter.create(productCategoryDTOs, ProductCategoryDTO::getId, mode, productCategoryDTO -> {
+            ProductCategory productCategory = productCategoryMapper.toEntity(productCategoryDTO);
+            return productCategoryRepository.save(productCategory).getId();
+        });
+    }
+
+    /**
+     * Update productCategories in bulk.
+     *
+     * @param productCategoryDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ProductCategoryDTO> productCategoryDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} ProductCategories", productCategoryDTOs.size());
+        return bulkWriter.update(ProductCategory.class, productCategoryDTOs, ProductCategoryDTO::getId, mode, productCategoryDTO -> {
+            ProductCategory productCategory = productCategoryMapper.toEntity(productCategoryDTO);
+            productCategory.setIsPersisted();
+            return productCategoryRepository.save(productCategory).getId();
+        });
+    }
+
+    /**
+     * Delete productCategories in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} ProductCategories", ids.size());
+        return bulkWriter.delete(ProductCategory.class, ids, mode);
+    }
+
     /**
      * Partially update a productCategory.
      *
@@ -99,6 +162,18 @@ public class ProductCategoryService {
         return productCategoryRepository.findOneWithEagerRelationships(id).map(productCategoryMapper::toDto);
     }
 
+    /**
+     * Get the productCategories of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ProductCategoryDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get ProductCategories : {}", ids);
+        return entityBatchLoader.findAllById(ProductCategory.class, ids, productCategoryMapper::toDto);
+    }
+
     /**
      * Delete the productCategory by id.
      *
@@ -1,6 +1,10 @@
 package com.foursquare.server.service;
 
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductImageDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +28,33 @@ public interface ProductImageService {
      */
     ProductImageDTO update(ProductImageDTO productImageDTO);
 
+    /**
+     * Save productImages in bulk.
+     *
+     * @param productImageDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    List<BulkItemResultDTO<UUID>> saveAll(List<ProductImageDTO> productImageDTOs, BulkWriter.Mode mode);
+
+    /**
+     * Update productImages in bulk.
+     *
+     * @param productImageDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    List<BulkItemResultDTO<UUID>> updateAll(List<ProductImageDTO> productImageDTOs, BulkWriter.Mode mode);
+
+    /**
+     * Delete productImages in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode);
+
     /**
      * Partially updates a productImage.
      *
@@ -40,6 +71,14 @@ public interface ProductImageService {
      */
     Optional<ProductImageDTO> findOne(UUID id);
 
+    /**
+     * Get the productImages of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    Map<UUID, ProductImageDTO> findAllById(List<UUID> ids);
+
     /**
      * Delete the "id" productImage.
      *
@@ -5,15 +5,25 @@ import com.foursquare.server.domain.ProductQuantity;
 import com.foursquare.server.repository.ProductQuantityRepository;
 import com.foursquare.server.service.criteria.ProductQuantityCriteria;
 import com.foursquare.server.service.dto.ProductQuantityDTO;
-import com.foursquare.server.service.mapper.ProductQuantityMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link ProductQuantity} entities in the database.
@@ -23,17 +33,37 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class ProductQuantityQueryService extends QueryService<ProductQuantity> {
+public class ProductQuantityQueryService extends TrigramQueryService<ProductQuantity> {
 
     private static final Logger log = LoggerFactory.getLogger(ProductQuantityQueryService.class);
 
+    private static final DtoProjection<ProductQuantity, ProductQuantityDTO> DTO_PROJECTION = DtoProjection.of(
+        ProductQuantity.class,
+        ProductQuantityDTO.class,
+        "workingUnit.id",
+        "workingUnit.name",
+        "productCategory.id",
+        "productCategory.name"
+    );
+
     private final ProductQuantityRepository productQuantityRepository;
 
-    private final ProductQuantityMapper productQuantityMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public ProductQuantityQueryService(ProductQuantityRepository productQuantityRepository, ProductQuantityMapper productQuantityMapper) {
+    private final DtoProjector dtoProjector;
+
+    public ProductQuantityQueryService(
+        ProductQuantityRepository productQuantityRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.productQuantityRepository = productQuantityRepository;
-        this.productQuantityMapper = productQuantityMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +75,104 @@ public class ProductQuantityQueryService extends QueryService<ProductQuantity> {
     public List<ProductQuantityDTO> findByCriteria(ProductQuantityCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<ProductQuantity> specification = createSpecification(criteria);
-        return productQuantityMapper.toDto(productQuantityRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ProductQuantityDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductQuantityDTO> findByCriteria(ProductQuantityCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<ProductQuantity> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> productQuantityRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link ProductQuantityDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductQuantityDTO> findByCriteria(ProductQuantityCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<ProductQuantity> specification = createSpecification(criteria);
+        return dtoProjector.findAll(
+            DTO_PROJECTION.restrict(fields),
+            specification,
+            page,
+            () -> productQuantityRepository.count(specification)
+        );
+    }
+
+    /**
+     * Return the {@link ProductQuantityDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProductQuantityDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<ProductQuantity> specification = (root, query, builder) -> builder.equal(root.get(ProductQuantity_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link ProductQuantityDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ProductQuantityDTO> scrollByCriteria(ProductQuantityCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<ProductQuantity> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link ProductQuantityDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ProductQuantityDTO> scrollByCriteria(ProductQuantityCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<ProductQuantity> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link ProductQuantityDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(
+        ProductQuantityCriteria criteria,
+        CriteriaStreamer.RowConsumer<ProductQuantityDTO> consumer
+    ) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<ProductQuantity> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +187,22 @@ public class ProductQuantityQueryService extends QueryService<ProductQuantity> {
         return productQuantityRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ProductQuantityCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<ProductQuantity> specification = createSpecification(criteria);
+        return approximateCounter.count(ProductQuantity.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link ProductQuantityCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.ProductQuantity;
 import com.foursquare.server.repository.ProductQuantityRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductQuantityDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ProductQuantityMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class ProductQuantityService {
 
     private final ProductQuantityMapper productQuantityMapper;
 
-    public ProductQuantityService(ProductQuantityRepository productQuantityRepository, ProductQuantityMapper productQuantityMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ProductQuantityService(
+        ProductQuantityRepository productQuantityRepository,
+        ProductQuantityMapper productQuantityMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.productQuantityRepository = productQuantityRepository;
         this.productQuantityMapper = productQuantityMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class ProductQuantityService {
         return productQuantityMapper.toDto(productQuantity);
     }
 
+    /**
+     * Save productQuantities in bulk.
+     *
+     * @param productQuantityDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ProductQuantityDTO> productQuantityDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} ProductQuantities", productQuantityDTOs.size());
+        return bulkWriter.create(productQuantityDTOs, ProductQuantityDTO::getId, mode, productQuantityDTO -> {
+            ProductQuantity productQuantity = productQuantityMapper.toEntity(productQuantityDTO);
+            return productQuantityRepository.save(productQuantity).getId();
+        });
+    }
+
+    /**
+     * Update productQuantities in bulk.
+     *
+     * @param productQuantityDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ProductQuantityDTO> productQuantityDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} ProductQuantities", productQuantityDTOs.size());
+        return bulkWriter.update(ProductQuantity.class, productQuantityDTOs, ProductQuantityDTO::getId, mode, productQuantityDTO -> {
+            ProductQuantity productQuantity = productQuantityMapper.toEntity(productQuantityDTO);
+            productQuantity.setIsPersisted();
+            return productQuantityRepository.save(productQuantity).getId();
+        });
+    }
+
+    /**
+     * Delete productQuantities in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} ProductQuantities", ids.size());
+        return bulkWriter.delete(ProductQuantity.class, ids, mode);
+    }
+
     /**
      * Partially update a productQuantity.
      *
@@ -99,6 +162,18 @@ public class ProductQuantityService {
         return productQuantityRepository.findOneWithEagerRelationships(id).map(productQuantityMapper::toDto);
     }
 
+    /**
+     * Get the productQuantities of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ProductQuantityDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get ProductQuantities : {}", ids);
+        return entityBatchLoader.findAllById(ProductQuantity.class, ids, productQuantityMapper::toDto);
+    }
+
     /**
      * Delete the productQuantity by id.
      *
@@ -2,18 +2,26 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.*; // for static metamodels
 import com.foursquare.server.domain.Product;
+import com.foursquare.server.repository.ProductAggregateLoader;
 import com.foursquare.server.repository.ProductRepository;
 import com.foursquare.server.service.criteria.ProductCriteria;
 import com.foursquare.server.service.dto.ProductDTO;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaPagination;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import com.foursquare.server.service.mapper.ProductMapper;
-import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Product} entities in the database.
@@ -23,7 +31,7 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class ProductQueryService extends QueryService<Product> {
+public class ProductQueryService extends SemiJoinQueryService<Product> {
 
     private static final Logger log = LoggerFactory.getLogger(ProductQueryService.class);
 
@@ -31,9 +39,24 @@ public class ProductQueryService extends QueryService<Product> {
 
     private final ProductMapper productMapper;
 
-    public ProductQueryService(ProductRepository productRepository, ProductMapper productMapper) {
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
+
+    private final ProductAggregateLoader productAggregateLoader;
+
+    public ProductQueryService(
+        ProductRepository productRepository,
+        ProductMapper productMapper,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        ProductAggregateLoader productAggregateLoader
+    ) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.productAggregateLoader = productAggregateLoader;
     }
 
     /**
@@ -45,7 +68,56 @@ public class ProductQueryService extends QueryService<Product> {
     public List<ProductDTO> findByCriteria(ProductCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Product> specification = createSpecification(criteria);
-        return productMapper.toDto(productRepository.fetchBagRelationships(productRepository.findAll(specification)));
+        return productMapper.toDto(productAggregateLoader.load(productRepository.findAll(specification)));
+    }
+
+    /**
+     * Return a {@link Page} of {@link ProductDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductDTO> findByCriteria(ProductCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Product> specification = createSpecification(criteria);
+        return productAggregateLoader.load(productRepository.findAll(specification, page)).map(productMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Window} of {@link ProductDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ProductDTO> scrollByCriteria(ProductCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Product> specification = createSpecification(criteria);
+        Window<Product> window = CriteriaPagination.scroll(productRepository, specification, page, after, UUID::fromString);
+        productAggregateLoader.load(window.getContent());
+        return window.map(productMapper::toDto);
+    }
+
+    /**
+     * Stream the {@link ProductDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(ProductCriteria criteria, CriteriaStreamer.RowConsumer<ProductDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Product> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(
+            Product.class,
+            specification,
+            productAggregateLoader::load,
+            productMapper::toDto,
+            consumer
+        );
     }
 
     /**
@@ -60,6 +132,22 @@ public class ProductQueryService extends QueryService<Product> {
         return productRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ProductCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<Product> specification = createSpecification(criteria);
+        return approximateCounter.count(Product.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link ProductCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -101,28 +189,25 @@ public class ProductQueryService extends QueryService<Product> {
             }
             if (criteria.getProductCategoryId() != null) {
                 specification = specification.and(
-                    buildSpecification(
+                    buildExistsSpecification(
                         criteria.getProductCategoryId(),
-                        root -> root.join(Product_.productCategories, JoinType.LEFT).get(ProductCategory_.id)
+                        root -> root.join(Product_.productCategories).get(ProductCategory_.id)
                     )
                 );
             }
             if (criteria.getProductImageId() != null) {
                 specification = specification.and(
-                    buildSpecification(
-                        criteria.getProductImageId(),
-                        root -> root.join(Product_.productImages, JoinType.LEFT).get(ProductImage_.id)
-                    )
+                    buildExistsSpecification(criteria.getProductImageId(), root -> root.join(Product_.productImages).get(ProductImage_.id))
                 );
             }
             if (criteria.getCommentId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getCommentId(), root -> root.join(Product_.comments, JoinType.LEFT).get(Comment_.id))
+                    buildExistsSpecification(criteria.getCommentId(), root -> root.join(Product_.comments).get(Comment_.id))
                 );
             }
             if (criteria.getTagId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getTagId(), root -> root.join(Product_.tags, JoinType.LEFT).get(Tag_.id))
+                    buildExistsSpecification(criteria.getTagId(), root -> root.join(Product_.tags).get(Tag_.id))
                 );
             }
         }
@@ -1,9 +1,16 @@
 package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Product;
+import com.foursquare.server.repository.ProductAggregateLoader;
 import com.foursquare.server.repository.ProductRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
+import com.foursquare.server.service.helper.FullTextSearch;
 import com.foursquare.server.service.mapper.ProductMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +34,28 @@ public class ProductService {
 
     private final ProductMapper productMapper;
 
-    public ProductService(ProductRepository productRepository, ProductMapper productMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    private final FullTextSearch fullTextSearch;
+
+    private final ProductAggregateLoader productAggregateLoader;
+
+    public ProductService(
+        ProductRepository productRepository,
+        ProductMapper productMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter,
+        FullTextSearch fullTextSearch,
+        ProductAggregateLoader productAggregateLoader
+    ) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
+        this.fullTextSearch = fullTextSearch;
+        this.productAggregateLoader = productAggregateLoader;
     }
 
     /**
@@ -58,6 +85,52 @@ public class ProductService {
         return productMapper.toDto(product);
     }
 
+    /**
+     * Save products in bulk.
+     *
+     * @param productDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ProductDTO> productDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Products", productDTOs.size());
+        return bulkWriter.create(productDTOs, ProductDTO::getId, mode, productDTO -> {
+            Product product = productMapper.toEntity(productDTO);
+            return productRepository.save(product).getId();
+        });
+    }
+
+    /**
+     * Update products in bulk.
+     *
+     * @param productDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ProductDTO> productDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Products", productDTOs.size());
+        return bulkWriter.update(Product.class, productDTOs, ProductDTO::getId, mode, productDTO -> {
+            Product product = productMapper.toEntity(productDTO);
+            product.setIsPersisted();
+            return productRepository.save(product).getId();
+        });
+    }
+
+    /**
+     * Delete products in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Products", ids.size());
+        return bulkWriter.delete(Product.class, ids, mode);
+    }
+
     /**
      * Partially update a product.
      *
@@ -79,12 +152,12 @@ public class ProductService {
     }
 
     /**
-     * Get all the products with eager load of many-to-many relationships.
+     * Get all the products with eager load of their relationships, see {@link ProductAggregateLoader}.
      *
      * @return the list of entities.
      */
     public Page<ProductDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return productRepository.findAllWithEagerRelationships(pageable).map(productMapper::toDto);
+        return productAggregateLoader.load(productRepository.findAll(pageable)).map(productMapper::toDto);
     }
 
     /**
@@ -96,7 +169,34 @@ public class ProductService {
     @Transactional(readOnly = true)
     public Optional<ProductDTO> findOne(UUID id) {
         log.debug("Request to get Product : {}", id);
-        return productRepository.findOneWithEagerRelationships(id).map(productMapper::toDto);
+        return productAggregateLoader.load(productRepository.findById(id)).map(productMapper::toDto);
+    }
+
+    /**
+     * Get the products of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ProductDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Products : {}", ids);
+        return entityBatchLoader.findAllById(Product.class, ids, productAggregateLoader::load, productMapper::toDto);
+    }
+
+    /**
+     * Search the products matching a web search query, most relevant first.
+     *
+     * @param query the web search query, see {@link FullTextSearch}.
+     * @param pageable the pagination information, whose sort is ignored.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductDTO> search(String query, Pageable pageable) {
+        log.debug("Request to search Products : {}", query);
+        Page<UUID> ids = fullTextSearch.search(Product.class, query, pageable, UUID.class);
+        Map<UUID, ProductDTO> productDTOs = findAllById(ids.getContent());
+        return FullTextSearch.toPage(ids, productDTOs);
     }
 
     /**
@@ -0,0 +1,167 @@
+package com.foursquare.server.service;
+
+import com.foursquare.server.domain.Message;
+import com.foursquare.server.domain.ReadReceipt;
+import com.foursquare.server.repository.ConversationRepository;
+import com.foursquare.server.repository.MessageRepository;
+import com.foursquare.server.repository.ReadReceiptRepository;
+import com.foursquare.server.service.helper.CriteriaResultCache;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service managing the messages seen by the participants of conversations, through their {@link ReadReceipt}s.
+ * <p>
+ * A new message is given the next sequence of its conversation, counted by the {@code message_count} of the
+ * conversation. The questions about receipts are answered from the positions of the messages and the receipts of the
+ * conversation, without loading any message or participant. The count and the receipts are written by native
+ * statements. New receipts are reported to the {@link CriteriaResultCache}; the count is not, as it is neither a
+ * property of the DTO nor a filter of the criteria of conversations, so posting a message leaves their results valid.
+ */
+@Service
+@Transactional
+public class ReadReceiptService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReceiptService.class);
+
+    private final ReadReceiptRepository readReceiptRepository;
+
+    private final MessageRepository messageRepository;
+
+    private final ConversationRepository conversationRepository;
+
+    private final CriteriaResultCache criteriaResultCache;
+
+    public ReadReceiptService(
+        ReadReceiptRepository readReceiptRepository,
+        MessageRepository messageRepository,
+        ConversationRepository conversationRepository,
+        CriteriaResultCache criteriaResultCache
+    ) {
+        this.readReceiptRepository = readReceiptRepository;
+        this.messageRepository = messageRepository;
+        this.conversationRepository = conversationRepository;
+        this.criteriaResultCache = criteriaResultCache;
+    }
+
+    /**
+     * Give a new message the next sequence of the conversation of its participant, and mark it seen by its participant.
+     * The messages of a conversation are posted one after the other until the end of the transaction.
+     *
+     * @param message the message to create.
+     */
+    public void post(Message message) {
+        if (message.getParticipant() == null || message.getParticipant().getId() == null) {
+            return;
+        }
+        UUID participantId = message.getParticipant().getId();
+        conversationRepository
+            .incrementMessageCount(participantId)
+            .ifPresent(sequence -> {
+                message.setSequence(sequence);
+                lockReceipt(participantId).ifPresent(receipt -> receipt.markSeen(sequence));
+            });
+    }
+
+    /**
+     * Mark a message seen by a participant.
+     *
+     * @param participantId the id of the participant.
+     * @param messageId the id of the message.
+     * @param previous whether to mark all the previous messages of the conversation seen too.
+     * @return whether the message is of the conversation of the participant, or empty if there is no such participant or message.
+     */
+    public Optional<Boolean> markSeen(UUID participantId, UUID messageId, boolean previous) {
+        log.debug("Request to mark Message : {} seen by Participant : {}", messageId, participantId);
+        return messageRepository
+            .findPositionById(messageId)
+            .flatMap(position ->
+                lockReceipt(participantId).map(receipt -> {
+                    if (!receipt.getConversationId().equals(position.getConversationId())) {
+                        return false;
+                    }
+                    if (previous) {
+                        receipt.markSeenUpTo(position.getSequence());
+                    } else {
+                        receipt.markSeen(position.getSequence());
+                    }
+                    return true;
+                })
+            );
+    }
+
+    /**
+     * Mark a message which is being deleted seen by all the participants of its conversation, so that it is no longer
+     * counted as unseen. The receipts of the participants who joined the conversation afterwards still count it.
+     *
+     * @param messageId the id of the message.
+     */
+    public void markDeleted(UUID messageId) {
+        log.debug("Request to mark deleted Message : {} seen", messageId);
+        messageRepository
+            .findPositionById(messageId)
+            .ifPresent(position -> {
+                if (!readReceiptRepository.insertAllIfAbsent(position.getConversationId()).isEmpty()) {
+                    criteriaResultCache.onBulkWrite(ReadReceipt.class);
+                }
+                readReceiptRepository
+                    .findAllForUpdate(position.getConversationId())
+                    .forEach(receipt -> receipt.markSeen(position.getSequence()));
+            });
+    }
+
+    /**
+     * Get the ids of the participants who have seen a message.
+     *
+     * @param messageId the id of the message.
+     * @return the ids of the participants, or empty if there is no such message.
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<UUID>> findSeenParticipantIds(UUID messageId) {
+        log.debug("Request to get the Participants who have seen Message : {}", messageId);
+        return messageRepository
+            .findPositionById(messageId)
+            .map(position ->
+                readReceiptRepository
+                    .findAllMaybeSeen(position.getConversationId(), position.getSequence())
+                    .stream()
+                    .filter(receipt -> receipt.hasSeen(position.getSequence()))
+                    .map(ReadReceipt::getParticipantId)
+                    .toList()
+            );
+    }
+
+    /**
+     * Count the messages of its conversation which a participant has not seen.
+     *
+     * @param participantId the id of the participant.
+     * @return the number of messages, or empty if there is no such participant.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> countUnseen(UUID participantId) {
+        log.debug("Request to count the Messages not seen by Participant : {}", participantId);
+        return conversationRepository
+            .findMessageCountByParticipantId(participantId)
+            .map(messageCount ->
+                readReceiptRepository
+                    .findById(participantId)
+                    .map(receipt -> receipt.countUnseen(messageCount))
+                    .orElse(messageCount.longValue())
+            );
+    }
+
+    /**
+     * Return the receipt of a participant, created if need be, locked until the end of the transaction.
+     */
+    private Optional<ReadReceipt> lockReceipt(UUID participantId) {
+        if (!readReceiptRepository.insertIfAbsent(participantId).isEmpty()) {
+            criteriaResultCache.onBulkWrite(ReadReceipt.class);
+        }
+        return readReceiptRepository.findForUpdate(participantId);
+    }
+}
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.ShipmentAssignment;
 import com.foursquare.server.repository.ShipmentAssignmentRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentAssignmentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ShipmentAssignmentMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,12 +32,20 @@ public class ShipmentAssignmentService {
 
     private final ShipmentAssignmentMapper shipmentAssignmentMapper;
 
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
     public ShipmentAssignmentService(
         ShipmentAssignmentRepository shipmentAssignmentRepository,
-        ShipmentAssignmentMapper shipmentAssignmentMapper
+        ShipmentAssignmentMapper shipmentAssignmentMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
     ) {
         this.shipmentAssignmentRepository = shipmentAssignmentRepository;
         this.shipmentAssignmentMapper = shipmentAssignmentMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -61,6 +75,58 @@ public class ShipmentAssignmentService {
         return shipmentAssignmentMapper.toDto(shipmentAssignment);
     }
 
+    /**
+     * Save shipmentAssignments in bulk.
+     *
+     * @param shipmentAssignmentDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ShipmentAssignmentDTO> shipmentAssignmentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} ShipmentAssignments", shipmentAssignmentDTOs.size());
+        return bulkWriter.create(shipmentAssignmentDTOs, ShipmentAssignmentDTO::getId, mode, shipmentAssignmentDTO -> {
+            ShipmentAssignment shipmentAssignment = shipmentAssignmentMapper.toEntity(shipmentAssignmentDTO);
+            return shipmentAssignmentRepository.save(shipmentAssignment).getId();
+        });
+    }
+
+    /**
+     * Update shipmentAssignments in bulk.
+     *
+     * @param shipmentAssignmentDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ShipmentAssignmentDTO> shipmentAssignmentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} ShipmentAssignments", shipmentAssignmentDTOs.size());
+        return bulkWriter.update(
+            ShipmentAssignment.class,
+            shipmentAssignmentDTOs,
+            ShipmentAssignmentDTO::getId,
+            mode,
+            shipmentAssignmentDTO -> {
+                ShipmentAssignment shipmentAssignment = shipmentAssignmentMapper.toEntity(shipmentAssignmentDTO);
+                shipmentAssignment.setIsPersisted();
+                return shipmentAssignmentRepository.save(shipmentAssignment).getId();
+            }
+        );
+    }
+
+    /**
+     * Delete shipmentAssignments in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} ShipmentAssignments", ids.size());
+        return bulkWriter.delete(ShipmentAssignment.class, ids, mode);
+    }
+
     /**
      * Partially update a shipmentAssignment.
      *
@@ -102,6 +168,18 @@ public class ShipmentAssignmentService {
         return shipmentAssignmentRepository.findOneWithEagerRelationships(id).map(shipmentAssignmentMapper::toDto);
     }
 
+    /**
+     * Get the shipmentAssignments of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ShipmentAssignmentDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get ShipmentAssignments : {}", ids);
+        return entityBatchLoader.findAllById(ShipmentAssignment.class, ids, shipmentAssignmentMapper::toDto);
+    }
+
     /**
      * Delete the shipmentAssignment by id.
      *
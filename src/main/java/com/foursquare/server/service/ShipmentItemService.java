@@ -2,13 +2,19 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.ShipmentItem;
 import com.foursquare.server.repository.ShipmentItemRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentItemDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ShipmentItemMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,9 +30,20 @@ public class ShipmentItemService {
 
     private final ShipmentItemMapper shipmentItemMapper;
 
-    public ShipmentItemService(ShipmentItemRepository shipmentItemRepository, ShipmentItemMapper shipmentItemMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ShipmentItemService(
+        ShipmentItemRepository shipmentItemRepository,
+        ShipmentItemMapper shipmentItemMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.shipmentItemRepository = shipmentItemRepository;
         this.shipmentItemMapper = shipmentItemMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -56,6 +73,52 @@ public class ShipmentItemService {
         return shipmentItemMapper.toDto(shipmentItem);
     }
 
+    /**
+     * Save shipmentItems in bulk.
+     *
+     * @param shipmentItemDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ShipmentItemDTO> shipmentItemDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} ShipmentItems", shipmentItemDTOs.size());
+        return bulkWriter.create(shipmentItemDTOs, ShipmentItemDTO::getId, mode, shipmentItemDTO -> {
+            ShipmentItem shipmentItem = shipmentItemMapper.toEntity(shipmentItemDTO);
+            return shipmentItemRepository.save(shipmentItem).getId();
+        });
+    }
+
+    /**
+     * Update shipmentItems in bulk.
+     *
+     * @param shipmentItemDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ShipmentItemDTO> shipmentItemDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} ShipmentItems", shipmentItemDTOs.size());
+        return bulkWriter.update(ShipmentItem.class, shipmentItemDTOs, ShipmentItemDTO::getId, mode, shipmentItemDTO -> {
+            ShipmentItem shipmentItem = shipmentItemMapper.toEntity(shipmentItemDTO);
+            shipmentItem.setIsPersisted();
+            return shipmentItemRepository.save(shipmentItem).getId();
+        });
+    }
+
+    /**
+     * Delete shipmentItems in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} ShipmentItems", ids.size());
+        return bulkWriter.delete(ShipmentItem.class, ids, mode);
+    }
+
     /**
      * Partially update a shipmentItem.
      *
@@ -88,6 +151,18 @@ public class ShipmentItemService {
         return shipmentItemRepository.findById(id).map(shipmentItemMapper::toDto);
     }
 
+    /**
+     * Get the shipmentItems of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ShipmentItemDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get ShipmentItems : {}", ids);
+        return entityBatchLoader.findAllById(ShipmentItem.class, ids, shipmentItemMapper::toDto);
+    }
+
     /**
      * Delete the shipmentItem by id.
      *
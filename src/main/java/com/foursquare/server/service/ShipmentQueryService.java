@@ -5,15 +5,26 @@ import com.foursquare.server.domain.Shipment;
 import com.foursquare.server.repository.ShipmentRepository;
 import com.foursquare.server.service.criteria.ShipmentCriteria;
 import com.foursquare.server.service.dto.ShipmentDTO;
-import com.foursquare.server.service.mapper.ShipmentMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaResultCache;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Shipment} entities in the database.
@@ -23,17 +34,41 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class ShipmentQueryService extends QueryService<Shipment> {
+public class ShipmentQueryService extends SemiJoinQueryService<Shipment> {
 
     private static final Logger log = LoggerFactory.getLogger(ShipmentQueryService.class);
 
+    static final DtoProjection<Shipment, ShipmentDTO> DTO_PROJECTION = DtoProjection.of(
+        Shipment.class,
+        ShipmentDTO.class,
+        "status.id",
+        "status.statusCode",
+        "order.id",
+        "invoice.id"
+    );
+
     private final ShipmentRepository shipmentRepository;
 
-    private final ShipmentMapper shipmentMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final CriteriaResultCache criteriaResultCache;
+
+    private final ApproximateCounter approximateCounter;
+
+    private final DtoProjector dtoProjector;
 
-    public ShipmentQueryService(ShipmentRepository shipmentRepository, ShipmentMapper shipmentMapper) {
+    public ShipmentQueryService(
+        ShipmentRepository shipmentRepository,
+        CriteriaStreamer criteriaStreamer,
+        CriteriaResultCache criteriaResultCache,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.shipmentRepository = shipmentRepository;
-        this.shipmentMapper = shipmentMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.criteriaResultCache = criteriaResultCache;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,19 +80,129 @@ public class ShipmentQueryService extends QueryService<Shipment> {
     public List<ShipmentDTO> findByCriteria(ShipmentCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<Shipment> specification = createSpecification(criteria);
-        return shipmentMapper.toDto(shipmentRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ShipmentDTO} which matches the criteria from the database, or from the
+     * {@link CriteriaResultCache} when enabled.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ShipmentDTO> findByCriteria(ShipmentCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        return criteriaResultCache.getPage(DTO_PROJECTION, criteria, page, () -> {
+            final Specification<Shipment> specification = createSpecification(criteria);
+            return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> shipmentRepository.count(specification));
+        });
+    }
+
+    /**
+     * Return a {@link Page} of {@link ShipmentDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ShipmentDTO> findByCriteria(ShipmentCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<Shipment> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> shipmentRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link ShipmentDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ShipmentDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<Shipment> specification = (root, query, builder) -> builder.equal(root.get(Shipment_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link ShipmentDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ShipmentDTO> scrollByCriteria(ShipmentCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Shipment> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
     }
 
     /**
-     * Return the number of matching entities in the database.
+     * Return a {@link Window} of {@link ShipmentDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<ShipmentDTO> scrollByCriteria(ShipmentCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<Shipment> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link ShipmentDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(ShipmentCriteria criteria, CriteriaStreamer.RowConsumer<ShipmentDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Shipment> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
+    }
+
+    /**
+     * Return the number of matching entities in the database, or in the {@link CriteriaResultCache} when enabled.
      * @param criteria The object which holds all the filters, which the entities should match.
      * @return the number of matching entities.
      */
     @Transactional(readOnly = true)
     public long countByCriteria(ShipmentCriteria criteria) {
         log.debug("count by criteria : {}", criteria);
+        return criteriaResultCache.getCount(Shipment.class, criteria, () -> {
+            final Specification<Shipment> specification = createSpecification(criteria);
+            return shipmentRepository.count(specification);
+        });
+    }
+
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ShipmentCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
         final Specification<Shipment> specification = createSpecification(criteria);
-        return shipmentRepository.count(specification);
+        return approximateCounter.count(Shipment.class, specification, () -> countByCriteria(criteria));
     }
 
     /**
@@ -101,15 +246,15 @@ public class ShipmentQueryService extends QueryService<Shipment> {
             }
             if (criteria.getAssignmentId() != null) {
                 specification = specification.and(
-                    buildSpecification(
+                    buildExistsSpecification(
                         criteria.getAssignmentId(),
-                        root -> root.join(Shipment_.assignments, JoinType.LEFT).get(ShipmentAssignment_.id)
+                        root -> root.join(Shipment_.assignments).get(ShipmentAssignment_.id)
                     )
                 );
             }
             if (criteria.getItemId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getItemId(), root -> root.join(Shipment_.items, JoinType.LEFT).get(ShipmentItem_.id))
+                    buildExistsSpecification(criteria.getItemId(), root -> root.join(Shipment_.items).get(ShipmentItem_.id))
                 );
             }
             if (criteria.getStatusId() != null) {
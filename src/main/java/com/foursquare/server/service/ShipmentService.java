@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Shipment;
 import com.foursquare.server.repository.ShipmentRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ShipmentMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class ShipmentService {
 
     private final ShipmentMapper shipmentMapper;
 
-    public ShipmentService(ShipmentRepository shipmentRepository, ShipmentMapper shipmentMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ShipmentService(
+        ShipmentRepository shipmentRepository,
+        ShipmentMapper shipmentMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.shipmentRepository = shipmentRepository;
         this.shipmentMapper = shipmentMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -58,6 +75,52 @@ public class ShipmentService {
         return shipmentMapper.toDto(shipment);
     }
 
+    /**
+     * Save shipments in bulk.
+     *
+     * @param shipmentDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ShipmentDTO> shipmentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Shipments", shipmentDTOs.size());
+        return bulkWriter.create(shipmentDTOs, ShipmentDTO::getId, mode, shipmentDTO -> {
+            Shipment shipment = shipmentMapper.toEntity(shipmentDTO);
+            return shipmentRepository.save(shipment).getId();
+        });
+    }
+
+    /**
+     * Update shipments in bulk.
+     *
+     * @param shipmentDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ShipmentDTO> shipmentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Shipments", shipmentDTOs.size());
+        return bulkWriter.update(Shipment.class, shipmentDTOs, ShipmentDTO::getId, mode, shipmentDTO -> {
+            Shipment shipment = shipmentMapper.toEntity(shipmentDTO);
+            shipment.setIsPersisted();
+            return shipmentRepository.save(shipment).getId();
+        });
+    }
+
+    /**
+     * Delete shipments in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Shipments", ids.size());
+        return bulkWriter.delete(Shipment.class, ids, mode);
+    }
+
     /**
      * Partially update a shipment.
      *
@@ -99,6 +162,18 @@ public class ShipmentService {
         return shipmentRepository.findOneWithEagerRelationships(id).map(shipmentMapper::toDto);
     }
 
+    /**
+     * Get the shipments of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ShipmentDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Shipments : {}", ids);
+        return entityBatchLoader.findAllById(Shipment.class, ids, shipmentMapper::toDto);
+    }
+
     /**
      * Delete the shipment by id.
      *
@@ -2,12 +2,18 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.ShipmentStatus;
 import com.foursquare.server.repository.ShipmentStatusRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentStatusDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ShipmentStatusMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -23,9 +29,20 @@ public class ShipmentStatusService {
 
     private final ShipmentStatusMapper shipmentStatusMapper;
 
-    public ShipmentStatusService(ShipmentStatusRepository shipmentStatusRepository, ShipmentStatusMapper shipmentStatusMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ShipmentStatusService(
+        ShipmentStatusRepository shipmentStatusRepository,
+        ShipmentStatusMapper shipmentStatusMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.shipmentStatusRepository = shipmentStatusRepository;
         this.shipmentStatusMapper = shipmentStatusMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -55,6 +72,52 @@ public class ShipmentStatusService {
         return shipmentStatusMapper.toDto(shipmentStatus);
     }
 
+    /**
+     * Save shipmentStatuses in bulk.
+     *
+     * @param shipmentStatusDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> saveAll(List<ShipmentStatusDTO> shipmentStatusDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} ShipmentStatuses", shipmentStatusDTOs.size());
+        return bulkWriter.create(shipmentStatusDTOs, ShipmentStatusDTO::getId, mode, shipmentStatusDTO -> {
+            ShipmentStatus shipmentStatus = shipmentStatusMapper.toEntity(shipmentStatusDTO);
+            return shipmentStatusRepository.save(shipmentStatus).getId();
+        });
+    }
+
+    /**
+     * Update shipmentStatuses in bulk.
+     *
+     * @param shipmentStatusDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> updateAll(List<ShipmentStatusDTO> shipmentStatusDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} ShipmentStatuses", shipmentStatusDTOs.size());
+        return bulkWriter.update(ShipmentStatus.class, shipmentStatusDTOs, ShipmentStatusDTO::getId, mode, shipmentStatusDTO -> {
+            ShipmentStatus shipmentStatus = shipmentStatusMapper.toEntity(shipmentStatusDTO);
+            shipmentStatus.setIsPersisted();
+            return shipmentStatusRepository.save(shipmentStatus).getId();
+        });
+    }
+
+    /**
+     * Delete shipmentStatuses in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> deleteAll(List<Long> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} ShipmentStatuses", ids.size());
+        return bulkWriter.delete(ShipmentStatus.class, ids, mode);
+    }
+
     /**
      * Partially update a shipmentStatus.
      *
@@ -87,6 +150,18 @@ public class ShipmentStatusService {
         return shipmentStatusRepository.findById(id).map(shipmentStatusMapper::toDto);
     }
 
+    /**
+     * Get the shipmentStatuses of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ShipmentStatusDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get ShipmentStatuses : {}", ids);
+        return entityBatchLoader.findAllById(ShipmentStatus.class, ids, shipmentStatusMapper::toDto);
+    }
+
     /**
      * Delete the shipmentStatus by id.
      *
@@ -5,15 +5,24 @@ import com.foursquare.server.domain.StaffInfo;
 import com.foursquare.server.repository.StaffInfoRepository;
 import com.foursquare.server.service.criteria.StaffInfoCriteria;
 import com.foursquare.server.service.dto.StaffInfoDTO;
-import com.foursquare.server.service.mapper.StaffInfoMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link StaffInfo} entities in the database.
@@ -23,17 +32,37 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class StaffInfoQueryService extends QueryService<StaffInfo> {
+public class StaffInfoQueryService extends TrigramQueryService<StaffInfo> {
 
     private static final Logger log = LoggerFactory.getLogger(StaffInfoQueryService.class);
 
+    private static final DtoProjection<StaffInfo, StaffInfoDTO> DTO_PROJECTION = DtoProjection.of(
+        StaffInfo.class,
+        StaffInfoDTO.class,
+        "user.id",
+        "user.login",
+        "workingUnit.id",
+        "workingUnit.name"
+    );
+
     private final StaffInfoRepository staffInfoRepository;
 
-    private final StaffInfoMapper staffInfoMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public StaffInfoQueryService(StaffInfoRepository staffInfoRepository, StaffInfoMapper staffInfoMapper) {
+    private final DtoProjector dtoProjector;
+
+    public StaffInfoQueryService(
+        StaffInfoRepository staffInfoRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.staffInfoRepository = staffInfoRepository;
-        this.staffInfoMapper = staffInfoMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +74,96 @@ public class StaffInfoQueryService extends QueryService<StaffInfo> {
     public List<StaffInfoDTO> findByCriteria(StaffInfoCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<StaffInfo> specification = createSpecification(criteria);
-        return staffInfoMapper.toDto(staffInfoRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link StaffInfoDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<StaffInfoDTO> findByCriteria(StaffInfoCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<StaffInfo> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> staffInfoRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link StaffInfoDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<StaffInfoDTO> findByCriteria(StaffInfoCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<StaffInfo> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> staffInfoRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link StaffInfoDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<StaffInfoDTO> findOne(Long id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<StaffInfo> specification = (root, query, builder) -> builder.equal(root.get(StaffInfo_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link StaffInfoDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<StaffInfoDTO> scrollByCriteria(StaffInfoCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<StaffInfo> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Return a {@link Window} of {@link StaffInfoDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<StaffInfoDTO> scrollByCriteria(StaffInfoCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<StaffInfo> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Stream the {@link StaffInfoDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(StaffInfoCriteria criteria, CriteriaStreamer.RowConsumer<StaffInfoDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<StaffInfo> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +178,22 @@ public class StaffInfoQueryService extends QueryService<StaffInfo> {
         return staffInfoRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(StaffInfoCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<StaffInfo> specification = createSpecification(criteria);
+        return approximateCounter.count(StaffInfo.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link StaffInfoCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
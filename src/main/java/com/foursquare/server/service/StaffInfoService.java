@@ -1,6 +1,10 @@
 package com.foursquare.server.service;
 
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.StaffInfoDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +29,33 @@ public interface StaffInfoService {
      */
     StaffInfoDTO update(StaffInfoDTO staffInfoDTO);
 
+    /**
+     * Save staffInfos in bulk.
+     *
+     * @param staffInfoDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    List<BulkItemResultDTO<Long>> saveAll(List<StaffInfoDTO> staffInfoDTOs, BulkWriter.Mode mode);
+
+    /**
+     * Update staffInfos in bulk.
+     *
+     * @param staffInfoDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    List<BulkItemResultDTO<Long>> updateAll(List<StaffInfoDTO> staffInfoDTOs, BulkWriter.Mode mode);
+
+    /**
+     * Delete staffInfos in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    List<BulkItemResultDTO<Long>> deleteAll(List<Long> ids, BulkWriter.Mode mode);
+
     /**
      * Partially updates a staffInfo.
      *
@@ -49,6 +80,14 @@ public interface StaffInfoService {
      */
     Optional<StaffInfoDTO> findOne(Long id);
 
+    /**
+     * Get the staffInfos of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    Map<Long, StaffInfoDTO> findAllById(List<Long> ids);
+
     /**
      * Delete the "id" staffInfo.
      *
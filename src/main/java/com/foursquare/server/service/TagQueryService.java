@@ -5,15 +5,22 @@ import com.foursquare.server.domain.Tag;
 import com.foursquare.server.repository.TagRepository;
 import com.foursquare.server.service.criteria.TagCriteria;
 import com.foursquare.server.service.dto.TagDTO;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaPagination;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.SemiJoinQueryService;
 import com.foursquare.server.service.mapper.TagMapper;
-import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link Tag} entities in the database.
@@ -23,7 +30,7 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class TagQueryService extends QueryService<Tag> {
+public class TagQueryService extends SemiJoinQueryService<Tag> {
 
     private static final Logger log = LoggerFactory.getLogger(TagQueryService.class);
 
@@ -31,9 +38,20 @@ public class TagQueryService extends QueryService<Tag> {
 
     private final TagMapper tagMapper;
 
-    public TagQueryService(TagRepository tagRepository, TagMapper tagMapper) {
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
+
+    public TagQueryService(
+        TagRepository tagRepository,
+        TagMapper tagMapper,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter
+    ) {
         this.tagRepository = tagRepository;
         this.tagMapper = tagMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
     }
 
     /**
@@ -48,6 +66,47 @@ public class TagQueryService extends QueryService<Tag> {
         return tagMapper.toDto(tagRepository.findAll(specification));
     }
 
+    /**
+     * Return a {@link Page} of {@link TagDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<TagDTO> findByCriteria(TagCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Tag> specification = createSpecification(criteria);
+        return tagRepository.findAll(specification, page).map(tagMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Window} of {@link TagDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<TagDTO> scrollByCriteria(TagCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<Tag> specification = createSpecification(criteria);
+        return CriteriaPagination.scroll(tagRepository, specification, page, after, UUID::fromString).map(tagMapper::toDto);
+    }
+
+    /**
+     * Stream the {@link TagDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(TagCriteria criteria, CriteriaStreamer.RowConsumer<TagDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<Tag> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(Tag.class, specification, tagMapper::toDto, consumer);
+    }
+
     /**
      * Return the number of matching entities in the database.
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -60,6 +119,22 @@ public class TagQueryService extends QueryService<Tag> {
         return tagRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(TagCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<Tag> specification = createSpecification(criteria);
+        return approximateCounter.count(Tag.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link TagCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -92,7 +167,7 @@ public class TagQueryService extends QueryService<Tag> {
             }
             if (criteria.getProductId() != null) {
                 specification = specification.and(
-                    buildSpecification(criteria.getProductId(), root -> root.join(Tag_.products, JoinType.LEFT).get(Product_.id))
+                    buildExistsSpecification(criteria.getProductId(), root -> root.join(Tag_.products).get(Product_.id))
                 );
             }
         }
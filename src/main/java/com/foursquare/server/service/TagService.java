@@ -2,13 +2,19 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.Tag;
 import com.foursquare.server.repository.TagRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.TagDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.TagMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,9 +30,15 @@ public class TagService {
 
     private final TagMapper tagMapper;
 
-    public TagService(TagRepository tagRepository, TagMapper tagMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public TagService(TagRepository tagRepository, TagMapper tagMapper, EntityBatchLoader entityBatchLoader, BulkWriter bulkWriter) {
         this.tagRepository = tagRepository;
         this.tagMapper = tagMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -56,6 +68,52 @@ public class TagService {
         return tagMapper.toDto(tag);
     }
 
+    /**
+     * Save tags in bulk.
+     *
+     * @param tagDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<TagDTO> tagDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} Tags", tagDTOs.size());
+        return bulkWriter.create(tagDTOs, TagDTO::getId, mode, tagDTO -> {
+            Tag tag = tagMapper.toEntity(tagDTO);
+            return tagRepository.save(tag).getId();
+        });
+    }
+
+    /**
+     * Update tags in bulk.
+     *
+     * @param tagDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<TagDTO> tagDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} Tags", tagDTOs.size());
+        return bulkWriter.update(Tag.class, tagDTOs, TagDTO::getId, mode, tagDTO -> {
+            Tag tag = tagMapper.toEntity(tagDTO);
+            tag.setIsPersisted();
+            return tagRepository.save(tag).getId();
+        });
+    }
+
+    /**
+     * Delete tags in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} Tags", ids.size());
+        return bulkWriter.delete(Tag.class, ids, mode);
+    }
+
     /**
      * Partially update a tag.
      *
@@ -88,6 +146,18 @@ public class TagService {
         return tagRepository.findById(id).map(tagMapper::toDto);
     }
 
+    /**
+     * Get the tags of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, TagDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get Tags : {}", ids);
+        return entityBatchLoader.findAllById(Tag.class, ids, tagMapper::toDto);
+    }
+
     /**
      * Delete the tag by id.
      *
@@ -1,6 +1,10 @@
 package com.foursquare.server.service;
 
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.UserAddressDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -26,6 +30,33 @@ public interface UserAddressService {
      */
     UserAddressDTO update(UserAddressDTO userAddressDTO);
 
+    /**
+     * Save userAddresses in bulk.
+     *
+     * @param userAddressDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    List<BulkItemResultDTO<UUID>> saveAll(List<UserAddressDTO> userAddressDTOs, BulkWriter.Mode mode);
+
+    /**
+     * Update userAddresses in bulk.
+     *
+     * @param userAddressDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    List<BulkItemResultDTO<UUID>> updateAll(List<UserAddressDTO> userAddressDTOs, BulkWriter.Mode mode);
+
+    /**
+     * Delete userAddresses in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode);
+
     /**
      * Partially updates a userAddress.
      *
@@ -50,6 +81,14 @@ public interface UserAddressService {
      */
     Optional<UserAddressDTO> findOne(UUID id);
 
+    /**
+     * Get the userAddresses of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    Map<UUID, UserAddressDTO> findAllById(List<UUID> ids);
+
     /**
      * Delete the "id" userAddress.
      *
@@ -5,15 +5,24 @@ import com.foursquare.server.domain.UserDetails;
 import com.foursquare.server.repository.UserDetailsRepository;
 import com.foursquare.server.service.criteria.UserDetailsCriteria;
 import com.foursquare.server.service.dto.UserDetailsDTO;
-import com.foursquare.server.service.mapper.UserDetailsMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link UserDetails} entities in the database.
@@ -23,17 +32,35 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class UserDetailsQueryService extends QueryService<UserDetails> {
+public class UserDetailsQueryService extends TrigramQueryService<UserDetails> {
 
     private static final Logger log = LoggerFactory.getLogger(UserDetailsQueryService.class);
 
+    private static final DtoProjection<UserDetails, UserDetailsDTO> DTO_PROJECTION = DtoProjection.of(
+        UserDetails.class,
+        UserDetailsDTO.class,
+        "user.id",
+        "user.login"
+    );
+
     private final UserDetailsRepository userDetailsRepository;
 
-    private final UserDetailsMapper userDetailsMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
 
-    public UserDetailsQueryService(UserDetailsRepository userDetailsRepository, UserDetailsMapper userDetailsMapper) {
+    private final DtoProjector dtoProjector;
+
+    public UserDetailsQueryService(
+        UserDetailsRepository userDetailsRepository,
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
+    ) {
         this.userDetailsRepository = userDetailsRepository;
-        this.userDetailsMapper = userDetailsMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -45,7 +72,96 @@ public class UserDetailsQueryService extends QueryService<UserDetails> {
     public List<UserDetailsDTO> findByCriteria(UserDetailsCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<UserDetails> specification = createSpecification(criteria);
-        return userDetailsMapper.toDto(userDetailsRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link UserDetailsDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<UserDetailsDTO> findByCriteria(UserDetailsCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<UserDetails> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> userDetailsRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link UserDetailsDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<UserDetailsDTO> findByCriteria(UserDetailsCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<UserDetails> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification, page, () -> userDetailsRepository.count(specification));
+    }
+
+    /**
+     * Return the {@link UserDetailsDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserDetailsDTO> findOne(Long id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<UserDetails> specification = (root, query, builder) -> builder.equal(root.get(UserDetails_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link UserDetailsDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<UserDetailsDTO> scrollByCriteria(UserDetailsCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<UserDetails> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Return a {@link Window} of {@link UserDetailsDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<UserDetailsDTO> scrollByCriteria(UserDetailsCriteria criteria, Pageable page, String after, Set<String> fields) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<UserDetails> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, Long::valueOf);
+    }
+
+    /**
+     * Stream the {@link UserDetailsDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(UserDetailsCriteria criteria, CriteriaStreamer.RowConsumer<UserDetailsDTO> consumer) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<UserDetails> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -60,6 +176,22 @@ public class UserDetailsQueryService extends QueryService<UserDetails> {
         return userDetailsRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(UserDetailsCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<UserDetails> specification = createSpecification(criteria);
+        return approximateCounter.count(UserDetails.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link UserDetailsCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
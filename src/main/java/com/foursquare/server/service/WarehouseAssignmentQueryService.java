@@ -5,15 +5,25 @@ import com.foursquare.server.domain.WarehouseAssignment;
 import com.foursquare.server.repository.WarehouseAssignmentRepository;
 import com.foursquare.server.service.criteria.WarehouseAssignmentCriteria;
 import com.foursquare.server.service.dto.WarehouseAssignmentDTO;
-import com.foursquare.server.service.mapper.WarehouseAssignmentMapper;
+import com.foursquare.server.service.helper.ApproximateCounter;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.service.helper.DtoProjection;
+import com.foursquare.server.service.helper.DtoProjector;
+import com.foursquare.server.service.helper.TrigramQueryService;
 import jakarta.persistence.criteria.JoinType;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.QueryService;
 
 /**
  * Service for executing complex queries for {@link WarehouseAssignment} entities in the database.
@@ -23,20 +33,40 @@ import tech.jhipster.service.QueryService;
  */
 @Service
 @Transactional(readOnly = true)
-public class WarehouseAssignmentQueryService extends QueryService<WarehouseAssignment> {
+public class WarehouseAssignmentQueryService extends TrigramQueryService<WarehouseAssignment> {
 
     private static final Logger log = LoggerFactory.getLogger(WarehouseAssignmentQueryService.class);
 
+    private static final DtoProjection<WarehouseAssignment, WarehouseAssignmentDTO> DTO_PROJECTION = DtoProjection.of(
+        WarehouseAssignment.class,
+        WarehouseAssignmentDTO.class,
+        "user.id",
+        "user.login",
+        "sourceWorkingUnit.id",
+        "sourceWorkingUnit.name",
+        "targetWorkingUnit.id",
+        "targetWorkingUnit.name",
+        "internalOrder.id"
+    );
+
     private final WarehouseAssignmentRepository warehouseAssignmentRepository;
 
-    private final WarehouseAssignmentMapper warehouseAssignmentMapper;
+    private final CriteriaStreamer criteriaStreamer;
+
+    private final ApproximateCounter approximateCounter;
+
+    private final DtoProjector dtoProjector;
 
     public WarehouseAssignmentQueryService(
         WarehouseAssignmentRepository warehouseAssignmentRepository,
-        WarehouseAssignmentMapper warehouseAssignmentMapper
+        CriteriaStreamer criteriaStreamer,
+        ApproximateCounter approximateCounter,
+        DtoProjector dtoProjector
     ) {
         this.warehouseAssignmentRepository = warehouseAssignmentRepository;
-        this.warehouseAssignmentMapper = warehouseAssignmentMapper;
+        this.criteriaStreamer = criteriaStreamer;
+        this.approximateCounter = approximateCounter;
+        this.dtoProjector = dtoProjector;
     }
 
     /**
@@ -48,7 +78,110 @@ public class WarehouseAssignmentQueryService extends QueryService<WarehouseAssig
     public List<WarehouseAssignmentDTO> findByCriteria(WarehouseAssignmentCriteria criteria) {
         log.debug("find by criteria : {}", criteria);
         final Specification<WarehouseAssignment> specification = createSpecification(criteria);
-        return warehouseAssignmentMapper.toDto(warehouseAssignmentRepository.findAll(specification));
+        return dtoProjector.findAll(DTO_PROJECTION, specification);
+    }
+
+    /**
+     * Return a {@link Page} of {@link WarehouseAssignmentDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<WarehouseAssignmentDTO> findByCriteria(WarehouseAssignmentCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<WarehouseAssignment> specification = createSpecification(criteria);
+        return dtoProjector.findAll(DTO_PROJECTION, specification, page, () -> warehouseAssignmentRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link WarehouseAssignmentDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<WarehouseAssignmentDTO> findByCriteria(WarehouseAssignmentCriteria criteria, Pageable page, Set<String> fields) {
+        if (fields == null) {
+            return findByCriteria(criteria, page);
+        }
+        log.debug("find by criteria : {}, page: {}, fields: {}", criteria, page, fields);
+        final Specification<WarehouseAssignment> specification = createSpecification(criteria);
+        return dtoProjector.findAll(
+            DTO_PROJECTION.restrict(fields),
+            specification,
+            page,
+            () -> warehouseAssignmentRepository.count(specification)
+        );
+    }
+
+    /**
+     * Return the {@link WarehouseAssignmentDTO} of the given id, with only the given properties read.
+     * @param id The id of the entity.
+     * @param fields The properties of the DTO to read.
+     * @return the entity, or empty if there is none.
+     */
+    @Transactional(readOnly = true)
+    public Optional<WarehouseAssignmentDTO> findOne(UUID id, Set<String> fields) {
+        log.debug("find one : {}, fields: {}", id, fields);
+        final Specification<WarehouseAssignment> specification = (root, query, builder) ->
+            builder.equal(root.get(WarehouseAssignment_.id), id);
+        return dtoProjector.findAll(DTO_PROJECTION.restrict(fields), specification).stream().findFirst();
+    }
+
+    /**
+     * Return a {@link Window} of {@link WarehouseAssignmentDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<WarehouseAssignmentDTO> scrollByCriteria(WarehouseAssignmentCriteria criteria, Pageable page, String after) {
+        log.debug("scroll by criteria : {}, page: {}, after: {}", criteria, page, after);
+        final Specification<WarehouseAssignment> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION, specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Return a {@link Window} of {@link WarehouseAssignmentDTO} which matches the criteria, with only the given properties read.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The offset and size of the window.
+     * @param after The {@code createdDate,id} keyset cursor to read the window from, or {@code null} to read it at the offset of the page.
+     * @param fields The properties of the DTOs to read, or {@code null} to read all of them.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Window<WarehouseAssignmentDTO> scrollByCriteria(
+        WarehouseAssignmentCriteria criteria,
+        Pageable page,
+        String after,
+        Set<String> fields
+    ) {
+        if (fields == null) {
+            return scrollByCriteria(criteria, page, after);
+        }
+        log.debug("scroll by criteria : {}, page: {}, after: {}, fields: {}", criteria, page, after, fields);
+        final Specification<WarehouseAssignment> specification = createSpecification(criteria);
+        return dtoProjector.scroll(DTO_PROJECTION.restrict(fields), specification, page, after, UUID::fromString);
+    }
+
+    /**
+     * Stream the {@link WarehouseAssignmentDTO}s which match the criteria from the database, without materializing them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer The consumer of the matching entities, such as the writer of an export.
+     * @return the number of matching entities.
+     * @throws IOException if the consumer fails to take an entity.
+     */
+    @Transactional(readOnly = true)
+    public long exportByCriteria(
+        WarehouseAssignmentCriteria criteria,
+        CriteriaStreamer.RowConsumer<WarehouseAssignmentDTO> consumer
+    ) throws IOException {
+        log.debug("export by criteria : {}", criteria);
+        final Specification<WarehouseAssignment> specification = createSpecification(criteria);
+        return criteriaStreamer.stream(DTO_PROJECTION, specification, consumer);
     }
 
     /**
@@ -63,6 +196,22 @@ public class WarehouseAssignmentQueryService extends QueryService<WarehouseAssig
         return warehouseAssignmentRepository.count(specification);
     }
 
+    /**
+     * Return the number of matching entities in the database, or an estimate of it.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param approximate Whether to estimate the number from the statistics of the database, see {@link ApproximateCounter}.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(WarehouseAssignmentCriteria criteria, boolean approximate) {
+        if (!approximate) {
+            return countByCriteria(criteria);
+        }
+        log.debug("approximate count by criteria : {}", criteria);
+        final Specification<WarehouseAssignment> specification = createSpecification(criteria);
+        return approximateCounter.count(WarehouseAssignment.class, specification, () -> countByCriteria(criteria));
+    }
+
     /**
      * Function to convert {@link WarehouseAssignmentCriteria} to a {@link Specification}
      * @param criteria The object which holds all the filters, which the entities should match.
@@ -2,8 +2,13 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.WarehouseAssignment;
 import com.foursquare.server.repository.WarehouseAssignmentRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.WarehouseAssignmentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.WarehouseAssignmentMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -11,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,12 +32,20 @@ public class WarehouseAssignmentService {
 
     private final WarehouseAssignmentMapper warehouseAssignmentMapper;
 
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
     public WarehouseAssignmentService(
         WarehouseAssignmentRepository warehouseAssignmentRepository,
-        WarehouseAssignmentMapper warehouseAssignmentMapper
+        WarehouseAssignmentMapper warehouseAssignmentMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
     ) {
         this.warehouseAssignmentRepository = warehouseAssignmentRepository;
         this.warehouseAssignmentMapper = warehouseAssignmentMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -61,6 +75,58 @@ public class WarehouseAssignmentService {
         return warehouseAssignmentMapper.toDto(warehouseAssignment);
     }
 
+    /**
+     * Save warehouseAssignments in bulk.
+     *
+     * @param warehouseAssignmentDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<WarehouseAssignmentDTO> warehouseAssignmentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} WarehouseAssignments", warehouseAssignmentDTOs.size());
+        return bulkWriter.create(warehouseAssignmentDTOs, WarehouseAssignmentDTO::getId, mode, warehouseAssignmentDTO -> {
+            WarehouseAssignment warehouseAssignment = warehouseAssignmentMapper.toEntity(warehouseAssignmentDTO);
+            return warehouseAssignmentRepository.save(warehouseAssignment).getId();
+        });
+    }
+
+    /**
+     * Update warehouseAssignments in bulk.
+     *
+     * @param warehouseAssignmentDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<WarehouseAssignmentDTO> warehouseAssignmentDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} WarehouseAssignments", warehouseAssignmentDTOs.size());
+        return bulkWriter.update(
+            WarehouseAssignment.class,
+            warehouseAssignmentDTOs,
+            WarehouseAssignmentDTO::getId,
+            mode,
+            warehouseAssignmentDTO -> {
+                WarehouseAssignment warehouseAssignment = warehouseAssignmentMapper.toEntity(warehouseAssignmentDTO);
+                warehouseAssignment.setIsPersisted();
+                return warehouseAssignmentRepository.save(warehouseAssignment).getId();
+            }
+        );
+    }
+
+    /**
+     * Delete warehouseAssignments in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} WarehouseAssignments", ids.size());
+        return bulkWriter.delete(WarehouseAssignment.class, ids, mode);
+    }
+
     /**
      * Partially update a warehouseAssignment.
      *
@@ -102,6 +168,18 @@ public class WarehouseAssignmentService {
         return warehouseAssignmentRepository.findOneWithEagerRelationships(id).map(warehouseAssignmentMapper::toDto);
     }
 
+    /**
+     * Get the warehouseAssignments of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, WarehouseAssignmentDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get WarehouseAssignments : {}", ids);
+        return entityBatchLoader.findAllById(WarehouseAssignment.class, ids, warehouseAssignmentMapper::toDto);
+    }
+
     /**
      * Delete the warehouseAssignment by id.
      *
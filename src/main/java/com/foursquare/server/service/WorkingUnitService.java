@@ -2,13 +2,19 @@ package com.foursquare.server.service;
 
 import com.foursquare.server.domain.WorkingUnit;
 import com.foursquare.server.repository.WorkingUnitRepository;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.WorkingUnitDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.WorkingUnitMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -24,9 +30,20 @@ public class WorkingUnitService {
 
     private final WorkingUnitMapper workingUnitMapper;
 
-    public WorkingUnitService(WorkingUnitRepository workingUnitRepository, WorkingUnitMapper workingUnitMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public WorkingUnitService(
+        WorkingUnitRepository workingUnitRepository,
+        WorkingUnitMapper workingUnitMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.workingUnitRepository = workingUnitRepository;
         this.workingUnitMapper = workingUnitMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -56,6 +73,52 @@ public class WorkingUnitService {
         return workingUnitMapper.toDto(workingUnit);
     }
 
+    /**
+     * Save workingUnits in bulk.
+     *
+     * @param workingUnitDTOs the entities to save.
+     * @param mode whether to save all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<WorkingUnitDTO> workingUnitDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} WorkingUnits", workingUnitDTOs.size());
+        return bulkWriter.create(workingUnitDTOs, WorkingUnitDTO::getId, mode, workingUnitDTO -> {
+            WorkingUnit workingUnit = workingUnitMapper.toEntity(workingUnitDTO);
+            return workingUnitRepository.save(workingUnit).getId();
+        });
+    }
+
+    /**
+     * Update workingUnits in bulk.
+     *
+     * @param workingUnitDTOs the entities to update.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @return the result of each entity, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<WorkingUnitDTO> workingUnitDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} WorkingUnits", workingUnitDTOs.size());
+        return bulkWriter.update(WorkingUnit.class, workingUnitDTOs, WorkingUnitDTO::getId, mode, workingUnitDTO -> {
+            WorkingUnit workingUnit = workingUnitMapper.toEntity(workingUnitDTO);
+            workingUnit.setIsPersisted();
+            return workingUnitRepository.save(workingUnit).getId();
+        });
+    }
+
+    /**
+     * Delete workingUnits in bulk.
+     *
+     * @param ids the ids of the entities.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} WorkingUnits", ids.size());
+        return bulkWriter.delete(WorkingUnit.class, ids, mode);
+    }
+
     /**
      * Partially update a workingUnit.
      *
@@ -88,6 +151,18 @@ public class WorkingUnitService {
         return workingUnitRepository.findById(id).map(workingUnitMapper::toDto);
     }
 
+    /**
+     * Get the workingUnits of the given ids.
+     *
+     * @param ids the ids of the entities.
+     * @return the entities found, by id in the order of the ids.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, WorkingUnitDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get WorkingUnits : {}", ids);
+        return entityBatchLoader.findAllById(WorkingUnit.class, ids, workingUnitMapper::toDto);
+    }
+
     /**
      * Delete the workingUnit by id.
      *
@@ -56,8 +56,6 @@ public class MessageCriteria implements Serializable, Criteria {
 
     private UUIDFilter participantId;
 
-    private UUIDFilter seenParticipantId;
-
     private Boolean distinct;
 
     public MessageCriteria() {}
@@ -71,7 +69,6 @@ public class MessageCriteria implements Serializable, Criteria {
         this.lastModifiedBy = other.optionalLastModifiedBy().map(StringFilter::copy).orElse(null);
         this.lastModifiedDate = other.optionalLastModifiedDate().map(InstantFilter::copy).orElse(null);
         this.participantId = other.optionalParticipantId().map(UUIDFilter::copy).orElse(null);
-        this.seenParticipantId = other.optionalSeenParticipantId().map(UUIDFilter::copy).orElse(null);
         this.distinct = other.distinct;
     }
 
@@ -232,25 +229,6 @@ public class MessageCriteria implements Serializable, Criteria {
         this.participantId = participantId;
     }
 
-    public UUIDFilter getSeenParticipantId() {
-        return seenParticipantId;
-    }
-
-    public Optional<UUIDFilter> optionalSeenParticipantId() {
-        return Optional.ofNullable(seenParticipantId);
-    }
-
-    public UUIDFilter seenParticipantId() {
-        if (seenParticipantId == null) {
-            setSeenParticipantId(new UUIDFilter());
-        }
-        return seenParticipantId;
-    }
-
-    public void setSeenParticipantId(UUIDFilter seenParticipantId) {
-        this.seenParticipantId = seenParticipantId;
-    }
-
     public Boolean getDistinct() {
         return distinct;
     }
@@ -288,7 +266,6 @@ public class MessageCriteria implements Serializable, Criteria {
             Objects.equals(lastModifiedBy, that.lastModifiedBy) &&
             Objects.equals(lastModifiedDate, that.lastModifiedDate) &&
             Objects.equals(participantId, that.participantId) &&
-            Objects.equals(seenParticipantId, that.seenParticipantId) &&
             Objects.equals(distinct, that.distinct)
         );
     }
@@ -304,7 +281,6 @@ public class MessageCriteria implements Serializable, Criteria {
             lastModifiedBy,
             lastModifiedDate,
             participantId,
-            seenParticipantId,
             distinct
         );
     }
@@ -321,7 +297,6 @@ public class MessageCriteria implements Serializable, Criteria {
             optionalLastModifiedBy().map(f -> "lastModifiedBy=" + f + ", ").orElse("") +
             optionalLastModifiedDate().map(f -> "lastModifiedDate=" + f + ", ").orElse("") +
             optionalParticipantId().map(f -> "participantId=" + f + ", ").orElse("") +
-            optionalSeenParticipantId().map(f -> "seenParticipantId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
         "}";
     }
@@ -40,8 +40,6 @@ public class ParticipantCriteria implements Serializable, Criteria {
 
     private UUIDFilter messageId;
 
-    private UUIDFilter seenMessageId;
-
     private Boolean distinct;
 
     public ParticipantCriteria() {}
@@ -56,7 +54,6 @@ public class ParticipantCriteria implements Serializable, Criteria {
         this.userId = other.optionalUserId().map(LongFilter::copy).orElse(null);
         this.conversationId = other.optionalConversationId().map(UUIDFilter::copy).orElse(null);
         this.messageId = other.optionalMessageId().map(UUIDFilter::copy).orElse(null);
-        this.seenMessageId = other.optionalSeenMessageId().map(UUIDFilter::copy).orElse(null);
         this.distinct = other.distinct;
     }
 
@@ -236,25 +233,6 @@ public class ParticipantCriteria implements Serializable, Criteria {
         this.messageId = messageId;
     }
 
-    public UUIDFilter getSeenMessageId() {
-        return seenMessageId;
-    }
-
-    public Optional<UUIDFilter> optionalSeenMessageId() {
-        return Optional.ofNullable(seenMessageId);
-    }
-
-    public UUIDFilter seenMessageId() {
-        if (seenMessageId == null) {
-            setSeenMessageId(new UUIDFilter());
-        }
-        return seenMessageId;
-    }
-
-    public void setSeenMessageId(UUIDFilter seenMessageId) {
-        this.seenMessageId = seenMessageId;
-    }
-
     public Boolean getDistinct() {
         return distinct;
     }
@@ -293,7 +271,6 @@ public class ParticipantCriteria implements Serializable, Criteria {
             Objects.equals(userId, that.userId) &&
             Objects.equals(conversationId, that.conversationId) &&
             Objects.equals(messageId, that.messageId) &&
-            Objects.equals(seenMessageId, that.seenMessageId) &&
             Objects.equals(distinct, that.distinct)
         );
     }
@@ -310,7 +287,6 @@ public class ParticipantCriteria implements Serializable, Criteria {
             userId,
             conversationId,
             messageId,
-            seenMessageId,
             distinct
         );
     }
@@ -328,7 +304,6 @@ public class ParticipantCriteria implements Serializable, Criteria {
             optionalUserId().map(f -> "userId=" + f + ", ").orElse("") +
             optionalConversationId().map(f -> "conversationId=" + f + ", ").orElse("") +
             optionalMessageId().map(f -> "messageId=" + f + ", ").orElse("") +
-            optionalSeenMessageId().map(f -> "seenMessageId=" + f + ", ").orElse("") +
             optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
         "}";
     }
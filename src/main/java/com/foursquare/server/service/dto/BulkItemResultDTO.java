@@ -0,0 +1,103 @@
+package com.foursquare.server.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO for the result of one item of a bulk write.
+ *
+ * @param <ID> the type of the id of the entity.
+ */
+public class BulkItemResultDTO<ID> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /**
+         * The item could not be written.
+         */
+        FAILED,
+        /**
+         * The item was not written, or rolled back, because another item of an all-or-nothing write failed.
+         */
+        NOT_WRITTEN,
+    }
+
+    private int index;
+
+    private ID id;
+
+    private Status status;
+
+    private String errorKey;
+
+    private String message;
+
+    public BulkItemResultDTO() {}
+
+    public BulkItemResultDTO(int index, ID id, Status status) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+    }
+
+    public static <ID> BulkItemResultDTO<ID> failed(int index, ID id, String errorKey, String message) {
+        BulkItemResultDTO<ID> result = new BulkItemResultDTO<>(index, id, Status.FAILED);
+        result.setErrorKey(errorKey);
+        result.setMessage(message);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public ID getId() {
+        return id;
+    }
+
+    public void setId(ID id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getErrorKey() {
+        return errorKey;
+    }
+
+    public void setErrorKey(String errorKey) {
+        this.errorKey = errorKey;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkItemResultDTO{" +
+            "index=" + getIndex() +
+            ", id=" + getId() +
+            ", status=" + getStatus() +
+            ", errorKey='" + getErrorKey() + "'" +
+            "}";
+    }
+}
@@ -4,9 +4,7 @@ import com.foursquare.server.domain.enumeration.MessageType;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.time.Instant;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -23,6 +21,8 @@ public class MessageDTO implements Serializable {
     @NotNull
     private String content;
 
+    private Integer sequence;
+
     private String createdBy;
 
     private Instant createdDate;
@@ -33,8 +33,6 @@ public class MessageDTO implements Serializable {
 
     private ParticipantDTO participant;
 
-    private Set<ParticipantDTO> seenParticipants = new HashSet<>();
-
     public UUID getId() {
         return id;
     }
@@ -59,6 +57,14 @@ public class MessageDTO implements Serializable {
         this.content = content;
     }
 
+    public Integer getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Integer sequence) {
+        this.sequence = sequence;
+    }
+
     public String getCreatedBy() {
         return createdBy;
     }
@@ -99,14 +105,6 @@ public class MessageDTO implements Serializable {
         this.participant = participant;
     }
 
-    public Set<ParticipantDTO> getSeenParticipants() {
-        return seenParticipants;
-    }
-
-    public void setSeenParticipants(Set<ParticipantDTO> seenParticipants) {
-        this.seenParticipants = seenParticipants;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -135,12 +133,12 @@ public class MessageDTO implements Serializable {
             "id='" + getId() + "'" +
             ", type='" + getType() + "'" +
             ", content='" + getContent() + "'" +
+            ", sequence=" + getSequence() +
             ", createdBy='" + getCreatedBy() + "'" +
             ", createdDate='" + getCreatedDate() + "'" +
             ", lastModifiedBy='" + getLastModifiedBy() + "'" +
             ", lastModifiedDate='" + getLastModifiedDate() + "'" +
             ", participant=" + getParticipant() +
-            ", seenParticipants=" + getSeenParticipants() +
             "}";
     }
 }
@@ -0,0 +1,122 @@
+package com.foursquare.server.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO for an {@link com.foursquare.server.domain.Order} with the entities it is made of: its items, invoices,
+ * shipments with their items and assignments, histories, internal orders and child orders.
+ * <p>
+ * The related entities are listed flat, each DTO referencing its parent by id, like the DTOs of their own resources.
+ */
+public class OrderAggregateDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private OrderDTO order;
+
+    private List<OrderItemDTO> orderItems = new ArrayList<>();
+
+    private List<InvoiceDTO> invoices = new ArrayList<>();
+
+    private List<ShipmentDTO> shipments = new ArrayList<>();
+
+    private List<ShipmentItemDTO> shipmentItems = new ArrayList<>();
+
+    private List<ShipmentAssignmentDTO> shipmentAssignments = new ArrayList<>();
+
+    private List<OrderHistoryDTO> histories = new ArrayList<>();
+
+    private List<InternalOrderDTO> internalOrders = new ArrayList<>();
+
+    private List<OrderDTO> childOrders = new ArrayList<>();
+
+    public OrderDTO getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderDTO order) {
+        this.order = order;
+    }
+
+    public List<OrderItemDTO> getOrderItems() {
+        return orderItems;
+    }
+
+    public void setOrderItems(List<OrderItemDTO> orderItems) {
+        this.orderItems = orderItems;
+    }
+
+    public List<InvoiceDTO> getInvoices() {
+        return invoices;
+    }
+
+    public void setInvoices(List<InvoiceDTO> invoices) {
+        this.invoices = invoices;
+    }
+
+    public List<ShipmentDTO> getShipments() {
+        return shipments;
+    }
+
+    public void setShipments(List<ShipmentDTO> shipments) {
+        this.shipments = shipments;
+    }
+
+    public List<ShipmentItemDTO> getShipmentItems() {
+        return shipmentItems;
+    }
+
+    public void setShipmentItems(List<ShipmentItemDTO> shipmentItems) {
+        this.shipmentItems = shipmentItems;
+    }
+
+    public List<ShipmentAssignmentDTO> getShipmentAssignments() {
+        return shipmentAssignments;
+    }
+
+    public void setShipmentAssignments(List<ShipmentAssignmentDTO> shipmentAssignments) {
+        this.shipmentAssignments = shipmentAssignments;
+    }
+
+    public List<OrderHistoryDTO> getHistories() {
+        return histories;
+    }
+
+    public void setHistories(List<OrderHistoryDTO> histories) {
+        this.histories = histories;
+    }
+
+    public List<InternalOrderDTO> getInternalOrders() {
+        return internalOrders;
+    }
+
+    public void setInternalOrders(List<InternalOrderDTO> internalOrders) {
+        this.internalOrders = internalOrders;
+    }
+
+    public List<OrderDTO> getChildOrders() {
+        return childOrders;
+    }
+
+    public void setChildOrders(List<OrderDTO> childOrders) {
+        this.childOrders = childOrders;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OrderAggregateDTO{" +
+            "order=" + getOrder() +
+            ", orderItems=" + getOrderItems().size() +
+            ", invoices=" + getInvoices().size() +
+            ", shipments=" + getShipments().size() +
+            ", shipmentItems=" + getShipmentItems().size() +
+            ", shipmentAssignments=" + getShipmentAssignments().size() +
+            ", histories=" + getHistories().size() +
+            ", internalOrders=" + getInternalOrders().size() +
+            ", childOrders=" + getChildOrders().size() +
+            "}";
+    }
+}
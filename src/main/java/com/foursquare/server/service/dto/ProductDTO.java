@@ -38,6 +38,12 @@ public class ProductDTO implements Serializable {
 
     private Set<TagDTO> tags = new HashSet<>();
 
+    private Set<ProductImageDTO> productImages = new HashSet<>();
+
+    private Set<ProductCategoryDTO> productCategories = new HashSet<>();
+
+    private Set<CommentDTO> comments = new HashSet<>();
+
     public UUID getId() {
         return id;
     }
@@ -118,6 +124,30 @@ public class ProductDTO implements Serializable {
         this.tags = tags;
     }
 
+    public Set<ProductImageDTO> getProductImages() {
+        return productImages;
+    }
+
+    public void setProductImages(Set<ProductImageDTO> productImages) {
+        this.productImages = productImages;
+    }
+
+    public Set<ProductCategoryDTO> getProductCategories() {
+        return productCategories;
+    }
+
+    public void setProductCategories(Set<ProductCategoryDTO> productCategories) {
+        this.productCategories = productCategories;
+    }
+
+    public Set<CommentDTO> getComments() {
+        return comments;
+    }
+
+    public void setComments(Set<CommentDTO> comments) {
+        this.comments = comments;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -153,6 +183,9 @@ public class ProductDTO implements Serializable {
             ", lastModifiedBy='" + getLastModifiedBy() + "'" +
             ", lastModifiedDate='" + getLastModifiedDate() + "'" +
             ", tags=" + getTags() +
+            ", productImages=" + getProductImages() +
+            ", productCategories=" + getProductCategories() +
+            ", comments=" + getComments() +
             "}";
     }
 }
@@ -0,0 +1,146 @@
+package com.foursquare.server.service.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.config.ApplicationProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.Joinable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estimates the number of entities matching a criteria from the statistics of the PostgreSQL planner, instead of
+ * counting them, whose cost grows with the size of the table.
+ * <p>
+ * Without filter, the estimate is the {@code reltuples} of the table in {@code pg_class}, summed over its partitions.
+ * With filters, it is the row estimate of the {@code EXPLAIN} plan of the criteria query, which runs in a session
+ * sharing the connection of the current transaction. When the estimate is below
+ * {@code application.approximate-count.exact-threshold}, or cannot be made, such as before the table was first
+ * analyzed, the entities are counted exactly instead.
+ */
+@Component
+public class ApproximateCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ApproximateCounter.class);
+
+    private static final String EXPLAIN = "explain (format json) ";
+
+    private static final String TABLE_ESTIMATE =
+        "select coalesce(case when bool_or(c.reltuples < 0) then -1 else sum(c.reltuples) end, -1)::bigint " +
+        "from pg_partition_tree(to_regclass(?1)) t join pg_class c on c.oid = t.relid where t.isleaf";
+
+    private final long exactThreshold;
+
+    private final EntityManager entityManager;
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ApproximateCounter(
+        ApplicationProperties applicationProperties,
+        EntityManager entityManager,
+        EntityManagerFactory entityManagerFactory,
+        ObjectMapper objectMapper
+    ) {
+        this(
+            applicationProperties.getApproximateCount().getExactThreshold(),
+            entityManager,
+            entityManagerFactory.unwrap(SessionFactoryImplementor.class),
+            objectMapper
+        );
+    }
+
+    ApproximateCounter(
+        long exactThreshold,
+        EntityManager entityManager,
+        SessionFactoryImplementor sessionFactory,
+        ObjectMapper objectMapper
+    ) {
+        this.exactThreshold = exactThreshold;
+        this.entityManager = entityManager;
+        this.sessionFactory = sessionFactory;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Return the approximate number of entities matching a specification.
+     *
+     * @param entityClass the class of the counted entity.
+     * @param specification the specification the entities match.
+     * @param exactCount the exact count query, run when the estimate is too small or cannot be made.
+     * @return the approximate number of matching entities.
+     */
+    public <E> long count(Class<E> entityClass, Specification<E> specification, LongSupplier exactCount) {
+        long estimate;
+        try {
+            estimate = estimate(entityClass, specification);
+        } catch (RuntimeException e) {
+            log.warn("Cannot estimate the number of {} entities, counting them: {}", entityClass.getSimpleName(), e.getMessage());
+            return exactCount.getAsLong();
+        }
+        if (estimate < 0 || estimate < exactThreshold) {
+            return exactCount.getAsLong();
+        }
+        return estimate;
+    }
+
+    /**
+     * Return the planner estimate of the number of entities matching a specification, or {@code -1} if there is none.
+     */
+    <E> long estimate(Class<E> entityClass, Specification<E> specification) {
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<String> query = builder.createQuery(String.class);
+        Root<E> root = query.from(entityClass);
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, builder) : null;
+        if (predicate == null) {
+            String table = ((Joinable) sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass)).getTableName();
+            return ((Number) entityManager.createNativeQuery(TABLE_ESTIMATE).setParameter(1, table).getSingleResult()).longValue();
+        }
+        // The statement is replaced by its plan, which is read in place of the selected literal
+        query.select(builder.literal("plan")).where(predicate).distinct(false);
+        String plan = entityManager
+            .unwrap(Session.class)
+            .doReturningWork(connection -> {
+                try (
+                    Session session = sessionFactory
+                        .withOptions()
+                        .connection(connection)
+                        .statementInspector(sql -> EXPLAIN + sql)
+                        .openSession()
+                ) {
+                    List<String> result = session.createQuery(query).getResultList();
+                    return result.isEmpty() ? null : result.get(0);
+                }
+            });
+        return planRows(plan);
+    }
+
+    /**
+     * Return the row estimate of the root node of a plan in the JSON format of {@code EXPLAIN}, or {@code -1}.
+     */
+    long planRows(String plan) {
+        if (plan == null) {
+            return -1;
+        }
+        try {
+            return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong(-1);
+        } catch (JsonProcessingException e) {
+            log.warn("Cannot read the plan {}: {}", plan, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.foursquare.server.service.helper;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
+import com.foursquare.server.service.dto.BulkItemResultDTO.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes lists of entities in bulk, for the bulk endpoints.
+ * <p>
+ * The items are validated first, then written in chunks of {@code application.bulk.chunk-size} items. The persistence
+ * context is flushed and cleared after each chunk, so that the statements of a chunk are sent in JDBC batches of
+ * {@code application.bulk.jdbc-batch-size} statements, and the memory used does not grow with the list. The entities
+ * updated or deleted by a chunk are loaded with one query beforehand, instead of one query each.
+ * <p>
+ * In {@link Mode#ALL_OR_NOTHING} mode, all the chunks are written in one transaction, which is rolled back if an item
+ * fails. In {@link Mode#BEST_EFFORT} mode, each chunk is written in its own transaction, and the items of a chunk which
+ * fails are written again one by one, so that only the failing items are not written.
+ * <p>
+ * The callers must not run in a transaction, or the chunks would join it.
+ */
+@Component
+public class BulkWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkWriter.class);
+
+    public enum Mode {
+        ALL_OR_NOTHING,
+        BEST_EFFORT,
+    }
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Validator validator;
+
+    private final int chunkSize;
+
+    private final int jdbcBatchSize;
+
+    private final int maxItems;
+
+    public BulkWriter(
+        ApplicationProperties applicationProperties,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        Validator validator
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.chunkSize = applicationProperties.getBulk().getChunkSize();
+        this.jdbcBatchSize = applicationProperties.getBulk().getJdbcBatchSize();
+        this.maxItems = applicationProperties.getBulk().getMaxItems();
+    }
+
+    /**
+     * Create entities in bulk.
+     *
+     * @param dtos the DTOs of the entities to create, without id.
+     * @param idGetter the id of a DTO.
+     * @param mode whether to create all the entities or none, or each one which can be.
+     * @param writer the creation of the entity of a DTO, returning its id.
+     * @return the result of each DTO, in their order.
+     * @throws TooManyItemsException if there are more than {@code application.bulk.max-items} DTOs.
+     */
+    public <D, ID> List<BulkItemResultDTO<ID>> create(List<D> dtos, Function<D, ID> idGetter, Mode mode, Function<D, ID> writer) {
+        return write(
+            dtos,
+            mode,
+            new Operation<>(
+                Status.CREATED,
+                null,
+                idGetter,
+                dto -> idGetter.apply(dto) != null ? new Failure("idexists", "A new entity cannot already have an ID") : validate(dto),
+                writer
+            )
+        );
+    }
+
+    /**
+     * Update entities in bulk.
+     *
+     * @param entityClass the class of the entities.
+     * @param dtos the DTOs of the entities to update.
+     * @param idGetter the id of a DTO.
+     * @param mode whether to update all the entities or none, or each one which can be.
+     * @param writer the update of the entity of a DTO, returning its id.
+     * @return the result of each DTO, in their order.
+     * @throws TooManyItemsException if there are more than {@code application.bulk.max-items} DTOs.
+     */
+    public <E, D, ID> List<BulkItemResultDTO<ID>> update(
+        Class<E> entityClass,
+        List<D> dtos,
+        Function<D, ID> idGetter,
+        Mode mode,
+        Function<D, ID> writer
+    ) {
+        return write(
+            dtos,
+            mode,
+            new Operation<>(
+                Status.UPDATED,
+                entityClass,
+                idGetter,
+                dto -> idGetter.apply(dto) == null ? new Failure("idnull", "Invalid id") : validate(dto),
+                writer
+            )
+        );
+    }
+
+    /**
+     * Delete entities in bulk.
+     *
+     * @param entityClass the class of the entities.
+     * @param ids the ids of the entities to delete.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @return the result of each id, in their order.
+     * @throws TooManyItemsException if there are more than {@code application.bulk.max-items} ids.
+     */
+    public <E, ID> List<BulkItemResultDTO<ID>> delete(Class<E> entityClass, List<ID> ids, Mode mode) {
+        return delete(entityClass, ids, mode, id -> {});
+    }
+
+    /**
+     * Delete entities in bulk, running a cleanup before each deletion, in the transaction of the deletion.
+     *
+     * @param entityClass the class of the entities.
+     * @param ids the ids of the entities to delete.
+     * @param mode whether to delete all the entities or none, or each one which can be.
+     * @param beforeDelete the cleanup of an entity, rolled back with its deletion.
+     * @return the result of each id, in their order.
+     * @throws TooManyItemsException if there are more than {@code application.bulk.max-items} ids.
+     */
+    public <E, ID> List<BulkItemResultDTO<ID>> delete(Class<E> entityClass, List<ID> ids, Mode mode, Consumer<ID> beforeDelete) {
+        return write(
+            ids,
+            mode,
+            new Operation<>(Status.DELETED, entityClass, Function.identity(), id -> null, id -> {
+                beforeDelete.accept(id);
+                entityManager.remove(entityManager.getReference(entityClass, id));
+                return id;
+            })
+        );
+    }
+
+    private <T, ID> List<BulkItemResultDTO<ID>> write(List<T> items, Mode mode, Operation<T, ID> operation) {
+        if (items.size() > maxItems) {
+            throw new TooManyItemsException(maxItems);
+        }
+        List<BulkItemResultDTO<ID>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<Integer> valid = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            T item = items.get(index);
+            Failure failure = item == null ? new Failure("idnull", "Missing item") : operation.check().apply(item);
+            if (failure != null) {
+                results.set(index, failure.toResult(index, item == null ? null : operation.idGetter().apply(item)));
+            } else {
+                valid.add(index);
+            }
+        }
+        if (mode == Mode.BEST_EFFORT) {
+            writeBestEffort(items, valid, operation, results);
+        } else {
+            if (valid.size() == items.size()) {
+                writeAllOrNothing(items, valid, operation, results);
+            }
+            markNotWritten(items, operation, results);
+        }
+        return results;
+    }
+
+    private <T, ID> void writeAllOrNothing(
+        List<T> items,
+        List<Integer> valid,
+        Operation<T, ID> operation,
+        List<BulkItemResultDTO<ID>> results
+    ) {
+        try {
+            transactionTemplate.executeWithoutResult(transaction -> {
+                for (List<Integer> chunk : partition(valid)) {
+                    writeChunk(items, chunk, operation, results);
+                    if (chunk.stream().anyMatch(index -> results.get(index).getStatus() == Status.FAILED)) {
+                        transaction.setRollbackOnly();
+                        return;
+                    }
+                }
+            });
+        } catch (ChunkFailedException e) {
+            log.warn("Could not write {} items in bulk: {}", items.size(), e.getCause().toString());
+            Failure failure = Failure.of(e.getCause());
+            e.getIndexes().forEach(index -> results.set(index, failure.toResult(index, operation.idGetter().apply(items.get(index)))));
+        } catch (RuntimeException e) {
+            log.warn("Could not commit {} items written in bulk: {}", items.size(), e.toString());
+            Failure failure = Failure.of(e);
+            valid.forEach(index -> results.set(index, failure.toResult(index, operation.idGetter().apply(items.get(index)))));
+        }
+    }
+
+    private <T, ID> void writeBestEffort(
+        List<T> items,
+        List<Integer> valid,
+        Operation<T, ID> operation,
+        List<BulkItemResultDTO<ID>> results
+    ) {
+        for (List<Integer> chunk : partition(valid)) {
+            try {
+                transactionTemplate.executeWithoutResult(transaction -> writeChunk(items, chunk, operation, results));
+            } catch (RuntimeException chunkFailure) {
+                log.debug("Writing the items of a failed chunk one by one: {}", chunkFailure.toString());
+                for (int index : chunk) {
+                    try {
+                        transactionTemplate.executeWithoutResult(transaction -> writeChunk(items, List.of(index), operation, results));
+                    } catch (RuntimeException e) {
+                        Throwable cause = e instanceof ChunkFailedException ? e.getCause() : e;
+                        log.warn("Could not write item {} in bulk: {}", index, cause.toString());
+                        results.set(index, Failure.of(cause).toResult(index, operation.idGetter().apply(items.get(index))));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the items of a chunk in the current transaction, then flush and clear the persistence context.
+     */
+    private <T, ID> void writeChunk(
+        List<T> items,
+        List<Integer> chunk,
+        Operation<T, ID> operation,
+        List<BulkItemResultDTO<ID>> results
+    ) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        Set<Integer> missing = operation.entityClass() != null ? load(items, chunk, operation) : Set.of();
+        for (int index : chunk) {
+            T item = items.get(index);
+            if (missing.contains(index)) {
+                results.set(index, BulkItemResultDTO.failed(index, operation.idGetter().apply(item), "idnotfound", "Entity not found"));
+                continue;
+            }
+            try {
+                results.set(index, new BulkItemResultDTO<>(index, operation.writer().apply(item), operation.status()));
+            } catch (RuntimeException e) {
+                throw new ChunkFailedException(List.of(index), e);
+            }
+        }
+        try {
+            entityManager.flush();
+        } catch (RuntimeException e) {
+            throw new ChunkFailedException(chunk, e);
+        }
+        entityManager.clear();
+    }
+
+    /**
+     * Load the entities of a chunk into the persistence context with one query, and return the items of no entity.
+     */
+    private <T, ID> Set<Integer> load(List<T> items, List<Integer> chunk, Operation<T, ID> operation) {
+        List<ID> ids = chunk.stream().map(index -> operation.idGetter().apply(items.get(index))).toList();
+        List<?> entities = entityManager
+            .unwrap(Session.class)
+            .byMultipleIds(operation.entityClass())
+            .enableOrderedReturn(true)
+            .withBatchSize(ids.size())
+            .multiLoad(ids);
+        Set<Integer> missing = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (entities.get(i) == null) {
+                missing.add(chunk.get(i));
+            }
+        }
+        return missing;
+    }
+
+    private <T, ID> void markNotWritten(List<T> items, Operation<T, ID> operation, List<BulkItemResultDTO<ID>> results) {
+        if (results.stream().noneMatch(result -> result != null && result.getStatus() == Status.FAILED)) {
+            return;
+        }
+        for (int index = 0; index < results.size(); index++) {
+            BulkItemResultDTO<ID> result = results.get(index);
+            if (result == null || result.getStatus() != Status.FAILED) {
+                T item = items.get(index);
+                ID id = result != null ? result.getId() : operation.idGetter().apply(item);
+                results.set(index, new BulkItemResultDTO<>(index, operation.status() == Status.CREATED ? null : id, Status.NOT_WRITTEN));
+            }
+        }
+    }
+
+    private List<List<Integer>> partition(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += chunkSize) {
+            chunks.add(indexes.subList(from, Math.min(from + chunkSize, indexes.size())));
+        }
+        return chunks;
+    }
+
+    private Failure validate(Object dto) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return new Failure(
+            "invalid",
+            violations
+                .stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "))
+        );
+    }
+
+    private record Operation<T, ID>(
+        Status status,
+        Class<?> entityClass,
+        Function<T, ID> idGetter,
+        Function<T, Failure> check,
+        Function<T, ID> writer
+    ) {}
+
+    private record Failure(String errorKey, String message) {
+        static Failure of(Throwable e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException constraintViolation) {
+                    return new Failure("constraintviolation", "Violates the constraint " + constraintViolation.getConstraintName());
+                }
+            }
+            return new Failure("writefailed", "Could not be written");
+        }
+
+        <ID> BulkItemResultDTO<ID> toResult(int index, ID id) {
+            return BulkItemResultDTO.failed(index, id, errorKey, message);
+        }
+    }
+
+    /**
+     * Thrown when the items of a chunk could not be written, with the indexes of the items which failed.
+     */
+    private static class ChunkFailedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Integer> indexes;
+
+        ChunkFailedException(List<Integer> indexes, Throwable cause) {
+            super(cause);
+            this.indexes = indexes;
+        }
+
+        List<Integer> getIndexes() {
+            return indexes;
+        }
+    }
+
+    /**
+     * Thrown when more items than {@code application.bulk.max-items} are written at once.
+     */
+    public static class TooManyItemsException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public TooManyItemsException(int maxItems) {
+            super("At most " + maxItems + " items can be written at once");
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.criteria.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Count-free paging of criteria queries.
+ * <p>
+ * Without a cursor, the window starts at the offset of the requested page. With a cursor, the window is read in
+ * keyset mode, newest first: it seeks past the {@code createdDate,id} of the last entity of the previous window, so
+ * that neither {@code OFFSET} nor {@code COUNT} is issued. An empty cursor starts at the newest entity.
+ */
+public final class CriteriaPagination {
+
+    public static final String CREATED_DATE = "createdDate";
+
+    public static final String ID = "id";
+
+    /**
+     * The order of keyset windows.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc(CREATED_DATE), Sort.Order.desc(ID));
+
+    private CriteriaPagination() {}
+
+    /**
+     * Read one window of the entities matching a specification.
+     *
+     * @param repository the repository of the entity.
+     * @param specification the criteria the entities should match.
+     * @param page the offset, size and sort of the window; only the size is used in keyset mode.
+     * @param after the {@code createdDate,id} cursor of the previous window, empty for the first keyset window, or
+     *              {@code null} to read the window at the offset of the page.
+     * @param idParser the parser of the entity id in the cursor.
+     * @return the window, with a position for each entity.
+     * @throws InvalidCursorException if the cursor cannot be parsed.
+     */
+    public static <E> Window<E> scroll(
+        JpaSpecificationExecutor<E> repository,
+        Specification<E> specification,
+        Pageable page,
+        String after,
+        Function<String, ?> idParser
+    ) {
+        return scroll(
+            (seek, sort, offset, limit) ->
+                repository
+                    .findBy(
+                        seek,
+                        // A non-initial offset position points at the last entity before the window
+                        query ->
+                            query
+                                .sortBy(sort)
+                                .limit(limit)
+                                .scroll(offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset - 1))
+                    )
+                    .getContent(),
+            specification,
+            page,
+            after,
+            idParser,
+            entity -> PropertyAccessorFactory.forBeanPropertyAccess(entity).getPropertyValue(CREATED_DATE),
+            entity -> PropertyAccessorFactory.forBeanPropertyAccess(entity).getPropertyValue(ID)
+        );
+    }
+
+    /**
+     * Read one window of the rows of the entities matching a specification.
+     * <p>
+     * The sort, the seek past the cursor, the look-ahead row telling whether there is a next window and the positions of
+     * the rows are the same whatever the rows are read as.
+     *
+     * @param rows the query of the rows.
+     * @param specification the criteria the entities should match.
+     * @param page the offset, size and sort of the window; only the size is used in keyset mode.
+     * @param after the {@code createdDate,id} cursor of the previous window, empty for the first keyset window, or
+     *              {@code null} to read the window at the offset of the page.
+     * @param idParser the parser of the entity id in the cursor.
+     * @param createdDate the {@code createdDate} of the entity of a row.
+     * @param id the id of the entity of a row.
+     * @return the window, with a position for each row.
+     * @throws InvalidCursorException if the cursor cannot be parsed.
+     */
+    public static <E, R> Window<R> scroll(
+        RowQuery<E, R> rows,
+        Specification<E> specification,
+        Pageable page,
+        String after,
+        Function<String, ?> idParser,
+        Function<R, Object> createdDate,
+        Function<R, Object> id
+    ) {
+        Specification<E> seek = Specification.where(specification);
+        Sort sort;
+        long offset;
+        if (after == null) {
+            sort = page.getSort().isSorted() ? page.getSort() : Sort.by(ID);
+            offset = page.getOffset();
+        } else {
+            sort = KEYSET_SORT;
+            offset = 0;
+            if (!after.isEmpty()) {
+                seek = seek.and(seek(parseCursor(after, idParser)));
+            }
+        }
+        // One more row tells whether there is a next window
+        List<R> found = rows.find(seek, sort, offset, page.getPageSize() + 1);
+        boolean hasNext = found.size() > page.getPageSize();
+        List<R> content = hasNext ? found.subList(0, page.getPageSize()) : found;
+        IntFunction<ScrollPosition> positions = after == null
+            ? index -> ScrollPosition.offset(offset + index)
+            : index ->
+                ScrollPosition.forward(Map.of(CREATED_DATE, createdDate.apply(content.get(index)), ID, id.apply(content.get(index))));
+        return Window.from(content, positions, hasNext);
+    }
+
+    /**
+     * Return the cursor of the window following the given one, or {@code null} if it is the last window or it was not
+     * read in keyset mode.
+     */
+    public static String nextCursor(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        if (window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position) {
+            return position.getKeys().get(CREATED_DATE) + "," + position.getKeys().get(ID);
+        }
+        return null;
+    }
+
+    /**
+     * Parse a {@code createdDate,id} cursor.
+     *
+     * @throws InvalidCursorException if the cursor cannot be parsed.
+     */
+    static KeysetScrollPosition parseCursor(String after, Function<String, ?> idParser) {
+        int separator = after.indexOf(',');
+        if (separator < 0) {
+            throw new InvalidCursorException(after);
+        }
+        try {
+            Instant createdDate = Instant.parse(after.substring(0, separator));
+            Object id = idParser.apply(after.substring(separator + 1));
+            return ScrollPosition.forward(Map.of(CREATED_DATE, createdDate, ID, id));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new InvalidCursorException(after);
+        }
+    }
+
+    /**
+     * The entities sorted after the given keyset position, newest first.
+     * <p>
+     * The redundant bound on {@code createdDate} lets an index on it be range scanned from the position on, which the
+     * disjunction alone does not.
+     */
+    private static <E> Specification<E> seek(KeysetScrollPosition position) {
+        Instant afterCreatedDate = (Instant) position.getKeys().get(CREATED_DATE);
+        @SuppressWarnings("unchecked")
+        Comparable<Object> afterId = (Comparable<Object>) position.getKeys().get(ID);
+        return (root, query, builder) -> {
+            Path<Instant> createdDate = root.get(CREATED_DATE);
+            Path<Comparable<Object>> id = root.get(ID);
+            return builder.and(
+                builder.lessThanOrEqualTo(createdDate, afterCreatedDate),
+                builder.or(
+                    builder.lessThan(createdDate, afterCreatedDate),
+                    builder.and(builder.equal(createdDate, afterCreatedDate), builder.lessThan(id, afterId))
+                )
+            );
+        };
+    }
+
+    /**
+     * A query of the rows of the entities matching a specification.
+     */
+    @FunctionalInterface
+    public interface RowQuery<E, R> {
+        /**
+         * Return at most {@code limit} rows of the entities matching the specification, in the given order, skipping
+         * the first {@code offset} ones.
+         */
+        List<R> find(Specification<E> specification, Sort sort, long offset, int limit);
+    }
+
+    /**
+     * Thrown when a keyset cursor is not of the form {@code createdDate,id}.
+     */
+    public static class InvalidCursorException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public InvalidCursorException(String cursor) {
+            super("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.foursquare.server.service.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.audit.EntityAuditCommitListener;
+import com.foursquare.server.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ReflectionUtils;
+import tech.jhipster.service.filter.Filter;
+
+/**
+ * Opt-in cache of the results of criteria queries, shared between nodes through the JCache.
+ * <p>
+ * A result is keyed by the criteria class, the query (a page or a count), a canonical form of the criteria, in which
+ * properties are sorted and unset filters dropped, and the generation of every entity type the result can change with:
+ * the queried entity, the associated entities the {@link DtoProjection} of a page reads more than the id of, and the
+ * elements of the to-many associations the set {@code xxxId} filters of the criteria join. A to-one {@code xxxId}
+ * filter only reads a column of the queried entity. When a change to an entity commits, the
+ * {@link EntityAuditCommitListener} hook increments the generation of its type in Redis, so that later lookups use new
+ * keys and never see a result computed before the commit. Superseded results expire with the cache.
+ * <p>
+ * The hook only sees the entities written through the persistence context. Bulk JPQL and native statements bypass it,
+ * so their callers must report the entity types they write with {@link #onBulkWrite(Class[])}.
+ * <p>
+ * Lookups are counted per criteria type in the {@value #LOOKUPS_METER_NAME} meter, tagged with {@code result=hit} or
+ * {@code result=miss}.
+ */
+@Component
+public class CriteriaResultCache implements EntityAuditCommitListener {
+
+    public static final String CRITERIA_RESULTS_CACHE = "criteriaResults";
+
+    public static final String GENERATIONS_MAP = "criteriaResultGenerations";
+
+    public static final String LOOKUPS_METER_NAME = "criteria.cache.lookups";
+
+    private static final String COUNT_QUERY = "count";
+
+    private static final Set<String> UNORDERED_FILTERS = Set.of("in", "notIn");
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaResultCache.class);
+
+    private final boolean enabled;
+
+    private final CacheManager cacheManager;
+
+    private final RMap<String, Long> generations;
+
+    private final Map<List<Object>, Dependencies> dependencies = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public CriteriaResultCache(
+        ApplicationProperties applicationProperties,
+        CacheManager cacheManager,
+        RedissonClient redissonClient,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this(
+            applicationProperties.getCriteriaCache().isEnabled(),
+            cacheManager,
+            redissonClient.getMap(GENERATIONS_MAP, new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE)),
+            objectMapper,
+            meterRegistry
+        );
+    }
+
+    CriteriaResultCache(
+        boolean enabled,
+        CacheManager cacheManager,
+        RMap<String, Long> generations,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cacheManager = cacheManager;
+        this.generations = generations;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Return the cached page of the DTOs of the entities matching a criteria, loading and caching it on a miss.
+     *
+     * @param projection the projection the DTOs are read with.
+     * @param criteria the criteria the entities match.
+     * @param page the requested page.
+     * @param loader the query of the page.
+     * @return the page.
+     */
+    public <D extends Serializable> Page<D> getPage(
+        DtoProjection<?, D> projection,
+        Object criteria,
+        Pageable page,
+        Supplier<Page<D>> loader
+    ) {
+        Dependencies pageDependencies = dependencies.computeIfAbsent(List.of(projection, criteria.getClass()), key ->
+            dependencies(projection.getEntityClass(), projection.getJoinedEntityClasses(), criteria.getClass())
+        );
+        String query = "page:" + page.getPageNumber() + ":" + page.getPageSize() + ":" + page.getSort();
+        CachedPage<D> cachedPage = get(pageDependencies, criteria, query, () -> {
+            Page<D> result = loader.get();
+            return new CachedPage<>(new ArrayList<>(result.getContent()), result.getTotalElements());
+        });
+        return new PageImpl<>(cachedPage.content(), page, cachedPage.total());
+    }
+
+    /**
+     * Return the cached number of entities matching a criteria, counting and caching it on a miss.
+     *
+     * @param entityClass the class of the queried entity.
+     * @param criteria the criteria the entities match.
+     * @param loader the count query.
+     * @return the number of matching entities.
+     */
+    public long getCount(Class<?> entityClass, Object criteria, Supplier<Long> loader) {
+        Dependencies countDependencies = dependencies.computeIfAbsent(List.of(entityClass, criteria.getClass()), key ->
+            dependencies(entityClass, Set.of(), criteria.getClass())
+        );
+        return get(countDependencies, criteria, COUNT_QUERY, loader);
+    }
+
+    /**
+     * Return the cached result of a criteria query, loading and caching it on a miss.
+     */
+    private <T extends Serializable> T get(Dependencies dependencies, Object criteria, String query, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String criteriaType = criteria.getClass().getSimpleName();
+        Cache<Object, Object> cache;
+        String key;
+        try {
+            cache = cacheManager.getCache(CRITERIA_RESULTS_CACHE);
+            // The generations are read before the query runs, so that a result is never stored under newer ones
+            key = key(dependencies, criteria, query);
+            @SuppressWarnings("unchecked")
+            T cached = (T) cache.get(key);
+            if (cached != null) {
+                meterRegistry.counter(LOOKUPS_METER_NAME, "criteria", criteriaType, "result", "hit").increment();
+                return cached;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cannot read the cached {} result of {}: {}", query, criteria, e.getMessage());
+            return loader.get();
+        }
+        meterRegistry.counter(LOOKUPS_METER_NAME, "criteria", criteriaType, "result", "miss").increment();
+        T result = loader.get();
+        try {
+            cache.put(key, result);
+        } catch (RuntimeException e) {
+            log.warn("Cannot cache the {} result of {}: {}", query, criteria, e.getMessage());
+        }
+        return result;
+    }
+
+    @Override
+    public void onEntitiesCommitted(Set<Class<?>> entityClasses) {
+        if (!enabled) {
+            return;
+        }
+        for (Class<?> entityClass : entityClasses) {
+            generations.addAndGet(entityClass.getSimpleName(), 1L);
+        }
+        log.debug("Invalidated cached criteria results of {}", entityClasses);
+    }
+
+    /**
+     * Invalidate the cached results depending on entity types written by a bulk JPQL or native statement, once the
+     * current transaction commits, or right away outside of one.
+     *
+     * @param entityClasses the classes of the written entities.
+     */
+    public void onBulkWrite(Class<?>... entityClasses) {
+        if (!enabled) {
+            return;
+        }
+        Set<Class<?>> written = Set.of(entityClasses);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        onEntitiesCommitted(written);
+                    }
+                }
+            );
+        } else {
+            onEntitiesCommitted(written);
+        }
+    }
+
+    private String key(Dependencies dependencies, Object criteria, String query) {
+        JsonNode tree = objectMapper.valueToTree(criteria);
+        SortedSet<String> types = new TreeSet<>(dependencies.entityTypes());
+        dependencies.filterEntityTypes().forEach((filter, type) -> {
+            if (canonicalize(tree.get(filter), filter) != null) {
+                types.add(type);
+            }
+        });
+        Map<String, Long> current = generations.getAll(types);
+        String generationsPart = types
+            .stream()
+            .map(type -> type + "=" + current.getOrDefault(type, 0L))
+            .collect(Collectors.joining(","));
+        String canonical = canonicalize(tree, null);
+        String digest = DigestUtils.md5DigestAsHex((query + "|" + canonical + "|" + generationsPart).getBytes(StandardCharsets.UTF_8));
+        return criteria.getClass().getSimpleName() + ":" + digest;
+    }
+
+    /**
+     * Write a criteria tree with sorted properties, without unset filters, and with sorted {@code in} values.
+     */
+    static String canonicalize(JsonNode node, String name) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.isObject()) {
+            Map<String, String> fields = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> field = it.next();
+                String value = canonicalize(field.getValue(), field.getKey());
+                if (value != null) {
+                    fields.put(field.getKey(), value);
+                }
+            }
+            if (fields.isEmpty()) {
+                return null;
+            }
+            return fields
+                .entrySet()
+                .stream()
+                .map(field -> field.getKey() + ":" + field.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+        }
+        if (node.isArray()) {
+            Collection<String> values = UNORDERED_FILTERS.contains(name) ? new TreeSet<>() : new ArrayList<>();
+            node.forEach(element -> values.add(String.valueOf(canonicalize(element, null))));
+            return "[" + String.join(",", values) + "]";
+        }
+        return node.toString();
+    }
+
+    /**
+     * Derive the entity types the results of a criteria type can change with.
+     *
+     * @param entityClass the class of the queried entity.
+     * @param joinedEntityClasses the classes of the associated entities whose columns the results read.
+     * @param criteriaClass the class of the criteria.
+     * @return the names of the entity types of every result, and those of the to-many associations per filter.
+     * @throws IllegalArgumentException if an {@code xxxId} filter of the criteria is not of an association.
+     */
+    static Dependencies dependencies(Class<?> entityClass, Set<Class<?>> joinedEntityClasses, Class<?> criteriaClass) {
+        SortedSet<String> entityTypes = new TreeSet<>();
+        entityTypes.add(entityClass.getSimpleName());
+        joinedEntityClasses.forEach(joined -> entityTypes.add(joined.getSimpleName()));
+        Map<String, String> filterEntityTypes = new TreeMap<>();
+        for (Field filter : criteriaClass.getDeclaredFields()) {
+            String name = filter.getName();
+            if (!Filter.class.isAssignableFrom(filter.getType()) || !name.endsWith("Id")) {
+                continue;
+            }
+            String association = name.substring(0, name.length() - 2);
+            Field toOne = ReflectionUtils.findField(entityClass, association);
+            if (toOne != null && (toOne.isAnnotationPresent(ManyToOne.class) || toOne.isAnnotationPresent(OneToOne.class))) {
+                continue;
+            }
+            Class<?> element = toManyElement(entityClass, association);
+            if (element == null) {
+                throw new IllegalArgumentException("No association of " + entityClass.getSimpleName() + " filtered by " + name);
+            }
+            filterEntityTypes.put(name, element.getSimpleName());
+        }
+        return new Dependencies(Collections.unmodifiableSortedSet(entityTypes), Collections.unmodifiableMap(filterEntityTypes));
+    }
+
+    /**
+     * Return the element class of the to-many association of an entity named after the plural of a filter, if any.
+     */
+    private static Class<?> toManyElement(Class<?> entityClass, String singular) {
+        Set<String> plurals = new HashSet<>(Set.of(singular + "s", singular + "es"));
+        if (singular.endsWith("y")) {
+            plurals.add(singular.substring(0, singular.length() - 1) + "ies");
+        }
+        for (Class<?> type = entityClass; type != null; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (
+                    plurals.contains(field.getName()) &&
+                    (field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class)) &&
+                    field.getGenericType() instanceof ParameterizedType collection
+                ) {
+                    return (Class<?>) collection.getActualTypeArguments()[0];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The names of the entity types the results of a criteria type depend on, and those they also depend on when a
+     * filter is set.
+     */
+    record Dependencies(Set<String> entityTypes, Map<String, String> filterEntityTypes) {}
+
+    record CachedPage<D extends Serializable>(List<D> content, long total) implements Serializable {}
+}
@@ -0,0 +1,192 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.io.IOException;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams the entities matching a specification through a server-side cursor, without materializing the result.
+ * <p>
+ * Rows are fetched from the database {@value #CHUNK_SIZE} at a time, read only, in id order. They are either read as
+ * the columns of a {@link DtoProjection}, so no entity nor association is loaded, or as entities. Entities are read
+ * with their eager to-one associations fetched in the same query, and after each chunk is mapped and handed to the
+ * consumer, the persistence context is cleared, so memory stays constant whatever the number of rows. The caller must
+ * hold a transaction for the whole stream, since the cursor only lives as long as it.
+ */
+@Component
+public class CriteriaStreamer {
+
+    /**
+     * The JDBC fetch size of the cursor, which is also the number of rows mapped between two clears of the persistence context.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public CriteriaStreamer(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Stream the DTOs of the entities matching a specification, read with a tuple query of the columns of their
+     * projection.
+     *
+     * @param projection the projection of the entity to its DTO.
+     * @param specification the criteria the entities should match.
+     * @param consumer the consumer of the DTOs.
+     * @return the number of streamed rows.
+     * @throws IOException if the consumer fails to write a row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public <E, D> long stream(DtoProjection<E, D> projection, Specification<E> specification, RowConsumer<D> consumer)
+        throws IOException {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(projection.getEntityClass());
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(projection.select(root)).orderBy(builder.asc(root.get(CriteriaPagination.ID)));
+        long count = 0;
+        try (Stream<Tuple> rows = withCursorHints(entityManager.createQuery(query)).getResultStream()) {
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(projection.toDto(iterator.next()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stream the entities matching a specification.
+     *
+     * @param domainClass the class of the entity.
+     * @param specification the criteria the entities should match.
+     * @param mapper the mapper of an entity to the row handed to the consumer.
+     * @param consumer the consumer of the rows.
+     * @return the number of streamed rows.
+     * @throws IOException if the consumer fails to write a row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public <E, D> long stream(Class<E> domainClass, Specification<E> specification, Function<E, D> mapper, RowConsumer<D> consumer)
+        throws IOException {
+        return stream(domainClass, specification, UnaryOperator.identity(), mapper, consumer);
+    }
+
+    /**
+     * Stream the entities matching a specification, loading the relationships of each chunk before mapping it.
+     *
+     * @param domainClass the class of the entity.
+     * @param specification the criteria the entities should match.
+     * @param chunkLoader the loader of the relationships of a chunk of entities, such as {@code fetchBagRelationships}.
+     * @param mapper the mapper of an entity to the row handed to the consumer.
+     * @param consumer the consumer of the rows.
+     * @return the number of streamed rows.
+     * @throws IOException if the consumer fails to write a row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public <E, D> long stream(
+        Class<E> domainClass,
+        Specification<E> specification,
+        UnaryOperator<List<E>> chunkLoader,
+        Function<E, D> mapper,
+        RowConsumer<D> consumer
+    ) throws IOException {
+        long count = 0;
+        List<E> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<E> rows = createQuery(domainClass, specification).getResultStream()) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                // Checking for a next row reads it into the persistence context, so the chunk is flushed before that
+                if (chunk.size() == CHUNK_SIZE) {
+                    count += flush(chunk, chunkLoader, mapper, consumer);
+                }
+            }
+            count += flush(chunk, chunkLoader, mapper, consumer);
+        }
+        return count;
+    }
+
+    private <E, D> int flush(List<E> chunk, UnaryOperator<List<E>> chunkLoader, Function<E, D> mapper, RowConsumer<D> consumer)
+        throws IOException {
+        int size = chunk.size();
+        if (size > 0) {
+            for (E entity : chunkLoader.apply(chunk)) {
+                consumer.accept(mapper.apply(entity));
+            }
+            chunk.clear();
+            entityManager.clear();
+        }
+        return size;
+    }
+
+    private <E> TypedQuery<E> createQuery(Class<E> domainClass, Specification<E> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = builder.createQuery(domainClass);
+        Root<E> root = query.from(domainClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        for (SingularAttribute<? super E, ?> attribute : root.getModel().getSingularAttributes()) {
+            // Loaded row by row after the query otherwise
+            if (attribute.isAssociation() && isEager(attribute)) {
+                root.fetch(attribute, JoinType.LEFT);
+            }
+        }
+        query.select(root).orderBy(builder.asc(root.get(CriteriaPagination.ID)));
+        return withCursorHints(entityManager.createQuery(query));
+    }
+
+    private static <T> TypedQuery<T> withCursorHints(TypedQuery<T> query) {
+        return query
+            .setHint(HibernateHints.HINT_FETCH_SIZE, CHUNK_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_CACHEABLE, false);
+    }
+
+    private static boolean isEager(Attribute<?, ?> attribute) {
+        if (!(attribute.getJavaMember() instanceof AnnotatedElement member)) {
+            return false;
+        }
+        ManyToOne manyToOne = member.getAnnotation(ManyToOne.class);
+        OneToOne oneToOne = member.getAnnotation(OneToOne.class);
+        return (
+            (manyToOne != null && manyToOne.fetch() == FetchType.EAGER) || (oneToOne != null && oneToOne.fetch() == FetchType.EAGER)
+        );
+    }
+
+    /**
+     * The consumer of the streamed rows, such as the writer of an export.
+     */
+    @FunctionalInterface
+    public interface RowConsumer<D> {
+        void accept(D row) throws IOException;
+    }
+}
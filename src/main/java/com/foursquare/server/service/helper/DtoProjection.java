@@ -0,0 +1,254 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.Transient;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The columns of an entity which a DTO is read from, to select them in criteria queries instead of loading the
+ * entities and mapping them, see {@link DtoProjector}.
+ * <p>
+ * Each property of the DTO is read from the entity attribute of the same name. A property holding the DTO of a to-one
+ * association is read through a left join, and only the properties of it listed as {@code association.property} are
+ * set, like the qualified mappings of the MapStruct mapper of the entity. DTOs with collection properties cannot be
+ * projected. The projection is checked against the entity and the DTO when it is created.
+ *
+ * @param <E> the type of the entity.
+ * @param <D> the type of the DTO.
+ */
+public final class DtoProjection<E, D> {
+
+    private final Class<E> entityClass;
+
+    private final Class<D> dtoClass;
+
+    private final List<Method> setters = new ArrayList<>();
+
+    private final List<String> attributes = new ArrayList<>();
+
+    private final List<Association> associations = new ArrayList<>();
+
+    private DtoProjection(Class<E> entityClass, Class<D> dtoClass, String... associationProperties) {
+        this.entityClass = entityClass;
+        this.dtoClass = dtoClass;
+        Map<String, List<String>> joined = new LinkedHashMap<>();
+        for (String path : associationProperties) {
+            int separator = path.indexOf('.');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Not an association property: " + path);
+            }
+            joined.computeIfAbsent(path.substring(0, separator), association -> new ArrayList<>()).add(path.substring(separator + 1));
+        }
+        for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(dtoClass)) {
+            if (property.getReadMethod() == null || property.getWriteMethod() == null) {
+                continue;
+            }
+            String name = property.getName();
+            Field field = attribute(entityClass, name);
+            List<String> nestedProperties = joined.remove(name);
+            if (nestedProperties != null) {
+                associations.add(
+                    new Association(name, property.getWriteMethod(), property.getPropertyType(), field.getType(), nestedProperties)
+                );
+            } else {
+                checkType(entityClass, field, property);
+                setters.add(property.getWriteMethod());
+                attributes.add(name);
+            }
+        }
+        if (!joined.isEmpty()) {
+            throw new IllegalArgumentException("Unknown associations of " + dtoClass.getSimpleName() + ": " + joined.keySet());
+        }
+    }
+
+    private DtoProjection(DtoProjection<E, D> projection, Set<String> properties) {
+        this.entityClass = projection.entityClass;
+        this.dtoClass = projection.dtoClass;
+        for (int i = 0; i < projection.attributes.size(); i++) {
+            if (properties.contains(projection.attributes.get(i))) {
+                attributes.add(projection.attributes.get(i));
+                setters.add(projection.setters.get(i));
+            }
+        }
+        for (Association association : projection.associations) {
+            if (properties.contains(association.name)) {
+                associations.add(association);
+            }
+        }
+    }
+
+    /**
+     * Create the projection of an entity to its DTO.
+     *
+     * @param entityClass the class of the entity.
+     * @param dtoClass the class of the DTO.
+     * @param associationProperties the set properties of the associated DTOs, as {@code association.property}.
+     * @return the projection.
+     * @throws IllegalArgumentException if the DTO cannot be read from the entity.
+     */
+    public static <E, D> DtoProjection<E, D> of(Class<E> entityClass, Class<D> dtoClass, String... associationProperties) {
+        return new DtoProjection<>(entityClass, dtoClass, associationProperties);
+    }
+
+    /**
+     * Return the projection of some of the properties of the DTO, the others being left unset.
+     *
+     * @param properties the properties to read, the properties which are not of the DTO being ignored.
+     * @return the restricted projection.
+     */
+    public DtoProjection<E, D> restrict(Set<String> properties) {
+        return new DtoProjection<>(this, properties);
+    }
+
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Return the classes of the associated entities the projection reads more than the id of, which is a column of
+     * the entity itself.
+     */
+    Set<Class<?>> getJoinedEntityClasses() {
+        Set<Class<?>> joined = new HashSet<>();
+        for (Association association : associations) {
+            if (!association.properties.equals(List.of("id"))) {
+                joined.add(association.entityClass);
+            }
+        }
+        return joined;
+    }
+
+    /**
+     * Return the selected columns, in the order read by {@link #toDto(Tuple)}.
+     */
+    List<Selection<?>> select(Root<E> root) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute));
+        }
+        for (Association association : associations) {
+            From<E, ?> join = root.join(association.name, JoinType.LEFT);
+            for (String property : association.properties) {
+                selections.add(join.get(property));
+            }
+        }
+        return selections;
+    }
+
+    /**
+     * Create the DTO of a row of the columns returned by {@link #select(Root)}.
+     */
+    D toDto(Tuple row) {
+        D dto = instantiate(dtoClass);
+        int column = 0;
+        for (Method setter : setters) {
+            set(setter, dto, row.get(column++));
+        }
+        for (Association association : associations) {
+            Object[] values = new Object[association.properties.size()];
+            boolean found = false;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.get(column++);
+                found |= values[i] != null;
+            }
+            // Without associated entity, the left join yields nulls and the DTO is not set, as the mapper does
+            if (found) {
+                Object associated = instantiate(association.dtoClass);
+                for (int i = 0; i < values.length; i++) {
+                    set(association.setters.get(i), associated, values[i]);
+                }
+                set(association.setter, dto, associated);
+            }
+        }
+        return dto;
+    }
+
+    private static Field attribute(Class<?> entityClass, String name) {
+        Field field = ReflectionUtils.findField(entityClass, name);
+        if (field == null || field.isAnnotationPresent(Transient.class)) {
+            throw new IllegalArgumentException("No attribute " + name + " in " + entityClass.getSimpleName());
+        }
+        return field;
+    }
+
+    private static void checkType(Class<?> entityClass, Field field, PropertyDescriptor property) {
+        if (Collection.class.isAssignableFrom(property.getPropertyType()) || property.getPropertyType().isArray()) {
+            throw new IllegalArgumentException(
+                "Cannot project the collection " + property.getName() + " of " + entityClass.getSimpleName()
+            );
+        }
+        Class<?> propertyType = ClassUtils.resolvePrimitiveIfNecessary(property.getPropertyType());
+        if (!propertyType.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(field.getType()))) {
+            throw new IllegalArgumentException(
+                "Cannot read " + property.getName() + " of type " + propertyType.getSimpleName() + " from " + entityClass.getSimpleName()
+            );
+        }
+    }
+
+    private static <T> T instantiate(Class<T> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create a " + type.getSimpleName(), e);
+        }
+    }
+
+    private static void set(Method setter, Object target, Object value) {
+        try {
+            setter.invoke(target, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot set " + setter.getName() + " of a " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static final class Association {
+
+        private final String name;
+
+        private final Method setter;
+
+        private final Class<?> dtoClass;
+
+        private final Class<?> entityClass;
+
+        private final List<String> properties;
+
+        private final List<Method> setters = new ArrayList<>();
+
+        private Association(String name, Method setter, Class<?> dtoClass, Class<?> entityClass, List<String> properties) {
+            this.name = name;
+            this.setter = setter;
+            this.dtoClass = dtoClass;
+            this.entityClass = entityClass;
+            this.properties = List.copyOf(properties);
+            Map<String, PropertyDescriptor> dtoProperties = new LinkedHashMap<>();
+            Arrays.stream(BeanUtils.getPropertyDescriptors(dtoClass)).forEach(property -> dtoProperties.put(property.getName(), property));
+            for (String property : properties) {
+                PropertyDescriptor descriptor = dtoProperties.get(property);
+                if (descriptor == null || descriptor.getWriteMethod() == null) {
+                    throw new IllegalArgumentException("No property " + property + " in " + dtoClass.getSimpleName());
+                }
+                checkType(entityClass, attribute(entityClass, property), descriptor);
+                setters.add(descriptor.getWriteMethod());
+            }
+        }
+    }
+}
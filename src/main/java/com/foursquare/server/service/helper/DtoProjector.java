@@ -0,0 +1,155 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the DTOs of the entities matching a criteria with a tuple query of the columns of their {@link DtoProjection}.
+ * <p>
+ * Unlike loading the entities and mapping them, no entity is created, nor put in the persistence context with a
+ * snapshot for dirty checking, and the eager to-one associations of the entity are not loaded: the few columns the
+ * DTO keeps of them are read through a join of the same query.
+ */
+@Component
+public class DtoProjector {
+
+    private final EntityManager entityManager;
+
+    public DtoProjector(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return the DTOs of all the entities matching a specification.
+     *
+     * @param projection the projection of the entity to its DTO.
+     * @param specification the specification the entities match.
+     * @return the DTOs.
+     */
+    public <E, D> List<D> findAll(DtoProjection<E, D> projection, Specification<E> specification) {
+        return query(projection, specification, Pageable.unpaged());
+    }
+
+    /**
+     * Return the DTOs of all the entities matching a specification, in the given order.
+     *
+     * @param projection the projection of the entity to its DTO.
+     * @param specification the specification the entities match.
+     * @param sort the order of the DTOs.
+     * @return the DTOs.
+     */
+    public <E, D> List<D> findAll(DtoProjection<E, D> projection, Specification<E> specification, Sort sort) {
+        return query(projection, specification, Pageable.unpaged(sort));
+    }
+
+    /**
+     * Return a page of the DTOs of the entities matching a specification.
+     *
+     * @param projection the projection of the entity to its DTO.
+     * @param specification the specification the entities match.
+     * @param page the requested page.
+     * @param countQuery the count of the matching entities, only run when the total cannot be told from the page.
+     * @return the page of DTOs.
+     */
+    public <E, D> Page<D> findAll(
+        DtoProjection<E, D> projection,
+        Specification<E> specification,
+        Pageable page,
+        LongSupplier countQuery
+    ) {
+        return PageableExecutionUtils.getPage(query(projection, specification, page), page, countQuery);
+    }
+
+    /**
+     * Read one window of the DTOs of the entities matching a specification, in the offset or keyset mode of
+     * {@link CriteriaPagination#scroll(JpaSpecificationExecutor, Specification, Pageable, String, Function)}.
+     *
+     * @param projection the projection of the entity to its DTO.
+     * @param specification the specification the entities match.
+     * @param page the offset, size and sort of the window; only the size is used in keyset mode.
+     * @param after the {@code createdDate,id} cursor of the previous window, empty for the first keyset window, or
+     *              {@code null} to read the window at the offset of the page.
+     * @param idParser the parser of the entity id in the cursor.
+     * @return the window, with a position for each DTO.
+     * @throws CriteriaPagination.InvalidCursorException if the cursor cannot be parsed.
+     */
+    public <E, D> Window<D> scroll(
+        DtoProjection<E, D> projection,
+        Specification<E> specification,
+        Pageable page,
+        String after,
+        Function<String, ?> idParser
+    ) {
+        // The keys of the positions are the last two columns, after the columns of the DTO
+        return CriteriaPagination.scroll(
+            (seek, sort, offset, limit) -> tuples(projection, seek, sort, offset, limit, true),
+            specification,
+            page,
+            after,
+            idParser,
+            row -> row.get(row.getElements().size() - 2),
+            row -> row.get(row.getElements().size() - 1)
+        ).map(projection::toDto);
+    }
+
+    private <E, D> List<D> query(DtoProjection<E, D> projection, Specification<E> specification, Pageable page) {
+        List<Tuple> rows = page.isPaged()
+            ? tuples(projection, specification, page.getSort(), page.getOffset(), page.getPageSize(), false)
+            : tuples(projection, specification, page.getSort(), 0, -1, false);
+        return rows.stream().map(projection::toDto).toList();
+    }
+
+    /**
+     * Select the columns of the projection, then the {@code createdDate} and id of the entity if {@code keys} is set;
+     * a negative {@code limit} reads all the rows.
+     */
+    private <E> List<Tuple> tuples(
+        DtoProjection<E, ?> projection,
+        Specification<E> specification,
+        Sort sort,
+        long offset,
+        int limit,
+        boolean keys
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(projection.getEntityClass());
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, builder) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Selection<?>> selections = new ArrayList<>(projection.select(root));
+        if (keys) {
+            selections.add(root.get(CriteriaPagination.CREATED_DATE));
+            selections.add(root.get(CriteriaPagination.ID));
+        }
+        query.multiselect(selections);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query).setFirstResult((int) offset);
+        if (limit >= 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+}
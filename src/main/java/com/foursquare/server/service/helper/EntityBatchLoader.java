@@ -0,0 +1,85 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the entities of a list of ids at once, for the batch get-by-ids endpoints.
+ * <p>
+ * The entities are looked up in the persistence context and the second-level cache first, and the others are read
+ * with a single query on their ids, through the multi-load of Hibernate. On PostgreSQL the ids are bound as one array
+ * parameter, elsewhere as an {@code IN} list padded by {@code hibernate.query.in_clause_parameter_padding}, so the
+ * statement is the same for lists of close sizes.
+ */
+@Component
+public class EntityBatchLoader {
+
+    private final EntityManager entityManager;
+
+    public EntityBatchLoader(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return the DTOs of the entities of the given ids.
+     *
+     * @param entityClass the class of the entities.
+     * @param ids the ids of the entities.
+     * @param toDto the mapping of an entity to its DTO.
+     * @return the DTOs of the entities found, by id in the order of the ids.
+     */
+    public <E, ID, D> Map<ID, D> findAllById(Class<E> entityClass, Collection<ID> ids, Function<E, D> toDto) {
+        return findAllById(entityClass, ids, UnaryOperator.identity(), toDto);
+    }
+
+    /**
+     * Return the DTOs of the entities of the given ids, after fetching the relationships their DTOs need.
+     *
+     * @param entityClass the class of the entities.
+     * @param ids the ids of the entities.
+     * @param fetchRelationships the fetch of the relationships of the entities found, such as their bag relationships.
+     * @param toDto the mapping of an entity to its DTO.
+     * @return the DTOs of the entities found, by id in the order of the ids.
+     */
+    public <E, ID, D> Map<ID, D> findAllById(
+        Class<E> entityClass,
+        Collection<ID> ids,
+        UnaryOperator<List<E>> fetchRelationships,
+        Function<E, D> toDto
+    ) {
+        List<ID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<E> entities = entityManager
+            .unwrap(Session.class)
+            .byMultipleIds(entityClass)
+            .with(CacheMode.NORMAL)
+            .enableSessionCheck(true)
+            .enableOrderedReturn(true)
+            .withBatchSize(distinctIds.size())
+            .multiLoad(distinctIds);
+        fetchRelationships.apply(entities.stream().filter(Objects::nonNull).toList());
+
+        Map<ID, D> result = new LinkedHashMap<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            E entity = entities.get(i);
+            if (entity != null) {
+                result.put(distinctIds.get(i), toDto.apply(entity));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Searches the entities of a table with a {@code search_vector} column, with the full-text search of PostgreSQL.
+ * <p>
+ * The query is parsed by {@code websearch_to_tsquery}, so it has the syntax of web search engines: words which must
+ * all be found, {@code "quoted phrases"}, {@code or} between alternatives and {@code -} before excluded words. It never
+ * fails on a malformed query. The matching rows are found through the GIN index of the column, and ranked by
+ * {@code ts_rank_cd}, then by id so that the pages are stable.
+ */
+@Component
+public class FullTextSearch {
+
+    /**
+     * The text search configuration of the search vectors, see the {@code 20261018130000} changelog.
+     */
+    public static final String CONFIGURATION = "simple";
+
+    private static final String SEARCH =
+        "select t.id from %s t, websearch_to_tsquery('" +
+        CONFIGURATION +
+        "', :query) q where t.search_vector @@ q order by ts_rank_cd(t.search_vector, q) desc, t.id";
+
+    private static final String COUNT =
+        "select count(*) from %s t where t.search_vector @@ websearch_to_tsquery('" + CONFIGURATION + "', :query)";
+
+    private final EntityManager entityManager;
+
+    public FullTextSearch(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return a page of the ids of the entities matching a query, most relevant first.
+     *
+     * @param entityClass the class of the entities, mapped to a table with a {@code search_vector} column.
+     * @param query the web search query.
+     * @param page the requested page, whose sort is ignored.
+     * @param idType the type of the ids.
+     * @return the page of ids.
+     */
+    public <ID> Page<ID> search(Class<?> entityClass, String query, Pageable page, Class<ID> idType) {
+        String table = entityClass.getAnnotation(Table.class).name();
+        Query searchQuery = entityManager.createNativeQuery(SEARCH.formatted(table), idType).setParameter("query", query);
+        if (page.isPaged()) {
+            searchQuery.setFirstResult((int) page.getOffset()).setMaxResults(page.getPageSize());
+        }
+        @SuppressWarnings("unchecked")
+        List<ID> ids = searchQuery.getResultList();
+        return PageableExecutionUtils.getPage(ids, page, () ->
+            ((Number) entityManager.createNativeQuery(COUNT.formatted(table)).setParameter("query", query).getSingleResult()).longValue()
+        );
+    }
+
+    /**
+     * Replace a page of ids by the DTOs loaded for them, in the same order. The ids of the entities deleted since the
+     * page was read have no DTO: they are dropped, and not counted in the total.
+     *
+     * @param ids the page of ids returned by {@link #search(Class, String, Pageable, Class)}.
+     * @param dtos the DTOs loaded by id.
+     * @return the page of DTOs.
+     */
+    public static <ID, D> Page<D> toPage(Page<ID> ids, Map<ID, D> dtos) {
+        List<D> content = ids.getContent().stream().map(dtos::get).filter(Objects::nonNull).toList();
+        long missing = ids.getNumberOfElements() - content.size();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements() - missing);
+    }
+}
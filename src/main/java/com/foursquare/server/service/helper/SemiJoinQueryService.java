@@ -0,0 +1,67 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.function.Function;
+import org.springframework.data.jpa.domain.Specification;
+import tech.jhipster.service.filter.Filter;
+
+/**
+ * Base service for criteria queries which filter on to-many relationships.
+ * <p>
+ * Joining a to-many relationship multiplies the rows of the entity by the number of related entities, and combining
+ * two such filters multiplies them again, so that the result has to be made distinct. A to-many filter is instead
+ * translated to a correlated {@code EXISTS} subquery, a semi-join which matches each entity at most once.
+ *
+ * @param <ENTITY> the type of the entity which is queried.
+ */
+public abstract class SemiJoinQueryService<ENTITY> extends TrigramQueryService<ENTITY> {
+
+    /**
+     * Helper function to return a specification for filtering on a to-many relationship, as a correlated
+     * {@code EXISTS} subquery.
+     * <p>
+     * An entity matches if one of its related entities matches the {@code equals}, {@code in}, {@code notEquals} and
+     * {@code notIn} conditions of the filter. {@code specified=true} matches entities with at least one related entity,
+     * and {@code specified=false} those without any.
+     *
+     * @param filter the individual attribute filter coming from the frontend.
+     * @param metaclassFunction the function, which navigates from the correlated root to the joined attribute, for
+     *                          example {@code root -> root.join(Order_.invoices).get(Invoice_.id)}.
+     * @param <X> the type of the attribute which is filtered.
+     * @return a Specification
+     */
+    protected <X> Specification<ENTITY> buildExistsSpecification(
+        Filter<X> filter,
+        Function<Root<ENTITY>, Expression<X>> metaclassFunction
+    ) {
+        if (filter.getEquals() == null && filter.getIn() == null && Boolean.FALSE.equals(filter.getSpecified())) {
+            Filter<X> any = new Filter<>();
+            return Specification.not(existsSpecification(any, metaclassFunction));
+        }
+        Filter<X> related = filter.copy();
+        // The inner join of the subquery only yields specified related entities
+        related.setSpecified(null);
+        return existsSpecification(related, metaclassFunction);
+    }
+
+    private <X> Specification<ENTITY> existsSpecification(Filter<X> related, Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+        return (root, query, builder) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<ENTITY> correlated = subquery.correlate(root);
+            // Navigate once, so that the conditions of the filter share the join of the subquery
+            Expression<X> attribute = metaclassFunction.apply(correlated);
+            Specification<ENTITY> relatedSpecification = buildSpecification(related, ignored -> attribute);
+            Predicate predicate = relatedSpecification != null ? relatedSpecification.toPredicate(correlated, query, builder) : null;
+            subquery.select(builder.literal(1));
+            if (predicate != null) {
+                subquery.where(predicate);
+            } else {
+                subquery.where(builder.isNotNull(attribute));
+            }
+            return builder.exists(subquery);
+        };
+    }
+}
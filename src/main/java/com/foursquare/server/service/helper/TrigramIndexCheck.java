@@ -0,0 +1,137 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Reports at startup the {@link StringFilter} fields of the criteria whose column has no trigram index, so that their
+ * {@code contains} filters scan the whole table, see {@link TrigramQueryService}.
+ * <p>
+ * The criteria of an entity is named after it, and its fields after the attributes of the entity. The indexes are read
+ * from {@code pg_indexes}, a column being indexed when an index definition has {@code gin_trgm_ops} on it.
+ */
+@Component
+public class TrigramIndexCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(TrigramIndexCheck.class);
+
+    private static final String CRITERIA_PACKAGE = "com.foursquare.server.service.criteria";
+
+    private static final String DOMAIN_PACKAGE = "com.foursquare.server.domain";
+
+    private static final String CRITERIA_SUFFIX = "Criteria";
+
+    private static final String TRIGRAM_INDEXES =
+        "SELECT tablename, indexdef FROM pg_indexes WHERE schemaname = current_schema() AND indexdef LIKE '%gin_trgm_ops%'";
+
+    private static final Pattern INDEXED_COLUMN = Pattern.compile("\"?(\\w+)\"? gin_trgm_ops");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public TrigramIndexCheck(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndexes() {
+        try {
+            Set<String> indexedColumns = new HashSet<>();
+            jdbcTemplate.query(TRIGRAM_INDEXES, row -> {
+                indexedColumns.addAll(indexedColumns(row.getString("tablename"), row.getString("indexdef")));
+            });
+            List<String> unindexed = new ArrayList<>();
+            for (Class<?> criteriaClass : criteriaClasses()) {
+                unindexed.addAll(unindexedFields(criteriaClass, indexedColumns));
+            }
+            if (unindexed.isEmpty()) {
+                log.debug("All the string filters have a trigram index");
+            } else {
+                log.warn("The contains filters of {} string fields have no trigram index: {}", unindexed.size(), unindexed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not check the trigram indexes of the string filters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Return the {@link StringFilter} fields of a criteria whose column is not indexed, as {@code Entity.field}.
+     */
+    List<String> unindexedFields(Class<?> criteriaClass, Set<String> indexedColumns) {
+        String criteriaName = criteriaClass.getSimpleName();
+        String entityName = criteriaName.substring(0, criteriaName.length() - CRITERIA_SUFFIX.length());
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(DOMAIN_PACKAGE + "." + entityName);
+        if (persister == null) {
+            return List.of();
+        }
+        List<String> unindexed = new ArrayList<>();
+        for (Field field : criteriaClass.getDeclaredFields()) {
+            if (field.getType() != StringFilter.class) {
+                continue;
+            }
+            AttributeMapping attribute = persister.findAttributeMapping(field.getName());
+            if (
+                attribute instanceof SelectableMapping column &&
+                !indexedColumns.contains(column(column.getContainingTableExpression(), column.getSelectionExpression()))
+            ) {
+                unindexed.add(entityName + "." + field.getName());
+            }
+        }
+        return unindexed;
+    }
+
+    /**
+     * Return the columns of a table with {@code gin_trgm_ops} in an index definition, as {@code table.column}.
+     */
+    static Set<String> indexedColumns(String table, String indexDefinition) {
+        Set<String> columns = new HashSet<>();
+        Matcher matcher = INDEXED_COLUMN.matcher(indexDefinition);
+        while (matcher.find()) {
+            columns.add(column(table, matcher.group(1)));
+        }
+        return columns;
+    }
+
+    private static String column(String table, String column) {
+        return (table + "." + column).toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Class<?>> criteriaClasses() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(Criteria.class));
+        return scanner
+            .findCandidateComponents(CRITERIA_PACKAGE)
+            .stream()
+            .map(BeanDefinition::getBeanClassName)
+            .<Class<?>>map(className -> ClassUtils.resolveClassName(className, TrigramIndexCheck.class.getClassLoader()))
+            .sorted(Comparator.comparing(Class::getSimpleName))
+            .toList();
+    }
+}
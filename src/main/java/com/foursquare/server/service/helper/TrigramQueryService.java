@@ -0,0 +1,58 @@
+package com.foursquare.server.service.helper;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import java.util.function.Function;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Base service for criteria queries, whose {@code contains} and {@code doesNotContain} string filters can use the
+ * trigram indexes of PostgreSQL.
+ * <p>
+ * {@link QueryService} translates them to {@code upper(column) like '%VALUE%'}, which no index of the column can answer.
+ * They are instead translated to {@code column ilike '%value%'}, answered by a GIN index with {@code gin_trgm_ops} on
+ * the column, see the {@code 20261018140000} changelog. The wildcards of the value are escaped, so that it is matched
+ * literally.
+ *
+ * @param <ENTITY> the type of the entity which is queried.
+ */
+public abstract class TrigramQueryService<ENTITY> extends QueryService<ENTITY> {
+
+    static final char ESCAPE = '\\';
+
+    @Override
+    protected Specification<ENTITY> likeUpperSpecification(Function<Root<ENTITY>, Expression<String>> metaclassFunction, String value) {
+        return (root, query, builder) ->
+            ((HibernateCriteriaBuilder) builder).ilike(metaclassFunction.apply(root), wrapLikeQuery(value), ESCAPE);
+    }
+
+    @Override
+    protected Specification<ENTITY> doesNotContainSpecification(
+        Function<Root<ENTITY>, Expression<String>> metaclassFunction,
+        String value
+    ) {
+        return (root, query, builder) ->
+            ((HibernateCriteriaBuilder) builder).notIlike(metaclassFunction.apply(root), wrapLikeQuery(value), ESCAPE);
+    }
+
+    /**
+     * Wrap a value of a {@code contains} filter in wildcards, after escaping its own wildcards. The case is kept, as
+     * {@code ilike} ignores it.
+     *
+     * @param txt the value of the filter.
+     * @return the pattern.
+     */
+    @Override
+    protected String wrapLikeQuery(String txt) {
+        StringBuilder pattern = new StringBuilder(txt.length() + 2).append('%');
+        for (char c : txt.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -3,13 +3,19 @@ package com.foursquare.server.service.impl;
 import com.foursquare.server.domain.ProductImage;
 import com.foursquare.server.repository.ProductImageRepository;
 import com.foursquare.server.service.ProductImageService;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductImageDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.ProductImageMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -25,9 +31,20 @@ public class ProductImageServiceImpl implements ProductImageService {
 
     private final ProductImageMapper productImageMapper;
 
-    public ProductImageServiceImpl(ProductImageRepository productImageRepository, ProductImageMapper productImageMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public ProductImageServiceImpl(
+        ProductImageRepository productImageRepository,
+        ProductImageMapper productImageMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.productImageRepository = productImageRepository;
         this.productImageMapper = productImageMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     @Override
@@ -47,6 +64,34 @@ public class ProductImageServiceImpl implements ProductImageService {
         return productImageMapper.toDto(productImage);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<ProductImageDTO> productImageDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} ProductImages", productImageDTOs.size());
+        return bulkWriter.create(productImageDTOs, ProductImageDTO::getId, mode, productImageDTO -> {
+            ProductImage productImage = productImageMapper.toEntity(productImageDTO);
+            return productImageRepository.save(productImage).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<ProductImageDTO> productImageDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} ProductImages", productImageDTOs.size());
+        return bulkWriter.update(ProductImage.class, productImageDTOs, ProductImageDTO::getId, mode, productImageDTO -> {
+            ProductImage productImage = productImageMapper.toEntity(productImageDTO);
+            productImage.setIsPersisted();
+            return productImageRepository.save(productImage).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} ProductImages", ids.size());
+        return bulkWriter.delete(ProductImage.class, ids, mode);
+    }
+
     @Override
     public Optional<ProductImageDTO> partialUpdate(ProductImageDTO productImageDTO) {
         log.debug("Request to partially update ProductImage : {}", productImageDTO);
@@ -69,6 +114,13 @@ public class ProductImageServiceImpl implements ProductImageService {
         return productImageRepository.findById(id).map(productImageMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, ProductImageDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get ProductImages : {}", ids);
+        return entityBatchLoader.findAllById(ProductImage.class, ids, productImageMapper::toDto);
+    }
+
     @Override
     public void delete(UUID id) {
         log.debug("Request to delete ProductImage : {}", id);
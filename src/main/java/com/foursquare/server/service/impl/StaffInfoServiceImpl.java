@@ -3,14 +3,20 @@ package com.foursquare.server.service.impl;
 import com.foursquare.server.domain.StaffInfo;
 import com.foursquare.server.repository.StaffInfoRepository;
 import com.foursquare.server.service.StaffInfoService;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.StaffInfoDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.StaffInfoMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class StaffInfoServiceImpl implements StaffInfoService {
 
     private final StaffInfoMapper staffInfoMapper;
 
-    public StaffInfoServiceImpl(StaffInfoRepository staffInfoRepository, StaffInfoMapper staffInfoMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public StaffInfoServiceImpl(
+        StaffInfoRepository staffInfoRepository,
+        StaffInfoMapper staffInfoMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.staffInfoRepository = staffInfoRepository;
         this.staffInfoMapper = staffInfoMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     @Override
@@ -48,6 +65,34 @@ public class StaffInfoServiceImpl implements StaffInfoService {
         return staffInfoMapper.toDto(staffInfo);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> saveAll(List<StaffInfoDTO> staffInfoDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} StaffInfos", staffInfoDTOs.size());
+        return bulkWriter.create(staffInfoDTOs, StaffInfoDTO::getId, mode, staffInfoDTO -> {
+            StaffInfo staffInfo = staffInfoMapper.toEntity(staffInfoDTO);
+            return staffInfoRepository.save(staffInfo).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> updateAll(List<StaffInfoDTO> staffInfoDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} StaffInfos", staffInfoDTOs.size());
+        return bulkWriter.update(StaffInfo.class, staffInfoDTOs, StaffInfoDTO::getId, mode, staffInfoDTO -> {
+            StaffInfo staffInfo = staffInfoMapper.toEntity(staffInfoDTO);
+            staffInfo.setIsPersisted();
+            return staffInfoRepository.save(staffInfo).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> deleteAll(List<Long> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} StaffInfos", ids.size());
+        return bulkWriter.delete(StaffInfo.class, ids, mode);
+    }
+
     @Override
     public Optional<StaffInfoDTO> partialUpdate(StaffInfoDTO staffInfoDTO) {
         log.debug("Request to partially update StaffInfo : {}", staffInfoDTO);
@@ -74,6 +119,13 @@ public class StaffInfoServiceImpl implements StaffInfoService {
         return staffInfoRepository.findOneWithEagerRelationships(id).map(staffInfoMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, StaffInfoDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get StaffInfos : {}", ids);
+        return entityBatchLoader.findAllById(StaffInfo.class, ids, staffInfoMapper::toDto);
+    }
+
     @Override
     public void delete(Long id) {
         log.debug("Request to delete StaffInfo : {}", id);
@@ -3,8 +3,13 @@ package com.foursquare.server.service.impl;
 import com.foursquare.server.domain.UserAddress;
 import com.foursquare.server.repository.UserAddressRepository;
 import com.foursquare.server.service.UserAddressService;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.UserAddressDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.UserAddressMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -12,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -27,9 +33,20 @@ public class UserAddressServiceImpl implements UserAddressService {
 
     private final UserAddressMapper userAddressMapper;
 
-    public UserAddressServiceImpl(UserAddressRepository userAddressRepository, UserAddressMapper userAddressMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public UserAddressServiceImpl(
+        UserAddressRepository userAddressRepository,
+        UserAddressMapper userAddressMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.userAddressRepository = userAddressRepository;
         this.userAddressMapper = userAddressMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     @Override
@@ -49,6 +66,34 @@ public class UserAddressServiceImpl implements UserAddressService {
         return userAddressMapper.toDto(userAddress);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> saveAll(List<UserAddressDTO> userAddressDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} UserAddresses", userAddressDTOs.size());
+        return bulkWriter.create(userAddressDTOs, UserAddressDTO::getId, mode, userAddressDTO -> {
+            UserAddress userAddress = userAddressMapper.toEntity(userAddressDTO);
+            return userAddressRepository.save(userAddress).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> updateAll(List<UserAddressDTO> userAddressDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} UserAddresses", userAddressDTOs.size());
+        return bulkWriter.update(UserAddress.class, userAddressDTOs, UserAddressDTO::getId, mode, userAddressDTO -> {
+            UserAddress userAddress = userAddressMapper.toEntity(userAddressDTO);
+            userAddress.setIsPersisted();
+            return userAddressRepository.save(userAddress).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<UUID>> deleteAll(List<UUID> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} UserAddresses", ids.size());
+        return bulkWriter.delete(UserAddress.class, ids, mode);
+    }
+
     @Override
     public Optional<UserAddressDTO> partialUpdate(UserAddressDTO userAddressDTO) {
         log.debug("Request to partially update UserAddress : {}", userAddressDTO);
@@ -75,6 +120,13 @@ public class UserAddressServiceImpl implements UserAddressService {
         return userAddressRepository.findOneWithEagerRelationships(id).map(userAddressMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, UserAddressDTO> findAllById(List<UUID> ids) {
+        log.debug("Request to get UserAddresses : {}", ids);
+        return entityBatchLoader.findAllById(UserAddress.class, ids, userAddressMapper::toDto);
+    }
+
     @Override
     public void delete(UUID id) {
         log.debug("Request to delete UserAddress : {}", id);
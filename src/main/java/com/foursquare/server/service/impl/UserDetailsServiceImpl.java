@@ -3,14 +3,20 @@ package com.foursquare.server.service.impl;
 import com.foursquare.server.domain.UserDetails;
 import com.foursquare.server.repository.UserDetailsRepository;
 import com.foursquare.server.service.UserDetailsService;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.UserDetailsDTO;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.service.helper.EntityBatchLoader;
 import com.foursquare.server.service.mapper.UserDetailsMapper;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -26,9 +32,20 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserDetailsMapper userDetailsMapper;
 
-    public UserDetailsServiceImpl(UserDetailsRepository userDetailsRepository, UserDetailsMapper userDetailsMapper) {
+    private final EntityBatchLoader entityBatchLoader;
+
+    private final BulkWriter bulkWriter;
+
+    public UserDetailsServiceImpl(
+        UserDetailsRepository userDetailsRepository,
+        UserDetailsMapper userDetailsMapper,
+        EntityBatchLoader entityBatchLoader,
+        BulkWriter bulkWriter
+    ) {
         this.userDetailsRepository = userDetailsRepository;
         this.userDetailsMapper = userDetailsMapper;
+        this.entityBatchLoader = entityBatchLoader;
+        this.bulkWriter = bulkWriter;
     }
 
     @Override
@@ -48,6 +65,34 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return userDetailsMapper.toDto(userDetails);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> saveAll(List<UserDetailsDTO> userDetailsDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to save {} UserDetails", userDetailsDTOs.size());
+        return bulkWriter.create(userDetailsDTOs, UserDetailsDTO::getId, mode, userDetailsDTO -> {
+            UserDetails userDetails = userDetailsMapper.toEntity(userDetailsDTO);
+            return userDetailsRepository.save(userDetails).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> updateAll(List<UserDetailsDTO> userDetailsDTOs, BulkWriter.Mode mode) {
+        log.debug("Request to update {} UserDetails", userDetailsDTOs.size());
+        return bulkWriter.update(UserDetails.class, userDetailsDTOs, UserDetailsDTO::getId, mode, userDetailsDTO -> {
+            UserDetails userDetails = userDetailsMapper.toEntity(userDetailsDTO);
+            userDetails.setIsPersisted();
+            return userDetailsRepository.save(userDetails).getId();
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkItemResultDTO<Long>> deleteAll(List<Long> ids, BulkWriter.Mode mode) {
+        log.debug("Request to delete {} UserDetails", ids.size());
+        return bulkWriter.delete(UserDetails.class, ids, mode);
+    }
+
     @Override
     public Optional<UserDetailsDTO> partialUpdate(UserDetailsDTO userDetailsDTO) {
         log.debug("Request to partially update UserDetails : {}", userDetailsDTO);
@@ -74,6 +119,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return userDetailsRepository.findOneWithEagerRelationships(id).map(userDetailsMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UserDetailsDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get UserDetails : {}", ids);
+        return entityBatchLoader.findAllById(UserDetails.class, ids, userDetailsMapper::toDto);
+    }
+
     @Override
     public void delete(Long id) {
         log.debug("Request to delete UserDetails : {}", id);
@@ -5,9 +5,7 @@ import com.foursquare.server.domain.Participant;
 import com.foursquare.server.service.dto.MessageDTO;
 import com.foursquare.server.service.dto.ParticipantDTO;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import org.mapstruct.*;
 
 /**
@@ -16,22 +14,21 @@ import org.mapstruct.*;
 @Mapper(componentModel = "spring")
 public interface MessageMapper extends EntityMapper<MessageDTO, Message> {
     @Mapping(target = "participant", source = "participant", qualifiedByName = "participantId")
-    @Mapping(target = "seenParticipants", source = "seenParticipants", qualifiedByName = "participantIdSet")
     MessageDTO toDto(Message s);
 
-    @Mapping(target = "removeSeenParticipant", ignore = true)
+    @Mapping(target = "sequence", ignore = true)
     Message toEntity(MessageDTO messageDTO);
 
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "sequence", ignore = true)
+    void partialUpdate(@MappingTarget Message entity, MessageDTO dto);
+
     @Named("participantId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
     ParticipantDTO toDtoParticipantId(Participant participant);
 
-    @Named("participantIdSet")
-    default Set<ParticipantDTO> toDtoParticipantIdSet(Set<Participant> participant) {
-        return participant.stream().map(this::toDtoParticipantId).collect(Collectors.toSet());
-    }
-
     default String map(UUID value) {
         return Objects.toString(value, null);
     }
@@ -1,9 +1,19 @@
 package com.foursquare.server.service.mapper;
 
+import com.foursquare.server.domain.Colour;
+import com.foursquare.server.domain.Comment;
 import com.foursquare.server.domain.Product;
+import com.foursquare.server.domain.ProductCategory;
+import com.foursquare.server.domain.ProductImage;
 import com.foursquare.server.domain.Tag;
+import com.foursquare.server.domain.User;
+import com.foursquare.server.service.dto.ColourDTO;
+import com.foursquare.server.service.dto.CommentDTO;
+import com.foursquare.server.service.dto.ProductCategoryDTO;
 import com.foursquare.server.service.dto.ProductDTO;
+import com.foursquare.server.service.dto.ProductImageDTO;
 import com.foursquare.server.service.dto.TagDTO;
+import com.foursquare.server.service.dto.UserDTO;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.mapstruct.*;
@@ -14,11 +24,24 @@ import org.mapstruct.*;
 @Mapper(componentModel = "spring")
 public interface ProductMapper extends EntityMapper<ProductDTO, Product> {
     @Mapping(target = "tags", source = "tags", qualifiedByName = "tagNameSet")
+    @Mapping(target = "productImages", source = "productImages", qualifiedByName = "productImageUriSet")
+    @Mapping(target = "productCategories", source = "productCategories", qualifiedByName = "productCategoryNameSet")
+    @Mapping(target = "comments", source = "comments", qualifiedByName = "commentContentSet")
     ProductDTO toDto(Product s);
 
     @Mapping(target = "removeTag", ignore = true)
+    @Mapping(target = "productImages", ignore = true)
+    @Mapping(target = "productCategories", ignore = true)
+    @Mapping(target = "comments", ignore = true)
     Product toEntity(ProductDTO productDTO);
 
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "productImages", ignore = true)
+    @Mapping(target = "productCategories", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    void partialUpdate(@MappingTarget Product entity, ProductDTO dto);
+
     @Named("tagName")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
@@ -29,4 +52,55 @@ public interface ProductMapper extends EntityMapper<ProductDTO, Product> {
     default Set<TagDTO> toDtoTagNameSet(Set<Tag> tag) {
         return tag.stream().map(this::toDtoTagName).collect(Collectors.toSet());
     }
+
+    @Named("productImageUri")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "imageUri", source = "imageUri")
+    @Mapping(target = "altText", source = "altText")
+    ProductImageDTO toDtoProductImageUri(ProductImage productImage);
+
+    @Named("productImageUriSet")
+    default Set<ProductImageDTO> toDtoProductImageUriSet(Set<ProductImage> productImage) {
+        return productImage.stream().map(this::toDtoProductImageUri).collect(Collectors.toSet());
+    }
+
+    @Named("productCategoryName")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "colour", source = "colour", qualifiedByName = "colourName")
+    ProductCategoryDTO toDtoProductCategoryName(ProductCategory productCategory);
+
+    @Named("productCategoryNameSet")
+    default Set<ProductCategoryDTO> toDtoProductCategoryNameSet(Set<ProductCategory> productCategory) {
+        return productCategory.stream().map(this::toDtoProductCategoryName).collect(Collectors.toSet());
+    }
+
+    @Named("colourName")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "hexCode", source = "hexCode")
+    ColourDTO toDtoColourName(Colour colour);
+
+    @Named("commentContent")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "rating", source = "rating")
+    @Mapping(target = "content", source = "content")
+    @Mapping(target = "createdDate", source = "createdDate")
+    @Mapping(target = "user", source = "user", qualifiedByName = "userLogin")
+    CommentDTO toDtoCommentContent(Comment comment);
+
+    @Named("commentContentSet")
+    default Set<CommentDTO> toDtoCommentContentSet(Set<Comment> comment) {
+        return comment.stream().map(this::toDtoCommentContent).collect(Collectors.toSet());
+    }
+
+    @Named("userLogin")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "login", source = "login")
+    UserDTO toDtoUserLogin(User user);
 }
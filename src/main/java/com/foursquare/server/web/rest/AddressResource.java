@@ -5,18 +5,31 @@ import com.foursquare.server.service.AddressQueryService;
 import com.foursquare.server.service.AddressService;
 import com.foursquare.server.service.criteria.AddressCriteria;
 import com.foursquare.server.service.dto.AddressDTO;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,10 +55,18 @@ public class AddressResource {
 
     private final AddressQueryService addressQueryService;
 
-    public AddressResource(AddressService addressService, AddressRepository addressRepository, AddressQueryService addressQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    public AddressResource(
+        AddressService addressService,
+        AddressRepository addressRepository,
+        AddressQueryService addressQueryService,
+        CriteriaExportWriter criteriaExportWriter
+    ) {
         this.addressService = addressService;
         this.addressRepository = addressRepository;
         this.addressQueryService = addressQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -140,38 +161,181 @@ public class AddressResource {
      * {@code GET  /addresses} : get all the addresses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching addresses, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching addresses, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the AddressDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the AddressDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of addresses in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<AddressDTO>> getAllAddresses(AddressCriteria criteria) {
+    public ResponseEntity<List<AddressDTO>> getAllAddresses(
+        AddressCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Addresses by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, AddressDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, AddressDTO.class, ENTITY_NAME),
+            AddressDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> addressQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> addressQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> addressQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<AddressDTO> entityList = addressQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /addresses/export} : export all the addresses, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportAddresses(
+        AddressCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Addresses by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            AddressDTO.class,
+            consumer -> addressQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /addresses/count} : count all the addresses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countAddresses(AddressCriteria criteria) {
+    public ResponseEntity<Long> countAddresses(
+        AddressCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Addresses by criteria: {}", criteria);
-        return ResponseEntity.ok().body(addressQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(addressQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /addresses/bulk} : Create addresses in bulk.
+     *
+     * @param addressDTOs the addressDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the addresses or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createAddressesInBulk(
+        @RequestBody List<AddressDTO> addressDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Addresses", addressDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> addressService.saveAll(addressDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /addresses/bulk} : Update addresses in bulk.
+     *
+     * @param addressDTOs the addressDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the addresses or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateAddressesInBulk(
+        @RequestBody List<AddressDTO> addressDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Addresses", addressDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> addressService.updateAll(addressDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /addresses/bulk/delete} : Delete addresses in bulk.
+     *
+     * @param ids the ids of the addresses to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the addresses or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteAddressesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Addresses", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> addressService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /addresses/batch} : get the addresses of the given ids.
+     *
+     * @param ids the ids of the addresses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the addresses found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<AddressDTO, UUID>> getAddressesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Addresses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, addressService::findAllById);
+    }
+
+    /**
+     * {@code POST  /addresses/batch} : get the addresses of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the addresses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the addresses found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<AddressDTO, UUID>> getAddressesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Addresses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, addressService::findAllById);
     }
 
     /**
      * {@code GET  /addresses/:id} : get the "id" address.
      *
      * @param id the id of the addressDTO to retrieve.
+     * @param fields the comma-separated properties of the addressDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the addressDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the addressDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<AddressDTO> getAddress(@PathVariable("id") UUID id) {
+    public ResponseEntity<AddressDTO> getAddress(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Address : {}", id);
-        Optional<AddressDTO> addressDTO = addressService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, AddressDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, AddressDTO.class, ENTITY_NAME);
+        Optional<AddressDTO> addressDTO = fieldSet == null && includeSet == null
+            ? addressService.findOne(id)
+            : addressQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, AddressDTO.class));
         return ResponseUtil.wrapOrNotFound(addressDTO);
     }
 
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ColourRepository;
 import com.foursquare.server.service.ColourQueryService;
 import com.foursquare.server.service.ColourService;
 import com.foursquare.server.service.criteria.ColourCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ColourDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,10 +55,18 @@ public class ColourResource {
 
     private final ColourQueryService colourQueryService;
 
-    public ColourResource(ColourService colourService, ColourRepository colourRepository, ColourQueryService colourQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    public ColourResource(
+        ColourService colourService,
+        ColourRepository colourRepository,
+        ColourQueryService colourQueryService,
+        CriteriaExportWriter criteriaExportWriter
+    ) {
         this.colourService = colourService;
         this.colourRepository = colourRepository;
         this.colourQueryService = colourQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -140,38 +161,181 @@ public class ColourResource {
      * {@code GET  /colours} : get all the colours.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching colours, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching colours, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ColourDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ColourDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of colours in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ColourDTO>> getAllColours(ColourCriteria criteria) {
+    public ResponseEntity<List<ColourDTO>> getAllColours(
+        ColourCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Colours by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ColourDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ColourDTO.class, ENTITY_NAME),
+            ColourDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> colourQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> colourQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> colourQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ColourDTO> entityList = colourQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /colours/export} : export all the colours, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportColours(
+        ColourCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Colours by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ColourDTO.class,
+            consumer -> colourQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /colours/count} : count all the colours.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countColours(ColourCriteria criteria) {
+    public ResponseEntity<Long> countColours(
+        ColourCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Colours by criteria: {}", criteria);
-        return ResponseEntity.ok().body(colourQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(colourQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /colours/bulk} : Create colours in bulk.
+     *
+     * @param colourDTOs the colourDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the colours or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createColoursInBulk(
+        @RequestBody List<ColourDTO> colourDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Colours", colourDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> colourService.saveAll(colourDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /colours/bulk} : Update colours in bulk.
+     *
+     * @param colourDTOs the colourDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the colours or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateColoursInBulk(
+        @RequestBody List<ColourDTO> colourDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Colours", colourDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> colourService.updateAll(colourDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /colours/bulk/delete} : Delete colours in bulk.
+     *
+     * @param ids the ids of the colours to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the colours or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteColoursInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Colours", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> colourService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /colours/batch} : get the colours of the given ids.
+     *
+     * @param ids the ids of the colours to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the colours found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ColourDTO, UUID>> getColoursByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Colours : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, colourService::findAllById);
+    }
+
+    /**
+     * {@code POST  /colours/batch} : get the colours of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the colours to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the colours found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ColourDTO, UUID>> getColoursByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Colours : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, colourService::findAllById);
     }
 
     /**
      * {@code GET  /colours/:id} : get the "id" colour.
      *
      * @param id the id of the colourDTO to retrieve.
+     * @param fields the comma-separated properties of the colourDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the colourDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the colourDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ColourDTO> getColour(@PathVariable("id") UUID id) {
+    public ResponseEntity<ColourDTO> getColour(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Colour : {}", id);
-        Optional<ColourDTO> colourDTO = colourService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ColourDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ColourDTO.class, ENTITY_NAME);
+        Optional<ColourDTO> colourDTO = fieldSet == null && includeSet == null
+            ? colourService.findOne(id)
+            : colourQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ColourDTO.class));
         return ResponseUtil.wrapOrNotFound(colourDTO);
     }
 
@@ -4,22 +4,39 @@ import com.foursquare.server.repository.CommentRepository;
 import com.foursquare.server.service.CommentQueryService;
 import com.foursquare.server.service.CommentService;
 import com.foursquare.server.service.criteria.CommentCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.CommentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,10 +59,18 @@ public class CommentResource {
 
     private final CommentQueryService commentQueryService;
 
-    public CommentResource(CommentService commentService, CommentRepository commentRepository, CommentQueryService commentQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    public CommentResource(
+        CommentService commentService,
+        CommentRepository commentRepository,
+        CommentQueryService commentQueryService,
+        CriteriaExportWriter criteriaExportWriter
+    ) {
         this.commentService = commentService;
         this.commentRepository = commentRepository;
         this.commentQueryService = commentQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -140,38 +165,202 @@ public class CommentResource {
      * {@code GET  /comments} : get all the comments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching comments, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching comments, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the CommentDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the CommentDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of comments in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<CommentDTO>> getAllComments(CommentCriteria criteria) {
+    public ResponseEntity<List<CommentDTO>> getAllComments(
+        CommentCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Comments by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, CommentDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, CommentDTO.class, ENTITY_NAME),
+            CommentDTO.class
+        );
 
-        List<CommentDTO> entityList = commentQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> commentQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> commentQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> commentQueryService.countByCriteria(criteria, true)
+        );
+    }
+
+    /**
+     * {@code GET  /comments/export} : export all the comments, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportComments(
+        CommentCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Comments by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            CommentDTO.class,
+            consumer -> commentQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /comments/count} : count all the comments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countComments(CommentCriteria criteria) {
+    public ResponseEntity<Long> countComments(
+        CommentCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Comments by criteria: {}", criteria);
-        return ResponseEntity.ok().body(commentQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(commentQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code GET  /comments/search?query=:query} : search the comments matching a web search query, most relevant first.
+     *
+     * @param query the query: words, {@code "quoted phrases"}, {@code or} between alternatives and {@code -} before excluded words.
+     * @param pageable the pagination information, whose sort is ignored.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of comments in body.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<CommentDTO>> searchComments(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search Comments : {}", query);
+        if (query.isBlank()) {
+            throw new BadRequestAlertException("A search query is required", ENTITY_NAME, "querynull");
+        }
+        Page<CommentDTO> page = commentService.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code POST  /comments/bulk} : Create comments in bulk.
+     *
+     * @param commentDTOs the commentDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the comments or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createCommentsInBulk(
+        @RequestBody List<CommentDTO> commentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Comments", commentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> commentService.saveAll(commentDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /comments/bulk} : Update comments in bulk.
+     *
+     * @param commentDTOs the commentDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the comments or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateCommentsInBulk(
+        @RequestBody List<CommentDTO> commentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Comments", commentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> commentService.updateAll(commentDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /comments/bulk/delete} : Delete comments in bulk.
+     *
+     * @param ids the ids of the comments to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the comments or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteCommentsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Comments", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> commentService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /comments/batch} : get the comments of the given ids.
+     *
+     * @param ids the ids of the comments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the comments found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<CommentDTO, UUID>> getCommentsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Comments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, commentService::findAllById);
+    }
+
+    /**
+     * {@code POST  /comments/batch} : get the comments of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the comments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the comments found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<CommentDTO, UUID>> getCommentsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Comments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, commentService::findAllById);
     }
 
     /**
      * {@code GET  /comments/:id} : get the "id" comment.
      *
      * @param id the id of the commentDTO to retrieve.
+     * @param fields the comma-separated properties of the commentDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the commentDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the commentDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CommentDTO> getComment(@PathVariable("id") UUID id) {
+    public ResponseEntity<CommentDTO> getComment(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Comment : {}", id);
-        Optional<CommentDTO> commentDTO = commentService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, CommentDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, CommentDTO.class, ENTITY_NAME);
+        Optional<CommentDTO> commentDTO = fieldSet == null && includeSet == null
+            ? commentService.findOne(id)
+            : commentQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, CommentDTO.class));
         return ResponseUtil.wrapOrNotFound(commentDTO);
     }
 
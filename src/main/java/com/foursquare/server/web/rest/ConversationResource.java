@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ConversationRepository;
 import com.foursquare.server.service.ConversationQueryService;
 import com.foursquare.server.service.ConversationService;
 import com.foursquare.server.service.criteria.ConversationCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ConversationDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ConversationResource {
 
     private final ConversationQueryService conversationQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ConversationResource(
         ConversationService conversationService,
         ConversationRepository conversationRepository,
-        ConversationQueryService conversationQueryService
+        ConversationQueryService conversationQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.conversationService = conversationService;
         this.conversationRepository = conversationRepository;
         this.conversationQueryService = conversationQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class ConversationResource {
      * {@code GET  /conversations} : get all the conversations.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching conversations, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching conversations, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ConversationDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ConversationDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of conversations in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ConversationDTO>> getAllConversations(ConversationCriteria criteria) {
+    public ResponseEntity<List<ConversationDTO>> getAllConversations(
+        ConversationCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Conversations by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ConversationDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ConversationDTO.class, ENTITY_NAME),
+            ConversationDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> conversationQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> conversationQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> conversationQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ConversationDTO> entityList = conversationQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /conversations/export} : export all the conversations, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportConversations(
+        ConversationCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Conversations by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ConversationDTO.class,
+            consumer -> conversationQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /conversations/count} : count all the conversations.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countConversations(ConversationCriteria criteria) {
+    public ResponseEntity<Long> countConversations(
+        ConversationCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Conversations by criteria: {}", criteria);
-        return ResponseEntity.ok().body(conversationQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(conversationQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /conversations/bulk} : Create conversations in bulk.
+     *
+     * @param conversationDTOs the conversationDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the conversations or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createConversationsInBulk(
+        @RequestBody List<ConversationDTO> conversationDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Conversations", conversationDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> conversationService.saveAll(conversationDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /conversations/bulk} : Update conversations in bulk.
+     *
+     * @param conversationDTOs the conversationDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the conversations or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateConversationsInBulk(
+        @RequestBody List<ConversationDTO> conversationDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Conversations", conversationDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> conversationService.updateAll(conversationDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /conversations/bulk/delete} : Delete conversations in bulk.
+     *
+     * @param ids the ids of the conversations to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the conversations or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteConversationsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Conversations", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> conversationService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /conversations/batch} : get the conversations of the given ids.
+     *
+     * @param ids the ids of the conversations to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the conversations found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ConversationDTO, UUID>> getConversationsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Conversations : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, conversationService::findAllById);
+    }
+
+    /**
+     * {@code POST  /conversations/batch} : get the conversations of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the conversations to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the conversations found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ConversationDTO, UUID>> getConversationsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Conversations : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, conversationService::findAllById);
     }
 
     /**
      * {@code GET  /conversations/:id} : get the "id" conversation.
      *
      * @param id the id of the conversationDTO to retrieve.
+     * @param fields the comma-separated properties of the conversationDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the conversationDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the conversationDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ConversationDTO> getConversation(@PathVariable("id") UUID id) {
+    public ResponseEntity<ConversationDTO> getConversation(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Conversation : {}", id);
-        Optional<ConversationDTO> conversationDTO = conversationService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ConversationDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ConversationDTO.class, ENTITY_NAME);
+        Optional<ConversationDTO> conversationDTO = fieldSet == null && includeSet == null
+            ? conversationService.findOne(id)
+            : conversationQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ConversationDTO.class));
         return ResponseUtil.wrapOrNotFound(conversationDTO);
     }
 
@@ -1,13 +1,23 @@
 package com.foursquare.server.web.rest;
 
+import com.foursquare.server.audit.EntityAuditPayloadCodec;
 import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
 import com.foursquare.server.repository.EntityAuditEventRepository;
+import com.foursquare.server.repository.EntityAuditEventSpecifications;
 import com.foursquare.server.security.AuthoritiesConstants;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,7 +29,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for getting the audit events for entity
@@ -29,12 +41,21 @@ import tech.jhipster.web.util.PaginationUtil;
 @Transactional
 public class EntityAuditResource {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    static final int MAX_HISTORY_PAGE_SIZE = 500;
+
+    private static final String ENTITY_NAME = "entityAuditEvent";
+
     private final Logger log = LoggerFactory.getLogger(EntityAuditResource.class);
 
     private final EntityAuditEventRepository entityAuditEventRepository;
 
-    public EntityAuditResource(EntityAuditEventRepository entityAuditEventRepository) {
+    private final EntityAuditPayloadCodec entityAuditPayloadCodec;
+
+    public EntityAuditResource(EntityAuditEventRepository entityAuditEventRepository, EntityAuditPayloadCodec entityAuditPayloadCodec) {
         this.entityAuditEventRepository = entityAuditEventRepository;
+        this.entityAuditPayloadCodec = entityAuditPayloadCodec;
     }
 
     /**
@@ -62,11 +83,11 @@ public class EntityAuditResource {
         log.debug("REST request to get a page of EntityAuditEvents");
         Page<EntityAuditEvent> page = entityAuditEventRepository.findAllByEntityType(entityType, PageRequest.of(0, limit));
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+        return new ResponseEntity<>(page.getContent().stream().map(entityAuditPayloadCodec::decode).toList(), headers, HttpStatus.OK);
     }
 
     /**
-     * fetches a previous version for for an entity class and id
+     * fetches a previous version for for an entity class and id, with its full entity value even if it is stored as a delta
      *
      * @return
      */
@@ -82,6 +103,111 @@ public class EntityAuditResource {
             entityId,
             commitVersion
         );
-        return new ResponseEntity<>(prev, HttpStatus.OK);
+        return new ResponseEntity<>(entityAuditPayloadCodec.decode(prev), HttpStatus.OK);
+    }
+
+    /**
+     * fetches the state of an entity as of a point in time, that is its last version modified at or before that time,
+     * with its full entity value even if it is stored as a delta
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the version in body, or with status
+     * {@code 404 (Not Found)} if the entity did not exist at that time.
+     */
+    @GetMapping(value = "/audits/entity/changes/version/as-of", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<EntityAuditEvent> getVersionAsOf(
+        @RequestParam(value = "qualifiedName") String qualifiedName,
+        @RequestParam(value = "entityId") String entityId,
+        @RequestParam(value = "at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at
+    ) {
+        log.debug("REST request to get the version of {} {} as of {}", qualifiedName, entityId, at);
+        Optional<EntityAuditEvent> version = entityAuditEventRepository
+            .findFirstByEntityTypeAndEntityIdAndModifiedDateLessThanEqualOrderByModifiedDateDescIdDesc(qualifiedName, entityId, at)
+            .filter(event -> !EntityAuditAction.DELETE.value().equals(event.getAction()))
+            .map(entityAuditPayloadCodec::decode);
+        return ResponseUtil.wrapOrNotFound(version);
+    }
+
+    /**
+     * Browse the audit events of an entity type, newest first, optionally filtered by entity id, user, action and time range.
+     * <p>
+     * The page is read by seeking past the {@code cursor} of the previous page rather than with an offset, and no total
+     * count is computed, so the cost of a page does not grow with the size of the audit table. When there are more
+     * events, the cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header and in a
+     * {@code Link rel="next"} header.
+     *
+     * @param entityType the fully qualified class name of the entity.
+     * @param entityId the id of the entity, if only its events are wanted.
+     * @param modifiedBy the login of the user who made the changes.
+     * @param action the action, {@code CREATE}, {@code UPDATE} or {@code DELETE}.
+     * @param from the earliest modification date, inclusive.
+     * @param to the latest modification date, exclusive.
+     * @param cursor the cursor returned with the previous page, absent for the first page.
+     * @param size the number of events per page, at most {@value #MAX_HISTORY_PAGE_SIZE}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of events in body.
+     */
+    @GetMapping(value = "/audits/entity/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<List<EntityAuditEvent>> getHistory(
+        @RequestParam(value = "entityType") String entityType,
+        @RequestParam(value = "entityId", required = false) String entityId,
+        @RequestParam(value = "modifiedBy", required = false) String modifiedBy,
+        @RequestParam(value = "action", required = false) EntityAuditAction action,
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get the EntityAuditEvent history of {} after cursor {}", entityType, cursor);
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BadRequestAlertException("Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE, ENTITY_NAME, "pagesizeinvalid");
+        }
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        Specification<EntityAuditEvent> specification = Specification.where(EntityAuditEventSpecifications.entityType(entityType))
+            .and(EntityAuditEventSpecifications.entityId(entityId))
+            .and(EntityAuditEventSpecifications.modifiedBy(modifiedBy))
+            .and(EntityAuditEventSpecifications.action(action == null ? null : action.value()))
+            .and(EntityAuditEventSpecifications.modifiedBetween(from, to))
+            .and(after == null ? null : EntityAuditEventSpecifications.before(after.modifiedDate(), after.id()));
+        // One extra row tells whether there is a next page without counting
+        List<EntityAuditEvent> events = entityAuditEventRepository.findBy(specification, query ->
+            query.sortBy(EntityAuditEventSpecifications.HISTORY_SORT).limit(size + 1).all()
+        );
+        HttpHeaders headers = new HttpHeaders();
+        if (events.size() > size) {
+            events = events.subList(0, size);
+            EntityAuditEvent last = events.get(size - 1);
+            // A page cannot be sought past a row without a modification date, so it gets no next page
+            if (last.getModifiedDate() != null && last.getId() != null) {
+                String nextCursor = new HistoryCursor(last.getModifiedDate(), last.getId()).encode();
+                headers.add(NEXT_CURSOR_HEADER, nextCursor);
+                UriComponentsBuilder next = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", nextCursor);
+                headers.add(HttpHeaders.LINK, "<" + next.toUriString() + ">; rel=\"next\"");
+            }
+        }
+        return new ResponseEntity<>(events.stream().map(entityAuditPayloadCodec::decode).toList(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Position of the last event of a history page, exchanged with clients as an opaque URL-safe token.
+     */
+    record HistoryCursor(Instant modifiedDate, Long id) {
+        String encode() {
+            String value = modifiedDate.toEpochMilli() + ":" + modifiedDate.getNano() % 1_000_000 + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+                Instant modifiedDate = Instant.ofEpochMilli(Long.parseLong(parts[0])).plusNanos(Long.parseLong(parts[1]));
+                return new HistoryCursor(modifiedDate, Long.valueOf(parts[2]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+            }
+        }
     }
 }
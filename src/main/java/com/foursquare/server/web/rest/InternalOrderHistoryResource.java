@@ -4,19 +4,32 @@ import com.foursquare.server.repository.InternalOrderHistoryRepository;
 import com.foursquare.server.service.InternalOrderHistoryQueryService;
 import com.foursquare.server.service.InternalOrderHistoryService;
 import com.foursquare.server.service.criteria.InternalOrderHistoryCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InternalOrderHistoryDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class InternalOrderHistoryResource {
 
     private final InternalOrderHistoryQueryService internalOrderHistoryQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public InternalOrderHistoryResource(
         InternalOrderHistoryService internalOrderHistoryService,
         InternalOrderHistoryRepository internalOrderHistoryRepository,
-        InternalOrderHistoryQueryService internalOrderHistoryQueryService
+        InternalOrderHistoryQueryService internalOrderHistoryQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.internalOrderHistoryService = internalOrderHistoryService;
         this.internalOrderHistoryRepository = internalOrderHistoryRepository;
         this.internalOrderHistoryQueryService = internalOrderHistoryQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -146,38 +163,181 @@ public class InternalOrderHistoryResource {
      * {@code GET  /internal-order-histories} : get all the internalOrderHistories.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching internalOrderHistories, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching internalOrderHistories, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the InternalOrderHistoryDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the InternalOrderHistoryDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of internalOrderHistories in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<InternalOrderHistoryDTO>> getAllInternalOrderHistories(InternalOrderHistoryCriteria criteria) {
+    public ResponseEntity<List<InternalOrderHistoryDTO>> getAllInternalOrderHistories(
+        InternalOrderHistoryCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InternalOrderHistories by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InternalOrderHistoryDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, InternalOrderHistoryDTO.class, ENTITY_NAME),
+            InternalOrderHistoryDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> internalOrderHistoryQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> internalOrderHistoryQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> internalOrderHistoryQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<InternalOrderHistoryDTO> entityList = internalOrderHistoryQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /internal-order-histories/export} : export all the internalOrderHistories, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportInternalOrderHistories(
+        InternalOrderHistoryCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export InternalOrderHistories by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            InternalOrderHistoryDTO.class,
+            consumer -> internalOrderHistoryQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /internal-order-histories/count} : count all the internalOrderHistories.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countInternalOrderHistories(InternalOrderHistoryCriteria criteria) {
+    public ResponseEntity<Long> countInternalOrderHistories(
+        InternalOrderHistoryCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count InternalOrderHistories by criteria: {}", criteria);
-        return ResponseEntity.ok().body(internalOrderHistoryQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(internalOrderHistoryQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /internal-order-histories/bulk} : Create internalOrderHistories in bulk.
+     *
+     * @param internalOrderHistoryDTOs the internalOrderHistoryDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the internalOrderHistories or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createInternalOrderHistoriesInBulk(
+        @RequestBody List<InternalOrderHistoryDTO> internalOrderHistoryDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} InternalOrderHistories", internalOrderHistoryDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderHistoryService.saveAll(internalOrderHistoryDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /internal-order-histories/bulk} : Update internalOrderHistories in bulk.
+     *
+     * @param internalOrderHistoryDTOs the internalOrderHistoryDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the internalOrderHistories or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateInternalOrderHistoriesInBulk(
+        @RequestBody List<InternalOrderHistoryDTO> internalOrderHistoryDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} InternalOrderHistories", internalOrderHistoryDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderHistoryService.updateAll(internalOrderHistoryDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /internal-order-histories/bulk/delete} : Delete internalOrderHistories in bulk.
+     *
+     * @param ids the ids of the internalOrderHistories to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the internalOrderHistories or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteInternalOrderHistoriesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} InternalOrderHistories", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderHistoryService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /internal-order-histories/batch} : get the internalOrderHistories of the given ids.
+     *
+     * @param ids the ids of the internalOrderHistories to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderHistories found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<InternalOrderHistoryDTO, UUID>> getInternalOrderHistoriesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get InternalOrderHistories : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, internalOrderHistoryService::findAllById);
+    }
+
+    /**
+     * {@code POST  /internal-order-histories/batch} : get the internalOrderHistories of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the internalOrderHistories to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderHistories found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<InternalOrderHistoryDTO, UUID>> getInternalOrderHistoriesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get InternalOrderHistories : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, internalOrderHistoryService::findAllById);
     }
 
     /**
      * {@code GET  /internal-order-histories/:id} : get the "id" internalOrderHistory.
      *
      * @param id the id of the internalOrderHistoryDTO to retrieve.
+     * @param fields the comma-separated properties of the internalOrderHistoryDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the internalOrderHistoryDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderHistoryDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InternalOrderHistoryDTO> getInternalOrderHistory(@PathVariable("id") UUID id) {
+    public ResponseEntity<InternalOrderHistoryDTO> getInternalOrderHistory(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InternalOrderHistory : {}", id);
-        Optional<InternalOrderHistoryDTO> internalOrderHistoryDTO = internalOrderHistoryService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InternalOrderHistoryDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, InternalOrderHistoryDTO.class, ENTITY_NAME);
+        Optional<InternalOrderHistoryDTO> internalOrderHistoryDTO = fieldSet == null && includeSet == null
+            ? internalOrderHistoryService.findOne(id)
+            : internalOrderHistoryQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, InternalOrderHistoryDTO.class));
         return ResponseUtil.wrapOrNotFound(internalOrderHistoryDTO);
     }
 
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.InternalOrderItemRepository;
 import com.foursquare.server.service.InternalOrderItemQueryService;
 import com.foursquare.server.service.InternalOrderItemService;
 import com.foursquare.server.service.criteria.InternalOrderItemCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InternalOrderItemDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class InternalOrderItemResource {
 
     private final InternalOrderItemQueryService internalOrderItemQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public InternalOrderItemResource(
         InternalOrderItemService internalOrderItemService,
         InternalOrderItemRepository internalOrderItemRepository,
-        InternalOrderItemQueryService internalOrderItemQueryService
+        InternalOrderItemQueryService internalOrderItemQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.internalOrderItemService = internalOrderItemService;
         this.internalOrderItemRepository = internalOrderItemRepository;
         this.internalOrderItemQueryService = internalOrderItemQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class InternalOrderItemResource {
      * {@code GET  /internal-order-items} : get all the internalOrderItems.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching internalOrderItems, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching internalOrderItems, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the InternalOrderItemDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the InternalOrderItemDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of internalOrderItems in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<InternalOrderItemDTO>> getAllInternalOrderItems(InternalOrderItemCriteria criteria) {
+    public ResponseEntity<List<InternalOrderItemDTO>> getAllInternalOrderItems(
+        InternalOrderItemCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InternalOrderItems by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InternalOrderItemDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, InternalOrderItemDTO.class, ENTITY_NAME),
+            InternalOrderItemDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> internalOrderItemQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> internalOrderItemQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> internalOrderItemQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<InternalOrderItemDTO> entityList = internalOrderItemQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /internal-order-items/export} : export all the internalOrderItems, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportInternalOrderItems(
+        InternalOrderItemCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export InternalOrderItems by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            InternalOrderItemDTO.class,
+            consumer -> internalOrderItemQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /internal-order-items/count} : count all the internalOrderItems.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countInternalOrderItems(InternalOrderItemCriteria criteria) {
+    public ResponseEntity<Long> countInternalOrderItems(
+        InternalOrderItemCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count InternalOrderItems by criteria: {}", criteria);
-        return ResponseEntity.ok().body(internalOrderItemQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(internalOrderItemQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /internal-order-items/bulk} : Create internalOrderItems in bulk.
+     *
+     * @param internalOrderItemDTOs the internalOrderItemDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the internalOrderItems or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createInternalOrderItemsInBulk(
+        @RequestBody List<InternalOrderItemDTO> internalOrderItemDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} InternalOrderItems", internalOrderItemDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderItemService.saveAll(internalOrderItemDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /internal-order-items/bulk} : Update internalOrderItems in bulk.
+     *
+     * @param internalOrderItemDTOs the internalOrderItemDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the internalOrderItems or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateInternalOrderItemsInBulk(
+        @RequestBody List<InternalOrderItemDTO> internalOrderItemDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} InternalOrderItems", internalOrderItemDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderItemService.updateAll(internalOrderItemDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /internal-order-items/bulk/delete} : Delete internalOrderItems in bulk.
+     *
+     * @param ids the ids of the internalOrderItems to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the internalOrderItems or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteInternalOrderItemsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} InternalOrderItems", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderItemService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /internal-order-items/batch} : get the internalOrderItems of the given ids.
+     *
+     * @param ids the ids of the internalOrderItems to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderItems found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<InternalOrderItemDTO, UUID>> getInternalOrderItemsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get InternalOrderItems : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, internalOrderItemService::findAllById);
+    }
+
+    /**
+     * {@code POST  /internal-order-items/batch} : get the internalOrderItems of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the internalOrderItems to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderItems found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<InternalOrderItemDTO, UUID>> getInternalOrderItemsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get InternalOrderItems : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, internalOrderItemService::findAllById);
     }
 
     /**
      * {@code GET  /internal-order-items/:id} : get the "id" internalOrderItem.
      *
      * @param id the id of the internalOrderItemDTO to retrieve.
+     * @param fields the comma-separated properties of the internalOrderItemDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the internalOrderItemDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderItemDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InternalOrderItemDTO> getInternalOrderItem(@PathVariable("id") UUID id) {
+    public ResponseEntity<InternalOrderItemDTO> getInternalOrderItem(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InternalOrderItem : {}", id);
-        Optional<InternalOrderItemDTO> internalOrderItemDTO = internalOrderItemService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InternalOrderItemDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, InternalOrderItemDTO.class, ENTITY_NAME);
+        Optional<InternalOrderItemDTO> internalOrderItemDTO = fieldSet == null && includeSet == null
+            ? internalOrderItemService.findOne(id)
+            : internalOrderItemQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, InternalOrderItemDTO.class));
         return ResponseUtil.wrapOrNotFound(internalOrderItemDTO);
     }
 
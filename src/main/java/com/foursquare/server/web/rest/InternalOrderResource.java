@@ -4,19 +4,32 @@ import com.foursquare.server.repository.InternalOrderRepository;
 import com.foursquare.server.service.InternalOrderQueryService;
 import com.foursquare.server.service.InternalOrderService;
 import com.foursquare.server.service.criteria.InternalOrderCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InternalOrderDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class InternalOrderResource {
 
     private final InternalOrderQueryService internalOrderQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public InternalOrderResource(
         InternalOrderService internalOrderService,
         InternalOrderRepository internalOrderRepository,
-        InternalOrderQueryService internalOrderQueryService
+        InternalOrderQueryService internalOrderQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.internalOrderService = internalOrderService;
         this.internalOrderRepository = internalOrderRepository;
         this.internalOrderQueryService = internalOrderQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class InternalOrderResource {
      * {@code GET  /internal-orders} : get all the internalOrders.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching internalOrders, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching internalOrders, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the InternalOrderDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the InternalOrderDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of internalOrders in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<InternalOrderDTO>> getAllInternalOrders(InternalOrderCriteria criteria) {
+    public ResponseEntity<List<InternalOrderDTO>> getAllInternalOrders(
+        InternalOrderCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InternalOrders by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InternalOrderDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, InternalOrderDTO.class, ENTITY_NAME),
+            InternalOrderDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> internalOrderQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> internalOrderQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> internalOrderQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<InternalOrderDTO> entityList = internalOrderQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /internal-orders/export} : export all the internalOrders, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportInternalOrders(
+        InternalOrderCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export InternalOrders by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            InternalOrderDTO.class,
+            consumer -> internalOrderQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /internal-orders/count} : count all the internalOrders.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countInternalOrders(InternalOrderCriteria criteria) {
+    public ResponseEntity<Long> countInternalOrders(
+        InternalOrderCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count InternalOrders by criteria: {}", criteria);
-        return ResponseEntity.ok().body(internalOrderQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(internalOrderQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /internal-orders/bulk} : Create internalOrders in bulk.
+     *
+     * @param internalOrderDTOs the internalOrderDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the internalOrders or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createInternalOrdersInBulk(
+        @RequestBody List<InternalOrderDTO> internalOrderDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} InternalOrders", internalOrderDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderService.saveAll(internalOrderDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /internal-orders/bulk} : Update internalOrders in bulk.
+     *
+     * @param internalOrderDTOs the internalOrderDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the internalOrders or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateInternalOrdersInBulk(
+        @RequestBody List<InternalOrderDTO> internalOrderDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} InternalOrders", internalOrderDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderService.updateAll(internalOrderDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /internal-orders/bulk/delete} : Delete internalOrders in bulk.
+     *
+     * @param ids the ids of the internalOrders to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the internalOrders or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteInternalOrdersInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} InternalOrders", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> internalOrderService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /internal-orders/batch} : get the internalOrders of the given ids.
+     *
+     * @param ids the ids of the internalOrders to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrders found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<InternalOrderDTO, UUID>> getInternalOrdersByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get InternalOrders : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, internalOrderService::findAllById);
+    }
+
+    /**
+     * {@code POST  /internal-orders/batch} : get the internalOrders of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the internalOrders to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrders found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<InternalOrderDTO, UUID>> getInternalOrdersByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get InternalOrders : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, internalOrderService::findAllById);
     }
 
     /**
      * {@code GET  /internal-orders/:id} : get the "id" internalOrder.
      *
      * @param id the id of the internalOrderDTO to retrieve.
+     * @param fields the comma-separated properties of the internalOrderDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the internalOrderDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the internalOrderDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InternalOrderDTO> getInternalOrder(@PathVariable("id") UUID id) {
+    public ResponseEntity<InternalOrderDTO> getInternalOrder(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InternalOrder : {}", id);
-        Optional<InternalOrderDTO> internalOrderDTO = internalOrderService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InternalOrderDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, InternalOrderDTO.class, ENTITY_NAME);
+        Optional<InternalOrderDTO> internalOrderDTO = fieldSet == null && includeSet == null
+            ? internalOrderService.findOne(id)
+            : internalOrderQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, InternalOrderDTO.class));
         return ResponseUtil.wrapOrNotFound(internalOrderDTO);
     }
 
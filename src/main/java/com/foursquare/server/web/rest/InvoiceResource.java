@@ -4,19 +4,32 @@ import com.foursquare.server.repository.InvoiceRepository;
 import com.foursquare.server.service.InvoiceQueryService;
 import com.foursquare.server.service.InvoiceService;
 import com.foursquare.server.service.criteria.InvoiceCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InvoiceDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,10 +55,18 @@ public class InvoiceResource {
 
     private final InvoiceQueryService invoiceQueryService;
 
-    public InvoiceResource(InvoiceService invoiceService, InvoiceRepository invoiceRepository, InvoiceQueryService invoiceQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    public InvoiceResource(
+        InvoiceService invoiceService,
+        InvoiceRepository invoiceRepository,
+        InvoiceQueryService invoiceQueryService,
+        CriteriaExportWriter criteriaExportWriter
+    ) {
         this.invoiceService = invoiceService;
         this.invoiceRepository = invoiceRepository;
         this.invoiceQueryService = invoiceQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -140,38 +161,181 @@ public class InvoiceResource {
      * {@code GET  /invoices} : get all the invoices.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching invoices, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching invoices, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the InvoiceDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the InvoiceDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of invoices in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<InvoiceDTO>> getAllInvoices(InvoiceCriteria criteria) {
+    public ResponseEntity<List<InvoiceDTO>> getAllInvoices(
+        InvoiceCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Invoices by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InvoiceDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, InvoiceDTO.class, ENTITY_NAME),
+            InvoiceDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> invoiceQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> invoiceQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> invoiceQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<InvoiceDTO> entityList = invoiceQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /invoices/export} : export all the invoices, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportInvoices(
+        InvoiceCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Invoices by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            InvoiceDTO.class,
+            consumer -> invoiceQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /invoices/count} : count all the invoices.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countInvoices(InvoiceCriteria criteria) {
+    public ResponseEntity<Long> countInvoices(
+        InvoiceCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Invoices by criteria: {}", criteria);
-        return ResponseEntity.ok().body(invoiceQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(invoiceQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /invoices/bulk} : Create invoices in bulk.
+     *
+     * @param invoiceDTOs the invoiceDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the invoices or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createInvoicesInBulk(
+        @RequestBody List<InvoiceDTO> invoiceDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Invoices", invoiceDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> invoiceService.saveAll(invoiceDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /invoices/bulk} : Update invoices in bulk.
+     *
+     * @param invoiceDTOs the invoiceDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the invoices or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateInvoicesInBulk(
+        @RequestBody List<InvoiceDTO> invoiceDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Invoices", invoiceDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> invoiceService.updateAll(invoiceDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /invoices/bulk/delete} : Delete invoices in bulk.
+     *
+     * @param ids the ids of the invoices to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the invoices or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteInvoicesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Invoices", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> invoiceService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /invoices/batch} : get the invoices of the given ids.
+     *
+     * @param ids the ids of the invoices to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoices found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<InvoiceDTO, UUID>> getInvoicesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Invoices : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, invoiceService::findAllById);
+    }
+
+    /**
+     * {@code POST  /invoices/batch} : get the invoices of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the invoices to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoices found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<InvoiceDTO, UUID>> getInvoicesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Invoices : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, invoiceService::findAllById);
     }
 
     /**
      * {@code GET  /invoices/:id} : get the "id" invoice.
      *
      * @param id the id of the invoiceDTO to retrieve.
+     * @param fields the comma-separated properties of the invoiceDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the invoiceDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoiceDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InvoiceDTO> getInvoice(@PathVariable("id") UUID id) {
+    public ResponseEntity<InvoiceDTO> getInvoice(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Invoice : {}", id);
-        Optional<InvoiceDTO> invoiceDTO = invoiceService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InvoiceDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, InvoiceDTO.class, ENTITY_NAME);
+        Optional<InvoiceDTO> invoiceDTO = fieldSet == null && includeSet == null
+            ? invoiceService.findOne(id)
+            : invoiceQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, InvoiceDTO.class));
         return ResponseUtil.wrapOrNotFound(invoiceDTO);
     }
 
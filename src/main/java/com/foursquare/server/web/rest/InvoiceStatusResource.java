@@ -4,18 +4,31 @@ import com.foursquare.server.repository.InvoiceStatusRepository;
 import com.foursquare.server.service.InvoiceStatusQueryService;
 import com.foursquare.server.service.InvoiceStatusService;
 import com.foursquare.server.service.criteria.InvoiceStatusCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.InvoiceStatusDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -41,14 +54,18 @@ public class InvoiceStatusResource {
 
     private final InvoiceStatusQueryService invoiceStatusQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public InvoiceStatusResource(
         InvoiceStatusService invoiceStatusService,
         InvoiceStatusRepository invoiceStatusRepository,
-        InvoiceStatusQueryService invoiceStatusQueryService
+        InvoiceStatusQueryService invoiceStatusQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.invoiceStatusService = invoiceStatusService;
         this.invoiceStatusRepository = invoiceStatusRepository;
         this.invoiceStatusQueryService = invoiceStatusQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -144,38 +161,181 @@ public class InvoiceStatusResource {
      * {@code GET  /invoice-statuses} : get all the invoiceStatuses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching invoiceStatuses, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching invoiceStatuses, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the InvoiceStatusDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the InvoiceStatusDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of invoiceStatuses in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<InvoiceStatusDTO>> getAllInvoiceStatuses(InvoiceStatusCriteria criteria) {
+    public ResponseEntity<List<InvoiceStatusDTO>> getAllInvoiceStatuses(
+        InvoiceStatusCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InvoiceStatuses by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InvoiceStatusDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, InvoiceStatusDTO.class, ENTITY_NAME),
+            InvoiceStatusDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> invoiceStatusQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> invoiceStatusQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> invoiceStatusQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<InvoiceStatusDTO> entityList = invoiceStatusQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /invoice-statuses/export} : export all the invoiceStatuses, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportInvoiceStatuses(
+        InvoiceStatusCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export InvoiceStatuses by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            InvoiceStatusDTO.class,
+            consumer -> invoiceStatusQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /invoice-statuses/count} : count all the invoiceStatuses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countInvoiceStatuses(InvoiceStatusCriteria criteria) {
+    public ResponseEntity<Long> countInvoiceStatuses(
+        InvoiceStatusCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count InvoiceStatuses by criteria: {}", criteria);
-        return ResponseEntity.ok().body(invoiceStatusQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(invoiceStatusQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /invoice-statuses/bulk} : Create invoiceStatuses in bulk.
+     *
+     * @param invoiceStatusDTOs the invoiceStatusDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the invoiceStatuses or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> createInvoiceStatusesInBulk(
+        @RequestBody List<InvoiceStatusDTO> invoiceStatusDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} InvoiceStatuses", invoiceStatusDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> invoiceStatusService.saveAll(invoiceStatusDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /invoice-statuses/bulk} : Update invoiceStatuses in bulk.
+     *
+     * @param invoiceStatusDTOs the invoiceStatusDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the invoiceStatuses or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> updateInvoiceStatusesInBulk(
+        @RequestBody List<InvoiceStatusDTO> invoiceStatusDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} InvoiceStatuses", invoiceStatusDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> invoiceStatusService.updateAll(invoiceStatusDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /invoice-statuses/bulk/delete} : Delete invoiceStatuses in bulk.
+     *
+     * @param ids the ids of the invoiceStatuses to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the invoiceStatuses or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> deleteInvoiceStatusesInBulk(
+        @RequestBody List<Long> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} InvoiceStatuses", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> invoiceStatusService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /invoice-statuses/batch} : get the invoiceStatuses of the given ids.
+     *
+     * @param ids the ids of the invoiceStatuses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoiceStatuses found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<InvoiceStatusDTO, Long>> getInvoiceStatusesByIds(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get InvoiceStatuses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, invoiceStatusService::findAllById);
+    }
+
+    /**
+     * {@code POST  /invoice-statuses/batch} : get the invoiceStatuses of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the invoiceStatuses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoiceStatuses found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<InvoiceStatusDTO, Long>> getInvoiceStatusesByIdsInBody(@RequestBody List<Long> ids) {
+        log.debug("REST request to get InvoiceStatuses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, invoiceStatusService::findAllById);
     }
 
     /**
      * {@code GET  /invoice-statuses/:id} : get the "id" invoiceStatus.
      *
      * @param id the id of the invoiceStatusDTO to retrieve.
+     * @param fields the comma-separated properties of the invoiceStatusDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the invoiceStatusDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoiceStatusDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InvoiceStatusDTO> getInvoiceStatus(@PathVariable("id") Long id) {
+    public ResponseEntity<InvoiceStatusDTO> getInvoiceStatus(
+        @PathVariable("id") Long id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get InvoiceStatus : {}", id);
-        Optional<InvoiceStatusDTO> invoiceStatusDTO = invoiceStatusService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, InvoiceStatusDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, InvoiceStatusDTO.class, ENTITY_NAME);
+        Optional<InvoiceStatusDTO> invoiceStatusDTO = fieldSet == null && includeSet == null
+            ? invoiceStatusService.findOne(id)
+            : invoiceStatusQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, InvoiceStatusDTO.class));
         return ResponseUtil.wrapOrNotFound(invoiceStatusDTO);
     }
 
@@ -3,23 +3,41 @@ package com.foursquare.server.web.rest;
 import com.foursquare.server.repository.MessageRepository;
 import com.foursquare.server.service.MessageQueryService;
 import com.foursquare.server.service.MessageService;
+import com.foursquare.server.service.ReadReceiptService;
 import com.foursquare.server.service.criteria.MessageCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.MessageDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,10 +60,22 @@ public class MessageResource {
 
     private final MessageQueryService messageQueryService;
 
-    public MessageResource(MessageService messageService, MessageRepository messageRepository, MessageQueryService messageQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    private final ReadReceiptService readReceiptService;
+
+    public MessageResource(
+        MessageService messageService,
+        MessageRepository messageRepository,
+        MessageQueryService messageQueryService,
+        CriteriaExportWriter criteriaExportWriter,
+        ReadReceiptService readReceiptService
+    ) {
         this.messageService = messageService;
         this.messageRepository = messageRepository;
         this.messageQueryService = messageQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
+        this.readReceiptService = readReceiptService;
     }
 
     /**
@@ -140,41 +170,218 @@ public class MessageResource {
      * {@code GET  /messages} : get all the messages.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching messages, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching messages, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the MessageDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the MessageDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of messages in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<MessageDTO>> getAllMessages(MessageCriteria criteria) {
+    public ResponseEntity<List<MessageDTO>> getAllMessages(
+        MessageCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Messages by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, MessageDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, MessageDTO.class, ENTITY_NAME),
+            MessageDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> messageQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> messageQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> messageQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<MessageDTO> entityList = messageQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /messages/export} : export all the messages, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportMessages(
+        MessageCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Messages by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            MessageDTO.class,
+            consumer -> messageQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /messages/count} : count all the messages.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countMessages(MessageCriteria criteria) {
+    public ResponseEntity<Long> countMessages(
+        MessageCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Messages by criteria: {}", criteria);
-        return ResponseEntity.ok().body(messageQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(messageQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code GET  /messages/search?query=:query} : search the messages matching a web search query, most relevant first.
+     *
+     * @param query the query: words, {@code "quoted phrases"}, {@code or} between alternatives and {@code -} before excluded words.
+     * @param pageable the pagination information, whose sort is ignored.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of messages in body.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<MessageDTO>> searchMessages(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search Messages : {}", query);
+        if (query.isBlank()) {
+            throw new BadRequestAlertException("A search query is required", ENTITY_NAME, "querynull");
+        }
+        Page<MessageDTO> page = messageService.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code POST  /messages/bulk} : Create messages in bulk.
+     *
+     * @param messageDTOs the messageDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the messages or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createMessagesInBulk(
+        @RequestBody List<MessageDTO> messageDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Messages", messageDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> messageService.saveAll(messageDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /messages/bulk} : Update messages in bulk.
+     *
+     * @param messageDTOs the messageDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the messages or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateMessagesInBulk(
+        @RequestBody List<MessageDTO> messageDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Messages", messageDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> messageService.updateAll(messageDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /messages/bulk/delete} : Delete messages in bulk.
+     *
+     * @param ids the ids of the messages to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the messages or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteMessagesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Messages", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> messageService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /messages/batch} : get the messages of the given ids.
+     *
+     * @param ids the ids of the messages to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the messages found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<MessageDTO, UUID>> getMessagesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Messages : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, messageService::findAllById);
+    }
+
+    /**
+     * {@code POST  /messages/batch} : get the messages of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the messages to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the messages found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<MessageDTO, UUID>> getMessagesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Messages : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, messageService::findAllById);
     }
 
     /**
      * {@code GET  /messages/:id} : get the "id" message.
      *
      * @param id the id of the messageDTO to retrieve.
+     * @param fields the comma-separated properties of the messageDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the messageDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the messageDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MessageDTO> getMessage(@PathVariable("id") UUID id) {
+    public ResponseEntity<MessageDTO> getMessage(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Message : {}", id);
-        Optional<MessageDTO> messageDTO = messageService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, MessageDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, MessageDTO.class, ENTITY_NAME);
+        Optional<MessageDTO> messageDTO = fieldSet == null && includeSet == null
+            ? messageService.findOne(id)
+            : messageQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, MessageDTO.class));
         return ResponseUtil.wrapOrNotFound(messageDTO);
     }
 
+    /**
+     * {@code GET  /messages/:id/seen-participants} : get the participants who have seen the "id" message.
+     *
+     * @param id the id of the message.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ids of the participants, or with status
+     * {@code 404 (Not Found)} if there is no such message in a conversation.
+     */
+    @GetMapping("/{id}/seen-participants")
+    public ResponseEntity<List<UUID>> getSeenParticipants(@PathVariable("id") UUID id) {
+        log.debug("REST request to get the Participants who have seen Message : {}", id);
+        return ResponseUtil.wrapOrNotFound(readReceiptService.findSeenParticipantIds(id));
+    }
+
     /**
      * {@code DELETE  /messages/:id} : delete the "id" message.
      *
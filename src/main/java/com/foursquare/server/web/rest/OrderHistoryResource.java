@@ -4,19 +4,32 @@ import com.foursquare.server.repository.OrderHistoryRepository;
 import com.foursquare.server.service.OrderHistoryQueryService;
 import com.foursquare.server.service.OrderHistoryService;
 import com.foursquare.server.service.criteria.OrderHistoryCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderHistoryDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class OrderHistoryResource {
 
     private final OrderHistoryQueryService orderHistoryQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public OrderHistoryResource(
         OrderHistoryService orderHistoryService,
         OrderHistoryRepository orderHistoryRepository,
-        OrderHistoryQueryService orderHistoryQueryService
+        OrderHistoryQueryService orderHistoryQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.orderHistoryService = orderHistoryService;
         this.orderHistoryRepository = orderHistoryRepository;
         this.orderHistoryQueryService = orderHistoryQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class OrderHistoryResource {
      * {@code GET  /order-histories} : get all the orderHistories.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching orderHistories, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching orderHistories, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the OrderHistoryDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the OrderHistoryDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of orderHistories in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<OrderHistoryDTO>> getAllOrderHistories(OrderHistoryCriteria criteria) {
+    public ResponseEntity<List<OrderHistoryDTO>> getAllOrderHistories(
+        OrderHistoryCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get OrderHistories by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderHistoryDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, OrderHistoryDTO.class, ENTITY_NAME),
+            OrderHistoryDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> orderHistoryQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> orderHistoryQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> orderHistoryQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<OrderHistoryDTO> entityList = orderHistoryQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /order-histories/export} : export all the orderHistories, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportOrderHistories(
+        OrderHistoryCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export OrderHistories by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            OrderHistoryDTO.class,
+            consumer -> orderHistoryQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /order-histories/count} : count all the orderHistories.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countOrderHistories(OrderHistoryCriteria criteria) {
+    public ResponseEntity<Long> countOrderHistories(
+        OrderHistoryCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count OrderHistories by criteria: {}", criteria);
-        return ResponseEntity.ok().body(orderHistoryQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(orderHistoryQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /order-histories/bulk} : Create orderHistories in bulk.
+     *
+     * @param orderHistoryDTOs the orderHistoryDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the orderHistories or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createOrderHistoriesInBulk(
+        @RequestBody List<OrderHistoryDTO> orderHistoryDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} OrderHistories", orderHistoryDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderHistoryService.saveAll(orderHistoryDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /order-histories/bulk} : Update orderHistories in bulk.
+     *
+     * @param orderHistoryDTOs the orderHistoryDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the orderHistories or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateOrderHistoriesInBulk(
+        @RequestBody List<OrderHistoryDTO> orderHistoryDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} OrderHistories", orderHistoryDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderHistoryService.updateAll(orderHistoryDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /order-histories/bulk/delete} : Delete orderHistories in bulk.
+     *
+     * @param ids the ids of the orderHistories to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the orderHistories or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteOrderHistoriesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} OrderHistories", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderHistoryService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /order-histories/batch} : get the orderHistories of the given ids.
+     *
+     * @param ids the ids of the orderHistories to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderHistories found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<OrderHistoryDTO, UUID>> getOrderHistoriesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get OrderHistories : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderHistoryService::findAllById);
+    }
+
+    /**
+     * {@code POST  /order-histories/batch} : get the orderHistories of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the orderHistories to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderHistories found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<OrderHistoryDTO, UUID>> getOrderHistoriesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get OrderHistories : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderHistoryService::findAllById);
     }
 
     /**
      * {@code GET  /order-histories/:id} : get the "id" orderHistory.
      *
      * @param id the id of the orderHistoryDTO to retrieve.
+     * @param fields the comma-separated properties of the orderHistoryDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the orderHistoryDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderHistoryDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<OrderHistoryDTO> getOrderHistory(@PathVariable("id") UUID id) {
+    public ResponseEntity<OrderHistoryDTO> getOrderHistory(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get OrderHistory : {}", id);
-        Optional<OrderHistoryDTO> orderHistoryDTO = orderHistoryService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderHistoryDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, OrderHistoryDTO.class, ENTITY_NAME);
+        Optional<OrderHistoryDTO> orderHistoryDTO = fieldSet == null && includeSet == null
+            ? orderHistoryService.findOne(id)
+            : orderHistoryQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, OrderHistoryDTO.class));
         return ResponseUtil.wrapOrNotFound(orderHistoryDTO);
     }
 
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.OrderItemRepository;
 import com.foursquare.server.service.OrderItemQueryService;
 import com.foursquare.server.service.OrderItemService;
 import com.foursquare.server.service.criteria.OrderItemCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderItemDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class OrderItemResource {
 
     private final OrderItemQueryService orderItemQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public OrderItemResource(
         OrderItemService orderItemService,
         OrderItemRepository orderItemRepository,
-        OrderItemQueryService orderItemQueryService
+        OrderItemQueryService orderItemQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.orderItemService = orderItemService;
         this.orderItemRepository = orderItemRepository;
         this.orderItemQueryService = orderItemQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -144,38 +161,181 @@ public class OrderItemResource {
      * {@code GET  /order-items} : get all the orderItems.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching orderItems, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching orderItems, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the OrderItemDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the OrderItemDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of orderItems in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<OrderItemDTO>> getAllOrderItems(OrderItemCriteria criteria) {
+    public ResponseEntity<List<OrderItemDTO>> getAllOrderItems(
+        OrderItemCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get OrderItems by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderItemDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, OrderItemDTO.class, ENTITY_NAME),
+            OrderItemDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> orderItemQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> orderItemQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> orderItemQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<OrderItemDTO> entityList = orderItemQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /order-items/export} : export all the orderItems, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportOrderItems(
+        OrderItemCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export OrderItems by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            OrderItemDTO.class,
+            consumer -> orderItemQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /order-items/count} : count all the orderItems.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countOrderItems(OrderItemCriteria criteria) {
+    public ResponseEntity<Long> countOrderItems(
+        OrderItemCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count OrderItems by criteria: {}", criteria);
-        return ResponseEntity.ok().body(orderItemQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(orderItemQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /order-items/bulk} : Create orderItems in bulk.
+     *
+     * @param orderItemDTOs the orderItemDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the orderItems or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createOrderItemsInBulk(
+        @RequestBody List<OrderItemDTO> orderItemDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} OrderItems", orderItemDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderItemService.saveAll(orderItemDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /order-items/bulk} : Update orderItems in bulk.
+     *
+     * @param orderItemDTOs the orderItemDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the orderItems or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateOrderItemsInBulk(
+        @RequestBody List<OrderItemDTO> orderItemDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} OrderItems", orderItemDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderItemService.updateAll(orderItemDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /order-items/bulk/delete} : Delete orderItems in bulk.
+     *
+     * @param ids the ids of the orderItems to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the orderItems or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteOrderItemsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} OrderItems", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderItemService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /order-items/batch} : get the orderItems of the given ids.
+     *
+     * @param ids the ids of the orderItems to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderItems found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<OrderItemDTO, UUID>> getOrderItemsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get OrderItems : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderItemService::findAllById);
+    }
+
+    /**
+     * {@code POST  /order-items/batch} : get the orderItems of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the orderItems to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderItems found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<OrderItemDTO, UUID>> getOrderItemsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get OrderItems : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderItemService::findAllById);
     }
 
     /**
      * {@code GET  /order-items/:id} : get the "id" orderItem.
      *
      * @param id the id of the orderItemDTO to retrieve.
+     * @param fields the comma-separated properties of the orderItemDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the orderItemDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderItemDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<OrderItemDTO> getOrderItem(@PathVariable("id") UUID id) {
+    public ResponseEntity<OrderItemDTO> getOrderItem(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get OrderItem : {}", id);
-        Optional<OrderItemDTO> orderItemDTO = orderItemService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderItemDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, OrderItemDTO.class, ENTITY_NAME);
+        Optional<OrderItemDTO> orderItemDTO = fieldSet == null && includeSet == null
+            ? orderItemService.findOne(id)
+            : orderItemQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, OrderItemDTO.class));
         return ResponseUtil.wrapOrNotFound(orderItemDTO);
     }
 
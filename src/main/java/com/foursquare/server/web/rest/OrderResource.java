@@ -1,22 +1,37 @@
 package com.foursquare.server.web.rest;
 
 import com.foursquare.server.repository.OrderRepository;
+import com.foursquare.server.service.OrderAggregateLoader;
 import com.foursquare.server.service.OrderQueryService;
 import com.foursquare.server.service.OrderService;
 import com.foursquare.server.service.criteria.OrderCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
+import com.foursquare.server.service.dto.OrderAggregateDTO;
 import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,10 +57,22 @@ public class OrderResource {
 
     private final OrderQueryService orderQueryService;
 
-    public OrderResource(OrderService orderService, OrderRepository orderRepository, OrderQueryService orderQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    private final OrderAggregateLoader orderAggregateLoader;
+
+    public OrderResource(
+        OrderService orderService,
+        OrderRepository orderRepository,
+        OrderQueryService orderQueryService,
+        CriteriaExportWriter criteriaExportWriter,
+        OrderAggregateLoader orderAggregateLoader
+    ) {
         this.orderService = orderService;
         this.orderRepository = orderRepository;
         this.orderQueryService = orderQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
+        this.orderAggregateLoader = orderAggregateLoader;
     }
 
     /**
@@ -140,41 +167,198 @@ public class OrderResource {
      * {@code GET  /orders} : get all the orders.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching orders, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching orders, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the OrderDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the OrderDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of orders in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<OrderDTO>> getAllOrders(OrderCriteria criteria) {
+    public ResponseEntity<List<OrderDTO>> getAllOrders(
+        OrderCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Orders by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, OrderDTO.class, ENTITY_NAME),
+            OrderDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> orderQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> orderQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> orderQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<OrderDTO> entityList = orderQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /orders/export} : export all the orders, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportOrders(
+        OrderCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Orders by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            OrderDTO.class,
+            consumer -> orderQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /orders/count} : count all the orders.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countOrders(OrderCriteria criteria) {
+    public ResponseEntity<Long> countOrders(
+        OrderCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Orders by criteria: {}", criteria);
-        return ResponseEntity.ok().body(orderQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(orderQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /orders/bulk} : Create orders in bulk.
+     *
+     * @param orderDTOs the orderDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the orders or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createOrdersInBulk(
+        @RequestBody List<OrderDTO> orderDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Orders", orderDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderService.saveAll(orderDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /orders/bulk} : Update orders in bulk.
+     *
+     * @param orderDTOs the orderDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the orders or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateOrdersInBulk(
+        @RequestBody List<OrderDTO> orderDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Orders", orderDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderService.updateAll(orderDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /orders/bulk/delete} : Delete orders in bulk.
+     *
+     * @param ids the ids of the orders to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the orders or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteOrdersInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Orders", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /orders/batch} : get the orders of the given ids.
+     *
+     * @param ids the ids of the orders to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orders found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<OrderDTO, UUID>> getOrdersByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Orders : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderService::findAllById);
+    }
+
+    /**
+     * {@code POST  /orders/batch} : get the orders of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the orders to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orders found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<OrderDTO, UUID>> getOrdersByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Orders : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderService::findAllById);
     }
 
     /**
      * {@code GET  /orders/:id} : get the "id" order.
      *
      * @param id the id of the orderDTO to retrieve.
+     * @param fields the comma-separated properties of the orderDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the orderDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<OrderDTO> getOrder(@PathVariable("id") UUID id) {
+    public ResponseEntity<OrderDTO> getOrder(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Order : {}", id);
-        Optional<OrderDTO> orderDTO = orderService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, OrderDTO.class, ENTITY_NAME);
+        Optional<OrderDTO> orderDTO = fieldSet == null && includeSet == null
+            ? orderService.findOne(id)
+            : orderQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, OrderDTO.class));
         return ResponseUtil.wrapOrNotFound(orderDTO);
     }
 
+    /**
+     * {@code GET  /orders/:id/aggregate} : get the "id" order with its items, invoices, shipments, histories, internal
+     * orders and child orders, see {@link OrderAggregateLoader}.
+     *
+     * @param id the id of the order to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderAggregateDTO, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/aggregate")
+    public ResponseEntity<OrderAggregateDTO> getOrderAggregate(@PathVariable("id") UUID id) {
+        log.debug("REST request to get the aggregate of Order : {}", id);
+        Optional<OrderAggregateDTO> orderAggregateDTO = orderAggregateLoader.load(id);
+        return ResponseUtil.wrapOrNotFound(orderAggregateDTO);
+    }
+
     /**
      * {@code DELETE  /orders/:id} : delete the "id" order.
      *
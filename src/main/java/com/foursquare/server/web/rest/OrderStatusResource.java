@@ -4,18 +4,31 @@ import com.foursquare.server.repository.OrderStatusRepository;
 import com.foursquare.server.service.OrderStatusQueryService;
 import com.foursquare.server.service.OrderStatusService;
 import com.foursquare.server.service.criteria.OrderStatusCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.OrderStatusDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -41,14 +54,18 @@ public class OrderStatusResource {
 
     private final OrderStatusQueryService orderStatusQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public OrderStatusResource(
         OrderStatusService orderStatusService,
         OrderStatusRepository orderStatusRepository,
-        OrderStatusQueryService orderStatusQueryService
+        OrderStatusQueryService orderStatusQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.orderStatusService = orderStatusService;
         this.orderStatusRepository = orderStatusRepository;
         this.orderStatusQueryService = orderStatusQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -143,38 +160,181 @@ public class OrderStatusResource {
      * {@code GET  /order-statuses} : get all the orderStatuses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching orderStatuses, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching orderStatuses, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the OrderStatusDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the OrderStatusDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of orderStatuses in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<OrderStatusDTO>> getAllOrderStatuses(OrderStatusCriteria criteria) {
+    public ResponseEntity<List<OrderStatusDTO>> getAllOrderStatuses(
+        OrderStatusCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get OrderStatuses by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderStatusDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, OrderStatusDTO.class, ENTITY_NAME),
+            OrderStatusDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> orderStatusQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> orderStatusQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> orderStatusQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<OrderStatusDTO> entityList = orderStatusQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /order-statuses/export} : export all the orderStatuses, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportOrderStatuses(
+        OrderStatusCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export OrderStatuses by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            OrderStatusDTO.class,
+            consumer -> orderStatusQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /order-statuses/count} : count all the orderStatuses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countOrderStatuses(OrderStatusCriteria criteria) {
+    public ResponseEntity<Long> countOrderStatuses(
+        OrderStatusCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count OrderStatuses by criteria: {}", criteria);
-        return ResponseEntity.ok().body(orderStatusQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(orderStatusQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /order-statuses/bulk} : Create orderStatuses in bulk.
+     *
+     * @param orderStatusDTOs the orderStatusDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the orderStatuses or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> createOrderStatusesInBulk(
+        @RequestBody List<OrderStatusDTO> orderStatusDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} OrderStatuses", orderStatusDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderStatusService.saveAll(orderStatusDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /order-statuses/bulk} : Update orderStatuses in bulk.
+     *
+     * @param orderStatusDTOs the orderStatusDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the orderStatuses or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> updateOrderStatusesInBulk(
+        @RequestBody List<OrderStatusDTO> orderStatusDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} OrderStatuses", orderStatusDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderStatusService.updateAll(orderStatusDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /order-statuses/bulk/delete} : Delete orderStatuses in bulk.
+     *
+     * @param ids the ids of the orderStatuses to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the orderStatuses or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> deleteOrderStatusesInBulk(
+        @RequestBody List<Long> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} OrderStatuses", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> orderStatusService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /order-statuses/batch} : get the orderStatuses of the given ids.
+     *
+     * @param ids the ids of the orderStatuses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderStatuses found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<OrderStatusDTO, Long>> getOrderStatusesByIds(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get OrderStatuses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderStatusService::findAllById);
+    }
+
+    /**
+     * {@code POST  /order-statuses/batch} : get the orderStatuses of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the orderStatuses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderStatuses found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<OrderStatusDTO, Long>> getOrderStatusesByIdsInBody(@RequestBody List<Long> ids) {
+        log.debug("REST request to get OrderStatuses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, orderStatusService::findAllById);
     }
 
     /**
      * {@code GET  /order-statuses/:id} : get the "id" orderStatus.
      *
      * @param id the id of the orderStatusDTO to retrieve.
+     * @param fields the comma-separated properties of the orderStatusDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the orderStatusDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the orderStatusDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<OrderStatusDTO> getOrderStatus(@PathVariable("id") Long id) {
+    public ResponseEntity<OrderStatusDTO> getOrderStatus(
+        @PathVariable("id") Long id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get OrderStatus : {}", id);
-        Optional<OrderStatusDTO> orderStatusDTO = orderStatusService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, OrderStatusDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, OrderStatusDTO.class, ENTITY_NAME);
+        Optional<OrderStatusDTO> orderStatusDTO = fieldSet == null && includeSet == null
+            ? orderStatusService.findOne(id)
+            : orderStatusQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, OrderStatusDTO.class));
         return ResponseUtil.wrapOrNotFound(orderStatusDTO);
     }
 
@@ -3,20 +3,34 @@ package com.foursquare.server.web.rest;
 import com.foursquare.server.repository.ParticipantRepository;
 import com.foursquare.server.service.ParticipantQueryService;
 import com.foursquare.server.service.ParticipantService;
+import com.foursquare.server.service.ReadReceiptService;
 import com.foursquare.server.service.criteria.ParticipantCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ParticipantDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +56,22 @@ public class ParticipantResource {
 
     private final ParticipantQueryService participantQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    private final ReadReceiptService readReceiptService;
+
     public ParticipantResource(
         ParticipantService participantService,
         ParticipantRepository participantRepository,
-        ParticipantQueryService participantQueryService
+        ParticipantQueryService participantQueryService,
+        CriteriaExportWriter criteriaExportWriter,
+        ReadReceiptService readReceiptService
     ) {
         this.participantService = participantService;
         this.participantRepository = participantRepository;
         this.participantQueryService = participantQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
+        this.readReceiptService = readReceiptService;
     }
 
     /**
@@ -144,41 +166,223 @@ public class ParticipantResource {
      * {@code GET  /participants} : get all the participants.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching participants, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching participants, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ParticipantDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ParticipantDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of participants in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ParticipantDTO>> getAllParticipants(ParticipantCriteria criteria) {
+    public ResponseEntity<List<ParticipantDTO>> getAllParticipants(
+        ParticipantCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Participants by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ParticipantDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ParticipantDTO.class, ENTITY_NAME),
+            ParticipantDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> participantQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> participantQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> participantQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ParticipantDTO> entityList = participantQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /participants/export} : export all the participants, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportParticipants(
+        ParticipantCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Participants by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ParticipantDTO.class,
+            consumer -> participantQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /participants/count} : count all the participants.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countParticipants(ParticipantCriteria criteria) {
+    public ResponseEntity<Long> countParticipants(
+        ParticipantCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Participants by criteria: {}", criteria);
-        return ResponseEntity.ok().body(participantQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(participantQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /participants/bulk} : Create participants in bulk.
+     *
+     * @param participantDTOs the participantDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the participants or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createParticipantsInBulk(
+        @RequestBody List<ParticipantDTO> participantDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Participants", participantDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> participantService.saveAll(participantDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /participants/bulk} : Update participants in bulk.
+     *
+     * @param participantDTOs the participantDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the participants or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateParticipantsInBulk(
+        @RequestBody List<ParticipantDTO> participantDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Participants", participantDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> participantService.updateAll(participantDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /participants/bulk/delete} : Delete participants in bulk.
+     *
+     * @param ids the ids of the participants to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the participants or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteParticipantsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Participants", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> participantService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /participants/batch} : get the participants of the given ids.
+     *
+     * @param ids the ids of the participants to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the participants found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ParticipantDTO, UUID>> getParticipantsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Participants : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, participantService::findAllById);
+    }
+
+    /**
+     * {@code POST  /participants/batch} : get the participants of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the participants to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the participants found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ParticipantDTO, UUID>> getParticipantsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Participants : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, participantService::findAllById);
     }
 
     /**
      * {@code GET  /participants/:id} : get the "id" participant.
      *
      * @param id the id of the participantDTO to retrieve.
+     * @param fields the comma-separated properties of the participantDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the participantDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the participantDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ParticipantDTO> getParticipant(@PathVariable("id") UUID id) {
+    public ResponseEntity<ParticipantDTO> getParticipant(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Participant : {}", id);
-        Optional<ParticipantDTO> participantDTO = participantService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ParticipantDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ParticipantDTO.class, ENTITY_NAME);
+        Optional<ParticipantDTO> participantDTO = fieldSet == null && includeSet == null
+            ? participantService.findOne(id)
+            : participantQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ParticipantDTO.class));
         return ResponseUtil.wrapOrNotFound(participantDTO);
     }
 
+    /**
+     * {@code PUT  /participants/:id/seen-messages/:messageId} : mark a message seen by the "id" participant.
+     *
+     * @param id the id of the participant.
+     * @param messageId the id of the message, of the conversation of the participant.
+     * @param previous whether to mark all the previous messages of the conversation seen too, {@code false} by default.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)} if there is no
+     * such participant or message.
+     * @throws BadRequestAlertException {@code 400 (Bad Request)} if the message is of another conversation.
+     */
+    @PutMapping("/{id}/seen-messages/{messageId}")
+    public ResponseEntity<Void> markMessageSeen(
+        @PathVariable("id") UUID id,
+        @PathVariable("messageId") UUID messageId,
+        @RequestParam(value = "previous", defaultValue = "false") boolean previous
+    ) {
+        log.debug("REST request to mark Message : {} seen by Participant : {}", messageId, id);
+        Optional<Boolean> marked = readReceiptService.markSeen(id, messageId, previous);
+        if (marked.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (Boolean.FALSE.equals(marked.get())) {
+            throw new BadRequestAlertException("The message is of another conversation", ENTITY_NAME, "messageinvalid");
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * {@code GET  /participants/:id/unseen-count} : count the messages of its conversation which the "id" participant has not seen.
+     *
+     * @param id the id of the participant.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/unseen-count")
+    public ResponseEntity<Long> countUnseenMessages(@PathVariable("id") UUID id) {
+        log.debug("REST request to count the Messages not seen by Participant : {}", id);
+        return ResponseUtil.wrapOrNotFound(readReceiptService.countUnseen(id));
+    }
+
     /**
      * {@code DELETE  /participants/:id} : delete the "id" participant.
      *
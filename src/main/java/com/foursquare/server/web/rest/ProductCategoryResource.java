@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ProductCategoryRepository;
 import com.foursquare.server.service.ProductCategoryQueryService;
 import com.foursquare.server.service.ProductCategoryService;
 import com.foursquare.server.service.criteria.ProductCategoryCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductCategoryDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ProductCategoryResource {
 
     private final ProductCategoryQueryService productCategoryQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ProductCategoryResource(
         ProductCategoryService productCategoryService,
         ProductCategoryRepository productCategoryRepository,
-        ProductCategoryQueryService productCategoryQueryService
+        ProductCategoryQueryService productCategoryQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.productCategoryService = productCategoryService;
         this.productCategoryRepository = productCategoryRepository;
         this.productCategoryQueryService = productCategoryQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class ProductCategoryResource {
      * {@code GET  /product-categories} : get all the productCategories.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching productCategories, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching productCategories, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ProductCategoryDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ProductCategoryDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of productCategories in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ProductCategoryDTO>> getAllProductCategories(ProductCategoryCriteria criteria) {
+    public ResponseEntity<List<ProductCategoryDTO>> getAllProductCategories(
+        ProductCategoryCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ProductCategories by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ProductCategoryDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ProductCategoryDTO.class, ENTITY_NAME),
+            ProductCategoryDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> productCategoryQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> productCategoryQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> productCategoryQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ProductCategoryDTO> entityList = productCategoryQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /product-categories/export} : export all the productCategories, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportProductCategories(
+        ProductCategoryCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export ProductCategories by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ProductCategoryDTO.class,
+            consumer -> productCategoryQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /product-categories/count} : count all the productCategories.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countProductCategories(ProductCategoryCriteria criteria) {
+    public ResponseEntity<Long> countProductCategories(
+        ProductCategoryCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count ProductCategories by criteria: {}", criteria);
-        return ResponseEntity.ok().body(productCategoryQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(productCategoryQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /product-categories/bulk} : Create productCategories in bulk.
+     *
+     * @param productCategoryDTOs the productCategoryDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the productCategories or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createProductCategoriesInBulk(
+        @RequestBody List<ProductCategoryDTO> productCategoryDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} ProductCategories", productCategoryDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productCategoryService.saveAll(productCategoryDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /product-categories/bulk} : Update productCategories in bulk.
+     *
+     * @param productCategoryDTOs the productCategoryDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the productCategories or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateProductCategoriesInBulk(
+        @RequestBody List<ProductCategoryDTO> productCategoryDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} ProductCategories", productCategoryDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productCategoryService.updateAll(productCategoryDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /product-categories/bulk/delete} : Delete productCategories in bulk.
+     *
+     * @param ids the ids of the productCategories to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the productCategories or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteProductCategoriesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} ProductCategories", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productCategoryService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /product-categories/batch} : get the productCategories of the given ids.
+     *
+     * @param ids the ids of the productCategories to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productCategories found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ProductCategoryDTO, UUID>> getProductCategoriesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get ProductCategories : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productCategoryService::findAllById);
+    }
+
+    /**
+     * {@code POST  /product-categories/batch} : get the productCategories of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the productCategories to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productCategories found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ProductCategoryDTO, UUID>> getProductCategoriesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get ProductCategories : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productCategoryService::findAllById);
     }
 
     /**
      * {@code GET  /product-categories/:id} : get the "id" productCategory.
      *
      * @param id the id of the productCategoryDTO to retrieve.
+     * @param fields the comma-separated properties of the productCategoryDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the productCategoryDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productCategoryDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductCategoryDTO> getProductCategory(@PathVariable("id") UUID id) {
+    public ResponseEntity<ProductCategoryDTO> getProductCategory(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ProductCategory : {}", id);
-        Optional<ProductCategoryDTO> productCategoryDTO = productCategoryService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ProductCategoryDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ProductCategoryDTO.class, ENTITY_NAME);
+        Optional<ProductCategoryDTO> productCategoryDTO = fieldSet == null && includeSet == null
+            ? productCategoryService.findOne(id)
+            : productCategoryQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ProductCategoryDTO.class));
         return ResponseUtil.wrapOrNotFound(productCategoryDTO);
     }
 
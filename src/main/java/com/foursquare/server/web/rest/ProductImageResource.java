@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ProductImageRepository;
 import com.foursquare.server.service.ProductImageQueryService;
 import com.foursquare.server.service.ProductImageService;
 import com.foursquare.server.service.criteria.ProductImageCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductImageDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ProductImageResource {
 
     private final ProductImageQueryService productImageQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ProductImageResource(
         ProductImageService productImageService,
         ProductImageRepository productImageRepository,
-        ProductImageQueryService productImageQueryService
+        ProductImageQueryService productImageQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.productImageService = productImageService;
         this.productImageRepository = productImageRepository;
         this.productImageQueryService = productImageQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class ProductImageResource {
      * {@code GET  /product-images} : get all the productImages.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching productImages, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching productImages, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ProductImageDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ProductImageDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of productImages in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ProductImageDTO>> getAllProductImages(ProductImageCriteria criteria) {
+    public ResponseEntity<List<ProductImageDTO>> getAllProductImages(
+        ProductImageCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ProductImages by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ProductImageDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ProductImageDTO.class, ENTITY_NAME),
+            ProductImageDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> productImageQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> productImageQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> productImageQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ProductImageDTO> entityList = productImageQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /product-images/export} : export all the productImages, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportProductImages(
+        ProductImageCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export ProductImages by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ProductImageDTO.class,
+            consumer -> productImageQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /product-images/count} : count all the productImages.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countProductImages(ProductImageCriteria criteria) {
+    public ResponseEntity<Long> countProductImages(
+        ProductImageCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count ProductImages by criteria: {}", criteria);
-        return ResponseEntity.ok().body(productImageQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(productImageQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /product-images/bulk} : Create productImages in bulk.
+     *
+     * @param productImageDTOs the productImageDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the productImages or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createProductImagesInBulk(
+        @RequestBody List<ProductImageDTO> productImageDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} ProductImages", productImageDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productImageService.saveAll(productImageDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /product-images/bulk} : Update productImages in bulk.
+     *
+     * @param productImageDTOs the productImageDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the productImages or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateProductImagesInBulk(
+        @RequestBody List<ProductImageDTO> productImageDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} ProductImages", productImageDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productImageService.updateAll(productImageDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /product-images/bulk/delete} : Delete productImages in bulk.
+     *
+     * @param ids the ids of the productImages to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the productImages or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteProductImagesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} ProductImages", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productImageService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /product-images/batch} : get the productImages of the given ids.
+     *
+     * @param ids the ids of the productImages to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productImages found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ProductImageDTO, UUID>> getProductImagesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get ProductImages : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productImageService::findAllById);
+    }
+
+    /**
+     * {@code POST  /product-images/batch} : get the productImages of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the productImages to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productImages found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ProductImageDTO, UUID>> getProductImagesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get ProductImages : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productImageService::findAllById);
     }
 
     /**
      * {@code GET  /product-images/:id} : get the "id" productImage.
      *
      * @param id the id of the productImageDTO to retrieve.
+     * @param fields the comma-separated properties of the productImageDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the productImageDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productImageDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductImageDTO> getProductImage(@PathVariable("id") UUID id) {
+    public ResponseEntity<ProductImageDTO> getProductImage(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ProductImage : {}", id);
-        Optional<ProductImageDTO> productImageDTO = productImageService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ProductImageDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ProductImageDTO.class, ENTITY_NAME);
+        Optional<ProductImageDTO> productImageDTO = fieldSet == null && includeSet == null
+            ? productImageService.findOne(id)
+            : productImageQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ProductImageDTO.class));
         return ResponseUtil.wrapOrNotFound(productImageDTO);
     }
 
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ProductQuantityRepository;
 import com.foursquare.server.service.ProductQuantityQueryService;
 import com.foursquare.server.service.ProductQuantityService;
 import com.foursquare.server.service.criteria.ProductQuantityCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductQuantityDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ProductQuantityResource {
 
     private final ProductQuantityQueryService productQuantityQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ProductQuantityResource(
         ProductQuantityService productQuantityService,
         ProductQuantityRepository productQuantityRepository,
-        ProductQuantityQueryService productQuantityQueryService
+        ProductQuantityQueryService productQuantityQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.productQuantityService = productQuantityService;
         this.productQuantityRepository = productQuantityRepository;
         this.productQuantityQueryService = productQuantityQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class ProductQuantityResource {
      * {@code GET  /product-quantities} : get all the productQuantities.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching productQuantities, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching productQuantities, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ProductQuantityDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ProductQuantityDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of productQuantities in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ProductQuantityDTO>> getAllProductQuantities(ProductQuantityCriteria criteria) {
+    public ResponseEntity<List<ProductQuantityDTO>> getAllProductQuantities(
+        ProductQuantityCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ProductQuantities by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ProductQuantityDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ProductQuantityDTO.class, ENTITY_NAME),
+            ProductQuantityDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> productQuantityQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> productQuantityQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> productQuantityQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ProductQuantityDTO> entityList = productQuantityQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /product-quantities/export} : export all the productQuantities, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportProductQuantities(
+        ProductQuantityCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export ProductQuantities by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ProductQuantityDTO.class,
+            consumer -> productQuantityQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /product-quantities/count} : count all the productQuantities.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countProductQuantities(ProductQuantityCriteria criteria) {
+    public ResponseEntity<Long> countProductQuantities(
+        ProductQuantityCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count ProductQuantities by criteria: {}", criteria);
-        return ResponseEntity.ok().body(productQuantityQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(productQuantityQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /product-quantities/bulk} : Create productQuantities in bulk.
+     *
+     * @param productQuantityDTOs the productQuantityDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the productQuantities or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createProductQuantitiesInBulk(
+        @RequestBody List<ProductQuantityDTO> productQuantityDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} ProductQuantities", productQuantityDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productQuantityService.saveAll(productQuantityDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /product-quantities/bulk} : Update productQuantities in bulk.
+     *
+     * @param productQuantityDTOs the productQuantityDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the productQuantities or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateProductQuantitiesInBulk(
+        @RequestBody List<ProductQuantityDTO> productQuantityDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} ProductQuantities", productQuantityDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productQuantityService.updateAll(productQuantityDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /product-quantities/bulk/delete} : Delete productQuantities in bulk.
+     *
+     * @param ids the ids of the productQuantities to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the productQuantities or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteProductQuantitiesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} ProductQuantities", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productQuantityService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /product-quantities/batch} : get the productQuantities of the given ids.
+     *
+     * @param ids the ids of the productQuantities to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productQuantities found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ProductQuantityDTO, UUID>> getProductQuantitiesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get ProductQuantities : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productQuantityService::findAllById);
+    }
+
+    /**
+     * {@code POST  /product-quantities/batch} : get the productQuantities of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the productQuantities to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productQuantities found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ProductQuantityDTO, UUID>> getProductQuantitiesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get ProductQuantities : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productQuantityService::findAllById);
     }
 
     /**
      * {@code GET  /product-quantities/:id} : get the "id" productQuantity.
      *
      * @param id the id of the productQuantityDTO to retrieve.
+     * @param fields the comma-separated properties of the productQuantityDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the productQuantityDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productQuantityDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductQuantityDTO> getProductQuantity(@PathVariable("id") UUID id) {
+    public ResponseEntity<ProductQuantityDTO> getProductQuantity(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ProductQuantity : {}", id);
-        Optional<ProductQuantityDTO> productQuantityDTO = productQuantityService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ProductQuantityDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ProductQuantityDTO.class, ENTITY_NAME);
+        Optional<ProductQuantityDTO> productQuantityDTO = fieldSet == null && includeSet == null
+            ? productQuantityService.findOne(id)
+            : productQuantityQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ProductQuantityDTO.class));
         return ResponseUtil.wrapOrNotFound(productQuantityDTO);
     }
 
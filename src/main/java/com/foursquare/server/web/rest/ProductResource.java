@@ -4,10 +4,20 @@ import com.foursquare.server.repository.ProductRepository;
 import com.foursquare.server.service.ProductQueryService;
 import com.foursquare.server.service.ProductService;
 import com.foursquare.server.service.criteria.ProductCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ProductDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -17,9 +27,14 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,10 +57,18 @@ public class ProductResource {
 
     private final ProductQueryService productQueryService;
 
-    public ProductResource(ProductService productService, ProductRepository productRepository, ProductQueryService productQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    public ProductResource(
+        ProductService productService,
+        ProductRepository productRepository,
+        ProductQueryService productQueryService,
+        CriteriaExportWriter criteriaExportWriter
+    ) {
         this.productService = productService;
         this.productRepository = productRepository;
         this.productQueryService = productQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -140,37 +163,189 @@ public class ProductResource {
      * {@code GET  /products} : get all the products.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching products, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching products, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ProductDTOs to return, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of products in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ProductDTO>> getAllProducts(ProductCriteria criteria) {
+    public ResponseEntity<List<ProductDTO>> getAllProducts(
+        ProductCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields
+    ) {
         log.debug("REST request to get Products by criteria: {}", criteria);
+        SparseFieldsets.parse(fields, ProductDTO.class, ENTITY_NAME);
 
-        List<ProductDTO> entityList = productQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> productQueryService.findByCriteria(criteria, page),
+            (page, cursor) -> productQueryService.scrollByCriteria(criteria, page, cursor),
+            () -> productQueryService.countByCriteria(criteria, true)
+        );
+    }
+
+    /**
+     * {@code GET  /products/export} : export all the products, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportProducts(
+        ProductCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Products by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ProductDTO.class,
+            consumer -> productQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /products/count} : count all the products.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countProducts(ProductCriteria criteria) {
+    public ResponseEntity<Long> countProducts(
+        ProductCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Products by criteria: {}", criteria);
-        return ResponseEntity.ok().body(productQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(productQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code GET  /products/search?query=:query} : search the products matching a web search query, most relevant first.
+     *
+     * @param query the query: words, {@code "quoted phrases"}, {@code or} between alternatives and {@code -} before excluded words.
+     * @param pageable the pagination information, whose sort is ignored.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of products in body.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductDTO>> searchProducts(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search Products : {}", query);
+        if (query.isBlank()) {
+            throw new BadRequestAlertException("A search query is required", ENTITY_NAME, "querynull");
+        }
+        Page<ProductDTO> page = productService.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code POST  /products/bulk} : Create products in bulk.
+     *
+     * @param productDTOs the productDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the products or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createProductsInBulk(
+        @RequestBody List<ProductDTO> productDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Products", productDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productService.saveAll(productDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /products/bulk} : Update products in bulk.
+     *
+     * @param productDTOs the productDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the products or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateProductsInBulk(
+        @RequestBody List<ProductDTO> productDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Products", productDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productService.updateAll(productDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /products/bulk/delete} : Delete products in bulk.
+     *
+     * @param ids the ids of the products to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the products or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteProductsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Products", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> productService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /products/batch} : get the products of the given ids.
+     *
+     * @param ids the ids of the products to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the products found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ProductDTO, UUID>> getProductsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Products : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productService::findAllById);
+    }
+
+    /**
+     * {@code POST  /products/batch} : get the products of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the products to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the products found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ProductDTO, UUID>> getProductsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Products : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, productService::findAllById);
     }
 
     /**
      * {@code GET  /products/:id} : get the "id" product.
      *
      * @param id the id of the productDTO to retrieve.
+     * @param fields the comma-separated properties of the productDTO to return, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the productDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDTO> getProduct(@PathVariable("id") UUID id) {
+    public ResponseEntity<ProductDTO> getProduct(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields
+    ) {
         log.debug("REST request to get Product : {}", id);
+        SparseFieldsets.parse(fields, ProductDTO.class, ENTITY_NAME);
         Optional<ProductDTO> productDTO = productService.findOne(id);
         return ResponseUtil.wrapOrNotFound(productDTO);
     }
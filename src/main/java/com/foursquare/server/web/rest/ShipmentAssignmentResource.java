@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ShipmentAssignmentRepository;
 import com.foursquare.server.service.ShipmentAssignmentQueryService;
 import com.foursquare.server.service.ShipmentAssignmentService;
 import com.foursquare.server.service.criteria.ShipmentAssignmentCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentAssignmentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ShipmentAssignmentResource {
 
     private final ShipmentAssignmentQueryService shipmentAssignmentQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ShipmentAssignmentResource(
         ShipmentAssignmentService shipmentAssignmentService,
         ShipmentAssignmentRepository shipmentAssignmentRepository,
-        ShipmentAssignmentQueryService shipmentAssignmentQueryService
+        ShipmentAssignmentQueryService shipmentAssignmentQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.shipmentAssignmentService = shipmentAssignmentService;
         this.shipmentAssignmentRepository = shipmentAssignmentRepository;
         this.shipmentAssignmentQueryService = shipmentAssignmentQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class ShipmentAssignmentResource {
      * {@code GET  /shipment-assignments} : get all the shipmentAssignments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching shipmentAssignments, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching shipmentAssignments, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ShipmentAssignmentDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ShipmentAssignmentDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shipmentAssignments in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ShipmentAssignmentDTO>> getAllShipmentAssignments(ShipmentAssignmentCriteria criteria) {
+    public ResponseEntity<List<ShipmentAssignmentDTO>> getAllShipmentAssignments(
+        ShipmentAssignmentCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ShipmentAssignments by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentAssignmentDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ShipmentAssignmentDTO.class, ENTITY_NAME),
+            ShipmentAssignmentDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> shipmentAssignmentQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> shipmentAssignmentQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> shipmentAssignmentQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ShipmentAssignmentDTO> entityList = shipmentAssignmentQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /shipment-assignments/export} : export all the shipmentAssignments, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportShipmentAssignments(
+        ShipmentAssignmentCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export ShipmentAssignments by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ShipmentAssignmentDTO.class,
+            consumer -> shipmentAssignmentQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /shipment-assignments/count} : count all the shipmentAssignments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countShipmentAssignments(ShipmentAssignmentCriteria criteria) {
+    public ResponseEntity<Long> countShipmentAssignments(
+        ShipmentAssignmentCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count ShipmentAssignments by criteria: {}", criteria);
-        return ResponseEntity.ok().body(shipmentAssignmentQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(shipmentAssignmentQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /shipment-assignments/bulk} : Create shipmentAssignments in bulk.
+     *
+     * @param shipmentAssignmentDTOs the shipmentAssignmentDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the shipmentAssignments or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createShipmentAssignmentsInBulk(
+        @RequestBody List<ShipmentAssignmentDTO> shipmentAssignmentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} ShipmentAssignments", shipmentAssignmentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentAssignmentService.saveAll(shipmentAssignmentDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /shipment-assignments/bulk} : Update shipmentAssignments in bulk.
+     *
+     * @param shipmentAssignmentDTOs the shipmentAssignmentDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the shipmentAssignments or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateShipmentAssignmentsInBulk(
+        @RequestBody List<ShipmentAssignmentDTO> shipmentAssignmentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} ShipmentAssignments", shipmentAssignmentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentAssignmentService.updateAll(shipmentAssignmentDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /shipment-assignments/bulk/delete} : Delete shipmentAssignments in bulk.
+     *
+     * @param ids the ids of the shipmentAssignments to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the shipmentAssignments or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteShipmentAssignmentsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} ShipmentAssignments", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentAssignmentService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /shipment-assignments/batch} : get the shipmentAssignments of the given ids.
+     *
+     * @param ids the ids of the shipmentAssignments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentAssignments found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentAssignmentDTO, UUID>> getShipmentAssignmentsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get ShipmentAssignments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentAssignmentService::findAllById);
+    }
+
+    /**
+     * {@code POST  /shipment-assignments/batch} : get the shipmentAssignments of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the shipmentAssignments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentAssignments found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentAssignmentDTO, UUID>> getShipmentAssignmentsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get ShipmentAssignments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentAssignmentService::findAllById);
     }
 
     /**
      * {@code GET  /shipment-assignments/:id} : get the "id" shipmentAssignment.
      *
      * @param id the id of the shipmentAssignmentDTO to retrieve.
+     * @param fields the comma-separated properties of the shipmentAssignmentDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the shipmentAssignmentDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentAssignmentDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ShipmentAssignmentDTO> getShipmentAssignment(@PathVariable("id") UUID id) {
+    public ResponseEntity<ShipmentAssignmentDTO> getShipmentAssignment(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ShipmentAssignment : {}", id);
-        Optional<ShipmentAssignmentDTO> shipmentAssignmentDTO = shipmentAssignmentService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentAssignmentDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ShipmentAssignmentDTO.class, ENTITY_NAME);
+        Optional<ShipmentAssignmentDTO> shipmentAssignmentDTO = fieldSet == null && includeSet == null
+            ? shipmentAssignmentService.findOne(id)
+            : shipmentAssignmentQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ShipmentAssignmentDTO.class));
         return ResponseUtil.wrapOrNotFound(shipmentAssignmentDTO);
     }
 
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ShipmentItemRepository;
 import com.foursquare.server.service.ShipmentItemQueryService;
 import com.foursquare.server.service.ShipmentItemService;
 import com.foursquare.server.service.criteria.ShipmentItemCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentItemDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ShipmentItemResource {
 
     private final ShipmentItemQueryService shipmentItemQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ShipmentItemResource(
         ShipmentItemService shipmentItemService,
         ShipmentItemRepository shipmentItemRepository,
-        ShipmentItemQueryService shipmentItemQueryService
+        ShipmentItemQueryService shipmentItemQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.shipmentItemService = shipmentItemService;
         this.shipmentItemRepository = shipmentItemRepository;
         this.shipmentItemQueryService = shipmentItemQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -145,38 +162,181 @@ public class ShipmentItemResource {
      * {@code GET  /shipment-items} : get all the shipmentItems.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching shipmentItems, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching shipmentItems, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ShipmentItemDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ShipmentItemDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shipmentItems in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ShipmentItemDTO>> getAllShipmentItems(ShipmentItemCriteria criteria) {
+    public ResponseEntity<List<ShipmentItemDTO>> getAllShipmentItems(
+        ShipmentItemCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ShipmentItems by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentItemDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ShipmentItemDTO.class, ENTITY_NAME),
+            ShipmentItemDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> shipmentItemQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> shipmentItemQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> shipmentItemQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ShipmentItemDTO> entityList = shipmentItemQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /shipment-items/export} : export all the shipmentItems, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportShipmentItems(
+        ShipmentItemCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export ShipmentItems by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ShipmentItemDTO.class,
+            consumer -> shipmentItemQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /shipment-items/count} : count all the shipmentItems.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countShipmentItems(ShipmentItemCriteria criteria) {
+    public ResponseEntity<Long> countShipmentItems(
+        ShipmentItemCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count ShipmentItems by criteria: {}", criteria);
-        return ResponseEntity.ok().body(shipmentItemQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(shipmentItemQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /shipment-items/bulk} : Create shipmentItems in bulk.
+     *
+     * @param shipmentItemDTOs the shipmentItemDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the shipmentItems or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createShipmentItemsInBulk(
+        @RequestBody List<ShipmentItemDTO> shipmentItemDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} ShipmentItems", shipmentItemDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentItemService.saveAll(shipmentItemDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /shipment-items/bulk} : Update shipmentItems in bulk.
+     *
+     * @param shipmentItemDTOs the shipmentItemDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the shipmentItems or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateShipmentItemsInBulk(
+        @RequestBody List<ShipmentItemDTO> shipmentItemDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} ShipmentItems", shipmentItemDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentItemService.updateAll(shipmentItemDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /shipment-items/bulk/delete} : Delete shipmentItems in bulk.
+     *
+     * @param ids the ids of the shipmentItems to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the shipmentItems or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteShipmentItemsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} ShipmentItems", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentItemService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /shipment-items/batch} : get the shipmentItems of the given ids.
+     *
+     * @param ids the ids of the shipmentItems to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentItems found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentItemDTO, UUID>> getShipmentItemsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get ShipmentItems : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentItemService::findAllById);
+    }
+
+    /**
+     * {@code POST  /shipment-items/batch} : get the shipmentItems of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the shipmentItems to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentItems found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentItemDTO, UUID>> getShipmentItemsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get ShipmentItems : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentItemService::findAllById);
     }
 
     /**
      * {@code GET  /shipment-items/:id} : get the "id" shipmentItem.
      *
      * @param id the id of the shipmentItemDTO to retrieve.
+     * @param fields the comma-separated properties of the shipmentItemDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the shipmentItemDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentItemDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ShipmentItemDTO> getShipmentItem(@PathVariable("id") UUID id) {
+    public ResponseEntity<ShipmentItemDTO> getShipmentItem(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ShipmentItem : {}", id);
-        Optional<ShipmentItemDTO> shipmentItemDTO = shipmentItemService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentItemDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ShipmentItemDTO.class, ENTITY_NAME);
+        Optional<ShipmentItemDTO> shipmentItemDTO = fieldSet == null && includeSet == null
+            ? shipmentItemService.findOne(id)
+            : shipmentItemQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ShipmentItemDTO.class));
         return ResponseUtil.wrapOrNotFound(shipmentItemDTO);
     }
 
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.ShipmentRepository;
 import com.foursquare.server.service.ShipmentQueryService;
 import com.foursquare.server.service.ShipmentService;
 import com.foursquare.server.service.criteria.ShipmentCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class ShipmentResource {
 
     private final ShipmentQueryService shipmentQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ShipmentResource(
         ShipmentService shipmentService,
         ShipmentRepository shipmentRepository,
-        ShipmentQueryService shipmentQueryService
+        ShipmentQueryService shipmentQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.shipmentService = shipmentService;
         this.shipmentRepository = shipmentRepository;
         this.shipmentQueryService = shipmentQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -144,38 +161,181 @@ public class ShipmentResource {
      * {@code GET  /shipments} : get all the shipments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching shipments, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching shipments, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ShipmentDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ShipmentDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shipments in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ShipmentDTO>> getAllShipments(ShipmentCriteria criteria) {
+    public ResponseEntity<List<ShipmentDTO>> getAllShipments(
+        ShipmentCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Shipments by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ShipmentDTO.class, ENTITY_NAME),
+            ShipmentDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> shipmentQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> shipmentQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> shipmentQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ShipmentDTO> entityList = shipmentQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /shipments/export} : export all the shipments, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportShipments(
+        ShipmentCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Shipments by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ShipmentDTO.class,
+            consumer -> shipmentQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /shipments/count} : count all the shipments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countShipments(ShipmentCriteria criteria) {
+    public ResponseEntity<Long> countShipments(
+        ShipmentCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Shipments by criteria: {}", criteria);
-        return ResponseEntity.ok().body(shipmentQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(shipmentQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /shipments/bulk} : Create shipments in bulk.
+     *
+     * @param shipmentDTOs the shipmentDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the shipments or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createShipmentsInBulk(
+        @RequestBody List<ShipmentDTO> shipmentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Shipments", shipmentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentService.saveAll(shipmentDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /shipments/bulk} : Update shipments in bulk.
+     *
+     * @param shipmentDTOs the shipmentDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the shipments or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateShipmentsInBulk(
+        @RequestBody List<ShipmentDTO> shipmentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Shipments", shipmentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentService.updateAll(shipmentDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /shipments/bulk/delete} : Delete shipments in bulk.
+     *
+     * @param ids the ids of the shipments to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the shipments or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteShipmentsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Shipments", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /shipments/batch} : get the shipments of the given ids.
+     *
+     * @param ids the ids of the shipments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipments found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentDTO, UUID>> getShipmentsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Shipments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentService::findAllById);
+    }
+
+    /**
+     * {@code POST  /shipments/batch} : get the shipments of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the shipments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipments found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentDTO, UUID>> getShipmentsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Shipments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentService::findAllById);
     }
 
     /**
      * {@code GET  /shipments/:id} : get the "id" shipment.
      *
      * @param id the id of the shipmentDTO to retrieve.
+     * @param fields the comma-separated properties of the shipmentDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the shipmentDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ShipmentDTO> getShipment(@PathVariable("id") UUID id) {
+    public ResponseEntity<ShipmentDTO> getShipment(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get Shipment : {}", id);
-        Optional<ShipmentDTO> shipmentDTO = shipmentService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ShipmentDTO.class, ENTITY_NAME);
+        Optional<ShipmentDTO> shipmentDTO = fieldSet == null && includeSet == null
+            ? shipmentService.findOne(id)
+            : shipmentQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ShipmentDTO.class));
         return ResponseUtil.wrapOrNotFound(shipmentDTO);
     }
 
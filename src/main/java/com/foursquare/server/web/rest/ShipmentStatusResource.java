@@ -4,18 +4,31 @@ import com.foursquare.server.repository.ShipmentStatusRepository;
 import com.foursquare.server.service.ShipmentStatusQueryService;
 import com.foursquare.server.service.ShipmentStatusService;
 import com.foursquare.server.service.criteria.ShipmentStatusCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.ShipmentStatusDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -41,14 +54,18 @@ public class ShipmentStatusResource {
 
     private final ShipmentStatusQueryService shipmentStatusQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public ShipmentStatusResource(
         ShipmentStatusService shipmentStatusService,
         ShipmentStatusRepository shipmentStatusRepository,
-        ShipmentStatusQueryService shipmentStatusQueryService
+        ShipmentStatusQueryService shipmentStatusQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.shipmentStatusService = shipmentStatusService;
         this.shipmentStatusRepository = shipmentStatusRepository;
         this.shipmentStatusQueryService = shipmentStatusQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -144,38 +161,181 @@ public class ShipmentStatusResource {
      * {@code GET  /shipment-statuses} : get all the shipmentStatuses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching shipmentStatuses, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching shipmentStatuses, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the ShipmentStatusDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the ShipmentStatusDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shipmentStatuses in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ShipmentStatusDTO>> getAllShipmentStatuses(ShipmentStatusCriteria criteria) {
+    public ResponseEntity<List<ShipmentStatusDTO>> getAllShipmentStatuses(
+        ShipmentStatusCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ShipmentStatuses by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentStatusDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, ShipmentStatusDTO.class, ENTITY_NAME),
+            ShipmentStatusDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> shipmentStatusQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> shipmentStatusQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> shipmentStatusQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<ShipmentStatusDTO> entityList = shipmentStatusQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /shipment-statuses/export} : export all the shipmentStatuses, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportShipmentStatuses(
+        ShipmentStatusCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export ShipmentStatuses by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            ShipmentStatusDTO.class,
+            consumer -> shipmentStatusQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /shipment-statuses/count} : count all the shipmentStatuses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countShipmentStatuses(ShipmentStatusCriteria criteria) {
+    public ResponseEntity<Long> countShipmentStatuses(
+        ShipmentStatusCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count ShipmentStatuses by criteria: {}", criteria);
-        return ResponseEntity.ok().body(shipmentStatusQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(shipmentStatusQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /shipment-statuses/bulk} : Create shipmentStatuses in bulk.
+     *
+     * @param shipmentStatusDTOs the shipmentStatusDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the shipmentStatuses or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> createShipmentStatusesInBulk(
+        @RequestBody List<ShipmentStatusDTO> shipmentStatusDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} ShipmentStatuses", shipmentStatusDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentStatusService.saveAll(shipmentStatusDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /shipment-statuses/bulk} : Update shipmentStatuses in bulk.
+     *
+     * @param shipmentStatusDTOs the shipmentStatusDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the shipmentStatuses or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> updateShipmentStatusesInBulk(
+        @RequestBody List<ShipmentStatusDTO> shipmentStatusDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} ShipmentStatuses", shipmentStatusDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentStatusService.updateAll(shipmentStatusDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /shipment-statuses/bulk/delete} : Delete shipmentStatuses in bulk.
+     *
+     * @param ids the ids of the shipmentStatuses to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the shipmentStatuses or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> deleteShipmentStatusesInBulk(
+        @RequestBody List<Long> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} ShipmentStatuses", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> shipmentStatusService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /shipment-statuses/batch} : get the shipmentStatuses of the given ids.
+     *
+     * @param ids the ids of the shipmentStatuses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentStatuses found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentStatusDTO, Long>> getShipmentStatusesByIds(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get ShipmentStatuses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentStatusService::findAllById);
+    }
+
+    /**
+     * {@code POST  /shipment-statuses/batch} : get the shipmentStatuses of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the shipmentStatuses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentStatuses found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<ShipmentStatusDTO, Long>> getShipmentStatusesByIdsInBody(@RequestBody List<Long> ids) {
+        log.debug("REST request to get ShipmentStatuses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, shipmentStatusService::findAllById);
     }
 
     /**
      * {@code GET  /shipment-statuses/:id} : get the "id" shipmentStatus.
      *
      * @param id the id of the shipmentStatusDTO to retrieve.
+     * @param fields the comma-separated properties of the shipmentStatusDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the shipmentStatusDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the shipmentStatusDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ShipmentStatusDTO> getShipmentStatus(@PathVariable("id") Long id) {
+    public ResponseEntity<ShipmentStatusDTO> getShipmentStatus(
+        @PathVariable("id") Long id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get ShipmentStatus : {}", id);
-        Optional<ShipmentStatusDTO> shipmentStatusDTO = shipmentStatusService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, ShipmentStatusDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, ShipmentStatusDTO.class, ENTITY_NAME);
+        Optional<ShipmentStatusDTO> shipmentStatusDTO = fieldSet == null && includeSet == null
+            ? shipmentStatusService.findOne(id)
+            : shipmentStatusQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, ShipmentStatusDTO.class));
         return ResponseUtil.wrapOrNotFound(shipmentStatusDTO);
     }
 
@@ -4,18 +4,31 @@ import com.foursquare.server.repository.StaffInfoRepository;
 import com.foursquare.server.service.StaffInfoQueryService;
 import com.foursquare.server.service.StaffInfoService;
 import com.foursquare.server.service.criteria.StaffInfoCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.StaffInfoDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -41,14 +54,18 @@ public class StaffInfoResource {
 
     private final StaffInfoQueryService staffInfoQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public StaffInfoResource(
         StaffInfoService staffInfoService,
         StaffInfoRepository staffInfoRepository,
-        StaffInfoQueryService staffInfoQueryService
+        StaffInfoQueryService staffInfoQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.staffInfoService = staffInfoService;
         this.staffInfoRepository = staffInfoRepository;
         this.staffInfoQueryService = staffInfoQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -143,38 +160,181 @@ public class StaffInfoResource {
      * {@code GET  /staff-infos} : get all the staffInfos.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching staffInfos, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching staffInfos, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the StaffInfoDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the StaffInfoDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of staffInfos in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<StaffInfoDTO>> getAllStaffInfos(StaffInfoCriteria criteria) {
+    public ResponseEntity<List<StaffInfoDTO>> getAllStaffInfos(
+        StaffInfoCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get StaffInfos by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, StaffInfoDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, StaffInfoDTO.class, ENTITY_NAME),
+            StaffInfoDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> staffInfoQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> staffInfoQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> staffInfoQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<StaffInfoDTO> entityList = staffInfoQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /staff-infos/export} : export all the staffInfos, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportStaffInfos(
+        StaffInfoCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export StaffInfos by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            StaffInfoDTO.class,
+            consumer -> staffInfoQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /staff-infos/count} : count all the staffInfos.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countStaffInfos(StaffInfoCriteria criteria) {
+    public ResponseEntity<Long> countStaffInfos(
+        StaffInfoCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count StaffInfos by criteria: {}", criteria);
-        return ResponseEntity.ok().body(staffInfoQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(staffInfoQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /staff-infos/bulk} : Create staffInfos in bulk.
+     *
+     * @param staffInfoDTOs the staffInfoDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the staffInfos or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> createStaffInfosInBulk(
+        @RequestBody List<StaffInfoDTO> staffInfoDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} StaffInfos", staffInfoDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> staffInfoService.saveAll(staffInfoDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /staff-infos/bulk} : Update staffInfos in bulk.
+     *
+     * @param staffInfoDTOs the staffInfoDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the staffInfos or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> updateStaffInfosInBulk(
+        @RequestBody List<StaffInfoDTO> staffInfoDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} StaffInfos", staffInfoDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> staffInfoService.updateAll(staffInfoDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /staff-infos/bulk/delete} : Delete staffInfos in bulk.
+     *
+     * @param ids the ids of the staffInfos to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the staffInfos or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> deleteStaffInfosInBulk(
+        @RequestBody List<Long> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} StaffInfos", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> staffInfoService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /staff-infos/batch} : get the staffInfos of the given ids.
+     *
+     * @param ids the ids of the staffInfos to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the staffInfos found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<StaffInfoDTO, Long>> getStaffInfosByIds(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get StaffInfos : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, staffInfoService::findAllById);
+    }
+
+    /**
+     * {@code POST  /staff-infos/batch} : get the staffInfos of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the staffInfos to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the staffInfos found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<StaffInfoDTO, Long>> getStaffInfosByIdsInBody(@RequestBody List<Long> ids) {
+        log.debug("REST request to get StaffInfos : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, staffInfoService::findAllById);
     }
 
     /**
      * {@code GET  /staff-infos/:id} : get the "id" staffInfo.
      *
      * @param id the id of the staffInfoDTO to retrieve.
+     * @param fields the comma-separated properties of the staffInfoDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the staffInfoDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the staffInfoDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<StaffInfoDTO> getStaffInfo(@PathVariable("id") Long id) {
+    public ResponseEntity<StaffInfoDTO> getStaffInfo(
+        @PathVariable("id") Long id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get StaffInfo : {}", id);
-        Optional<StaffInfoDTO> staffInfoDTO = staffInfoService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, StaffInfoDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, StaffInfoDTO.class, ENTITY_NAME);
+        Optional<StaffInfoDTO> staffInfoDTO = fieldSet == null && includeSet == null
+            ? staffInfoService.findOne(id)
+            : staffInfoQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, StaffInfoDTO.class));
         return ResponseUtil.wrapOrNotFound(staffInfoDTO);
     }
 
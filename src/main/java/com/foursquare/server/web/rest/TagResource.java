@@ -4,10 +4,20 @@ import com.foursquare.server.repository.TagRepository;
 import com.foursquare.server.service.TagQueryService;
 import com.foursquare.server.service.TagService;
 import com.foursquare.server.service.criteria.TagCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.TagDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -17,6 +27,7 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,10 +53,18 @@ public class TagResource {
 
     private final TagQueryService tagQueryService;
 
-    public TagResource(TagService tagService, TagRepository tagRepository, TagQueryService tagQueryService) {
+    private final CriteriaExportWriter criteriaExportWriter;
+
+    public TagResource(
+        TagService tagService,
+        TagRepository tagRepository,
+        TagQueryService tagQueryService,
+        CriteriaExportWriter criteriaExportWriter
+    ) {
         this.tagService = tagService;
         this.tagRepository = tagRepository;
         this.tagQueryService = tagQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -138,37 +157,165 @@ public class TagResource {
      * {@code GET  /tags} : get all the tags.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching tags, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching tags, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the TagDTOs to return, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tags in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<TagDTO>> getAllTags(TagCriteria criteria) {
+    public ResponseEntity<List<TagDTO>> getAllTags(
+        TagCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields
+    ) {
         log.debug("REST request to get Tags by criteria: {}", criteria);
+        SparseFieldsets.parse(fields, TagDTO.class, ENTITY_NAME);
 
-        List<TagDTO> entityList = tagQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> tagQueryService.findByCriteria(criteria, page),
+            (page, cursor) -> tagQueryService.scrollByCriteria(criteria, page, cursor),
+            () -> tagQueryService.countByCriteria(criteria, true)
+        );
+    }
+
+    /**
+     * {@code GET  /tags/export} : export all the tags, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportTags(
+        TagCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export Tags by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            TagDTO.class,
+            consumer -> tagQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /tags/count} : count all the tags.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countTags(TagCriteria criteria) {
+    public ResponseEntity<Long> countTags(
+        TagCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count Tags by criteria: {}", criteria);
-        return ResponseEntity.ok().body(tagQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(tagQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /tags/bulk} : Create tags in bulk.
+     *
+     * @param tagDTOs the tagDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the tags or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createTagsInBulk(
+        @RequestBody List<TagDTO> tagDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} Tags", tagDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> tagService.saveAll(tagDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /tags/bulk} : Update tags in bulk.
+     *
+     * @param tagDTOs the tagDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the tags or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateTagsInBulk(
+        @RequestBody List<TagDTO> tagDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} Tags", tagDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> tagService.updateAll(tagDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /tags/bulk/delete} : Delete tags in bulk.
+     *
+     * @param ids the ids of the tags to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the tags or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteTagsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} Tags", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> tagService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /tags/batch} : get the tags of the given ids.
+     *
+     * @param ids the ids of the tags to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tags found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<TagDTO, UUID>> getTagsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get Tags : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, tagService::findAllById);
+    }
+
+    /**
+     * {@code POST  /tags/batch} : get the tags of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the tags to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tags found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<TagDTO, UUID>> getTagsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get Tags : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, tagService::findAllById);
     }
 
     /**
      * {@code GET  /tags/:id} : get the "id" tag.
      *
      * @param id the id of the tagDTO to retrieve.
+     * @param fields the comma-separated properties of the tagDTO to return, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tagDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TagDTO> getTag(@PathVariable("id") UUID id) {
+    public ResponseEntity<TagDTO> getTag(@PathVariable("id") UUID id, @RequestParam(value = "fields", required = false) String fields) {
         log.debug("REST request to get Tag : {}", id);
+        SparseFieldsets.parse(fields, TagDTO.class, ENTITY_NAME);
         Optional<TagDTO> tagDTO = tagService.findOne(id);
         return ResponseUtil.wrapOrNotFound(tagDTO);
     }
@@ -4,19 +4,32 @@ import com.foursquare.server.repository.UserAddressRepository;
 import com.foursquare.server.service.UserAddressQueryService;
 import com.foursquare.server.service.UserAddressService;
 import com.foursquare.server.service.criteria.UserAddressCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.UserAddressDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class UserAddressResource {
 
     private final UserAddressQueryService userAddressQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public UserAddressResource(
         UserAddressService userAddressService,
         UserAddressRepository userAddressRepository,
-        UserAddressQueryService userAddressQueryService
+        UserAddressQueryService userAddressQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.userAddressService = userAddressService;
         this.userAddressRepository = userAddressRepository;
         this.userAddressQueryService = userAddressQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -144,38 +161,181 @@ public class UserAddressResource {
      * {@code GET  /user-addresses} : get all the userAddresses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching userAddresses, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching userAddresses, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the UserAddressDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the UserAddressDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of userAddresses in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<UserAddressDTO>> getAllUserAddresses(UserAddressCriteria criteria) {
+    public ResponseEntity<List<UserAddressDTO>> getAllUserAddresses(
+        UserAddressCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get UserAddresses by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, UserAddressDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, UserAddressDTO.class, ENTITY_NAME),
+            UserAddressDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> userAddressQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> userAddressQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> userAddressQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<UserAddressDTO> entityList = userAddressQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /user-addresses/export} : export all the userAddresses, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportUserAddresses(
+        UserAddressCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export UserAddresses by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            UserAddressDTO.class,
+            consumer -> userAddressQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /user-addresses/count} : count all the userAddresses.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countUserAddresses(UserAddressCriteria criteria) {
+    public ResponseEntity<Long> countUserAddresses(
+        UserAddressCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count UserAddresses by criteria: {}", criteria);
-        return ResponseEntity.ok().body(userAddressQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(userAddressQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /user-addresses/bulk} : Create userAddresses in bulk.
+     *
+     * @param userAddressDTOs the userAddressDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the userAddresses or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createUserAddressesInBulk(
+        @RequestBody List<UserAddressDTO> userAddressDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} UserAddresses", userAddressDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> userAddressService.saveAll(userAddressDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /user-addresses/bulk} : Update userAddresses in bulk.
+     *
+     * @param userAddressDTOs the userAddressDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the userAddresses or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateUserAddressesInBulk(
+        @RequestBody List<UserAddressDTO> userAddressDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} UserAddresses", userAddressDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> userAddressService.updateAll(userAddressDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /user-addresses/bulk/delete} : Delete userAddresses in bulk.
+     *
+     * @param ids the ids of the userAddresses to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the userAddresses or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteUserAddressesInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} UserAddresses", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> userAddressService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /user-addresses/batch} : get the userAddresses of the given ids.
+     *
+     * @param ids the ids of the userAddresses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the userAddresses found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<UserAddressDTO, UUID>> getUserAddressesByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get UserAddresses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, userAddressService::findAllById);
+    }
+
+    /**
+     * {@code POST  /user-addresses/batch} : get the userAddresses of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the userAddresses to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the userAddresses found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<UserAddressDTO, UUID>> getUserAddressesByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get UserAddresses : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, userAddressService::findAllById);
     }
 
     /**
      * {@code GET  /user-addresses/:id} : get the "id" userAddress.
      *
      * @param id the id of the userAddressDTO to retrieve.
+     * @param fields the comma-separated properties of the userAddressDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the userAddressDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the userAddressDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserAddressDTO> getUserAddress(@PathVariable("id") UUID id) {
+    public ResponseEntity<UserAddressDTO> getUserAddress(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get UserAddress : {}", id);
-        Optional<UserAddressDTO> userAddressDTO = userAddressService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, UserAddressDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, UserAddressDTO.class, ENTITY_NAME);
+        Optional<UserAddressDTO> userAddressDTO = fieldSet == null && includeSet == null
+            ? userAddressService.findOne(id)
+            : userAddressQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, UserAddressDTO.class));
         return ResponseUtil.wrapOrNotFound(userAddressDTO);
     }
 
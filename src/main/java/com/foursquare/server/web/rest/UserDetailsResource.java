@@ -4,18 +4,31 @@ import com.foursquare.server.repository.UserDetailsRepository;
 import com.foursquare.server.service.UserDetailsQueryService;
 import com.foursquare.server.service.UserDetailsService;
 import com.foursquare.server.service.criteria.UserDetailsCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.UserDetailsDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -41,14 +54,18 @@ public class UserDetailsResource {
 
     private final UserDetailsQueryService userDetailsQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public UserDetailsResource(
         UserDetailsService userDetailsService,
         UserDetailsRepository userDetailsRepository,
-        UserDetailsQueryService userDetailsQueryService
+        UserDetailsQueryService userDetailsQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.userDetailsService = userDetailsService;
         this.userDetailsRepository = userDetailsRepository;
         this.userDetailsQueryService = userDetailsQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -143,38 +160,181 @@ public class UserDetailsResource {
      * {@code GET  /user-details} : get all the userDetails.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching userDetails, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching userDetails, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the UserDetailsDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the UserDetailsDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of userDetails in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<UserDetailsDTO>> getAllUserDetails(UserDetailsCriteria criteria) {
+    public ResponseEntity<List<UserDetailsDTO>> getAllUserDetails(
+        UserDetailsCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get UserDetails by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, UserDetailsDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, UserDetailsDTO.class, ENTITY_NAME),
+            UserDetailsDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> userDetailsQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> userDetailsQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> userDetailsQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<UserDetailsDTO> entityList = userDetailsQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /user-details/export} : export all the userDetails, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportUserDetails(
+        UserDetailsCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export UserDetails by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            UserDetailsDTO.class,
+            consumer -> userDetailsQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /user-details/count} : count all the userDetails.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countUserDetails(UserDetailsCriteria criteria) {
+    public ResponseEntity<Long> countUserDetails(
+        UserDetailsCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count UserDetails by criteria: {}", criteria);
-        return ResponseEntity.ok().body(userDetailsQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(userDetailsQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /user-details/bulk} : Create userDetails in bulk.
+     *
+     * @param userDetailsDTOs the userDetailsDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the userDetails or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> createUserDetailsInBulk(
+        @RequestBody List<UserDetailsDTO> userDetailsDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} UserDetails", userDetailsDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> userDetailsService.saveAll(userDetailsDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /user-details/bulk} : Update userDetails in bulk.
+     *
+     * @param userDetailsDTOs the userDetailsDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the userDetails or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> updateUserDetailsInBulk(
+        @RequestBody List<UserDetailsDTO> userDetailsDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} UserDetails", userDetailsDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> userDetailsService.updateAll(userDetailsDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /user-details/bulk/delete} : Delete userDetails in bulk.
+     *
+     * @param ids the ids of the userDetails to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the userDetails or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<Long>>> deleteUserDetailsInBulk(
+        @RequestBody List<Long> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} UserDetails", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> userDetailsService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /user-details/batch} : get the userDetails of the given ids.
+     *
+     * @param ids the ids of the userDetails to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the userDetails found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<UserDetailsDTO, Long>> getUserDetailsByIds(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get UserDetails : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, userDetailsService::findAllById);
+    }
+
+    /**
+     * {@code POST  /user-details/batch} : get the userDetails of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the userDetails to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the userDetails found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<UserDetailsDTO, Long>> getUserDetailsByIdsInBody(@RequestBody List<Long> ids) {
+        log.debug("REST request to get UserDetails : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, userDetailsService::findAllById);
     }
 
     /**
      * {@code GET  /user-details/:id} : get the "id" userDetails.
      *
      * @param id the id of the userDetailsDTO to retrieve.
+     * @param fields the comma-separated properties of the userDetailsDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the userDetailsDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the userDetailsDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserDetailsDTO> getUserDetails(@PathVariable("id") Long id) {
+    public ResponseEntity<UserDetailsDTO> getUserDetails(
+        @PathVariable("id") Long id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get UserDetails : {}", id);
-        Optional<UserDetailsDTO> userDetailsDTO = userDetailsService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, UserDetailsDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, UserDetailsDTO.class, ENTITY_NAME);
+        Optional<UserDetailsDTO> userDetailsDTO = fieldSet == null && includeSet == null
+            ? userDetailsService.findOne(id)
+            : userDetailsQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, UserDetailsDTO.class));
         return ResponseUtil.wrapOrNotFound(userDetailsDTO);
     }
 
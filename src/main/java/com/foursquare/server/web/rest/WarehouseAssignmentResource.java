@@ -4,19 +4,32 @@ import com.foursquare.server.repository.WarehouseAssignmentRepository;
 import com.foursquare.server.service.WarehouseAssignmentQueryService;
 import com.foursquare.server.service.WarehouseAssignmentService;
 import com.foursquare.server.service.criteria.WarehouseAssignmentCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.WarehouseAssignmentDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class WarehouseAssignmentResource {
 
     private final WarehouseAssignmentQueryService warehouseAssignmentQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public WarehouseAssignmentResource(
         WarehouseAssignmentService warehouseAssignmentService,
         WarehouseAssignmentRepository warehouseAssignmentRepository,
-        WarehouseAssignmentQueryService warehouseAssignmentQueryService
+        WarehouseAssignmentQueryService warehouseAssignmentQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.warehouseAssignmentService = warehouseAssignmentService;
         this.warehouseAssignmentRepository = warehouseAssignmentRepository;
         this.warehouseAssignmentQueryService = warehouseAssignmentQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -146,38 +163,181 @@ public class WarehouseAssignmentResource {
      * {@code GET  /warehouse-assignments} : get all the warehouseAssignments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching warehouseAssignments, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching warehouseAssignments, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the WarehouseAssignmentDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the WarehouseAssignmentDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of warehouseAssignments in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<WarehouseAssignmentDTO>> getAllWarehouseAssignments(WarehouseAssignmentCriteria criteria) {
+    public ResponseEntity<List<WarehouseAssignmentDTO>> getAllWarehouseAssignments(
+        WarehouseAssignmentCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get WarehouseAssignments by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, WarehouseAssignmentDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, WarehouseAssignmentDTO.class, ENTITY_NAME),
+            WarehouseAssignmentDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> warehouseAssignmentQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> warehouseAssignmentQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> warehouseAssignmentQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<WarehouseAssignmentDTO> entityList = warehouseAssignmentQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /warehouse-assignments/export} : export all the warehouseAssignments, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportWarehouseAssignments(
+        WarehouseAssignmentCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export WarehouseAssignments by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            WarehouseAssignmentDTO.class,
+            consumer -> warehouseAssignmentQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /warehouse-assignments/count} : count all the warehouseAssignments.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countWarehouseAssignments(WarehouseAssignmentCriteria criteria) {
+    public ResponseEntity<Long> countWarehouseAssignments(
+        WarehouseAssignmentCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count WarehouseAssignments by criteria: {}", criteria);
-        return ResponseEntity.ok().body(warehouseAssignmentQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(warehouseAssignmentQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /warehouse-assignments/bulk} : Create warehouseAssignments in bulk.
+     *
+     * @param warehouseAssignmentDTOs the warehouseAssignmentDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the warehouseAssignments or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createWarehouseAssignmentsInBulk(
+        @RequestBody List<WarehouseAssignmentDTO> warehouseAssignmentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} WarehouseAssignments", warehouseAssignmentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> warehouseAssignmentService.saveAll(warehouseAssignmentDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /warehouse-assignments/bulk} : Update warehouseAssignments in bulk.
+     *
+     * @param warehouseAssignmentDTOs the warehouseAssignmentDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the warehouseAssignments or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateWarehouseAssignmentsInBulk(
+        @RequestBody List<WarehouseAssignmentDTO> warehouseAssignmentDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} WarehouseAssignments", warehouseAssignmentDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> warehouseAssignmentService.updateAll(warehouseAssignmentDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /warehouse-assignments/bulk/delete} : Delete warehouseAssignments in bulk.
+     *
+     * @param ids the ids of the warehouseAssignments to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the warehouseAssignments or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteWarehouseAssignmentsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} WarehouseAssignments", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> warehouseAssignmentService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /warehouse-assignments/batch} : get the warehouseAssignments of the given ids.
+     *
+     * @param ids the ids of the warehouseAssignments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the warehouseAssignments found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<WarehouseAssignmentDTO, UUID>> getWarehouseAssignmentsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get WarehouseAssignments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, warehouseAssignmentService::findAllById);
+    }
+
+    /**
+     * {@code POST  /warehouse-assignments/batch} : get the warehouseAssignments of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the warehouseAssignments to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the warehouseAssignments found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<WarehouseAssignmentDTO, UUID>> getWarehouseAssignmentsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get WarehouseAssignments : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, warehouseAssignmentService::findAllById);
     }
 
     /**
      * {@code GET  /warehouse-assignments/:id} : get the "id" warehouseAssignment.
      *
      * @param id the id of the warehouseAssignmentDTO to retrieve.
+     * @param fields the comma-separated properties of the warehouseAssignmentDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the warehouseAssignmentDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the warehouseAssignmentDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<WarehouseAssignmentDTO> getWarehouseAssignment(@PathVariable("id") UUID id) {
+    public ResponseEntity<WarehouseAssignmentDTO> getWarehouseAssignment(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get WarehouseAssignment : {}", id);
-        Optional<WarehouseAssignmentDTO> warehouseAssignmentDTO = warehouseAssignmentService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, WarehouseAssignmentDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, WarehouseAssignmentDTO.class, ENTITY_NAME);
+        Optional<WarehouseAssignmentDTO> warehouseAssignmentDTO = fieldSet == null && includeSet == null
+            ? warehouseAssignmentService.findOne(id)
+            : warehouseAssignmentQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, WarehouseAssignmentDTO.class));
         return ResponseUtil.wrapOrNotFound(warehouseAssignmentDTO);
     }
 
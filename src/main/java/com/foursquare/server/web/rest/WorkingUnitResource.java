@@ -4,19 +4,32 @@ import com.foursquare.server.repository.WorkingUnitRepository;
 import com.foursquare.server.service.WorkingUnitQueryService;
 import com.foursquare.server.service.WorkingUnitService;
 import com.foursquare.server.service.criteria.WorkingUnitCriteria;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
 import com.foursquare.server.service.dto.WorkingUnitDTO;
+import com.foursquare.server.service.helper.BulkWriter;
 import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
+import com.foursquare.server.web.rest.util.BulkWriteUtil;
+import com.foursquare.server.web.rest.util.CriteriaExportWriter;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
+import com.foursquare.server.web.rest.util.FetchProfiles;
+import com.foursquare.server.web.rest.util.SparseFieldsets;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
@@ -42,14 +55,18 @@ public class WorkingUnitResource {
 
     private final WorkingUnitQueryService workingUnitQueryService;
 
+    private final CriteriaExportWriter criteriaExportWriter;
+
     public WorkingUnitResource(
         WorkingUnitService workingUnitService,
         WorkingUnitRepository workingUnitRepository,
-        WorkingUnitQueryService workingUnitQueryService
+        WorkingUnitQueryService workingUnitQueryService,
+        CriteriaExportWriter criteriaExportWriter
     ) {
         this.workingUnitService = workingUnitService;
         this.workingUnitRepository = workingUnitRepository;
         this.workingUnitQueryService = workingUnitQueryService;
+        this.criteriaExportWriter = criteriaExportWriter;
     }
 
     /**
@@ -144,38 +161,181 @@ public class WorkingUnitResource {
      * {@code GET  /working-units} : get all the workingUnits.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param count whether to count all the matching workingUnits, {@code true} by default.
+     * @param approximate whether to estimate the count of the matching workingUnits, {@code false} by default.
+     * @param after the {@code createdDate,id} cursor of the previous page to read the page in keyset mode, empty for the first page.
+     * @param fields the comma-separated properties of the WorkingUnitDTOs to return, all of them by default.
+     * @param include the comma-separated related entities of the WorkingUnitDTOs to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of workingUnits in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<WorkingUnitDTO>> getAllWorkingUnits(WorkingUnitCriteria criteria) {
+    public ResponseEntity<List<WorkingUnitDTO>> getAllWorkingUnits(
+        WorkingUnitCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get WorkingUnits by criteria: {}", criteria);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, WorkingUnitDTO.class, ENTITY_NAME);
+        Set<String> properties = FetchProfiles.properties(
+            fieldSet,
+            FetchProfiles.parse(include, WorkingUnitDTO.class, ENTITY_NAME),
+            WorkingUnitDTO.class
+        );
+
+        return CriteriaPaginationUtil.paginate(
+            pageable,
+            count,
+            approximate,
+            after,
+            ENTITY_NAME,
+            page -> workingUnitQueryService.findByCriteria(criteria, page, properties),
+            (page, cursor) -> workingUnitQueryService.scrollByCriteria(criteria, page, cursor, properties),
+            () -> workingUnitQueryService.countByCriteria(criteria, true)
+        );
+    }
 
-        List<WorkingUnitDTO> entityList = workingUnitQueryService.findByCriteria(criteria);
-        return ResponseEntity.ok().body(entityList);
+    /**
+     * {@code GET  /working-units/export} : export all the workingUnits, streamed row by row.
+     *
+     * @param criteria the criteria which the exported entities should match.
+     * @param format the format of the export, {@code ndjson} by default, or {@code csv}.
+     * @param response the response the export is written to, with status {@code 200 (OK)}.
+     * @throws IOException if the export cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportWorkingUnits(
+        WorkingUnitCriteria criteria,
+        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        HttpServletResponse response
+    ) throws IOException {
+        log.debug("REST request to export WorkingUnits by criteria: {}", criteria);
+        criteriaExportWriter.write(
+            response,
+            format,
+            ENTITY_NAME,
+            WorkingUnitDTO.class,
+            consumer -> workingUnitQueryService.exportByCriteria(criteria, consumer)
+        );
     }
 
     /**
      * {@code GET  /working-units/count} : count all the workingUnits.
      *
      * @param criteria the criteria which the requested entities should match.
+     * @param approximate whether to estimate the count from the statistics of the database, {@code false} by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> countWorkingUnits(WorkingUnitCriteria criteria) {
+    public ResponseEntity<Long> countWorkingUnits(
+        WorkingUnitCriteria criteria,
+        @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
         log.debug("REST request to count WorkingUnits by criteria: {}", criteria);
-        return ResponseEntity.ok().body(workingUnitQueryService.countByCriteria(criteria));
+        return ResponseEntity.ok().body(workingUnitQueryService.countByCriteria(criteria, approximate));
+    }
+
+    /**
+     * {@code POST  /working-units/bulk} : Create workingUnits in bulk.
+     *
+     * @param workingUnitDTOs the workingUnitDTOs to create, without id.
+     * @param mode {@code ALL_OR_NOTHING} to create all the workingUnits or none, by default, or {@code BEST_EFFORT} to create each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> createWorkingUnitsInBulk(
+        @RequestBody List<WorkingUnitDTO> workingUnitDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to create {} WorkingUnits", workingUnitDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> workingUnitService.saveAll(workingUnitDTOs, mode));
+    }
+
+    /**
+     * {@code PUT  /working-units/bulk} : Update workingUnits in bulk.
+     *
+     * @param workingUnitDTOs the workingUnitDTOs to update.
+     * @param mode {@code ALL_OR_NOTHING} to update all the workingUnits or none, by default, or {@code BEST_EFFORT} to update each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> updateWorkingUnitsInBulk(
+        @RequestBody List<WorkingUnitDTO> workingUnitDTOs,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to update {} WorkingUnits", workingUnitDTOs.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> workingUnitService.updateAll(workingUnitDTOs, mode));
+    }
+
+    /**
+     * {@code POST  /working-units/bulk/delete} : Delete workingUnits in bulk.
+     *
+     * @param ids the ids of the workingUnits to delete.
+     * @param mode {@code ALL_OR_NOTHING} to delete all the workingUnits or none, by default, or {@code BEST_EFFORT} to delete each one
+     * which can be.
+     * @return the {@link ResponseEntity} with the result of each item in body, see {@link BulkWriteUtil}.
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<List<BulkItemResultDTO<UUID>>> deleteWorkingUnitsInBulk(
+        @RequestBody List<UUID> ids,
+        @RequestParam(value = "mode", defaultValue = "ALL_OR_NOTHING") BulkWriter.Mode mode
+    ) {
+        log.debug("REST request to delete {} WorkingUnits", ids.size());
+        return BulkWriteUtil.write(ENTITY_NAME, () -> workingUnitService.deleteAll(ids, mode));
+    }
+
+    /**
+     * {@code GET  /working-units/batch} : get the workingUnits of the given ids.
+     *
+     * @param ids the ids of the workingUnits to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the workingUnits found in the order of the ids,
+     * and the missing ids.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchVM<WorkingUnitDTO, UUID>> getWorkingUnitsByIds(@RequestParam("ids") List<UUID> ids) {
+        log.debug("REST request to get WorkingUnits : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, workingUnitService::findAllById);
+    }
+
+    /**
+     * {@code POST  /working-units/batch} : get the workingUnits of the given ids, for lists too long for a query string.
+     *
+     * @param ids the ids of the workingUnits to retrieve, at most {@value BatchGetUtil#MAX_IDS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the workingUnits found in the order of the ids,
+     * and the missing ids.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchVM<WorkingUnitDTO, UUID>> getWorkingUnitsByIdsInBody(@RequestBody List<UUID> ids) {
+        log.debug("REST request to get WorkingUnits : {}", ids);
+        return BatchGetUtil.get(ids, ENTITY_NAME, workingUnitService::findAllById);
     }
 
     /**
      * {@code GET  /working-units/:id} : get the "id" workingUnit.
      *
      * @param id the id of the workingUnitDTO to retrieve.
+     * @param fields the comma-separated properties of the workingUnitDTO to return, all of them by default.
+     * @param include the comma-separated related entities of the workingUnitDTO to read, all of them by default.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the workingUnitDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<WorkingUnitDTO> getWorkingUnit(@PathVariable("id") UUID id) {
+    public ResponseEntity<WorkingUnitDTO> getWorkingUnit(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "include", required = false) String include
+    ) {
         log.debug("REST request to get WorkingUnit : {}", id);
-        Optional<WorkingUnitDTO> workingUnitDTO = workingUnitService.findOne(id);
+        Set<String> fieldSet = SparseFieldsets.parse(fields, WorkingUnitDTO.class, ENTITY_NAME);
+        Set<String> includeSet = FetchProfiles.parse(include, WorkingUnitDTO.class, ENTITY_NAME);
+        Optional<WorkingUnitDTO> workingUnitDTO = fieldSet == null && includeSet == null
+            ? workingUnitService.findOne(id)
+            : workingUnitQueryService.findOne(id, FetchProfiles.properties(fieldSet, includeSet, WorkingUnitDTO.class));
         return ResponseUtil.wrapOrNotFound(workingUnitDTO);
     }
 
@@ -0,0 +1,56 @@
+package com.foursquare.server.web.rest.util;
+
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class for answering batch get-by-ids requests, {@code GET /batch?ids=...} or {@code POST /batch} with the
+ * ids in body when they do not fit in a query string.
+ * <p>
+ * The entities found are returned in the order of the ids, without duplicates, and the ids of no entity are returned
+ * beside them. At most {@value #MAX_IDS} ids can be requested at once.
+ */
+public final class BatchGetUtil {
+
+    public static final int MAX_IDS = 1000;
+
+    private BatchGetUtil() {}
+
+    /**
+     * Load the entities of the given ids.
+     *
+     * @param ids the requested ids.
+     * @param entityName the name of the entity, for the errors.
+     * @param query the query of the entities found by id, in the order of the ids.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the entities and the missing ids in body.
+     * @throws BadRequestAlertException if there is no or more than {@value #MAX_IDS} ids, or a {@code null} one.
+     */
+    public static <T, ID> ResponseEntity<BatchVM<T, ID>> get(List<ID> ids, String entityName, Function<List<ID>, Map<ID, T>> query) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestAlertException("Ids are required", entityName, "idsnull");
+        }
+        List<ID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.size() > MAX_IDS) {
+            throw new BadRequestAlertException("At most " + MAX_IDS + " ids can be requested", entityName, "idstoomany");
+        }
+        Map<ID, T> found = query.apply(distinctIds);
+        List<T> items = new ArrayList<>(found.size());
+        List<ID> missingIds = new ArrayList<>();
+        for (ID id : distinctIds) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return ResponseEntity.ok().body(new BatchVM<>(items, missingIds));
+    }
+}
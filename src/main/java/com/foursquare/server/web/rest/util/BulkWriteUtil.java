@@ -0,0 +1,44 @@
+package com.foursquare.server.web.rest.util;
+
+import com.foursquare.server.service.dto.BulkItemResultDTO;
+import com.foursquare.server.service.dto.BulkItemResultDTO.Status;
+import com.foursquare.server.service.helper.BulkWriter;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class for answering bulk write requests, see {@link BulkWriter}.
+ * <p>
+ * The result of each item is returned in body, in the order of the items, with status {@code 200 (OK)} if all the
+ * items were written, {@code 207 (Multi-Status)} if only some of them, and {@code 422 (Unprocessable Entity)} if none.
+ */
+public final class BulkWriteUtil {
+
+    private BulkWriteUtil() {}
+
+    /**
+     * Run a bulk write and answer with its results.
+     *
+     * @param entityName the name of the entity, for the errors.
+     * @param write the bulk write.
+     * @return the {@link ResponseEntity} with the result of each item in body.
+     * @throws BadRequestAlertException if there are too many items.
+     */
+    public static <ID> ResponseEntity<List<BulkItemResultDTO<ID>>> write(String entityName, Supplier<List<BulkItemResultDTO<ID>>> write) {
+        List<BulkItemResultDTO<ID>> results;
+        try {
+            results = write.get();
+        } catch (BulkWriter.TooManyItemsException e) {
+            throw new BadRequestAlertException(e.getMessage(), entityName, "bulktoolarge");
+        }
+        boolean failed = results.stream().anyMatch(result -> result.getStatus() == Status.FAILED);
+        boolean written = results
+            .stream()
+            .anyMatch(result -> result.getStatus() != Status.FAILED && result.getStatus() != Status.NOT_WRITTEN);
+        HttpStatus status = !failed ? HttpStatus.OK : written ? HttpStatus.MULTI_STATUS : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(results);
+    }
+}
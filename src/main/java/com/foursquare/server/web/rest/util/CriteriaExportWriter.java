@@ -0,0 +1,177 @@
+package com.foursquare.server.web.rest.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the rows of a criteria export straight to the response, one row at a time, as NDJSON or CSV.
+ * <p>
+ * NDJSON rows are the DTOs as the REST API serializes them. CSV columns are the top-level properties of the DTO; a
+ * related entity is written as its id, and a collection as JSON.
+ */
+@Component
+public class CriteriaExportWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaExportWriter.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public CriteriaExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The formats of an export.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * The export of the rows of a criteria query into a {@link CriteriaStreamer.RowConsumer}.
+     */
+    @FunctionalInterface
+    public interface Export<D> {
+        long writeTo(CriteriaStreamer.RowConsumer<D> consumer) throws IOException;
+    }
+
+    /**
+     * Write an export as an attachment of the response.
+     *
+     * @param response the response to write to.
+     * @param format the name of the format, {@code ndjson} or {@code csv}.
+     * @param entityName the name of the exported entity, used as the file name.
+     * @param dtoType the type of the exported rows.
+     * @param export the export of the rows.
+     * @throws BadRequestAlertException if the format is unknown.
+     * @throws IOException if the response cannot be written.
+     */
+    public <D> void write(HttpServletResponse response, String format, String entityName, Class<D> dtoType, Export<D> export)
+        throws IOException {
+        Format exportFormat = parseFormat(format, entityName);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(entityName + "." + exportFormat.getExtension()).build().toString()
+        );
+        OutputStream out = response.getOutputStream();
+        long count = switch (exportFormat) {
+            case NDJSON -> writeNdjson(out, dtoType, export);
+            case CSV -> writeCsv(out, dtoType, export);
+        };
+        log.debug("Exported {} {} rows as {}", count, entityName, exportFormat);
+    }
+
+    private Format parseFormat(String format, String entityName) {
+        try {
+            return Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unknown export format " + format, entityName, "formatinvalid");
+        }
+    }
+
+    private <D> long writeNdjson(OutputStream out, Class<D> dtoType, Export<D> export) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(dtoType).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            long count = export.writeTo(row -> {
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+            });
+            generator.flush();
+            return count;
+        }
+    }
+
+    private <D> long writeCsv(OutputStream out, Class<D> dtoType, Export<D> export) throws IOException {
+        List<String> columns = objectMapper
+            .getSerializationConfig()
+            .introspect(objectMapper.constructType(dtoType))
+            .findProperties()
+            .stream()
+            .filter(BeanPropertyDefinition::couldSerialize)
+            .map(BeanPropertyDefinition::getName)
+            .toList();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writeCsvLine(writer, columns);
+            long count = export.writeTo(row -> {
+                JsonNode node = objectMapper.valueToTree(row);
+                writeCsvLine(writer, columns.stream().map(column -> csvValue(node.get(column))).toList());
+            });
+            writer.flush();
+            return count;
+        }
+    }
+
+    private String csvValue(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return "";
+        }
+        if (value.isObject()) {
+            return csvValue(value.get("id"));
+        }
+        if (value.isArray()) {
+            return value.toString();
+        }
+        return value.asText();
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
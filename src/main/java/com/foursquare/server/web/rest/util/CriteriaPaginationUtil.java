@@ -0,0 +1,76 @@
+package com.foursquare.server.web.rest.util;
+
+import com.foursquare.server.service.helper.CriteriaPagination;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * Utility class for answering paginated criteria list requests.
+ * <p>
+ * By default a page is returned with the {@code X-Total-Count} and {@code Link} headers of {@link PaginationUtil}.
+ * With {@code approximate=true}, the total is an estimate from the statistics of the database instead of a count.
+ * With {@code count=false} the total is not counted, and the {@code Link} header only points to the next page if
+ * there is one. With an {@code after} cursor, the page is read in keyset mode, see {@link CriteriaPagination}, and the
+ * cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.
+ * The page size is capped by {@code spring.data.web.pageable.max-page-size}.
+ */
+public final class CriteriaPaginationUtil {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CriteriaPaginationUtil() {}
+
+    public static <T> ResponseEntity<List<T>> paginate(
+        Pageable pageable,
+        boolean count,
+        boolean approximate,
+        String after,
+        String entityName,
+        Function<Pageable, Page<T>> pageQuery,
+        BiFunction<Pageable, String, Window<T>> scrollQuery,
+        LongSupplier approximateCountQuery
+    ) {
+        UriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        if (after == null && count) {
+            Page<T> page;
+            if (approximate) {
+                Window<T> window = scrollQuery.apply(pageable, null);
+                page = new PageImpl<>(window.getContent(), pageable, approximateCountQuery.getAsLong());
+            } else {
+                page = pageQuery.apply(pageable);
+            }
+            return ResponseEntity.ok().headers(PaginationUtil.generatePaginationHttpHeaders(uriBuilder, page)).body(page.getContent());
+        }
+        Window<T> window;
+        try {
+            window = scrollQuery.apply(pageable, after);
+        } catch (CriteriaPagination.InvalidCursorException e) {
+            throw new BadRequestAlertException(e.getMessage(), entityName, "cursorinvalid");
+        }
+        HttpHeaders headers = new HttpHeaders();
+        if (window.hasNext()) {
+            String next;
+            if (after == null) {
+                next = uriBuilder.replaceQueryParam("page", pageable.getPageNumber() + 1).toUriString();
+            } else {
+                String nextCursor = CriteriaPagination.nextCursor(window);
+                headers.add(NEXT_CURSOR_HEADER, nextCursor);
+                next = uriBuilder.replaceQueryParam("after", nextCursor).toUriString();
+            }
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(window.getContent());
+    }
+}
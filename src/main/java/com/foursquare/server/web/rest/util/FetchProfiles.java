@@ -0,0 +1,90 @@
+package com.foursquare.server.web.rest.util;
+
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Utility class for fetch profiles: the {@value #PARAMETER} request parameter lists the related entities to read with
+ * the returned DTOs, for example {@code include=customer,status}.
+ * <p>
+ * The related entities are the to-one associations of the DTO, the properties holding another DTO. Those which are not
+ * included are neither joined by the query nor mapped, and returned as {@code null}. Without the parameter, all of them
+ * are read.
+ */
+public final class FetchProfiles {
+
+    public static final String PARAMETER = "include";
+
+    private FetchProfiles() {}
+
+    /**
+     * Parse and validate the fetch profile of a request.
+     *
+     * @param include the comma-separated associations to read, or {@code null} to read all of them.
+     * @param dtoClass the class of the returned DTOs.
+     * @param entityName the name of the entity, for the error.
+     * @return the associations to read, or {@code null} to read all of them.
+     * @throws BadRequestAlertException if a property is not an association of the DTO.
+     */
+    public static Set<String> parse(String include, Class<?> dtoClass, String entityName) {
+        if (include == null || include.isBlank()) {
+            return null;
+        }
+        Set<String> includeSet = Arrays.stream(include.split(","))
+            .filter(association -> !association.isBlank())
+            .map(String::strip)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> associations = associations(dtoClass);
+        Set<String> unknown = includeSet
+            .stream()
+            .filter(association -> !associations.contains(association))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!unknown.isEmpty()) {
+            throw new BadRequestAlertException("Unknown associations: " + String.join(",", unknown), entityName, "includeinvalid");
+        }
+        return includeSet;
+    }
+
+    /**
+     * Return the properties of the DTOs to read for a sparse fieldset and a fetch profile.
+     *
+     * @param fields the properties to return, see {@link SparseFieldsets}, or {@code null} to return all of them.
+     * @param include the associations to read, or {@code null} to read all of them.
+     * @param dtoClass the class of the returned DTOs.
+     * @return the properties to read, or {@code null} to read all of them.
+     */
+    public static Set<String> properties(Set<String> fields, Set<String> include, Class<?> dtoClass) {
+        if (include == null) {
+            return fields;
+        }
+        Set<String> properties = new LinkedHashSet<>();
+        if (fields != null) {
+            properties.addAll(fields);
+        } else {
+            Arrays.stream(BeanUtils.getPropertyDescriptors(dtoClass))
+                .filter(FetchProfiles::isReadWrite)
+                .map(PropertyDescriptor::getName)
+                .forEach(properties::add);
+        }
+        Set<String> excluded = associations(dtoClass);
+        excluded.removeAll(include);
+        properties.removeAll(excluded);
+        return properties;
+    }
+
+    private static Set<String> associations(Class<?> dtoClass) {
+        return Arrays.stream(BeanUtils.getPropertyDescriptors(dtoClass))
+            .filter(property -> isReadWrite(property) && property.getPropertyType().getPackageName().equals(dtoClass.getPackageName()))
+            .map(PropertyDescriptor::getName)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static boolean isReadWrite(PropertyDescriptor property) {
+        return property.getReadMethod() != null && property.getWriteMethod() != null;
+    }
+}
@@ -0,0 +1,126 @@
+package com.foursquare.server.web.rest.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Utility class for sparse fieldsets: the {@value #PARAMETER} request parameter restricts the properties of the
+ * returned DTOs to a comma-separated list, for example {@code fields=id,type,status}.
+ * <p>
+ * The resource validates the list with {@link #parse(String, Class, String)}, and may pass it down to select fewer
+ * columns. The properties are then filtered out of the JSON by {@link SparseFieldsetsResponseBodyAdvice}, with the
+ * {@value #FILTER_ID} Jackson filter of the DTOs. Only the returned DTOs are filtered, not the DTOs nested in them, and
+ * the {@code id} is always returned.
+ */
+public final class SparseFieldsets {
+
+    public static final String PARAMETER = "fields";
+
+    public static final String FILTER_ID = "sparseFieldsets";
+
+    private static final String ID = "id";
+
+    private SparseFieldsets() {}
+
+    /**
+     * Parse and validate the sparse fieldset of a request.
+     *
+     * @param fields the comma-separated properties to return, or {@code null} to return all of them.
+     * @param dtoClass the class of the returned DTOs.
+     * @param entityName the name of the entity, for the error.
+     * @return the properties to return, with the {@code id}, or {@code null} to return all of them.
+     * @throws BadRequestAlertException if a property is not one of the DTO.
+     */
+    public static Set<String> parse(String fields, Class<?> dtoClass, String entityName) {
+        Set<String> fieldSet = split(fields);
+        if (fieldSet == null) {
+            return null;
+        }
+        Set<String> properties = Arrays.stream(BeanUtils.getPropertyDescriptors(dtoClass))
+            .filter(property -> property.getReadMethod() != null && property.getWriteMethod() != null)
+            .map(PropertyDescriptor::getName)
+            .collect(Collectors.toSet());
+        Set<String> unknown = fieldSet
+            .stream()
+            .filter(field -> !properties.contains(field))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!unknown.isEmpty()) {
+            throw new BadRequestAlertException("Unknown fields: " + String.join(",", unknown), entityName, "fieldsinvalid");
+        }
+        return fieldSet;
+    }
+
+    /**
+     * Return the Jackson filters which restrict the DTOs of a response body to a sparse fieldset.
+     *
+     * @param body the response body, a DTO or a collection of DTOs.
+     * @param fields the comma-separated properties to return.
+     * @return the filters, or {@code null} to return all the properties.
+     */
+    static FilterProvider filters(Object body, String fields) {
+        Set<String> fieldSet = split(fields);
+        if (fieldSet == null) {
+            return null;
+        }
+        Set<Object> returned = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (body instanceof Collection<?> collection) {
+            returned.addAll(collection);
+        } else if (body != null) {
+            returned.add(body);
+        }
+        return new SimpleFilterProvider().addFilter(FILTER_ID, new ReturnedPropertiesFilter(returned, fieldSet));
+    }
+
+    private static Set<String> split(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> fieldSet = new LinkedHashSet<>();
+        fieldSet.add(ID);
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                fieldSet.add(field.strip());
+            }
+        }
+        return fieldSet;
+    }
+
+    /**
+     * Writes the properties of the returned DTOs which are in the fieldset, and all the properties of the other ones.
+     */
+    private static final class ReturnedPropertiesFilter extends SimpleBeanPropertyFilter {
+
+        private final Set<Object> returned;
+
+        private final Set<String> fields;
+
+        private ReturnedPropertiesFilter(Set<Object> returned, Set<String> fields) {
+            this.returned = returned;
+            this.fields = fields;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+            if (!returned.contains(pojo) || fields.contains(writer.getName())) {
+                writer.serializeAsField(pojo, generator, provider);
+            } else if (!generator.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+        }
+    }
+}
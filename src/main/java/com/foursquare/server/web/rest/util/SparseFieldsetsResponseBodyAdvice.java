@@ -0,0 +1,57 @@
+package com.foursquare.server.web.rest.util;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import java.lang.reflect.Method;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Restricts the DTOs returned by the endpoints taking the {@value SparseFieldsets#PARAMETER} parameter to the requested
+ * properties, see {@link SparseFieldsets}.
+ */
+@ControllerAdvice
+public class SparseFieldsetsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && takesFields(returnType.getMethod());
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(
+        MappingJacksonValue bodyContainer,
+        MediaType contentType,
+        MethodParameter returnType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            String fields = servletRequest.getServletRequest().getParameter(SparseFieldsets.PARAMETER);
+            FilterProvider filters = SparseFieldsets.filters(bodyContainer.getValue(), fields);
+            if (filters != null) {
+                bodyContainer.setFilters(filters);
+            }
+        }
+    }
+
+    private static boolean takesFields(Method method) {
+        if (method == null) {
+            return false;
+        }
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            RequestParam requestParam = new MethodParameter(method, i).getParameterAnnotation(RequestParam.class);
+            if (requestParam != null && SparseFieldsets.PARAMETER.equals(requestParam.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
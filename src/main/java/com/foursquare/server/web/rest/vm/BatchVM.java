@@ -0,0 +1,44 @@
+package com.foursquare.server.web.rest.vm;
+
+import java.util.List;
+
+/**
+ * View Model object for the entities returned by a batch get-by-ids request.
+ *
+ * @param <T> the type of the entities.
+ * @param <ID> the type of their ids.
+ */
+public class BatchVM<T, ID> {
+
+    private final List<T> items;
+
+    private final List<ID> missingIds;
+
+    public BatchVM(List<T> items, List<ID> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * @return the entities found, in the order of the requested ids.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return the requested ids of no entity, in their order.
+     */
+    public List<ID> getMissingIds() {
+        return missingIds;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BatchVM{" +
+            "items=" + items.size() +
+            ", missingIds=" + missingIds +
+            "}";
+    }
+}
@@ -70,7 +70,6 @@ export default defineComponent({
       lastModifiedBy: {},
       lastModifiedDate: {},
       participant: {},
-      seenParticipants: {},
     };
     const v$ = useVuelidate(validationRules, message as any);
     v$.value.$validate();
@@ -88,9 +87,6 @@ export default defineComponent({
       ...useDateFormat({ entityRef: message }),
     };
   },
-  created(): void {
-    this.message.seenParticipants = [];
-  },
   methods: {
     save(): void {
       this.isSaving = true;
@@ -120,12 +116,5 @@ export default defineComponent({
           });
       }
     },
-
-    getSelected(selectedVals, option, pkField = 'id'): any {
-      if (selectedVals) {
-        return selectedVals.find(value => option[pkField] === value[pkField]) ?? option;
-      }
-      return option;
-    },
   },
 });
@@ -12,7 +12,6 @@ import AlertService from '@/shared/alert/alert.service';
 
 import UserService from '@/entities/user/user.service';
 import ConversationService from '@/entities/conversation/conversation.service';
-import MessageService from '@/entities/message/message.service';
 
 type ParticipantUpdateComponentType = InstanceType<typeof ParticipantUpdate>;
 
@@ -65,10 +64,6 @@ describe('Component Tests', () => {
             sinon.createStubInstance<ConversationService>(ConversationService, {
               retrieve: sinon.stub().resolves({}),
             } as any),
-          messageService: () =>
-            sinon.createStubInstance<MessageService>(MessageService, {
-              retrieve: sinon.stub().resolves({}),
-            } as any),
         },
       };
     });
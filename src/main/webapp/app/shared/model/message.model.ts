@@ -10,7 +10,6 @@ export interface IMessage {
   lastModifiedBy?: string;
   lastModifiedDate?: Date;
   participant?: IParticipant | null;
-  seenParticipants?: IParticipant[] | null;
 }
 
 export class Message implements IMessage {
@@ -23,6 +22,5 @@ export class Message implements IMessage {
     public lastModifiedBy?: string,
     public lastModifiedDate?: Date,
     public participant?: IParticipant | null,
-    public seenParticipants?: IParticipant[] | null,
   ) {}
 }
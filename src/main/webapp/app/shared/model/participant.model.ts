@@ -1,6 +1,5 @@
 import { type IUser } from '@/shared/model/user.model';
 import { type IConversation } from '@/shared/model/conversation.model';
-import { type IMessage } from '@/shared/model/message.model';
 
 export interface IParticipant {
   id?: string;
@@ -11,7 +10,6 @@ export interface IParticipant {
   lastModifiedDate?: Date;
   user?: IUser;
   conversation?: IConversation;
-  seenMessages?: IMessage[] | null;
 }
 
 export class Participant implements IParticipant {
@@ -24,7 +22,6 @@ export class Participant implements IParticipant {
     public lastModifiedDate?: Date,
     public user?: IUser,
     public conversation?: IConversation,
-    public seenMessages?: IMessage[] | null,
   ) {
     this.isAdmin = this.isAdmin ?? false;
   }
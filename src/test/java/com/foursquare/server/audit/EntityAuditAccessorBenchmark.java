@@ -0,0 +1,122 @@
+package com.foursquare.server.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foursquare.server.domain.AbstractAuditingEntity;
+import com.foursquare.server.domain.Address;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.domain.User;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.domain.enumeration.OrderType;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * Compares the per-event cost of preparing an {@link EntityAuditEvent} for an {@link Order}.
+ * <p>
+ * {@code reflective} is the former implementation: a reflective read of the {@code id} field, serialization through
+ * the general-purpose {@link ObjectMapper} and id conversion through the {@link ConversionService}. {@code precompiled}
+ * goes through {@link AsyncEntityAuditEventWriter} and its {@link EntityAuditAccessorRegistry}.
+ * <p>
+ * The score is the average time per event; the {@code gc.alloc.rate.norm} secondary score of the GC profiler, enabled
+ * by {@link #main(String[])}, is the number of bytes allocated per event. Run with {@code ./mvnw test-compile} and then
+ * the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityAuditAccessorBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private ConversionService conversionService;
+
+    private AsyncEntityAuditEventWriter writer;
+
+    private Order order;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        conversionService = DefaultConversionService.getSharedInstance();
+        writer = new AsyncEntityAuditEventWriter(
+            null,
+            new DefaultListableBeanFactory().getBeanProvider(EntityAuditJournal.class),
+            new EntityAuditAccessorRegistry(List.of(Order.class), objectMapper)
+        );
+
+        User customer = new User();
+        customer.setId(1L);
+        customer.setLogin("customer");
+        customer.setFirstName("Jane");
+        customer.setLastName("Doe");
+        customer.setEmail("jane.doe@example.com");
+        customer.setLangKey("en");
+        customer.setActivated(true);
+        order = new Order()
+            .id(UUID.randomUUID())
+            .type(OrderType.SALE)
+            .priority(50)
+            .note("Please deliver between 9am and 5pm")
+            .otherInfo("{\"giftWrap\":true,\"channel\":\"web\"}")
+            .customer(customer)
+            .status(new OrderStatus().id(1L).statusCode("PENDING").description("Pending"))
+            .address(new Address().id(UUID.randomUUID()).line1("123 Main Street").city("Springfield").country("United States"));
+        order.setCreatedBy("system");
+        order.setLastModifiedBy("staff");
+    }
+
+    @Benchmark
+    public EntityAuditEvent reflective() throws Exception {
+        EntityAuditEvent auditedEntity = new EntityAuditEvent();
+        Class<?> entityClass = order.getClass();
+        auditedEntity.setAction(EntityAuditAction.UPDATE.value());
+        auditedEntity.setEntityType(entityClass.getName());
+        Field idField = entityClass.getDeclaredField("id");
+        idField.setAccessible(true);
+        Object entityId = idField.get(order);
+        idField.setAccessible(false);
+        auditedEntity.setEntityValue(objectMapper.writeValueAsString(order));
+        auditedEntity.setEntityId(conversionService.convert(entityId, String.class));
+        AbstractAuditingEntity<?> abstractAuditEntity = order;
+        auditedEntity.setModifiedBy(abstractAuditEntity.getLastModifiedBy());
+        auditedEntity.setModifiedDate(abstractAuditEntity.getLastModifiedDate());
+        return auditedEntity;
+    }
+
+    @Benchmark
+    public EntityAuditEvent precompiled() {
+        return writer.prepareAuditEntity(order, EntityAuditAction.UPDATE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder().include(EntityAuditAccessorBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()
+        ).run();
+    }
+}
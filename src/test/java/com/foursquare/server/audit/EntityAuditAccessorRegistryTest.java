@@ -0,0 +1,53 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.domain.User;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link EntityAuditAccessorRegistry} class.
+ */
+class EntityAuditAccessorRegistryTest {
+
+    private ObjectMapper objectMapper;
+
+    private EntityAuditAccessorRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        registry = new EntityAuditAccessorRegistry(List.of(Order.class, OrderStatus.class, User.class), objectMapper);
+    }
+
+    @Test
+    void shouldReadIdOfAuditedEntities() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(registry.accessorFor(new Order().id(id)).getId(new Order().id(id))).isEqualTo(id);
+        assertThat(registry.accessorFor(new OrderStatus().id(3L)).getId(new OrderStatus().id(3L))).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldSerializeLikeTheObjectMapper() throws Exception {
+        Order order = new Order().id(UUID.randomUUID()).priority(5).note("note");
+
+        assertThat(registry.accessorFor(order).writeValueAsString(order)).isEqualTo(objectMapper.writeValueAsString(order));
+    }
+
+    @Test
+    void shouldCreateAccessorForClassUnknownAtStartup() {
+        EntityAuditAccessorRegistry empty = new EntityAuditAccessorRegistry(List.of(), objectMapper);
+        Order order = new Order().id(UUID.randomUUID());
+
+        assertThat(empty.accessorFor(order).entityClass()).isEqualTo(Order.class);
+        assertThat(empty.accessorFor(order).getId(order)).isEqualTo(order.getId());
+    }
+}
@@ -0,0 +1,147 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for the {@link EntityAuditEventQueue} class.
+ */
+class EntityAuditEventQueueTest {
+
+    private EntityAuditEventRepository repository;
+
+    private EntityManager entityManager;
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private List<List<EntityAuditEvent>> writtenBatches;
+
+    @BeforeEach
+    public void setup() {
+        repository = mock(EntityAuditEventRepository.class);
+        entityManager = mock(EntityManager.class);
+        writtenBatches = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<EntityAuditEvent> batch = invocation.getArgument(0);
+            synchronized (writtenBatches) {
+                writtenBatches.add(new ArrayList<>(batch));
+            }
+            return batch;
+        });
+        applicationProperties = new ApplicationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private EntityAuditEventQueue newQueue() {
+        return new EntityAuditEventQueue(
+            repository,
+            auditedEntity -> 7,
+            mock(EntityAuditPayloadCodec.class),
+            entityManager,
+            mock(PlatformTransactionManager.class),
+            applicationProperties,
+            meterRegistry
+        ) {
+            @Override
+            void setJdbcBatchSize(int batchSize) {
+                // No Hibernate session behind the mocked entity manager
+            }
+        };
+    }
+
+    private static EntityAuditEvent event(String entityId, EntityAuditAction action) {
+        EntityAuditEvent event = new EntityAuditEvent();
+        event.setEntityType("com.foursquare.server.domain.Order");
+        event.setEntityId(entityId);
+        event.setAction(action.value());
+        return event;
+    }
+
+    @Test
+    void shouldFlushWhenBatchIsFull() throws Exception {
+        applicationProperties.getAudit().setBatchSize(3);
+        applicationProperties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        EntityAuditEventQueue queue = newQueue();
+        queue.start();
+        for (int i = 0; i < 3; i++) {
+            queue.offer(event(String.valueOf(i), EntityAuditAction.CREATE));
+        }
+
+        verify(repository, timeout(5000)).saveAll(anyList());
+        queue.stop();
+
+        assertThat(writtenBatches).hasSize(1);
+        assertThat(writtenBatches.get(0)).hasSize(3);
+    }
+
+    @Test
+    void shouldFlushPartialBatchOnInterval() {
+        applicationProperties.getAudit().setBatchSize(100);
+        applicationProperties.getAudit().setFlushInterval(Duration.ofMillis(50));
+        EntityAuditEventQueue queue = newQueue();
+        queue.start();
+        queue.offer(event("1", EntityAuditAction.CREATE));
+
+        verify(repository, timeout(5000)).saveAll(anyList());
+        queue.stop();
+
+        assertThat(writtenBatches.get(0)).hasSize(1);
+    }
+
+    @Test
+    void shouldDrainPendingEventsOnStop() {
+        applicationProperties.getAudit().setBatchSize(100);
+        applicationProperties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        EntityAuditEventQueue queue = newQueue();
+        queue.start();
+        queue.offer(event("1", EntityAuditAction.CREATE));
+        queue.offer(event("2", EntityAuditAction.CREATE));
+
+        queue.stop();
+
+        assertThat(writtenBatches.stream().mapToInt(List::size).sum()).isEqualTo(2);
+        assertThat(queue.isRunning()).isFalse();
+    }
+
+    @Test
+    void shouldDropEventsWhenQueueIsFull() {
+        applicationProperties.getAudit().setQueueCapacity(1);
+        applicationProperties.getAudit().setOverflowPolicy(ApplicationProperties.Audit.OverflowPolicy.DROP);
+        EntityAuditEventQueue queue = newQueue();
+
+        assertThat(queue.offer(event("1", EntityAuditAction.CREATE))).isTrue();
+        assertThat(queue.offer(event("2", EntityAuditAction.CREATE))).isFalse();
+
+        assertThat(meterRegistry.get(EntityAuditEventQueue.DROPPED_EVENTS_METER_NAME).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(EntityAuditEventQueue.QUEUE_DEPTH_METER_NAME).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAssignVersionsBeforeWriting() {
+        EntityAuditEvent first = event("1", EntityAuditAction.UPDATE);
+        EntityAuditEvent second = event("2", EntityAuditAction.CREATE);
+
+        newQueue().flush(List.of(first, second));
+
+        assertThat(first.getCommitVersion()).isEqualTo(7);
+        assertThat(second.getCommitVersion()).isEqualTo(7);
+        assertThat(writtenBatches.get(0)).containsExactly(first, second);
+    }
+}
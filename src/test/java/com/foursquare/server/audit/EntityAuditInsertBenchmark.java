@@ -0,0 +1,156 @@
+package com.foursquare.server.audit;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.config.BenchmarkDatabase;
+import com.foursquare.server.domain.EntityAuditEvent;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the database insert throughput of the {@code FULL} and {@code DELTA} audit payload modes.
+ * <p>
+ * The events are those of {@link EntityAuditPayloadBenchmark}, encoded ahead of time. Each invocation inserts a batch
+ * of {@value #BATCH_SIZE} events in one transaction with a JDBC batch, as {@link EntityAuditEventQueue} does, into a
+ * table with the columns and entity indexes of {@code jhi_entity_audit_event}. The score is in events per second, and
+ * the size of the table is printed after each iteration.
+ * <p>
+ * The database is a {@link BenchmarkDatabase}. Run with {@code ./mvnw test-compile} and then the
+ * {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EntityAuditInsertBenchmark {
+
+    static final int BATCH_SIZE = 100;
+
+    static final int ENTITIES = 1_000;
+
+    private static final String INSERT =
+        "insert into benchmark_audit_event (id, entity_id, entity_type, action, entity_value, payload_type, commit_version, " +
+        "modified_by, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({ "FULL", "DELTA" })
+    public ApplicationProperties.Audit.PayloadMode payloadMode;
+
+    private BenchmarkDatabase database;
+
+    private Connection connection;
+
+    private final List<EntityAuditEvent> events = new ArrayList<>();
+
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        EntityAuditPayloadBenchmark payloadBenchmark = new EntityAuditPayloadBenchmark();
+        payloadBenchmark.payloadMode = payloadMode;
+        payloadBenchmark.snapshotInterval = 10;
+        payloadBenchmark.setup();
+        EntityAuditPayloadBenchmark.PayloadCounters counters = new EntityAuditPayloadBenchmark.PayloadCounters();
+        for (int i = 0; i < 10 * BATCH_SIZE; i++) {
+            events.add(payloadBenchmark.encodeUpdate(counters));
+        }
+
+        database = new BenchmarkDatabase();
+        connection = database.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists benchmark_audit_event");
+            statement.execute(
+                "create table benchmark_audit_event (id bigint primary key, entity_id varchar(50) not null, " +
+                "entity_type varchar(255) not null, action varchar(20) not null, entity_value text, payload_type varchar(10), " +
+                "commit_version integer, modified_by varchar(100), modified_date timestamp not null)"
+            );
+            statement.execute("create index on benchmark_audit_event (entity_type, entity_id, modified_date, id)");
+            statement.execute("create index on benchmark_audit_event (entity_type, entity_id, commit_version)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printTableSize() throws SQLException {
+        try (
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(
+                "select count(*), pg_size_pretty(pg_table_size('benchmark_audit_event')), " +
+                "pg_size_pretty(pg_indexes_size('benchmark_audit_event')) from benchmark_audit_event"
+            )
+        ) {
+            resultSet.next();
+            System.out.printf(
+                "%n%s: %d rows, table %s, indexes %s%n",
+                payloadMode,
+                resultSet.getLong(1),
+                resultSet.getString(2),
+                resultSet.getString(3)
+            );
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table benchmark_audit_event");
+        }
+        connection.commit();
+        connection.close();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        int[] counts;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                long id = nextId++;
+                EntityAuditEvent event = events.get((int) (id % events.size()));
+                statement.setLong(1, id);
+                statement.setString(2, String.valueOf(id % ENTITIES));
+                statement.setString(3, event.getEntityType());
+                statement.setString(4, event.getAction());
+                statement.setString(5, event.getEntityValue());
+                statement.setString(6, event.getPayloadType() != null ? event.getPayloadType().name() : null);
+                statement.setInt(7, (int) (id / ENTITIES) + 1);
+                statement.setString(8, "staff");
+                statement.setTimestamp(9, new Timestamp(System.currentTimeMillis()));
+                statement.addBatch();
+            }
+            counts = statement.executeBatch();
+        }
+        connection.commit();
+        return counts;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EntityAuditInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
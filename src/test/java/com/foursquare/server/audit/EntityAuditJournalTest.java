@@ -0,0 +1,242 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for the {@link EntityAuditJournal} class.
+ */
+class EntityAuditJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    private Path directory;
+
+    private EntityAuditEventQueue queue;
+
+    private EntityAuditEventRepository repository;
+
+    private ApplicationProperties applicationProperties;
+
+    private List<EntityAuditEvent> written;
+
+    @BeforeEach
+    public void setup() {
+        queue = mock(EntityAuditEventQueue.class);
+        repository = mock(EntityAuditEventRepository.class);
+        written = new ArrayList<>();
+        when(queue.flush(anyList())).thenAnswer(invocation -> written.addAll(invocation.getArgument(0)));
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setJournalDirectory(directory.toString());
+        applicationProperties.getAudit().setBatchSize(2);
+        when(repository.findMaxCommitVersion(any(), any())).thenAnswer(invocation ->
+            written
+                .stream()
+                .filter(event -> event.getEntityId().equals(invocation.getArgument(1)))
+                .map(EntityAuditEvent::getCommitVersion)
+                .max(Integer::compare)
+                .orElse(null)
+        );
+    }
+
+    private EntityAuditJournal newJournal() {
+        return newJournal(new SimpleMeterRegistry());
+    }
+
+    private EntityAuditJournal newJournal(MeterRegistry meterRegistry) {
+        // A new sequencer, as after a restart, seeded from the events written so far
+        AuditVersionSequencer sequencer = new LocalAuditVersionSequencer(repository, applicationProperties);
+        return new EntityAuditJournal(queue, repository, sequencer, objectMapper, applicationProperties, meterRegistry);
+    }
+
+    private static EntityAuditEvent event(String entityId) {
+        EntityAuditEvent event = new EntityAuditEvent();
+        event.setEntityType("com.foursquare.server.domain.Order");
+        event.setEntityId(entityId);
+        event.setAction(EntityAuditAction.UPDATE.value());
+        event.setEntityValue("{\"id\":\"" + entityId + "\"}");
+        event.setModifiedDate(Instant.parse("2026-10-18T10:15:30.123456Z"));
+        return event;
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".segment")).count();
+        }
+    }
+
+    @Test
+    void shouldWriteJournaledEventsInBatches() throws Exception {
+        EntityAuditJournal journal = newJournal();
+        journal.append(event("1"));
+        journal.append(event("2"));
+        journal.append(event("3"));
+
+        assertThat(journal.replayBatch()).isTrue();
+        assertThat(journal.replayBatch()).isTrue();
+        assertThat(journal.replayBatch()).isFalse();
+
+        assertThat(written).extracting(EntityAuditEvent::getEntityId).containsExactly("1", "2", "3");
+        assertThat(written.get(0).getModifiedDate()).isEqualTo(Instant.parse("2026-10-18T10:15:30.123456Z"));
+        verify(queue, times(2)).flush(anyList());
+    }
+
+    @Test
+    void shouldReplayOnlyEventsMissingFromDatabaseAfterRestart() throws Exception {
+        EntityAuditJournal journal = newJournal();
+        journal.append(event("1"));
+        journal.append(event("2"));
+        journal.replayBatch();
+        journal.append(event("3"));
+        journal.append(event("4"));
+        // The third event reached the database, but not the checkpoint
+        when(repository.findJournalKeys(anyCollection(), any(), any())).thenAnswer(invocation ->
+            invocation
+                .<Collection<UUID>>getArgument(0)
+                .stream()
+                .limit(1)
+                .collect(Collectors.toSet())
+        );
+        written.clear();
+
+        EntityAuditJournal restarted = newJournal();
+        while (restarted.replayBatch()) {
+            // write everything left
+        }
+
+        assertThat(written).extracting(EntityAuditEvent::getEntityId).containsExactly("4");
+        assertThat(segmentCount()).isEqualTo(1);
+        // One query for the first batch of each run
+        verify(repository, times(2)).findJournalKeys(anyCollection(), any(), any());
+    }
+
+    @Test
+    void shouldRollAndDeleteWrittenSegments() throws Exception {
+        applicationProperties.getAudit().setJournalSegmentSize(DataSize.ofBytes(200));
+        EntityAuditJournal journal = newJournal();
+        for (int i = 0; i < 10; i++) {
+            journal.append(event(String.valueOf(i)));
+        }
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        while (journal.replayBatch()) {
+            // write everything
+        }
+
+        assertThat(written).hasSize(10);
+        assertThat(segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSyncRecordsAppendedAcrossSegments() throws Exception {
+        applicationProperties.getAudit().setJournalSegmentSize(DataSize.ofBytes(200));
+        EntityAuditJournal journal = newJournal();
+        for (int i = 0; i < 5; i++) {
+            journal.append(event(String.valueOf(i)));
+            journal.sync();
+        }
+        // Nothing was appended since the last sync
+        journal.sync();
+
+        EntityAuditJournal restarted = newJournal();
+        while (restarted.replayBatch()) {
+            // write everything
+        }
+
+        assertThat(written).extracting(EntityAuditEvent::getEntityId).containsExactly("0", "1", "2", "3", "4");
+    }
+
+    @Test
+    void shouldRetryBatchThatWasNotWritten() throws Exception {
+        EntityAuditJournal journal = newJournal();
+        journal.append(event("1"));
+        when(queue.flush(anyList())).thenReturn(false);
+
+        assertThatThrownBy(journal::replayBatch).isInstanceOf(IllegalStateException.class);
+
+        when(queue.flush(anyList())).thenAnswer(invocation -> written.addAll(invocation.getArgument(0)));
+        assertThat(journal.replayBatch()).isTrue();
+        assertThat(written).extracting(EntityAuditEvent::getEntityId).containsExactly("1");
+    }
+
+    @Test
+    void shouldKeepVersionsContiguousWhenRetryingBatch() throws Exception {
+        EntityAuditJournal journal = newJournal();
+        journal.append(event("1"));
+        journal.append(event("1"));
+        journal.append(event("1"));
+        when(queue.flush(anyList())).thenReturn(false);
+
+        assertThatThrownBy(journal::replayBatch).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(journal::replayBatch).isInstanceOf(IllegalStateException.class);
+
+        when(queue.flush(anyList())).thenAnswer(invocation -> written.addAll(invocation.getArgument(0)));
+        // Restarted, with the versions of the failed batch saved in the journal only
+        EntityAuditJournal restarted = newJournal();
+        while (restarted.replayBatch()) {
+            // write everything left
+        }
+
+        assertThat(written).extracting(EntityAuditEvent::getCommitVersion).containsExactly(1, 2, 3);
+        written.clear();
+        restarted.append(event("1"));
+        restarted.replayBatch();
+        assertThat(written).extracting(EntityAuditEvent::getCommitVersion).containsExactly(4);
+    }
+
+    @Test
+    void shouldQuarantineCorruptedRecords() throws Exception {
+        EntityAuditJournal journal = newJournal();
+        journal.append(event("1"));
+        journal.append(event("2"));
+        journal.append(event("3"));
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.toString().endsWith(".segment")).findFirst().orElseThrow();
+        }
+        byte[] content = Files.readAllBytes(segment);
+        // Flip a byte of the payload of the second record
+        int secondRecord = 12 + ByteBuffer.wrap(content).getInt(0);
+        content[secondRecord + 12 + 5] ^= 1;
+        Files.write(segment, content);
+        written.clear();
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EntityAuditJournal restarted = newJournal(meterRegistry);
+        while (restarted.replayBatch()) {
+            // write everything left
+        }
+
+        assertThat(written).extracting(EntityAuditEvent::getEntityId).containsExactly("1", "3");
+        assertThat(meterRegistry.get(EntityAuditJournal.CORRUPTED_METER_NAME).counter().count()).isEqualTo(1);
+        try (Stream<Path> files = Files.list(directory.resolve("quarantine"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foursquare.server.IntegrationTest;
+import com.foursquare.server.config.ApplicationProperties;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Integration tests for the {@link EntityAuditPartitionManager} class.
+ */
+@IntegrationTest
+class EntityAuditPartitionManagerIT {
+
+    private static final YearMonth MONTH = YearMonth.of(2100, 1);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private EntityAuditPartitionManager partitionManager;
+
+    @BeforeEach
+    public void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setPartitionsAhead(1);
+        partitionManager = new EntityAuditPartitionManager(dataSource, transactionManager, applicationProperties);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + EntityAuditPartitionManager.partitionName(MONTH));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + EntityAuditPartitionManager.partitionName(MONTH.plusMonths(1)));
+        jdbcTemplate.update(
+            "DELETE FROM " + EntityAuditPartitionManager.TABLE_NAME + " WHERE modified_date >= ?",
+            MONTH.atDay(1).atStartOfDay()
+        );
+    }
+
+    private void insertEvent(long id, LocalDateTime modifiedDate) {
+        jdbcTemplate.update(
+            "INSERT INTO " +
+            EntityAuditPartitionManager.TABLE_NAME +
+            " (id, entity_id, entity_type, action, modified_date) VALUES (?, '1', 'com.foursquare.server.domain.Order', 'UPDATE', ?)",
+            id,
+            modifiedDate
+        );
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM ONLY " + table + " WHERE modified_date >= ?",
+            Long.class,
+            MONTH.atDay(1).atStartOfDay()
+        );
+    }
+
+    @Test
+    void shouldCreatePartitionsAhead() {
+        partitionManager.createPartitions(MONTH);
+        partitionManager.createPartitions(MONTH);
+
+        insertEvent(-1, MONTH.plusMonths(1).atDay(15).atStartOfDay());
+
+        assertThat(count(EntityAuditPartitionManager.partitionName(MONTH.plusMonths(1)))).isEqualTo(1);
+        assertThat(count(EntityAuditPartitionManager.DEFAULT_PARTITION_NAME)).isZero();
+    }
+
+    @Test
+    void shouldMoveEventsOfTheMonthOutOfTheDefaultPartition() {
+        insertEvent(-1, MONTH.atDay(1).atStartOfDay());
+        insertEvent(-2, MONTH.plusMonths(1).atDay(15).atStartOfDay());
+        insertEvent(-3, MONTH.plusMonths(2).atDay(1).atStartOfDay());
+        assertThat(count(EntityAuditPartitionManager.DEFAULT_PARTITION_NAME)).isEqualTo(3);
+
+        partitionManager.createPartitions(MONTH);
+
+        assertThat(count(EntityAuditPartitionManager.partitionName(MONTH))).isEqualTo(1);
+        assertThat(count(EntityAuditPartitionManager.partitionName(MONTH.plusMonths(1)))).isEqualTo(1);
+        assertThat(count(EntityAuditPartitionManager.DEFAULT_PARTITION_NAME)).isEqualTo(1);
+    }
+}
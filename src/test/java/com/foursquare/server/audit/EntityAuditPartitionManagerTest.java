@@ -0,0 +1,53 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.foursquare.server.config.ApplicationProperties;
+import java.time.YearMonth;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for the {@link EntityAuditPartitionManager} class.
+ */
+class EntityAuditPartitionManagerTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private EntityAuditPartitionManager partitionManager;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setRetentionMonths(12);
+        partitionManager = new EntityAuditPartitionManager(
+            mock(DataSource.class),
+            mock(PlatformTransactionManager.class),
+            applicationProperties
+        );
+    }
+
+    @Test
+    void shouldNamePartitionsByMonth() {
+        assertThat(EntityAuditPartitionManager.partitionName(YearMonth.of(2026, 3))).isEqualTo("jhi_entity_audit_event_p2026_03");
+    }
+
+    @Test
+    void shouldExpirePartitionsOlderThanRetention() {
+        YearMonth currentMonth = YearMonth.of(2026, 10);
+
+        assertThat(partitionManager.isExpired(YearMonth.of(2025, 9), currentMonth)).isTrue();
+        assertThat(partitionManager.isExpired(YearMonth.of(2025, 10), currentMonth)).isFalse();
+        assertThat(partitionManager.isExpired(currentMonth, currentMonth)).isFalse();
+    }
+
+    @Test
+    void shouldKeepPartitionsWithoutRetention() {
+        applicationProperties.getAudit().setRetentionMonths(0);
+
+        assertThat(partitionManager.isExpired(YearMonth.of(2000, 1), YearMonth.of(2026, 10))).isFalse();
+    }
+}
@@ -0,0 +1,139 @@
+package com.foursquare.server.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.Address;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.domain.User;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.domain.enumeration.OrderType;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@code FULL} and {@code DELTA} audit payload modes of {@link EntityAuditPayloadCodec} on a stream of
+ * updates to the same {@link Order}, where each update changes one or two fields as an order moves through its
+ * life cycle.
+ * <p>
+ * The primary score is the number of audit events encoded per second. The {@code payloadBytes} secondary score is the
+ * number of entity value bytes produced per second; dividing it by the primary score gives the bytes written to
+ * {@code jhi_entity_audit_event.entity_value} per event, which is what drives insert cost and table growth.
+ * <p>
+ * Run with {@code ./mvnw test-compile} and then the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityAuditPayloadBenchmark {
+
+    @Param({ "FULL", "DELTA" })
+    public ApplicationProperties.Audit.PayloadMode payloadMode;
+
+    @Param({ "10" })
+    public int snapshotInterval;
+
+    private ObjectMapper objectMapper;
+
+    private EntityAuditPayloadCodec codec;
+
+    private Order order;
+
+    private int version;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class PayloadCounters {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setPayloadMode(payloadMode);
+        applicationProperties.getAudit().setSnapshotInterval(snapshotInterval);
+        codec = new EntityAuditPayloadCodec(null, objectMapper, applicationProperties);
+
+        User customer = new User();
+        customer.setId(1L);
+        customer.setLogin("customer");
+        customer.setFirstName("Jane");
+        customer.setLastName("Doe");
+        customer.setEmail("jane.doe@example.com");
+        customer.setLangKey("en");
+        customer.setActivated(true);
+        OrderStatus status = new OrderStatus().id(1L).statusCode("PENDING").description("Pending");
+        Address address = new Address()
+            .id(UUID.randomUUID())
+            .line1("123 Main Street")
+            .line2("Apartment 4B")
+            .city("Springfield")
+            .state("Illinois")
+            .country("United States")
+            .zipOrPostalCode("62704");
+        order = new Order()
+            .id(UUID.randomUUID())
+            .type(OrderType.SALE)
+            .priority(50)
+            .note("Please deliver between 9am and 5pm, ring the bell twice and leave the parcel with the concierge if nobody answers")
+            .otherInfo("{\"giftWrap\":true,\"channel\":\"web\",\"coupon\":\"AUTUMN-SALE\"}")
+            .customer(customer)
+            .status(status)
+            .address(address);
+        order.setCreatedBy("system");
+        order.setCreatedDate(Instant.now());
+        version = 0;
+    }
+
+    @Benchmark
+    public EntityAuditEvent encodeUpdate(PayloadCounters counters) throws Exception {
+        version++;
+        order.setPriority(version % 100);
+        order.getStatus().setStatusCode("STATUS_" + (version / 3) % 14);
+        order.setLastModifiedBy("staff-" + (version % 5));
+        order.setLastModifiedDate(Instant.now());
+
+        EntityAuditEvent auditedEntity = new EntityAuditEvent();
+        auditedEntity.setEntityType(Order.class.getName());
+        auditedEntity.setEntityId(order.getId().toString());
+        auditedEntity.setAction(version == 1 ? EntityAuditAction.CREATE.value() : EntityAuditAction.UPDATE.value());
+        auditedEntity.setCommitVersion(version);
+        auditedEntity.setEntityValue(objectMapper.writeValueAsString(order));
+        codec.encode(auditedEntity);
+        counters.payloadBytes += auditedEntity.getEntityValue().length();
+        return auditedEntity;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EntityAuditPayloadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,193 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.domain.enumeration.EntityAuditPayloadType;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link EntityAuditPayloadCodec} class.
+ */
+class EntityAuditPayloadCodecTest {
+
+    private static final String ENTITY_TYPE = "com.foursquare.server.domain.Order";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EntityAuditEventRepository repository;
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        repository = mock(EntityAuditEventRepository.class);
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setPayloadMode(ApplicationProperties.Audit.PayloadMode.DELTA);
+        applicationProperties.getAudit().setSnapshotInterval(3);
+    }
+
+    private static EntityAuditEvent event(int version, EntityAuditAction action, String value) {
+        EntityAuditEvent event = new EntityAuditEvent();
+        event.setEntityType(ENTITY_TYPE);
+        event.setEntityId("1");
+        event.setAction(action.value());
+        event.setCommitVersion(version);
+        event.setEntityValue(value);
+        return event;
+    }
+
+    private static String document(int priority, String statusCode) {
+        return (
+            "{\"id\":\"1\",\"priority\":" +
+            priority +
+            ",\"note\":\"leave at the door\",\"status\":{\"id\":1,\"statusCode\":\"" +
+            statusCode +
+            "\"}}"
+        );
+    }
+
+    @Test
+    void diffAndApplyShouldRoundTrip() throws Exception {
+        JsonNode from = objectMapper.readTree("{\"a\":1,\"b\":{\"c\":2,\"d\":3},\"e\":[1,2],\"gone\":true}");
+        JsonNode to = objectMapper.readTree("{\"a\":1,\"b\":{\"c\":2,\"d\":4},\"e\":[1,2,3],\"f\":null}");
+
+        JsonNode patch = EntityAuditPayloadCodec.diff(from, to);
+
+        assertThat(patch).isEqualTo(objectMapper.readTree("{\"b\":{\"d\":4},\"e\":[1,2,3],\"f\":null,\"gone\":null}"));
+        assertThat(EntityAuditPayloadCodec.apply(from, patch)).isEqualTo(
+            objectMapper.readTree("{\"a\":1,\"b\":{\"c\":2,\"d\":4},\"e\":[1,2,3],\"f\":null,\"gone\":null}")
+        );
+    }
+
+    @Test
+    void shouldKeepFullPayloadInFullMode() {
+        applicationProperties.getAudit().setPayloadMode(ApplicationProperties.Audit.PayloadMode.FULL);
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        codec.encode(event(1, EntityAuditAction.CREATE, document(1, "PENDING")));
+        EntityAuditEvent update = event(2, EntityAuditAction.UPDATE, document(2, "PENDING"));
+
+        codec.encode(update);
+
+        assertThat(update.getPayloadType()).isEqualTo(EntityAuditPayloadType.FULL);
+        assertThat(update.getEntityValue()).isEqualTo(document(2, "PENDING"));
+    }
+
+    @Test
+    void shouldWriteSnapshotsAtInterval() {
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        List<EntityAuditEvent> events = new ArrayList<>();
+        events.add(event(1, EntityAuditAction.CREATE, document(1, "PENDING")));
+        for (int version = 2; version <= 5; version++) {
+            events.add(event(version, EntityAuditAction.UPDATE, document(version, "PENDING")));
+        }
+
+        events.forEach(codec::encode);
+
+        assertThat(events)
+            .extracting(EntityAuditEvent::getPayloadType)
+            .containsExactly(
+                EntityAuditPayloadType.FULL,
+                EntityAuditPayloadType.DELTA,
+                EntityAuditPayloadType.DELTA,
+                EntityAuditPayloadType.FULL,
+                EntityAuditPayloadType.DELTA
+            );
+        assertThat(events.get(1).getEntityValue()).isEqualTo("{\"priority\":2}");
+    }
+
+    @Test
+    void shouldWriteSnapshotWhenPreviousVersionIsUnknown() {
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        codec.encode(event(1, EntityAuditAction.CREATE, document(1, "PENDING")));
+        codec.reset();
+        EntityAuditEvent update = event(2, EntityAuditAction.UPDATE, document(2, "PENDING"));
+
+        codec.encode(update);
+
+        assertThat(update.getPayloadType()).isEqualTo(EntityAuditPayloadType.FULL);
+    }
+
+    @Test
+    void shouldRebuildDeltaFromLastSnapshot() {
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        EntityAuditEvent first = event(1, EntityAuditAction.CREATE, document(1, "PENDING"));
+        EntityAuditEvent second = event(2, EntityAuditAction.UPDATE, document(2, "PENDING"));
+        EntityAuditEvent third = event(3, EntityAuditAction.UPDATE, document(2, "CONFIRMED"));
+        List.of(first, second, third).forEach(codec::encode);
+        when(repository.findLastSnapshotVersion(ENTITY_TYPE, "1", 3)).thenReturn(1);
+        when(repository.findAllByEntityTypeAndEntityIdAndCommitVersionBetweenOrderByCommitVersionAsc(ENTITY_TYPE, "1", 1, 3)).thenReturn(
+            List.of(first, second, third)
+        );
+
+        EntityAuditEvent decoded = codec.decode(third);
+
+        assertThat(decoded).isNotSameAs(third);
+        assertThat(decoded.getPayloadType()).isEqualTo(EntityAuditPayloadType.FULL);
+        assertThat(decoded.getEntityValue()).isEqualTo(document(2, "CONFIRMED"));
+        assertThat(third.getPayloadType()).isEqualTo(EntityAuditPayloadType.DELTA);
+        assertThat(codec.decode(first)).isSameAs(first);
+    }
+
+    @Test
+    void shouldRebuildDeltaFromSnapshotPastInterval() {
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        List<EntityAuditEvent> events = new ArrayList<>();
+        events.add(event(1, EntityAuditAction.CREATE, document(1, "PENDING")));
+        events.add(event(2, EntityAuditAction.UPDATE, document(2, "PENDING")));
+        events.add(event(3, EntityAuditAction.UPDATE, document(2, "CONFIRMED")));
+        events.add(event(4, EntityAuditAction.UPDATE, document(3, "CONFIRMED")));
+        events.add(event(5, EntityAuditAction.UPDATE, document(3, "SHIPPED")));
+        events.forEach(codec::encode);
+        when(repository.findLastSnapshotVersion(ENTITY_TYPE, "1", 5)).thenReturn(4);
+        when(repository.findAllByEntityTypeAndEntityIdAndCommitVersionBetweenOrderByCommitVersionAsc(ENTITY_TYPE, "1", 4, 5)).thenReturn(
+            events.subList(3, 5)
+        );
+
+        EntityAuditEvent decoded = codec.decode(events.get(4));
+
+        assertThat(events.get(3).getPayloadType()).isEqualTo(EntityAuditPayloadType.FULL);
+        assertThat(decoded.getPayloadType()).isEqualTo(EntityAuditPayloadType.FULL);
+        assertThat(decoded.getEntityValue()).isEqualTo(document(3, "SHIPPED"));
+        assertThat(decoded.getCommitVersion()).isEqualTo(5);
+        verify(repository, never()).findAllByEntityTypeAndEntityIdAndCommitVersionBetweenOrderByCommitVersionAsc(ENTITY_TYPE, "1", 1, 5);
+    }
+
+    @Test
+    void shouldNotRebuildFullPayload() {
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        EntityAuditEvent snapshot = event(4, EntityAuditAction.UPDATE, document(3, "CONFIRMED"));
+        snapshot.setPayloadType(EntityAuditPayloadType.FULL);
+
+        assertThat(codec.decode(snapshot)).isSameAs(snapshot);
+        assertThat(codec.decode(null)).isNull();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldNotRebuildDeltaWithoutSnapshot() {
+        EntityAuditPayloadCodec codec = new EntityAuditPayloadCodec(repository, objectMapper, applicationProperties);
+        EntityAuditEvent delta = event(5, EntityAuditAction.UPDATE, "{\"priority\":3}");
+        delta.setPayloadType(EntityAuditPayloadType.DELTA);
+        when(repository.findLastSnapshotVersion(ENTITY_TYPE, "1", 5)).thenReturn(null);
+
+        EntityAuditEvent decoded = codec.decode(delta);
+
+        assertThat(decoded.getEntityValue()).isNull();
+        verify(repository, never()).findAllByEntityTypeAndEntityIdAndCommitVersionBetweenOrderByCommitVersionAsc(
+            any(),
+            any(),
+            any(),
+            any()
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * Unit tests for the {@link EntityAuditTransactionBuffer} class.
+ */
+class EntityAuditTransactionBufferTest {
+
+    private final List<String> written = new ArrayList<>();
+
+    private final EntityAuditEventWriter writer = (target, action) -> written.add(((Order) target).getNote() + ":" + action);
+
+    private final List<Set<Class<?>>> committed = new ArrayList<>();
+
+    private final List<EntityAuditCommitListener> listeners = List.of(committed::add);
+
+    @BeforeEach
+    public void setup() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static Order order(String note) {
+        return new Order().id(UUID.randomUUID()).note(note);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    @Test
+    void shouldWriteNothingBeforeCommit() {
+        EntityAuditTransactionBuffer.current(writer, listeners).add(order("a"), EntityAuditAction.CREATE);
+
+        assertThat(written).isEmpty();
+        assertThat(EntityAuditTransactionBuffer.current(writer, listeners).size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCollapseEventsPerEntity() {
+        Order created = order("created");
+        Order updated = order("updated");
+        Order deleted = order("deleted");
+        Order transient_ = order("transient");
+        EntityAuditTransactionBuffer buffer = EntityAuditTransactionBuffer.current(writer, listeners);
+        buffer.add(created, EntityAuditAction.CREATE);
+        buffer.add(created, EntityAuditAction.UPDATE);
+        buffer.add(updated, EntityAuditAction.UPDATE);
+        buffer.add(updated, EntityAuditAction.UPDATE);
+        buffer.add(deleted, EntityAuditAction.UPDATE);
+        buffer.add(deleted, EntityAuditAction.DELETE);
+        buffer.add(transient_, EntityAuditAction.CREATE);
+        buffer.add(transient_, EntityAuditAction.DELETE);
+
+        commit();
+
+        assertThat(written).containsExactly("created:CREATE", "updated:UPDATE", "deleted:DELETE");
+    }
+
+    @Test
+    void shouldNotifyCommitListenersOnceWithCommittedClasses() {
+        EntityAuditTransactionBuffer buffer = EntityAuditTransactionBuffer.current(writer, listeners);
+        buffer.add(order("a"), EntityAuditAction.CREATE);
+        buffer.add(order("b"), EntityAuditAction.UPDATE);
+
+        assertThat(committed).isEmpty();
+
+        commit();
+
+        assertThat(committed).containsExactly(Set.of(Order.class));
+    }
+
+    @Test
+    void shouldDiscardEventsOnRollback() {
+        EntityAuditTransactionBuffer.current(writer, listeners).add(order("a"), EntityAuditAction.UPDATE);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(),
+            TransactionSynchronization.STATUS_ROLLED_BACK
+        );
+
+        assertThat(written).isEmpty();
+        assertThat(committed).isEmpty();
+    }
+}
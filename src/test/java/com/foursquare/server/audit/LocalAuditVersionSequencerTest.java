@@ -0,0 +1,79 @@
+package com.foursquare.server.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link LocalAuditVersionSequencer} class.
+ */
+class LocalAuditVersionSequencerTest {
+
+    private static final String ENTITY_TYPE = "com.foursquare.server.domain.Order";
+
+    private EntityAuditEventRepository repository;
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        repository = mock(EntityAuditEventRepository.class);
+        applicationProperties = new ApplicationProperties();
+    }
+
+    private static EntityAuditEvent event(String entityId, EntityAuditAction action) {
+        EntityAuditEvent event = new EntityAuditEvent();
+        event.setEntityType(ENTITY_TYPE);
+        event.setEntityId(entityId);
+        event.setAction(action.value());
+        return event;
+    }
+
+    @Test
+    void shouldSeedFromDatabaseOnlyOnce() {
+        when(repository.findMaxCommitVersion(ENTITY_TYPE, "1")).thenReturn(4);
+        LocalAuditVersionSequencer sequencer = new LocalAuditVersionSequencer(repository, applicationProperties);
+
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.UPDATE))).isEqualTo(5);
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.UPDATE))).isEqualTo(6);
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.DELETE))).isEqualTo(7);
+
+        verify(repository, times(1)).findMaxCommitVersion(ENTITY_TYPE, "1");
+    }
+
+    @Test
+    void shouldStartAtOneWithoutHistory() {
+        LocalAuditVersionSequencer sequencer = new LocalAuditVersionSequencer(repository, applicationProperties);
+
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.UPDATE))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRestartOnCreateWithoutQuery() {
+        LocalAuditVersionSequencer sequencer = new LocalAuditVersionSequencer(repository, applicationProperties);
+
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.CREATE))).isEqualTo(1);
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.UPDATE))).isEqualTo(2);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldSeedAgainAfterEviction() {
+        applicationProperties.getAudit().setVersionCacheSize(1);
+        when(repository.findMaxCommitVersion(ENTITY_TYPE, "1")).thenReturn(2, 3);
+        LocalAuditVersionSequencer sequencer = new LocalAuditVersionSequencer(repository, applicationProperties);
+
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.UPDATE))).isEqualTo(3);
+        sequencer.nextVersion(event("2", EntityAuditAction.CREATE));
+        assertThat(sequencer.nextVersion(event("1", EntityAuditAction.UPDATE))).isEqualTo(4);
+
+        verify(repository, times(2)).findMaxCommitVersion(ENTITY_TYPE, "1");
+    }
+}
@@ -0,0 +1,61 @@
+package com.foursquare.server.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL database of the JMH benchmarks.
+ * <p>
+ * It is the database at the {@code benchmark.jdbc-url} system property, with the {@code benchmark.username} and
+ * {@code benchmark.password} properties, when set. Otherwise it is started through Testcontainers, so Docker must be
+ * available.
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+
+    private final PostgreSqlTestContainer container;
+
+    private final String jdbcUrl;
+
+    private final String username;
+
+    private final String password;
+
+    public BenchmarkDatabase() {
+        if (System.getProperty("benchmark.jdbc-url") != null) {
+            container = null;
+            jdbcUrl = System.getProperty("benchmark.jdbc-url");
+            username = System.getProperty("benchmark.username");
+            password = System.getProperty("benchmark.password");
+        } else {
+            container = new PostgreSqlTestContainer();
+            container.afterPropertiesSet();
+            jdbcUrl = container.getTestContainer().getJdbcUrl();
+            username = container.getTestContainer().getUsername();
+            password = container.getTestContainer().getPassword();
+        }
+    }
+
+    public Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, username, password);
+    }
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+}
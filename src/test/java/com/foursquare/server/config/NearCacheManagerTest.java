@@ -0,0 +1,138 @@
+package com.foursquare.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.misc.CompletableFutureWrapper;
+
+/**
+ * Unit tests for the {@link NearCacheManager} class.
+ */
+class NearCacheManagerTest {
+
+    private static final String REGION = "com.foursquare.server.domain.OrderStatus";
+
+    private CacheManager delegate;
+
+    private Cache<Object, Object> remote;
+
+    private RTopic topic;
+
+    private NearCacheManager nearCacheManager;
+
+    private MessageListener<NearCacheManager.Invalidation> invalidationListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        delegate = mock(CacheManager.class);
+        remote = mock(Cache.class);
+        when(remote.getName()).thenReturn(REGION);
+        when(delegate.getCache(REGION)).thenReturn(remote);
+        Cache<Object, Object> other = mock(Cache.class);
+        when(other.getName()).thenReturn("other");
+        when(delegate.getCache("other")).thenReturn(other);
+
+        topic = mock(RTopic.class);
+        when(topic.publishAsync(any())).thenReturn(new CompletableFutureWrapper<>(1L));
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(NearCacheManager.INVALIDATIONS_TOPIC)).thenReturn(topic);
+
+        ApplicationProperties.NearCache properties = new ApplicationProperties.NearCache();
+        properties.setEnabled(true);
+        properties.setRegions(List.of(REGION));
+        nearCacheManager = new NearCacheManager(delegate, redissonClient, properties);
+
+        ArgumentCaptor<MessageListener<NearCacheManager.Invalidation>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(NearCacheManager.Invalidation.class), listener.capture());
+        invalidationListener = listener.getValue();
+    }
+
+    @Test
+    void shouldOnlyWrapConfiguredRegions() {
+        assertThat(nearCacheManager.getCache(REGION)).isInstanceOf(NearCache.class);
+        assertThat(nearCacheManager.<Object, Object>getCache(REGION).getCacheManager()).isSameAs(nearCacheManager);
+        assertThat(nearCacheManager.getCache("other")).isSameAs(delegate.getCache("other"));
+        assertThat(nearCacheManager.getCache("missing")).isNull();
+    }
+
+    @Test
+    void shouldServeHitsLocally() {
+        when(remote.get(1L)).thenReturn("PENDING");
+        Cache<Object, Object> cache = nearCacheManager.getCache(REGION);
+
+        assertThat(cache.get(1L)).isEqualTo("PENDING");
+        assertThat(cache.get(1L)).isEqualTo("PENDING");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+
+        verify(remote, times(1)).get(1L);
+        verify(remote, times(2)).get(2L);
+    }
+
+    @Test
+    void shouldInvalidateWrittenKeysOnEveryNode() {
+        when(remote.get(1L)).thenReturn("PENDING", "SHIPPED");
+        Cache<Object, Object> cache = nearCacheManager.getCache(REGION);
+        cache.get(1L);
+
+        cache.put(1L, "SHIPPED");
+
+        verify(remote).put(1L, "SHIPPED");
+        assertThat(cache.get(1L)).isEqualTo("SHIPPED");
+        ArgumentCaptor<NearCacheManager.Invalidation> invalidation = ArgumentCaptor.forClass(NearCacheManager.Invalidation.class);
+        verify(topic).publishAsync(invalidation.capture());
+        assertThat(invalidation.getValue().cacheName()).isEqualTo(REGION);
+        assertThat(invalidation.getValue().key()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldDropKeysInvalidatedByOtherNodes() {
+        when(remote.get(1L)).thenReturn("PENDING", "SHIPPED");
+        when(remote.get(2L)).thenReturn("PENDING", "SHIPPED");
+        Cache<Object, Object> cache = nearCacheManager.getCache(REGION);
+        cache.get(1L);
+        cache.get(2L);
+
+        invalidateFromOtherNode(1L);
+
+        assertThat(cache.get(1L)).isEqualTo("SHIPPED");
+        assertThat(cache.get(2L)).isEqualTo("PENDING");
+
+        invalidateFromOtherNode(null);
+
+        assertThat(cache.get(2L)).isEqualTo("SHIPPED");
+    }
+
+    @Test
+    void shouldNotKeepValuesReadBeforeAnInvalidation() {
+        Cache<Object, Object> cache = nearCacheManager.getCache(REGION);
+        when(remote.get(1L)).thenAnswer(invocation -> {
+            // another node writes the key while it is read
+            invalidateFromOtherNode(1L);
+            return "PENDING";
+        });
+
+        assertThat(cache.get(1L)).isEqualTo("PENDING");
+        cache.get(1L);
+
+        verify(remote, times(2)).get(1L);
+    }
+
+    private void invalidateFromOtherNode(Object key) {
+        NearCacheManager.Invalidation invalidation = new NearCacheManager.Invalidation(UUID.randomUUID(), REGION, key);
+        invalidationListener.onMessage(NearCacheManager.INVALIDATIONS_TOPIC, invalidation);
+    }
+}
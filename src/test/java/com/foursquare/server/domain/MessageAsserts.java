@@ -62,7 +62,6 @@ public class MessageAsserts {
     public static void assertMessageUpdatableRelationshipsEquals(Message expected, Message actual) {
         assertThat(expected)
             .as("Verify Message relationships")
-            .satisfies(e -> assertThat(e.getParticipant()).as("check participant").isEqualTo(actual.getParticipant()))
-            .satisfies(e -> assertThat(e.getSeenParticipants()).as("check seenParticipants").isEqualTo(actual.getSeenParticipants()));
+            .satisfies(e -> assertThat(e.getParticipant()).as("check participant").isEqualTo(actual.getParticipant()));
     }
 }
@@ -5,8 +5,6 @@ import static com.foursquare.server.domain.ParticipantTestSamples.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.foursquare.server.web.rest.TestUtil;
-import java.util.HashSet;
-import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class MessageTest {
@@ -36,22 +34,4 @@ class MessageTest {
         message.participant(null);
         assertThat(message.getParticipant()).isNull();
     }
-
-    @Test
-    void seenParticipantTest() {
-        Message message = getMessageRandomSampleGenerator();
-        Participant participantBack = getParticipantRandomSampleGenerator();
-
-        message.addSeenParticipant(participantBack);
-        assertThat(message.getSeenParticipants()).containsOnly(participantBack);
-
-        message.removeSeenParticipant(participantBack);
-        assertThat(message.getSeenParticipants()).doesNotContain(participantBack);
-
-        message.seenParticipants(new HashSet<>(Set.of(participantBack)));
-        assertThat(message.getSeenParticipants()).containsOnly(participantBack);
-
-        message.setSeenParticipants(new HashSet<>());
-        assertThat(message.getSeenParticipants()).doesNotContain(participantBack);
-    }
 }
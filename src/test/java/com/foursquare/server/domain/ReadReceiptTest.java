@@ -0,0 +1,94 @@
+package com.foursquare.server.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ReadReceiptTest {
+
+    @Test
+    void equalsVerifier() {
+        UUID participantId = UUID.randomUUID();
+        ReadReceipt readReceipt1 = new ReadReceipt().participantId(participantId);
+        ReadReceipt readReceipt2 = new ReadReceipt().participantId(participantId);
+        assertThat(readReceipt1).isEqualTo(readReceipt2);
+
+        readReceipt2.participantId(UUID.randomUUID());
+        assertThat(readReceipt1).isNotEqualTo(readReceipt2);
+        assertThat(readReceipt1).isNotEqualTo(new ReadReceipt());
+    }
+
+    @Test
+    void shouldMoveWatermarkOverMessagesSeenInOrder() {
+        ReadReceipt readReceipt = new ReadReceipt();
+
+        assertThat(readReceipt.markSeen(1)).isTrue();
+        assertThat(readReceipt.markSeen(2)).isTrue();
+        assertThat(readReceipt.markSeen(2)).isFalse();
+
+        assertThat(readReceipt.getWatermark()).isEqualTo(2);
+        assertThat(readReceipt.getOutOfOrder()).isNull();
+        assertThat(readReceipt.hasSeen(2)).isTrue();
+        assertThat(readReceipt.hasSeen(3)).isFalse();
+    }
+
+    @Test
+    void shouldKeepMessagesSeenOutOfOrderUntilTheGapIsFilled() {
+        ReadReceipt readReceipt = new ReadReceipt();
+
+        readReceipt.markSeen(3);
+        readReceipt.markSeen(4);
+        readReceipt.markSeen(7);
+
+        assertThat(readReceipt.getWatermark()).isZero();
+        assertThat(readReceipt.getOutOfOrder()).isNotNull();
+        assertThat(readReceipt.hasSeen(2)).isFalse();
+        assertThat(readReceipt.hasSeen(4)).isTrue();
+        assertThat(readReceipt.countUnseen(8)).isEqualTo(5);
+
+        readReceipt.markSeen(1);
+        readReceipt.markSeen(2);
+
+        assertThat(readReceipt.getWatermark()).isEqualTo(4);
+        assertThat(readReceipt.hasSeen(5)).isFalse();
+        assertThat(readReceipt.hasSeen(7)).isTrue();
+        assertThat(readReceipt.countUnseen(8)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMarkPreviousMessagesSeen() {
+        ReadReceipt readReceipt = new ReadReceipt();
+        readReceipt.markSeen(5);
+        readReceipt.markSeen(9);
+
+        readReceipt.markSeenUpTo(4);
+
+        assertThat(readReceipt.getWatermark()).isEqualTo(5);
+        assertThat(readReceipt.hasSeen(9)).isTrue();
+        assertThat(readReceipt.countUnseen(10)).isEqualTo(4);
+
+        readReceipt.markSeenUpTo(10);
+
+        assertThat(readReceipt.getWatermark()).isEqualTo(10);
+        assertThat(readReceipt.getOutOfOrder()).isNull();
+        assertThat(readReceipt.countUnseen(10)).isZero();
+        assertThat(readReceipt.countUnseen(12)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRestoreFromColumns() {
+        ReadReceipt readReceipt = new ReadReceipt();
+        readReceipt.markSeen(1);
+        readReceipt.markSeen(1_000);
+        readReceipt.markSeen(70_000);
+
+        ReadReceipt restored = new ReadReceipt().watermark(readReceipt.getWatermark()).outOfOrder(readReceipt.getOutOfOrder());
+
+        assertThat(restored.hasSeen(1)).isTrue();
+        assertThat(restored.hasSeen(1_000)).isTrue();
+        assertThat(restored.hasSeen(70_000)).isTrue();
+        assertThat(restored.hasSeen(999)).isFalse();
+        assertThat(restored.countUnseen(70_000)).isEqualTo(70_000 - 3);
+    }
+}
@@ -0,0 +1,307 @@
+package com.foursquare.server.service;
+
+import com.foursquare.server.config.PostgreSqlTestContainer;
+import com.foursquare.server.domain.ReadReceipt;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the former {@code rel_message__seen_participant} join table and the {@link ReadReceipt}s of
+ * {@link ReadReceiptService} on a large conversation seeded in PostgreSQL.
+ * <p>
+ * {@code seenParticipantsByJoinTable} and {@code seenParticipantsByReceipts} get the participants who have seen a message
+ * in the middle of the conversation. {@code unseenCountByJoinTable} and {@code unseenCountByReceipts} count the messages
+ * which a participant has not seen, as {@link ReadReceiptService#countUnseen(UUID)} does.
+ * <p>
+ * The setup seeds a conversation of {@value #PARTICIPANTS} participants and {@value #MESSAGES} messages. Each participant
+ * has read the conversation up to a point of its own, and every tenth message of the {@value #OUT_OF_ORDER} messages
+ * after it. The receipts are created from the join table as the changelog migration does. The sizes of both tables
+ * and the {@code EXPLAIN ANALYZE} plan of each join table query are printed. PostgreSQL is started through
+ * Testcontainers, so Docker must be available. Run with {@code ./mvnw test-compile} and then the
+ * {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadReceiptBenchmark {
+
+    static final int PARTICIPANTS = 200;
+
+    static final int MESSAGES = 20_000;
+
+    static final int OUT_OF_ORDER = 2_000;
+
+    private static final String SEEN_PARTICIPANTS_BY_JOIN_TABLE =
+        "select seen.seen_participant_id from rel_message__seen_participant seen where seen.message_id = ?";
+
+    private static final String UNSEEN_COUNT_BY_JOIN_TABLE =
+        "select count(*) from message message join participant sender on sender.id = message.participant_id " +
+        "where sender.conversation_id = (select conversation_id from participant where id = ?) and not exists " +
+        "(select 1 from rel_message__seen_participant seen where seen.message_id = message.id and seen.seen_participant_id = ?)";
+
+    private static final String MESSAGE_POSITION =
+        "select sender.conversation_id, message.sequence from message message " +
+        "join participant sender on sender.id = message.participant_id where message.id = ?";
+
+    private static final String MAYBE_SEEN_RECEIPTS =
+        "select participant_id, watermark, out_of_order from read_receipt " +
+        "where conversation_id = ? and (watermark >= ? or out_of_order is not null)";
+
+    private static final String MESSAGE_COUNT =
+        "select conversation.message_count from conversation conversation " +
+        "join participant participant on participant.conversation_id = conversation.id where participant.id = ?";
+
+    private static final String RECEIPT = "select watermark, out_of_order from read_receipt where participant_id = ?";
+
+    private PostgreSqlTestContainer container;
+
+    private Connection connection;
+
+    private UUID messageId;
+
+    private UUID participantId;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        container = new PostgreSqlTestContainer();
+        container.afterPropertiesSet();
+        connection = DriverManager.getConnection(
+            container.getTestContainer().getJdbcUrl(),
+            container.getTestContainer().getUsername(),
+            container.getTestContainer().getPassword()
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists read_receipt, rel_message__seen_participant, message, participant, conversation");
+            statement.execute("create table conversation (id uuid primary key, message_count integer not null)");
+            statement.execute("create table participant (id uuid primary key, conversation_id uuid not null references conversation)");
+            statement.execute(
+                "create table message (id uuid primary key, participant_id uuid not null references participant, sequence integer)"
+            );
+            statement.execute("create index on message (participant_id)");
+            statement.execute(
+                "create table rel_message__seen_participant (message_id uuid not null references message, " +
+                "seen_participant_id uuid not null references participant, primary key (message_id, seen_participant_id))"
+            );
+            statement.execute(
+                "create table read_receipt (participant_id uuid primary key references participant, " +
+                "conversation_id uuid not null references conversation, watermark integer not null, out_of_order bytea)"
+            );
+            statement.execute("create index on read_receipt (conversation_id)");
+            statement.execute("insert into conversation values (gen_random_uuid(), " + MESSAGES + ")");
+            statement.execute(
+                "insert into participant select gen_random_uuid(), c.id from conversation c, generate_series(1, " + PARTICIPANTS + ")"
+            );
+            statement.execute(
+                "insert into message select gen_random_uuid(), p.id, n from generate_series(1, " +
+                MESSAGES +
+                ") n join (select id, row_number() over (order by id) - 1 rank from participant) p on p.rank = n % " +
+                PARTICIPANTS
+            );
+            // participant p has read up to MESSAGES * p / PARTICIPANTS, then every tenth message of the next OUT_OF_ORDER
+            statement.execute(
+                "insert into rel_message__seen_participant select m.id, p.id from message m " +
+                "join (select id, row_number() over (order by id) rank from participant) p on m.sequence <= p.rank * " +
+                MESSAGES / PARTICIPANTS +
+                " or (m.sequence <= p.rank * " +
+                MESSAGES / PARTICIPANTS +
+                " + " +
+                OUT_OF_ORDER +
+                " and (m.sequence + p.rank) % 10 = 0)"
+            );
+            statement.execute("analyze");
+        }
+        createReceipts();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+        try (
+            PreparedStatement statement = connection.prepareStatement(
+                "select (select id from message where sequence = " +
+                MESSAGES / 2 +
+                "), (select id from participant order by id offset " +
+                PARTICIPANTS / 4 +
+                " limit 1)"
+            );
+            ResultSet resultSet = statement.executeQuery()
+        ) {
+            resultSet.next();
+            messageId = resultSet.getObject(1, UUID.class);
+            participantId = resultSet.getObject(2, UUID.class);
+        }
+        printSize("rel_message__seen_participant");
+        printSize("read_receipt");
+        printPlan(SEEN_PARTICIPANTS_BY_JOIN_TABLE.replace("?", "'" + messageId + "'"));
+        printPlan(UNSEEN_COUNT_BY_JOIN_TABLE.replace("?", "'" + participantId + "'"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        container.destroy();
+    }
+
+    @Benchmark
+    public long seenParticipantsByJoinTable() throws SQLException {
+        long participants = 0;
+        try (PreparedStatement statement = connection.prepareStatement(SEEN_PARTICIPANTS_BY_JOIN_TABLE)) {
+            statement.setObject(1, messageId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    participants++;
+                }
+            }
+        }
+        return participants;
+    }
+
+    @Benchmark
+    public long seenParticipantsByReceipts() throws SQLException {
+        UUID conversationId;
+        int sequence;
+        try (PreparedStatement statement = connection.prepareStatement(MESSAGE_POSITION)) {
+            statement.setObject(1, messageId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                conversationId = resultSet.getObject(1, UUID.class);
+                sequence = resultSet.getInt(2);
+            }
+        }
+        long participants = 0;
+        try (PreparedStatement statement = connection.prepareStatement(MAYBE_SEEN_RECEIPTS)) {
+            statement.setObject(1, conversationId);
+            statement.setInt(2, sequence);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (readReceipt(resultSet, 2).hasSeen(sequence)) {
+                        participants++;
+                    }
+                }
+            }
+        }
+        return participants;
+    }
+
+    @Benchmark
+    public long unseenCountByJoinTable() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UNSEEN_COUNT_BY_JOIN_TABLE)) {
+            statement.setObject(1, participantId);
+            statement.setObject(2, participantId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    @Benchmark
+    public long unseenCountByReceipts() throws SQLException {
+        int messageCount;
+        try (PreparedStatement statement = connection.prepareStatement(MESSAGE_COUNT)) {
+            statement.setObject(1, participantId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                messageCount = resultSet.getInt(1);
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(RECEIPT)) {
+            statement.setObject(1, participantId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? readReceipt(resultSet, 1).countUnseen(messageCount) : messageCount;
+            }
+        }
+    }
+
+    /**
+     * Read a receipt from its watermark and bitmap columns, the entity being loaded by Hibernate in the application.
+     */
+    private ReadReceipt readReceipt(ResultSet resultSet, int watermarkColumn) throws SQLException {
+        return new ReadReceipt().watermark(resultSet.getInt(watermarkColumn)).outOfOrder(resultSet.getBytes(watermarkColumn + 1));
+    }
+
+    private void createReceipts() throws SQLException {
+        try (
+            PreparedStatement select = connection.prepareStatement(
+                "select p.id, p.conversation_id, m.sequence from rel_message__seen_participant seen " +
+                "join participant p on p.id = seen.seen_participant_id join message m on m.id = seen.message_id order by p.id"
+            );
+            PreparedStatement insert = connection.prepareStatement(
+                "insert into read_receipt (participant_id, conversation_id, watermark, out_of_order) values (?, ?, ?, ?)"
+            );
+            ResultSet resultSet = select.executeQuery()
+        ) {
+            ReadReceipt receipt = null;
+            while (resultSet.next()) {
+                UUID id = resultSet.getObject(1, UUID.class);
+                if (receipt == null || !receipt.getParticipantId().equals(id)) {
+                    if (receipt != null) {
+                        addReceipt(insert, receipt);
+                    }
+                    receipt = new ReadReceipt().participantId(id).conversationId(resultSet.getObject(2, UUID.class));
+                }
+                receipt.markSeen(resultSet.getInt(3));
+            }
+            if (receipt != null) {
+                addReceipt(insert, receipt);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void addReceipt(PreparedStatement insert, ReadReceipt receipt) throws SQLException {
+        insert.setObject(1, receipt.getParticipantId());
+        insert.setObject(2, receipt.getConversationId());
+        insert.setInt(3, receipt.getWatermark());
+        insert.setBytes(4, receipt.getOutOfOrder());
+        insert.addBatch();
+    }
+
+    private void printSize(String table) throws SQLException {
+        try (
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(
+                "select count(*), pg_size_pretty(pg_total_relation_size('" + table + "')) from " + table
+            )
+        ) {
+            resultSet.next();
+            System.out.println(table + ": " + resultSet.getLong(1) + " rows, " + resultSet.getString(2));
+        }
+    }
+
+    private void printPlan(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder(query).append('\n');
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("explain analyze " + query)) {
+            while (resultSet.next()) {
+                plan.append("  ").append(resultSet.getString(1)).append('\n');
+            }
+        }
+        System.out.println(plan);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReadReceiptBenchmark.class.getSimpleName()).build()).run();
+    }
+}
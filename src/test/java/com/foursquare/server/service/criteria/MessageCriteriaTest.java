@@ -82,7 +82,6 @@ class MessageCriteriaTest {
         messageCriteria.lastModifiedBy();
         messageCriteria.lastModifiedDate();
         messageCriteria.participantId();
-        messageCriteria.seenParticipantId();
         messageCriteria.distinct();
     }
 
@@ -97,7 +96,6 @@ class MessageCriteriaTest {
                 condition.apply(criteria.getLastModifiedBy()) &&
                 condition.apply(criteria.getLastModifiedDate()) &&
                 condition.apply(criteria.getParticipantId()) &&
-                condition.apply(criteria.getSeenParticipantId()) &&
                 condition.apply(criteria.getDistinct()),
             "every filter matches"
         );
@@ -114,7 +112,6 @@ class MessageCriteriaTest {
                 condition.apply(criteria.getLastModifiedBy(), copy.getLastModifiedBy()) &&
                 condition.apply(criteria.getLastModifiedDate(), copy.getLastModifiedDate()) &&
                 condition.apply(criteria.getParticipantId(), copy.getParticipantId()) &&
-                condition.apply(criteria.getSeenParticipantId(), copy.getSeenParticipantId()) &&
                 condition.apply(criteria.getDistinct(), copy.getDistinct()),
             "every filter matches"
         );
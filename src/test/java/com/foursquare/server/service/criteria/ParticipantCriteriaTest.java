@@ -83,7 +83,6 @@ class ParticipantCriteriaTest {
         participantCriteria.userId();
         participantCriteria.conversationId();
         participantCriteria.messageId();
-        participantCriteria.seenMessageId();
         participantCriteria.distinct();
     }
 
@@ -99,7 +98,6 @@ class ParticipantCriteriaTest {
                 condition.apply(criteria.getUserId()) &&
                 condition.apply(criteria.getConversationId()) &&
                 condition.apply(criteria.getMessageId()) &&
-                condition.apply(criteria.getSeenMessageId()) &&
                 condition.apply(criteria.getDistinct()),
             "every filter matches"
         );
@@ -117,7 +115,6 @@ class ParticipantCriteriaTest {
                 condition.apply(criteria.getUserId(), copy.getUserId()) &&
                 condition.apply(criteria.getConversationId(), copy.getConversationId()) &&
                 condition.apply(criteria.getMessageId(), copy.getMessageId()) &&
-                condition.apply(criteria.getSeenMessageId(), copy.getSeenMessageId()) &&
                 condition.apply(criteria.getDistinct(), copy.getDistinct()),
             "every filter matches"
         );
@@ -0,0 +1,68 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.domain.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Unit tests for the {@link ApproximateCounter} class.
+ */
+class ApproximateCounterTest {
+
+    private static final long EXACT_COUNT = 42L;
+
+    private final Specification<Order> specification = Specification.where(null);
+
+    private ApproximateCounter counter;
+
+    @BeforeEach
+    void setup() {
+        counter = spy(new ApproximateCounter(1000, mock(EntityManager.class), mock(SessionFactoryImplementor.class), new ObjectMapper()));
+    }
+
+    @Test
+    void shouldReturnEstimateAboveThreshold() {
+        doReturn(250_000L).when(counter).estimate(Order.class, specification);
+
+        assertThat(counter.count(Order.class, specification, () -> EXACT_COUNT)).isEqualTo(250_000L);
+    }
+
+    @Test
+    void shouldCountExactlyBelowThreshold() {
+        doReturn(999L).when(counter).estimate(Order.class, specification);
+
+        assertThat(counter.count(Order.class, specification, () -> EXACT_COUNT)).isEqualTo(EXACT_COUNT);
+    }
+
+    @Test
+    void shouldCountExactlyWithoutEstimate() {
+        doReturn(-1L).when(counter).estimate(Order.class, specification);
+        assertThat(counter.count(Order.class, specification, () -> EXACT_COUNT)).isEqualTo(EXACT_COUNT);
+
+        doThrow(new PersistenceException("function pg_partition_tree does not exist")).when(counter).estimate(Order.class, specification);
+        assertThat(counter.count(Order.class, specification, () -> EXACT_COUNT)).isEqualTo(EXACT_COUNT);
+    }
+
+    @Test
+    void shouldReadRowEstimateOfPlan() {
+        String plan =
+            "[{\"Plan\": {\"Node Type\": \"Seq Scan\", \"Relation Name\": \"jhi_order\", \"Startup Cost\": 0.00, " +
+            "\"Total Cost\": 1834.00, \"Plan Rows\": 48213, \"Plan Width\": 32}}]";
+
+        assertThat(counter.planRows(plan)).isEqualTo(48213L);
+        assertThat(counter.planRows("[]")).isEqualTo(-1L);
+        assertThat(counter.planRows("not a plan")).isEqualTo(-1L);
+        assertThat(counter.planRows(null)).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,166 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.foursquare.server.config.ApplicationProperties;
+import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.service.dto.BulkItemResultDTO;
+import com.foursquare.server.service.dto.BulkItemResultDTO.Status;
+import com.foursquare.server.service.dto.OrderStatusDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Unit tests for the {@link BulkWriter} class.
+ */
+class BulkWriterTest {
+
+    private EntityManager entityManager;
+
+    private Session session;
+
+    private PlatformTransactionManager transactionManager;
+
+    private BulkWriter bulkWriter;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final List<String> written = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        entityManager = mock(EntityManager.class);
+        session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getBulk().setChunkSize(2);
+        applicationProperties.getBulk().setMaxItems(5);
+        bulkWriter = new BulkWriter(
+            applicationProperties,
+            entityManager,
+            transactionManager,
+            Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    @Test
+    void shouldCreateInChunks() {
+        List<BulkItemResultDTO<Long>> results = create(BulkWriter.Mode.ALL_OR_NOTHING, "A", "B", "C");
+
+        assertThat(results).extracting(BulkItemResultDTO::getStatus).containsOnly(Status.CREATED);
+        assertThat(results).extracting(BulkItemResultDTO::getId).containsExactly(1L, 2L, 3L);
+        assertThat(written).containsExactly("A", "B", "C");
+        verify(transactionManager, times(1)).commit(any());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void shouldWriteNothingWhenAnItemIsInvalid() {
+        List<BulkItemResultDTO<Long>> results = create(BulkWriter.Mode.ALL_OR_NOTHING, "A", null, "C");
+
+        assertThat(results)
+            .extracting(BulkItemResultDTO::getStatus)
+            .containsExactly(Status.NOT_WRITTEN, Status.FAILED, Status.NOT_WRITTEN);
+        assertThat(results.get(1).getErrorKey()).isEqualTo("invalid");
+        assertThat(results.get(1).getMessage()).startsWith("statusCode: ");
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void shouldRollBackAllWhenAnItemFails() {
+        List<BulkItemResultDTO<Long>> results = create(BulkWriter.Mode.ALL_OR_NOTHING, "A", "B", "FAIL", "D");
+
+        assertThat(results)
+            .extracting(BulkItemResultDTO::getStatus)
+            .containsExactly(Status.NOT_WRITTEN, Status.NOT_WRITTEN, Status.FAILED, Status.NOT_WRITTEN);
+        assertThat(results.get(2).getErrorKey()).isEqualTo("writefailed");
+        assertThat(results.get(0).getId()).isNull();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldWriteTheOtherItemsInBestEffortMode() {
+        List<BulkItemResultDTO<Long>> results = create(BulkWriter.Mode.BEST_EFFORT, "A", "B", "C", "FAIL", null);
+
+        assertThat(results)
+            .extracting(BulkItemResultDTO::getStatus)
+            .containsExactly(Status.CREATED, Status.CREATED, Status.CREATED, Status.FAILED, Status.FAILED);
+        // The chunk of the failing item is rolled back, and its items written again one by one
+        assertThat(written).containsExactly("A", "B", "C", "C");
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFailUpdatesOfMissingEntities() {
+        MultiIdentifierLoadAccess<OrderStatus> loadAccess = mock(MultiIdentifierLoadAccess.class, RETURNS_SELF);
+        when(session.byMultipleIds(OrderStatus.class)).thenReturn(loadAccess);
+        when(loadAccess.multiLoad(anyList())).thenReturn(Arrays.asList(new OrderStatus(), null));
+        List<OrderStatusDTO> dtos = List.of(orderStatus(1L, "A"), orderStatus(2L, "B"), orderStatus(null, "C"));
+
+        List<BulkItemResultDTO<Long>> results = bulkWriter.update(
+            OrderStatus.class,
+            dtos,
+            OrderStatusDTO::getId,
+            BulkWriter.Mode.BEST_EFFORT,
+            dto -> {
+                written.add(dto.getStatusCode());
+                return dto.getId();
+            }
+        );
+
+        assertThat(results).extracting(BulkItemResultDTO::getStatus).containsExactly(Status.UPDATED, Status.FAILED, Status.FAILED);
+        assertThat(results).extracting(BulkItemResultDTO::getErrorKey).containsExactly(null, "idnotfound", "idnull");
+        assertThat(written).containsExactly("A");
+    }
+
+    @Test
+    void shouldRejectTooManyItems() {
+        assertThatThrownBy(() -> create(BulkWriter.Mode.BEST_EFFORT, "A", "B", "C", "D", "E", "F")).isInstanceOf(
+            BulkWriter.TooManyItemsException.class
+        );
+    }
+
+    private List<BulkItemResultDTO<Long>> create(BulkWriter.Mode mode, String... statusCodes) {
+        List<OrderStatusDTO> dtos = Arrays.stream(statusCodes).map(statusCode -> orderStatus(null, statusCode)).toList();
+        Function<OrderStatusDTO, Long> writer = dto -> {
+            if ("FAIL".equals(dto.getStatusCode())) {
+                throw new IllegalStateException("Cannot write");
+            }
+            written.add(dto.getStatusCode());
+            return sequence.incrementAndGet();
+        };
+        return bulkWriter.create(dtos, OrderStatusDTO::getId, mode, writer);
+    }
+
+    private static OrderStatusDTO orderStatus(Long id, String statusCode) {
+        OrderStatusDTO orderStatusDTO = new OrderStatusDTO();
+        orderStatusDTO.setId(id);
+        orderStatusDTO.setStatusCode(statusCode);
+        return orderStatusDTO;
+    }
+}
@@ -0,0 +1,55 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.foursquare.server.domain.Order;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Unit tests for the {@link CriteriaPagination} class.
+ */
+class CriteriaPaginationTest {
+
+    @Test
+    void shouldReturnCursorOfLastEntityWhenThereIsANextWindow() {
+        UUID id = UUID.randomUUID();
+        Instant createdDate = Instant.parse("2026-10-18T10:15:30.123456Z");
+        Window<String> window = Window.from(
+            List.of("a", "b"),
+            index -> ScrollPosition.forward(Map.of(CriteriaPagination.CREATED_DATE, createdDate, CriteriaPagination.ID, id)),
+            true
+        );
+
+        assertThat(CriteriaPagination.nextCursor(window)).isEqualTo("2026-10-18T10:15:30.123456Z," + id);
+    }
+
+    @Test
+    void shouldNotReturnCursorForLastWindow() {
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.keyset(), false);
+
+        assertThat(CriteriaPagination.nextCursor(window)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRejectInvalidCursor() {
+        JpaSpecificationExecutor<Order> repository = mock(JpaSpecificationExecutor.class);
+
+        assertThatThrownBy(() ->
+            CriteriaPagination.scroll(repository, null, PageRequest.of(0, 20), "yesterday", UUID::fromString)
+        ).isInstanceOf(CriteriaPagination.InvalidCursorException.class);
+        assertThatThrownBy(() ->
+            CriteriaPagination.scroll(repository, null, PageRequest.of(0, 20), "2026-10-18T10:15:30Z,not-a-uuid", UUID::fromString)
+        ).isInstanceOf(CriteriaPagination.InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,271 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.foursquare.server.domain.Address;
+import com.foursquare.server.domain.Invoice;
+import com.foursquare.server.domain.Message;
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.domain.Product;
+import com.foursquare.server.service.criteria.OrderCriteria;
+import com.foursquare.server.service.dto.OrderDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+import tech.jhipster.service.filter.UUIDFilter;
+
+/**
+ * Unit tests for the {@link CriteriaResultCache} class.
+ */
+class CriteriaResultCacheTest {
+
+    private static final DtoProjection<Order, OrderDTO> ORDER_PROJECTION = DtoProjection.of(
+        Order.class,
+        OrderDTO.class,
+        "customer.id",
+        "customer.login",
+        "status.id",
+        "status.statusCode",
+        "address.id",
+        "rootOrder.id"
+    );
+
+    private final Map<Object, Object> entries = new HashMap<>();
+
+    private final Map<String, Long> generations = new HashMap<>();
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    // Mocking the large Redisson interface takes seconds, so it is only done once
+    private static RMap<String, Long> generationMap;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CriteriaResultCache criteriaResultCache;
+
+    @BeforeAll
+    @SuppressWarnings("unchecked")
+    static void mockGenerationMap() {
+        generationMap = mock(RMap.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        Cache<Object, Object> cache = mock(Cache.class);
+        when(cache.get(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        when(cache.getName()).thenReturn(CriteriaResultCache.CRITERIA_RESULTS_CACHE);
+        doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(cache)
+            .put(any(), any());
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(CriteriaResultCache.CRITERIA_RESULTS_CACHE)).thenReturn(cache);
+        reset(generationMap);
+        when(generationMap.getAll(anySet())).thenAnswer(invocation -> {
+            Map<String, Long> result = new HashMap<>();
+            for (String type : (Set<String>) invocation.getArgument(0)) {
+                if (generations.containsKey(type)) {
+                    result.put(type, generations.get(type));
+                }
+            }
+            return result;
+        });
+        when(generationMap.addAndGet(anyString(), anyLong())).thenAnswer(invocation ->
+            generations.merge(invocation.getArgument(0), invocation.getArgument(1), Long::sum)
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        criteriaResultCache = new CriteriaResultCache(
+            true,
+            cacheManager,
+            generationMap,
+            JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+            meterRegistry
+        );
+    }
+
+    private long count(OrderCriteria criteria) {
+        return criteriaResultCache.getCount(Order.class, criteria, () -> (long) queries.incrementAndGet());
+    }
+
+    private Page<OrderDTO> page(OrderCriteria criteria, Pageable page) {
+        return criteriaResultCache.getPage(ORDER_PROJECTION, criteria, page, () -> {
+            queries.incrementAndGet();
+            return new PageImpl<>(List.of(order("a"), order("b")), page, 5);
+        });
+    }
+
+    private static OrderDTO order(String note) {
+        OrderDTO order = new OrderDTO();
+        order.setNote(note);
+        return order;
+    }
+
+    private static OrderCriteria criteria(Long... statusIds) {
+        OrderCriteria criteria = new OrderCriteria();
+        criteria.statusId().setIn(List.of(statusIds));
+        criteria.note().setContains("urgent");
+        return criteria;
+    }
+
+    @Test
+    void shouldQueryOnceForEquivalentCriteria() {
+        OrderCriteria criteria = criteria(1L, 2L);
+        // Unset filters and the order of in values do not matter
+        OrderCriteria equivalent = criteria(2L, 1L);
+        equivalent.setId(new UUIDFilter());
+
+        assertThat(count(criteria)).isEqualTo(1);
+        assertThat(count(equivalent)).isEqualTo(1);
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter(CriteriaResultCache.LOOKUPS_METER_NAME, "criteria", "OrderCriteria", "result", "hit").count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.counter(CriteriaResultCache.LOOKUPS_METER_NAME, "criteria", "OrderCriteria", "result", "miss").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldQueryAgainForDifferentCriteria() {
+        OrderCriteria criteria = criteria(1L);
+        OrderCriteria other = criteria(1L);
+        other.setNote((StringFilter) new StringFilter().setEquals("urgent"));
+
+        count(criteria);
+        count(other);
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldInvalidateCountOnCommitOfEntityOrFilteredToManyAssociation() {
+        OrderCriteria criteria = criteria(1L);
+
+        count(criteria);
+        // The status filter only reads the status_id column of the order
+        criteriaResultCache.onEntitiesCommitted(Set.of(OrderStatus.class, Invoice.class));
+        count(criteria);
+        assertThat(queries.get()).isEqualTo(1);
+
+        criteriaResultCache.onEntitiesCommitted(Set.of(Order.class));
+        count(criteria);
+        assertThat(queries.get()).isEqualTo(2);
+
+        OrderCriteria byInvoice = criteria(1L);
+        byInvoice.invoiceId().setEquals(UUID.randomUUID());
+        count(byInvoice);
+        criteriaResultCache.onEntitiesCommitted(Set.of(Invoice.class));
+        count(byInvoice);
+        assertThat(queries.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotInvalidatePageOnCommitOfUnrelatedEntity() {
+        OrderCriteria criteria = criteria(1L);
+        Pageable firstPage = PageRequest.of(0, 2);
+
+        page(criteria, firstPage);
+        // The page only reads the id of the address, and does not filter on invoices
+        criteriaResultCache.onEntitiesCommitted(Set.of(Product.class, Message.class, Invoice.class, Address.class));
+        page(criteria, firstPage);
+        assertThat(queries.get()).isEqualTo(1);
+
+        criteriaResultCache.onEntitiesCommitted(Set.of(OrderStatus.class));
+        page(criteria, firstPage);
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldInvalidateAfterCommitOfBulkWrite() {
+        OrderCriteria criteria = criteria(1L);
+        count(criteria);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            criteriaResultCache.onBulkWrite(Order.class);
+            count(criteria);
+            assertThat(queries.get()).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        count(criteria);
+        assertThat(queries.get()).isEqualTo(2);
+
+        criteriaResultCache.onBulkWrite(Order.class);
+        count(criteria);
+        assertThat(queries.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDeriveDependenciesFromProjectionAndFilters() {
+        CriteriaResultCache.Dependencies dependencies = CriteriaResultCache.dependencies(
+            Order.class,
+            ORDER_PROJECTION.getJoinedEntityClasses(),
+            OrderCriteria.class
+        );
+
+        assertThat(dependencies.entityTypes()).containsExactly("Order", "OrderStatus", "User");
+        assertThat(dependencies.filterEntityTypes())
+            .containsEntry("invoiceId", "Invoice")
+            .containsEntry("orderItemId", "OrderItem")
+            .containsEntry("childOrderId", "Order")
+            .containsEntry("historyId", "OrderHistory")
+            .doesNotContainKeys("statusId", "customerId", "addressId", "rootOrderId");
+    }
+
+    @Test
+    void shouldCachePagesPerPageRequest() {
+        OrderCriteria criteria = criteria(1L);
+        Pageable firstPage = PageRequest.of(0, 2);
+
+        Page<OrderDTO> page = page(criteria, firstPage);
+        Page<OrderDTO> cached = criteriaResultCache.getPage(ORDER_PROJECTION, criteria, firstPage, () -> {
+            throw new IllegalStateException("Should be cached");
+        });
+        page(criteria, PageRequest.of(1, 2));
+
+        assertThat(cached.getContent()).isEqualTo(page.getContent()).hasSize(2);
+        assertThat(cached.getTotalElements()).isEqualTo(5);
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        CriteriaResultCache disabled = new CriteriaResultCache(false, null, null, null, meterRegistry);
+        LongFilter filter = new LongFilter();
+
+        disabled.getCount(Order.class, filter, () -> (long) queries.incrementAndGet());
+        disabled.getCount(Order.class, filter, () -> (long) queries.incrementAndGet());
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,225 @@
+package com.foursquare.server.service.helper;
+
+import com.foursquare.server.config.BenchmarkDatabase;
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.Order_;
+import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.service.mapper.OrderMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import liquibase.integration.spring.SpringLiquibase;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Compares the former and the new read path of an {@link Order} page, on a database migrated with the Liquibase
+ * changelog and seeded with {@value #ORDERS} orders.
+ * <p>
+ * {@code entityMapping} is the former path: {@link SimpleJpaRepository#findAll(Specification, Pageable)}, which loads
+ * the orders with their eager customer, status, address and root order, then {@link OrderMapper#toDto(Object)}. The
+ * session is read-only, as in a {@code readOnly} transaction. {@code projection} is the path of {@link DtoProjector}:
+ * one tuple query of the columns of the {@link OrderDTO}. Both also run the count query of the page.
+ * <p>
+ * Run with the {@link GCProfiler} from {@link #main(String[])}, {@code gc.alloc.rate.norm} gives the heap allocated per
+ * page. The database is a {@link BenchmarkDatabase}, which must be empty before the first trial. Run with
+ * {@code ./mvnw test-compile} and then the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoProjectionBenchmark {
+
+    static final int ORDERS = 20_000;
+
+    static final int USERS = 100;
+
+    static final int STATUSES = 5;
+
+    static final int ADDRESSES = 1_000;
+
+    private static final DtoProjection<Order, OrderDTO> PROJECTION = DtoProjection.of(
+        Order.class,
+        OrderDTO.class,
+        "customer.id",
+        "customer.login",
+        "status.id",
+        "status.statusCode",
+        "address.id",
+        "rootOrder.id"
+    );
+
+    private static final Specification<Order> SPECIFICATION = (root, query, builder) ->
+        builder.greaterThanOrEqualTo(root.get(Order_.priority), 10);
+
+    private static final Pageable PAGE = PageRequest.of(10, 100, Sort.by("id"));
+
+    private final OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+
+    private BenchmarkDatabase database;
+
+    private HikariDataSource dataSource;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        database = new BenchmarkDatabase();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(database.getJdbcUrl());
+        dataSource.setUsername(database.getUsername());
+        dataSource.setPassword(database.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:config/liquibase/master.xml");
+        liquibase.setContexts("test");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        seed();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.foursquare.server.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(
+            Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY,
+                SpringImplicitNamingStrategy.class.getName(),
+                AvailableSettings.USE_SECOND_LEVEL_CACHE,
+                false
+            )
+        );
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("select 1 from jhi_user where id = 1001")) {
+                if (resultSet.next()) {
+                    // seeded by a previous trial
+                    return;
+                }
+            }
+            statement.execute(
+                "insert into jhi_user (id, login, password_hash, activated, created_by, created_date) " +
+                "select 1000 + n, 'user' || n, repeat('x', 60), true, 'system', now() from generate_series(1, " +
+                USERS +
+                ") n"
+            );
+            statement.execute(
+                "insert into order_status (id, status_code, created_by, created_date, last_modified_by, last_modified_date) " +
+                "select 1000 + n, 'STATUS_' || n, 'system', now(), 'system', now() from generate_series(1, " +
+                STATUSES +
+                ") n"
+            );
+            statement.execute(
+                "insert into address (id, line_1, city, state, country, created_by, created_date, last_modified_by, last_modified_date) " +
+                "select gen_random_uuid(), n || ' Main Street', 'City', 'State', 'Country', 'system', now(), 'system', now() " +
+                "from generate_series(1, " +
+                ADDRESSES +
+                ") n"
+            );
+            statement.execute(
+                "insert into jhi_order (id, type, priority, note, created_by, created_date, last_modified_by, last_modified_date, " +
+                "customer_id, status_id, address_id) " +
+                "select gen_random_uuid(), 'SALE', n % 100, 'note ' || n, 'system', now() - n * interval '1 minute', 'system', " +
+                "now() - n * interval '1 minute', " +
+                "1001 + n % " +
+                USERS +
+                ", 1001 + n % " +
+                STATUSES +
+                ", a.ids[1 + n % " +
+                ADDRESSES +
+                "] from generate_series(1, " +
+                ORDERS +
+                ") n, (select array_agg(id) ids from address) a"
+            );
+            statement.execute("analyze");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<OrderDTO> entityMapping() {
+        return inReadOnlyTransaction(entityManager -> {
+            SimpleJpaRepository<Order, UUID> repository = new SimpleJpaRepository<>(Order.class, entityManager);
+            return repository.findAll(SPECIFICATION, PAGE).map(orderMapper::toDto).getContent();
+        });
+    }
+
+    @Benchmark
+    public List<OrderDTO> projection() {
+        return inReadOnlyTransaction(entityManager -> {
+            SimpleJpaRepository<Order, UUID> repository = new SimpleJpaRepository<>(Order.class, entityManager);
+            return new DtoProjector(entityManager)
+                .findAll(PROJECTION, SPECIFICATION, PAGE, () -> repository.count(SPECIFICATION))
+                .getContent();
+        });
+    }
+
+    private <T> T inReadOnlyTransaction(Function<EntityManager, T> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+            entityManager.getTransaction().begin();
+            T result = work.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DtoProjectionBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
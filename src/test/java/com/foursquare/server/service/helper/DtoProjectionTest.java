@@ -0,0 +1,158 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.domain.Product;
+import com.foursquare.server.domain.enumeration.OrderType;
+import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.service.dto.ProductDTO;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Unit tests for the {@link DtoProjection} class.
+ */
+class DtoProjectionTest {
+
+    private static final DtoProjection<Order, OrderDTO> PROJECTION = DtoProjection.of(
+        Order.class,
+        OrderDTO.class,
+        "status.id",
+        "status.statusCode",
+        "rootOrder.id",
+        "customer.id",
+        "customer.login",
+        "address.id"
+    );
+
+    @Test
+    void shouldReadDtoFromSelectedColumns() {
+        UUID id = UUID.randomUUID();
+        Instant createdDate = Instant.now();
+        Map<String, Object> values = Map.of(
+            "id",
+            id,
+            "note",
+            "rush",
+            "createdDate",
+            createdDate,
+            "status.id",
+            3L,
+            "status.statusCode",
+            "NEW"
+        );
+
+        List<String> columns = new ArrayList<>();
+        OrderDTO dto = PROJECTION.toDto(select(PROJECTION, values, columns));
+
+        assertThat(columns).hasSize(15);
+
+        assertThat(dto.getId()).isEqualTo(id);
+        assertThat(dto.getNote()).isEqualTo("rush");
+        assertThat(dto.getCreatedDate()).isEqualTo(createdDate);
+        assertThat(dto.getPriority()).isNull();
+        assertThat(dto.getStatus().getId()).isEqualTo(3L);
+        assertThat(dto.getStatus().getStatusCode()).isEqualTo("NEW");
+        assertThat(dto.getStatus().getDescription()).isNull();
+        // Associations without a joined entity are left unset
+        assertThat(dto.getCustomer()).isNull();
+        assertThat(dto.getRootOrder()).isNull();
+    }
+
+    @Test
+    void shouldSelectRestrictedProperties() {
+        DtoProjection<Order, OrderDTO> restricted = PROJECTION.restrict(Set.of("id", "type", "status"));
+        List<String> columns = new ArrayList<>();
+
+        OrderDTO dto = restricted.toDto(select(restricted, Map.of("type", OrderType.SALE, "status.statusCode", "NEW"), columns));
+
+        assertThat(columns).containsExactlyInAnyOrder("id", "type", "status.id", "status.statusCode");
+        assertThat(dto.getType()).isEqualTo(OrderType.SALE);
+        assertThat(dto.getStatus().getStatusCode()).isEqualTo("NEW");
+        assertThat(dto.getNote()).isNull();
+    }
+
+    @Test
+    void shouldRejectUndeclaredAssociation() {
+        assertThatThrownBy(() -> DtoProjection.of(Order.class, OrderDTO.class, "customer.id", "address.id", "rootOrder.id"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("status");
+        assertThatThrownBy(() -> DtoProjection.of(OrderStatus.class, OrderDTO.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("No attribute");
+    }
+
+    @Test
+    void shouldRejectCollections() {
+        assertThatThrownBy(() -> DtoProjection.of(Product.class, ProductDTO.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Cannot project the collection");
+    }
+
+    @Test
+    void shouldCreateProjectionsOfQueryServices() throws Exception {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(QueryService.class));
+        int projections = 0;
+        for (BeanDefinition definition : scanner.findCandidateComponents("com.foursquare.server.service")) {
+            Class<?> queryService = Class.forName(definition.getBeanClassName());
+            for (Field field : queryService.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && field.getType() == DtoProjection.class) {
+                    field.setAccessible(true);
+                    assertThat(field.get(null)).isNotNull();
+                    projections++;
+                }
+            }
+        }
+        assertThat(projections).isGreaterThan(20);
+    }
+
+    /**
+     * Select the columns of a projection from a mocked root, and return the row of the given values in their order.
+     */
+    @SuppressWarnings("unchecked")
+    private static Tuple select(DtoProjection<Order, OrderDTO> projection, Map<String, Object> values, List<String> columns) {
+        Root<Order> root = mock(Root.class);
+        when(root.get(anyString())).thenAnswer(invocation -> {
+            columns.add(invocation.getArgument(0));
+            return mock(Path.class);
+        });
+        when(root.join(anyString(), eq(JoinType.LEFT))).thenAnswer(invocation -> {
+            String association = invocation.getArgument(0);
+            Join<Order, Object> join = mock(Join.class);
+            when(join.get(anyString())).thenAnswer(nested -> {
+                columns.add(association + "." + nested.getArgument(0));
+                return mock(Path.class);
+            });
+            return join;
+        });
+        assertThat(projection.select(root)).hasSameSizeAs(columns);
+        Tuple row = mock(Tuple.class);
+        when(row.get(anyInt())).thenAnswer(invocation -> values.get(columns.get(invocation.<Integer>getArgument(0))));
+        return row;
+    }
+}
@@ -0,0 +1,37 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for the {@link FullTextSearch} class.
+ */
+class FullTextSearchTest {
+
+    @Test
+    void shouldKeepTheRankOrderOfTheIds() {
+        Page<Long> ids = new PageImpl<>(List.of(3L, 1L, 2L), PageRequest.of(0, 3), 7);
+
+        Page<String> page = FullTextSearch.toPage(ids, Map.of(1L, "one", 2L, "two", 3L, "three"));
+
+        assertThat(page.getContent()).containsExactly("three", "one", "two");
+        assertThat(page.getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldDropEntitiesDeletedSinceTheSearch() {
+        Page<Long> ids = new PageImpl<>(List.of(3L, 1L, 2L), PageRequest.of(0, 3), 7);
+
+        Page<String> page = FullTextSearch.toPage(ids, Map.of(3L, "three", 2L, "two"));
+
+        assertThat(page.getContent()).containsExactly("three", "two");
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getPageable()).isEqualTo(PageRequest.of(0, 3));
+    }
+}
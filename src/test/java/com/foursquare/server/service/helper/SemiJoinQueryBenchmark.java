@@ -0,0 +1,144 @@
+package com.foursquare.server.service.helper;
+
+import com.foursquare.server.config.BenchmarkDatabase;
+import com.foursquare.server.service.OrderQueryService;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the former and the new SQL of an {@link OrderQueryService} page filtered on two to-many relationships,
+ * {@code invoiceId.specified=true&shipmentId.specified=true}, on a seeded PostgreSQL database.
+ * <p>
+ * {@code joinDistinct} is the former translation: a left join per filter, which yields invoices × shipments rows per
+ * order, made distinct. {@code exists} is the translation of {@link SemiJoinQueryService}: a correlated {@code EXISTS}
+ * subquery per filter. Each variant runs the page query and its count query, as a {@code Page} request does.
+ * <p>
+ * The setup seeds {@value #ORDERS} orders, half of them with {@value #CHILDREN} invoices and {@value #CHILDREN}
+ * shipments each, and prints the {@code EXPLAIN ANALYZE} plan of each query. The database is a
+ * {@link BenchmarkDatabase}, whose {@code jhi_order}, {@code invoice} and {@code shipment} tables are replaced. Run with
+ * {@code ./mvnw test-compile} and then the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SemiJoinQueryBenchmark {
+
+    static final int ORDERS = 50_000;
+
+    static final int CHILDREN = 5;
+
+    private static final String JOIN_FILTER =
+        "from jhi_order o left join invoice i on i.order_id = o.id left join shipment s on s.order_id = o.id " +
+        "where i.id is not null and s.id is not null";
+
+    private static final String EXISTS_FILTER =
+        "from jhi_order o where exists (select 1 from invoice i where i.order_id = o.id and i.id is not null) " +
+        "and exists (select 1 from shipment s where s.order_id = o.id and s.id is not null)";
+
+    private static final String JOIN_DISTINCT_PAGE =
+        "select distinct o.id, o.type, o.created_date " + JOIN_FILTER + " order by o.id limit 20";
+
+    private static final String JOIN_DISTINCT_COUNT = "select count(distinct o.id) " + JOIN_FILTER;
+
+    private static final String EXISTS_PAGE = "select o.id, o.type, o.created_date " + EXISTS_FILTER + " order by o.id limit 20";
+
+    private static final String EXISTS_COUNT = "select count(o.id) " + EXISTS_FILTER;
+
+    private BenchmarkDatabase database;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        database = new BenchmarkDatabase();
+        connection = database.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists shipment, invoice, jhi_order");
+            statement.execute("create table jhi_order (id uuid primary key, type varchar(255) not null, created_date timestamp)");
+            statement.execute("create table invoice (id uuid primary key, order_id uuid not null references jhi_order)");
+            statement.execute("create table shipment (id uuid primary key, order_id uuid not null references jhi_order)");
+            statement.execute(
+                "insert into jhi_order select gen_random_uuid(), 'SALE', now() - n * interval '1 minute' from generate_series(1, " +
+                ORDERS +
+                ") n"
+            );
+            for (String child : new String[] { "invoice", "shipment" }) {
+                statement.execute(
+                    "insert into " +
+                    child +
+                    " select gen_random_uuid(), o.id from (select id from jhi_order order by id limit " +
+                    ORDERS / 2 +
+                    ") o, generate_series(1, " +
+                    CHILDREN +
+                    ")"
+                );
+            }
+            statement.execute("analyze");
+        }
+        for (String query : new String[] { JOIN_DISTINCT_PAGE, JOIN_DISTINCT_COUNT, EXISTS_PAGE, EXISTS_COUNT }) {
+            printPlan(query);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        database.close();
+    }
+
+    @Benchmark
+    public long joinDistinct() throws SQLException {
+        return run(JOIN_DISTINCT_PAGE) + run(JOIN_DISTINCT_COUNT);
+    }
+
+    @Benchmark
+    public long exists() throws SQLException {
+        return run(EXISTS_PAGE) + run(EXISTS_COUNT);
+    }
+
+    private long run(String query) throws SQLException {
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(query); ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void printPlan(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder(query).append('\n');
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("explain analyze " + query)) {
+            while (resultSet.next()) {
+                plan.append("  ").append(resultSet.getString(1)).append('\n');
+            }
+        }
+        System.out.println(plan);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SemiJoinQueryBenchmark.class.getSimpleName()).build()).run();
+    }
+}
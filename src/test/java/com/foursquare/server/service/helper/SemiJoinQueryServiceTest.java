@@ -0,0 +1,115 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.foursquare.server.domain.Order;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.jhipster.service.filter.UUIDFilter;
+
+/**
+ * Unit tests for the {@link SemiJoinQueryService} class.
+ */
+class SemiJoinQueryServiceTest {
+
+    private final SemiJoinQueryService<Order> queryService = new SemiJoinQueryService<>() {};
+
+    private Root<Order> root;
+
+    private Root<Order> correlated;
+
+    private CriteriaQuery<Order> query;
+
+    private CriteriaBuilder builder;
+
+    private Subquery<Integer> subquery;
+
+    private Path<UUID> invoiceId;
+
+    private int navigations;
+
+    private final Function<Root<Order>, Expression<UUID>> toInvoiceId = from -> {
+        navigations++;
+        return invoiceId;
+    };
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        root = mock(Root.class);
+        correlated = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        builder = mock(CriteriaBuilder.class);
+        subquery = mock(Subquery.class, RETURNS_SELF);
+        invoiceId = mock(Path.class);
+        when(query.subquery(Integer.class)).thenReturn(subquery);
+        when(subquery.correlate(root)).thenReturn(correlated);
+        when(builder.literal(anyInt())).thenReturn(mock(Expression.class));
+        navigations = 0;
+    }
+
+    @Test
+    void shouldTranslateEqualsToExists() {
+        UUID id = UUID.randomUUID();
+        Predicate equal = mock(Predicate.class);
+        Predicate exists = mock(Predicate.class);
+        when(builder.equal(invoiceId, id)).thenReturn(equal);
+        when(builder.exists(subquery)).thenReturn(exists);
+
+        Predicate predicate = queryService
+            .buildExistsSpecification((UUIDFilter) new UUIDFilter().setEquals(id), toInvoiceId)
+            .toPredicate(root, query, builder);
+
+        assertThat(predicate).isSameAs(exists);
+        verify(subquery).where(equal);
+        verify(root, never()).join(any(String.class));
+        assertThat(navigations).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTranslateSpecifiedToExistsOfAnyRelatedEntity() {
+        Predicate notNull = mock(Predicate.class);
+        Predicate exists = mock(Predicate.class);
+        when(builder.isNotNull(invoiceId)).thenReturn(notNull);
+        when(builder.exists(subquery)).thenReturn(exists);
+        UUIDFilter filter = new UUIDFilter();
+        filter.setSpecified(true);
+
+        Predicate predicate = queryService.buildExistsSpecification(filter, toInvoiceId).toPredicate(root, query, builder);
+
+        assertThat(predicate).isSameAs(exists);
+        verify(subquery).where(notNull);
+        assertThat(navigations).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTranslateNotSpecifiedToNotExists() {
+        Predicate exists = mock(Predicate.class);
+        Predicate notExists = mock(Predicate.class);
+        when(builder.isNotNull(invoiceId)).thenReturn(mock(Predicate.class));
+        when(builder.exists(subquery)).thenReturn(exists);
+        when(builder.not(exists)).thenReturn(notExists);
+        UUIDFilter filter = new UUIDFilter();
+        filter.setSpecified(false);
+
+        Predicate predicate = queryService.buildExistsSpecification(filter, toInvoiceId).toPredicate(root, query, builder);
+
+        assertThat(predicate).isSameAs(notExists);
+    }
+}
@@ -0,0 +1,28 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link TrigramIndexCheck} class.
+ */
+class TrigramIndexCheckTest {
+
+    @Test
+    void shouldReadIndexedColumns() {
+        assertThat(
+            TrigramIndexCheck.indexedColumns(
+                "address",
+                "CREATE INDEX idx_address_line_1_trgm ON public.address USING gin (line_1 gin_trgm_ops)"
+            )
+        ).containsExactly("address.line_1");
+        assertThat(
+            TrigramIndexCheck.indexedColumns(
+                "jhi_order",
+                "CREATE INDEX idx ON public.jhi_order USING gin (\"Note\" gin_trgm_ops, other_info)"
+            )
+        ).containsExactly("jhi_order.note");
+        assertThat(TrigramIndexCheck.indexedColumns("product", "CREATE INDEX idx ON public.product USING btree (name)")).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.foursquare.server.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.foursquare.server.domain.Address;
+import com.foursquare.server.domain.Address_;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaPredicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Unit tests for the {@link TrigramQueryService} class.
+ */
+class TrigramQueryServiceTest {
+
+    private final AddressQueryService queryService = new AddressQueryService();
+
+    private Root<Address> root;
+
+    private Path<String> city;
+
+    private HibernateCriteriaBuilder builder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        root = mock(Root.class);
+        city = mock(Path.class);
+        when(root.get(Address_.city)).thenReturn(city);
+        builder = mock(HibernateCriteriaBuilder.class);
+    }
+
+    @Test
+    void shouldTranslateContainsToIlike() {
+        JpaPredicate predicate = mock(JpaPredicate.class);
+        when(builder.ilike(city, "%Ha Noi%", TrigramQueryService.ESCAPE)).thenReturn(predicate);
+        StringFilter filter = new StringFilter();
+        filter.setContains("Ha Noi");
+
+        assertThat(toPredicate(filter)).isSameAs(predicate);
+    }
+
+    @Test
+    void shouldTranslateDoesNotContainToNotIlike() {
+        StringFilter filter = new StringFilter();
+        filter.setDoesNotContain("Ha Noi");
+
+        toPredicate(filter);
+
+        verify(builder).notIlike(city, "%Ha Noi%", TrigramQueryService.ESCAPE);
+    }
+
+    @Test
+    void shouldEscapeWildcards() {
+        assertThat(queryService.wrapLikeQuery("50%_off\\")).isEqualTo("%50\\%\\_off\\\\%");
+    }
+
+    private Object toPredicate(StringFilter filter) {
+        return queryService.citySpecification(filter).toPredicate(root, mock(CriteriaQuery.class), builder);
+    }
+
+    private static class AddressQueryService extends TrigramQueryService<Address> {
+
+        Specification<Address> citySpecification(StringFilter filter) {
+            return buildStringSpecification(filter, Address_.city);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static com.foursquare.server.domain.CommentAsserts.*;
 import static com.foursquare.server.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -240,6 +241,27 @@ class CommentResourceIT {
         verify(commentRepositoryMock, times(1)).findAll(any(Pageable.class));
     }
 
+    @Test
+    @Transactional
+    void searchComments() throws Exception {
+        // Initialize the database
+        insertedComment = commentRepository.saveAndFlush(comment);
+
+        // Search the comment by the words of its content
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", DEFAULT_CONTENT.toLowerCase()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(comment.getId().toString())));
+
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", UPDATED_CONTENT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(comment.getId().toString()))));
+
+        restCommentMockMvc.perform(get(ENTITY_API_URL + "/search").param("query", " ")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getComment() throws Exception {
@@ -0,0 +1,341 @@
+package com.foursquare.server.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.IntegrationTest;
+import com.foursquare.server.audit.EntityAuditPayloadCodec;
+import com.foursquare.server.domain.EntityAuditEvent;
+import com.foursquare.server.domain.enumeration.EntityAuditAction;
+import com.foursquare.server.domain.enumeration.EntityAuditPayloadType;
+import com.foursquare.server.repository.EntityAuditEventRepository;
+import com.foursquare.server.security.AuthoritiesConstants;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link EntityAuditResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class EntityAuditResourceIT {
+
+    // A type of its own, so that the events audited by other tests are not in the history
+    private static final String ENTITY_TYPE = "com.foursquare.server.domain.EntityAuditResourceITSample";
+
+    private static final String HISTORY_API_URL = "/api/audits/entity/history";
+
+    private static final String AS_OF_API_URL = "/api/audits/entity/changes/version/as-of";
+
+    private static final String VERSIONED_ENTITY_ID = "3";
+
+    private static final Instant CREATED_DATE = Instant.parse("2026-10-18T10:15:30.123456Z");
+
+    private static final Instant UPDATED_DATE = CREATED_DATE.plus(1, ChronoUnit.HOURS);
+
+    private static final Instant DELETED_DATE = CREATED_DATE.plus(2, ChronoUnit.HOURS);
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private EntityAuditEventRepository entityAuditEventRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MockMvc restEntityAuditMockMvc;
+
+    private List<EntityAuditEvent> history;
+
+    private EntityAuditEvent event(String entityId, EntityAuditAction action, String modifiedBy, Instant modifiedDate) {
+        EntityAuditEvent event = new EntityAuditEvent();
+        event.setEntityType(ENTITY_TYPE);
+        event.setEntityId(entityId);
+        event.setAction(action.value());
+        event.setEntityValue("{\"id\":\"" + entityId + "\"}");
+        event.setPayloadType(EntityAuditPayloadType.FULL);
+        event.setCommitVersion(1);
+        event.setModifiedBy(modifiedBy);
+        event.setModifiedDate(modifiedDate);
+        return entityAuditEventRepository.saveAndFlush(event);
+    }
+
+    /**
+     * Insert a version of the versioned entity, modified as many hours after the history was created as its number.
+     */
+    private EntityAuditEvent version(int version, EntityAuditAction action, EntityAuditPayloadType payloadType, String value) {
+        EntityAuditEvent event = new EntityAuditEvent();
+        event.setEntityType(ENTITY_TYPE);
+        event.setEntityId(VERSIONED_ENTITY_ID);
+        event.setAction(action.value());
+        event.setEntityValue(value);
+        event.setPayloadType(payloadType);
+        event.setCommitVersion(version);
+        event.setModifiedBy("admin");
+        event.setModifiedDate(versionDate(version));
+        return entityAuditEventRepository.saveAndFlush(event);
+    }
+
+    private static Instant versionDate(int version) {
+        return CREATED_DATE.plus(version, ChronoUnit.HOURS);
+    }
+
+    /**
+     * Insert the versions of the versioned entity with a snapshot interval of three: its second, third and fifth
+     * versions are deltas, from the snapshots of its first and fourth versions, and its sixth version deletes it.
+     */
+    private List<EntityAuditEvent> insertVersions() {
+        return List.of(
+            version(1, EntityAuditAction.CREATE, EntityAuditPayloadType.FULL, "{\"id\":\"3\",\"priority\":1,\"status\":\"PENDING\"}"),
+            version(2, EntityAuditAction.UPDATE, EntityAuditPayloadType.DELTA, "{\"priority\":2}"),
+            version(3, EntityAuditAction.UPDATE, EntityAuditPayloadType.DELTA, "{\"status\":\"CONFIRMED\"}"),
+            version(4, EntityAuditAction.UPDATE, EntityAuditPayloadType.FULL, "{\"id\":\"3\",\"priority\":3,\"status\":\"CONFIRMED\"}"),
+            version(5, EntityAuditAction.UPDATE, EntityAuditPayloadType.DELTA, "{\"status\":\"SHIPPED\"}"),
+            version(6, EntityAuditAction.DELETE, EntityAuditPayloadType.FULL, "{\"id\":\"3\",\"priority\":3,\"status\":\"SHIPPED\"}")
+        );
+    }
+
+    private ResultActions getVersionAsOf(Instant at) throws Exception {
+        return restEntityAuditMockMvc.perform(
+            get(AS_OF_API_URL).param("qualifiedName", ENTITY_TYPE).param("entityId", VERSIONED_ENTITY_ID).param("at", at.toString())
+        );
+    }
+
+    /**
+     * Insert the history, newest first: three of its events are modified at the same instant, so that they are only
+     * told apart by their ids.
+     */
+    @BeforeEach
+    public void initTest() {
+        cacheManager.getCache(EntityAuditPayloadCodec.ENTITY_VERSIONS_CACHE).clear();
+        EntityAuditEvent created = event("1", EntityAuditAction.CREATE, "admin", CREATED_DATE);
+        EntityAuditEvent updated = event("1", EntityAuditAction.UPDATE, "admin", UPDATED_DATE);
+        EntityAuditEvent otherCreated = event("2", EntityAuditAction.CREATE, "user", UPDATED_DATE);
+        EntityAuditEvent otherUpdated = event("2", EntityAuditAction.UPDATE, "user", UPDATED_DATE);
+        EntityAuditEvent deleted = event("1", EntityAuditAction.DELETE, "user", DELETED_DATE);
+        history = List.of(deleted, otherUpdated, otherCreated, updated, created);
+    }
+
+    private static Integer[] ids(EntityAuditEvent... events) {
+        return Stream.of(events).map(event -> event.getId().intValue()).toArray(Integer[]::new);
+    }
+
+    @Test
+    @Transactional
+    void getHistory() throws Exception {
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.toArray(EntityAuditEvent[]::new)))))
+            .andExpect(jsonPath("$.[0].modifiedDate").value(DELETED_DATE.toString()))
+            .andExpect(header().doesNotExist(EntityAuditResource.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @Transactional
+    void getHistoryByEntityId() throws Exception {
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("entityId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.get(1), history.get(2)))));
+    }
+
+    @Test
+    @Transactional
+    void getHistoryByModifiedBy() throws Exception {
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("modifiedBy", "admin"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.get(3), history.get(4)))));
+    }
+
+    @Test
+    @Transactional
+    void getHistoryByAction() throws Exception {
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("action", EntityAuditAction.UPDATE.name()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.get(1), history.get(3)))));
+    }
+
+    @Test
+    @Transactional
+    void getHistoryByModifiedDateRange() throws Exception {
+        // From is inclusive and to is exclusive
+        restEntityAuditMockMvc
+            .perform(
+                get(HISTORY_API_URL)
+                    .param("entityType", ENTITY_TYPE)
+                    .param("from", UPDATED_DATE.toString())
+                    .param("to", DELETED_DATE.toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.get(1), history.get(2), history.get(3)))));
+
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("from", DELETED_DATE.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.get(0)))));
+
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("to", UPDATED_DATE.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids(history.get(4)))));
+    }
+
+    @Test
+    @Transactional
+    void getHistoryByCursor() throws Exception {
+        // Pages of two end in the middle of the events modified at the same instant
+        List<Long> walked = new ArrayList<>();
+        List<String> cursors = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult page = restEntityAuditMockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            List<Map<String, Object>> events = om.readValue(page.getResponse().getContentAsString(), new TypeReference<>() {});
+            events.forEach(event -> walked.add(((Number) event.get("id")).longValue()));
+            cursor = page.getResponse().getHeader(EntityAuditResource.NEXT_CURSOR_HEADER);
+            if (cursor != null) {
+                cursors.add(cursor);
+                assertThat(page.getResponse().getHeader("Link")).contains("cursor=" + cursor).endsWith("rel=\"next\"");
+            }
+        } while (cursor != null && walked.size() <= history.size());
+
+        assertThat(cursors).hasSize(2);
+        assertThat(new HashSet<>(walked)).hasSameSizeAs(walked);
+        assertThat(walked).containsExactlyElementsOf(history.stream().map(EntityAuditEvent::getId).toList());
+    }
+
+    @Test
+    @Transactional
+    void getHistoryWithPageSizeOutOfRange() throws Exception {
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("size", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.pagesizeinvalid"));
+
+        restEntityAuditMockMvc
+            .perform(
+                get(HISTORY_API_URL)
+                    .param("entityType", ENTITY_TYPE)
+                    .param("size", String.valueOf(EntityAuditResource.MAX_HISTORY_PAGE_SIZE + 1))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.pagesizeinvalid"));
+
+        restEntityAuditMockMvc
+            .perform(
+                get(HISTORY_API_URL)
+                    .param("entityType", ENTITY_TYPE)
+                    .param("size", String.valueOf(EntityAuditResource.MAX_HISTORY_PAGE_SIZE))
+            )
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void getHistoryWithInvalidCursor() throws Exception {
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("cursor", "garbage"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.cursorinvalid"));
+
+        restEntityAuditMockMvc
+            .perform(get(HISTORY_API_URL).param("entityType", ENTITY_TYPE).param("cursor", "not base64!"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.cursorinvalid"));
+    }
+
+    @Test
+    @Transactional
+    void getVersionAsOfFullPayload() throws Exception {
+        insertVersions();
+
+        getVersionAsOf(versionDate(4).plus(30, ChronoUnit.MINUTES))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.commitVersion").value(4))
+            .andExpect(jsonPath("$.payloadType").value(EntityAuditPayloadType.FULL.name()))
+            .andExpect(jsonPath("$.entityValue").value("{\"id\":\"3\",\"priority\":3,\"status\":\"CONFIRMED\"}"));
+    }
+
+    @Test
+    @Transactional
+    void getVersionAsOfDeltaPayload() throws Exception {
+        insertVersions();
+
+        // Rebuilt from the first snapshot, the version modified at the given instant included
+        getVersionAsOf(versionDate(3))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.commitVersion").value(3))
+            .andExpect(jsonPath("$.payloadType").value(EntityAuditPayloadType.FULL.name()))
+            .andExpect(jsonPath("$.entityValue").value("{\"id\":\"3\",\"priority\":2,\"status\":\"CONFIRMED\"}"));
+
+        // Rebuilt from the second snapshot, past the snapshot interval
+        getVersionAsOf(versionDate(5).plus(30, ChronoUnit.MINUTES))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.commitVersion").value(5))
+            .andExpect(jsonPath("$.payloadType").value(EntityAuditPayloadType.FULL.name()))
+            .andExpect(jsonPath("$.entityValue").value("{\"id\":\"3\",\"priority\":3,\"status\":\"SHIPPED\"}"));
+    }
+
+    @Test
+    @Transactional
+    void getVersionAsOfBeforeCreation() throws Exception {
+        insertVersions();
+
+        getVersionAsOf(versionDate(1).minusMillis(1)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getVersionAsOfAfterDeletion() throws Exception {
+        insertVersions();
+
+        getVersionAsOf(versionDate(6)).andExpect(status().isNotFound());
+        getVersionAsOf(versionDate(6).plus(1, ChronoUnit.DAYS)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getVersionAsOfFromCache() throws Exception {
+        List<EntityAuditEvent> versions = insertVersions();
+        String expected = "{\"id\":\"3\",\"priority\":3,\"status\":\"SHIPPED\"}";
+        getVersionAsOf(versionDate(5)).andExpect(status().isOk()).andExpect(jsonPath("$.entityValue").value(expected));
+        Cache versionsCache = cacheManager.getCache(EntityAuditPayloadCodec.ENTITY_VERSIONS_CACHE);
+        assertThat(versionsCache.get(ENTITY_TYPE + ":" + VERSIONED_ENTITY_ID + ":5")).isNotNull();
+
+        // Without its snapshot the version could no longer be rebuilt, so it is served from the cache
+        entityAuditEventRepository.deleteAll(versions.subList(0, 4));
+        entityAuditEventRepository.flush();
+
+        getVersionAsOf(versionDate(5)).andExpect(status().isOk()).andExpect(jsonPath("$.entityValue").value(expected));
+    }
+}
@@ -4,7 +4,7 @@ import static com.foursquare.server.domain.MessageAsserts.*;
 import static com.foursquare.server.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
-import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -14,22 +14,15 @@ import com.foursquare.server.domain.Message;
 import com.foursquare.server.domain.Participant;
 import com.foursquare.server.domain.enumeration.MessageType;
 import com.foursquare.server.repository.MessageRepository;
-import com.foursquare.server.service.MessageService;
 import com.foursquare.server.service.dto.MessageDTO;
 import com.foursquare.server.service.mapper.MessageMapper;
 import jakarta.persistence.EntityManager;
-import java.util.ArrayList;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,7 +32,6 @@ import org.springframework.transaction.annotation.Transactional;
  * Integration tests for the {@link MessageResource} REST controller.
  */
 @IntegrationTest
-@ExtendWith(MockitoExtension.class)
 @AutoConfigureMockMvc
 @WithMockUser
 class MessageResourceIT {
@@ -59,15 +51,9 @@ class MessageResourceIT {
     @Autowired
     private MessageRepository messageRepository;
 
-    @Mock
-    private MessageRepository messageRepositoryMock;
-
     @Autowired
     private MessageMapper messageMapper;
 
-    @Mock
-    private MessageService messageServiceMock;
-
     @Autowired
     private EntityManager em;
 
@@ -205,21 +191,25 @@ class MessageResourceIT {
             .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)));
     }
 
-    @SuppressWarnings({ "unchecked" })
-    void getAllMessagesWithEagerRelationshipsIsEnabled() throws Exception {
-        when(messageServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
-
-        restMessageMockMvc.perform(get(ENTITY_API_URL + "?eagerload=true")).andExpect(status().isOk());
+    @Test
+    @Transactional
+    void searchMessages() throws Exception {
+        // Initialize the database
+        insertedMessage = messageRepository.saveAndFlush(message);
 
-        verify(messageServiceMock, times(1)).findAllWithEagerRelationships(any());
-    }
+        // Search the message by the words of its content
+        restMessageMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", DEFAULT_CONTENT.toLowerCase()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(message.getId().toString())));
 
-    @SuppressWarnings({ "unchecked" })
-    void getAllMessagesWithEagerRelationshipsIsNotEnabled() throws Exception {
-        when(messageServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        restMessageMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", UPDATED_CONTENT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(message.getId().toString()))));
 
-        restMessageMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false")).andExpect(status().isOk());
-        verify(messageRepositoryMock, times(1)).findAll(any(Pageable.class));
+        restMessageMockMvc.perform(get(ENTITY_API_URL + "/search").param("query", " ")).andExpect(status().isBadRequest());
     }
 
     @Test
@@ -351,28 +341,6 @@ class MessageResourceIT {
         defaultMessageShouldNotBeFound("participantId.equals=" + UUID.randomUUID());
     }
 
-    @Test
-    @Transactional
-    void getAllMessagesBySeenParticipantIsEqualToSomething() throws Exception {
-        Participant seenParticipant;
-        if (TestUtil.findAll(em, Participant.class).isEmpty()) {
-            messageRepository.saveAndFlush(message);
-            seenParticipant = ParticipantResourceIT.createEntity(em);
-        } else {
-            seenParticipant = TestUtil.findAll(em, Participant.class).get(0);
-        }
-        em.persist(seenParticipant);
-        em.flush();
-        message.addSeenParticipant(seenParticipant);
-        messageRepository.saveAndFlush(message);
-        UUID seenParticipantId = seenParticipant.getId();
-        // Get all the messageList where seenParticipant equals to seenParticipantId
-        defaultMessageShouldBeFound("seenParticipantId.equals=" + seenParticipantId);
-
-        // Get all the messageList where seenParticipant equals to UUID.randomUUID()
-        defaultMessageShouldNotBeFound("seenParticipantId.equals=" + UUID.randomUUID());
-    }
-
     private void defaultMessageFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
         defaultMessageShouldBeFound(shouldBeFound);
         defaultMessageShouldNotBeFound(shouldNotBeFound);
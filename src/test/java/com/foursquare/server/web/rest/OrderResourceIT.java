@@ -3,6 +3,7 @@ package com.foursquare.server.web.rest;
 import static com.foursquare.server.domain.OrderAsserts.*;
 import static com.foursquare.server.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -11,9 +12,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.foursquare.server.IntegrationTest;
 import com.foursquare.server.domain.Address;
+import com.foursquare.server.domain.Invoice;
 import com.foursquare.server.domain.Order;
 import com.foursquare.server.domain.Order;
+import com.foursquare.server.domain.OrderItem;
 import com.foursquare.server.domain.OrderStatus;
+import com.foursquare.server.domain.Shipment;
 import com.foursquare.server.domain.User;
 import com.foursquare.server.domain.enumeration.OrderType;
 import com.foursquare.server.repository.OrderRepository;
@@ -21,9 +25,15 @@ import com.foursquare.server.repository.UserRepository;
 import com.foursquare.server.service.OrderService;
 import com.foursquare.server.service.dto.OrderDTO;
 import com.foursquare.server.service.mapper.OrderMapper;
+import com.foursquare.server.web.rest.util.CriteriaPaginationUtil;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +47,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -269,6 +280,139 @@ class OrderResourceIT {
             .andExpect(jsonPath("$.otherInfo").value(DEFAULT_OTHER_INFO));
     }
 
+    @Test
+    @Transactional
+    void getOrderWithIncludedAssociationsOnly() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.saveAndFlush(order);
+
+        // Get the order with its status only
+        restOrderMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?include=status", order.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(order.getId().toString()))
+            .andExpect(jsonPath("$.note").value(DEFAULT_NOTE))
+            .andExpect(jsonPath("$.status.id").value(order.getStatus().getId()))
+            .andExpect(jsonPath("$.customer").doesNotExist());
+
+        restOrderMockMvc.perform(get(ENTITY_API_URL_ID + "?include=note", order.getId())).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllOrdersWithIncludedAssociationsOnlyWithoutCount() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.saveAndFlush(order);
+
+        // The keyset, count-free and approximate windows are read with the fetch profile too
+        for (String mode : new String[] { "after=", "count=false", "approximate=true" }) {
+            restOrderMockMvc
+                .perform(get(ENTITY_API_URL + "?id.equals=" + order.getId() + "&include=status&" + mode))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(order.getId().toString()))
+                .andExpect(jsonPath("$.[0].note").value(DEFAULT_NOTE))
+                .andExpect(jsonPath("$.[0].status.id").value(order.getStatus().getId()))
+                .andExpect(jsonPath("$.[0].customer").doesNotExist());
+        }
+    }
+
+    @Test
+    @Transactional
+    void getAllOrdersByKeysetCursor() throws Exception {
+        // Initialize the database with three orders created at the same instant, ordered by id in the windows
+        insertedOrder = orderRepository.saveAndFlush(order);
+        List<String> ids = new ArrayList<>(List.of(order.getId().toString()));
+        for (int i = 0; i < 2; i++) {
+            ids.add(orderRepository.saveAndFlush(createEntity(em)).getId().toString());
+        }
+        em
+            .createNativeQuery("update jhi_order set created_date = :createdDate where id in (:ids)")
+            .setParameter("createdDate", Instant.parse("2026-10-18T10:15:30Z"))
+            .setParameter("ids", ids.stream().map(UUID::fromString).toList())
+            .executeUpdate();
+        ids.sort(Comparator.reverseOrder());
+        String filter = ENTITY_API_URL + "?id.in=" + String.join(",", ids) + "&size=2";
+
+        MvcResult firstWindow = restOrderMockMvc
+            .perform(get(filter).param("after", ""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids.get(0), ids.get(1))))
+            .andExpect(header().string(CriteriaPaginationUtil.NEXT_CURSOR_HEADER, "2026-10-18T10:15:30Z," + ids.get(1)))
+            .andReturn();
+
+        restOrderMockMvc
+            .perform(get(filter).param("after", firstWindow.getResponse().getHeader(CriteriaPaginationUtil.NEXT_CURSOR_HEADER)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids.get(2))))
+            .andExpect(header().doesNotExist(CriteriaPaginationUtil.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @Transactional
+    void getOrderAggregate() throws Exception {
+        // Initialize the database
+        insertedOrder = orderRepository.saveAndFlush(order);
+        insertOrderGraph(1);
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            // Get the aggregate
+            statistics.clear();
+            restOrderMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/aggregate", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.order.id").value(order.getId().toString()))
+                .andExpect(jsonPath("$.orderItems.length()").value(1))
+                .andExpect(jsonPath("$.invoices.length()").value(1))
+                .andExpect(jsonPath("$.shipments.length()").value(1))
+                .andExpect(jsonPath("$.shipmentItems.length()").value(1))
+                .andExpect(jsonPath("$.shipmentAssignments.length()").value(1))
+                .andExpect(jsonPath("$.histories.length()").value(1))
+                .andExpect(jsonPath("$.internalOrders.length()").value(1))
+                .andExpect(jsonPath("$.childOrders.length()").value(1));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(9);
+
+            // The number of statements does not depend on the size of the order
+            insertOrderGraph(5);
+            statistics.clear();
+            restOrderMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/aggregate", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderItems.length()").value(6))
+                .andExpect(jsonPath("$.shipmentItems.length()").value(6))
+                .andExpect(jsonPath("$.shipments.length()").value(2));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(9);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        restOrderMockMvc.perform(get(ENTITY_API_URL_ID + "/aggregate", UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    /**
+     * Insert a shipment of new items into the order, with an invoice, an assignment, a history, an internal order and a
+     * child order, and clear the persistence context.
+     */
+    private void insertOrderGraph(int items) {
+        Invoice invoice = InvoiceResourceIT.createEntity(em).order(order);
+        em.persist(invoice);
+        Shipment shipment = ShipmentResourceIT.createEntity(em).order(order).invoice(invoice);
+        em.persist(shipment);
+        em.persist(ShipmentAssignmentResourceIT.createEntity(em).shipment(shipment));
+        for (int i = 0; i < items; i++) {
+            OrderItem orderItem = OrderItemResourceIT.createEntity(em).order(order);
+            em.persist(orderItem);
+            em.persist(ShipmentItemResourceIT.createEntity(em).orderItem(orderItem).shipment(shipment));
+        }
+        em.persist(OrderHistoryResourceIT.createEntity(em).order(order));
+        em.persist(InternalOrderResourceIT.createEntity(em).rootOrder(order));
+        em.persist(createEntity(em).rootOrder(order));
+        em.flush();
+        em.clear();
+    }
+
     @Test
     @Transactional
     void getOrdersByIdFiltering() throws Exception {
@@ -13,9 +13,12 @@ import com.foursquare.server.domain.OrderStatus;
 import com.foursquare.server.repository.OrderStatusRepository;
 import com.foursquare.server.service.dto.OrderStatusDTO;
 import com.foursquare.server.service.mapper.OrderStatusMapper;
+import com.foursquare.server.web.rest.util.BatchGetUtil;
 import jakarta.persistence.EntityManager;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -124,6 +127,50 @@ class OrderStatusResourceIT {
         insertedOrderStatus = returnedOrderStatus;
     }
 
+    @Test
+    void createOrderStatusesInBulk() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        OrderStatusDTO orderStatusDTO = orderStatusMapper.toDto(orderStatus);
+        OrderStatusDTO invalidOrderStatusDTO = orderStatusMapper.toDto(createEntity(em));
+        invalidOrderStatusDTO.setStatusCode(null);
+        byte[] orderStatusDTOs = om.writeValueAsBytes(List.of(orderStatusDTO, invalidOrderStatusDTO));
+
+        // Nothing is created when an orderStatus is invalid
+        restOrderStatusMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(orderStatusDTOs))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$[0].status").value("NOT_WRITTEN"))
+            .andExpect(jsonPath("$[1].status").value("FAILED"))
+            .andExpect(jsonPath("$[1].errorKey").value("invalid"));
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+
+        // Unless in best effort mode
+        var results = om.readTree(
+            restOrderStatusMockMvc
+                .perform(
+                    post(ENTITY_API_URL + "/bulk?mode=BEST_EFFORT").contentType(MediaType.APPLICATION_JSON).content(orderStatusDTOs)
+                )
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+        );
+        assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+
+        // Delete the created orderStatus in bulk
+        restOrderStatusMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/bulk/delete")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(results.get(0).get("id").asLong())))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("DELETED"));
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     void createOrderStatusWithExistingId() throws Exception {
@@ -191,6 +238,44 @@ class OrderStatusResourceIT {
             .andExpect(jsonPath("$.description").value(DEFAULT_DESCRIPTION));
     }
 
+    @Test
+    @Transactional
+    void getOrderStatusesByIds() throws Exception {
+        // Initialize the database
+        insertedOrderStatus = orderStatusRepository.saveAndFlush(orderStatus);
+        Long missingId = longCount.incrementAndGet();
+
+        // Get the orderStatuses in the order of the ids, with the missing ones
+        restOrderStatusMockMvc
+            .perform(get(ENTITY_API_URL + "/batch?ids=" + missingId + "," + orderStatus.getId() + "," + orderStatus.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].id").value(orderStatus.getId().intValue()))
+            .andExpect(jsonPath("$.items[0].statusCode").value(DEFAULT_STATUS_CODE))
+            .andExpect(jsonPath("$.missingIds[0]").value(missingId.intValue()));
+
+        restOrderStatusMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(orderStatus.getId(), missingId)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(orderStatus.getId().intValue()))
+            .andExpect(jsonPath("$.missingIds[0]").value(missingId.intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getOrderStatusesByTooManyIds() throws Exception {
+        List<Long> ids = LongStream.rangeClosed(1, BatchGetUtil.MAX_IDS + 1).boxed().toList();
+
+        restOrderStatusMockMvc
+            .perform(post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(ids)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getOrderStatusesByIdFiltering() throws Exception {
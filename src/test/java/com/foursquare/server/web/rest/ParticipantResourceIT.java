@@ -11,16 +11,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.foursquare.server.IntegrationTest;
 import com.foursquare.server.domain.Conversation;
-import com.foursquare.server.domain.Message;
 import com.foursquare.server.domain.Participant;
 import com.foursquare.server.domain.User;
 import com.foursquare.server.repository.ParticipantRepository;
 import com.foursquare.server.repository.UserRepository;
+import com.foursquare.server.service.MessageService;
 import com.foursquare.server.service.ParticipantService;
+import com.foursquare.server.service.dto.MessageDTO;
 import com.foursquare.server.service.dto.ParticipantDTO;
+import com.foursquare.server.service.mapper.MessageMapper;
 import com.foursquare.server.service.mapper.ParticipantMapper;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +38,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -67,6 +71,12 @@ class ParticipantResourceIT {
     @Autowired
     private ParticipantMapper participantMapper;
 
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private MessageMapper messageMapper;
+
     @Mock
     private ParticipantService participantServiceMock;
 
@@ -319,28 +329,6 @@ class ParticipantResourceIT {
         defaultParticipantShouldNotBeFound("conversationId.equals=" + UUID.randomUUID());
     }
 
-    @Test
-    @Transactional
-    void getAllParticipantsBySeenMessageIsEqualToSomething() throws Exception {
-        Message seenMessage;
-        if (TestUtil.findAll(em, Message.class).isEmpty()) {
-            participantRepository.saveAndFlush(participant);
-            seenMessage = MessageResourceIT.createEntity(em);
-        } else {
-            seenMessage = TestUtil.findAll(em, Message.class).get(0);
-        }
-        em.persist(seenMessage);
-        em.flush();
-        participant.addSeenMessage(seenMessage);
-        participantRepository.saveAndFlush(participant);
-        UUID seenMessageId = seenMessage.getId();
-        // Get all the participantList where seenMessage equals to seenMessageId
-        defaultParticipantShouldBeFound("seenMessageId.equals=" + seenMessageId);
-
-        // Get all the participantList where seenMessage equals to UUID.randomUUID()
-        defaultParticipantShouldNotBeFound("seenMessageId.equals=" + UUID.randomUUID());
-    }
-
     private void defaultParticipantFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
         defaultParticipantShouldBeFound(shouldBeFound);
         defaultParticipantShouldNotBeFound(shouldNotBeFound);
@@ -391,6 +379,95 @@ class ParticipantResourceIT {
         restParticipantMockMvc.perform(get(ENTITY_API_URL_ID, UUID.randomUUID().toString())).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void markMessagesSeen() throws Exception {
+        // Initialize the database
+        insertedParticipant = participantRepository.saveAndFlush(participant);
+        Participant sender = createUpdatedEntity(em);
+        em.persist(sender);
+        em.flush();
+        List<UUID> messageIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MessageDTO messageDTO = messageMapper.toDto(MessageResourceIT.createEntity(em).participant(sender));
+            messageIds.add(messageService.save(messageDTO).getId());
+        }
+
+        restParticipantMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/unseen-count", participant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string("3"));
+
+        // Mark the second message, then all the messages up to the last one
+        restParticipantMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/seen-messages/{messageId}", participant.getId(), messageIds.get(1)))
+            .andExpect(status().isNoContent());
+        restParticipantMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/unseen-count", participant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string("2"));
+        restMessageSeenParticipants(messageIds.get(0)).andExpect(jsonPath("$.length()").value(1));
+        restMessageSeenParticipants(messageIds.get(1)).andExpect(jsonPath("$.length()").value(2));
+
+        restParticipantMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/seen-messages/{messageId}?previous=true", participant.getId(), messageIds.get(2)))
+            .andExpect(status().isNoContent());
+        restParticipantMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/unseen-count", participant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string("0"));
+        restMessageSeenParticipants(messageIds.get(0))
+            .andExpect(jsonPath("$.[*]").value(hasItem(participant.getId().toString())))
+            .andExpect(jsonPath("$.[*]").value(hasItem(sender.getId().toString())));
+    }
+
+    @Test
+    @Transactional
+    void deletedMessagesAreNotUnseen() throws Exception {
+        // Initialize the database
+        insertedParticipant = participantRepository.saveAndFlush(participant);
+        Participant sender = createUpdatedEntity(em);
+        em.persist(sender);
+        em.flush();
+        List<UUID> messageIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MessageDTO messageDTO = messageMapper.toDto(MessageResourceIT.createEntity(em).participant(sender));
+            messageIds.add(messageService.save(messageDTO).getId());
+        }
+
+        // The participant has no receipt yet when the second message is deleted
+        restParticipantMockMvc.perform(delete("/api/messages/{id}", messageIds.get(1))).andExpect(status().isNoContent());
+        restParticipantMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/unseen-count", participant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string("2"));
+
+        restParticipantMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/seen-messages/{messageId}", participant.getId(), messageIds.get(0)))
+            .andExpect(status().isNoContent());
+        restParticipantMockMvc.perform(delete("/api/messages/{id}", messageIds.get(2))).andExpect(status().isNoContent());
+        restParticipantMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/unseen-count", participant.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string("0"));
+    }
+
+    @Test
+    @Transactional
+    void markNonExistingMessageSeen() throws Exception {
+        // Initialize the database
+        insertedParticipant = participantRepository.saveAndFlush(participant);
+
+        restParticipantMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/seen-messages/{messageId}", participant.getId(), UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+        restParticipantMockMvc.perform(get(ENTITY_API_URL_ID + "/unseen-count", UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    private ResultActions restMessageSeenParticipants(UUID messageId) throws Exception {
+        return restParticipantMockMvc.perform(get("/api/messages/{id}/seen-participants", messageId)).andExpect(status().isOk());
+    }
+
     @Test
     @Transactional
     void putExistingParticipant() throws Exception {
@@ -5,14 +5,20 @@ import static com.foursquare.server.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.foursquare.server.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.foursquare.server.IntegrationTest;
+import com.foursquare.server.domain.Colour;
+import com.foursquare.server.domain.Comment;
 import com.foursquare.server.domain.Product;
+import com.foursquare.server.domain.ProductCategory;
+import com.foursquare.server.domain.ProductImage;
 import com.foursquare.server.domain.Tag;
+import com.foursquare.server.domain.User;
 import com.foursquare.server.repository.ProductRepository;
 import com.foursquare.server.service.ProductService;
 import com.foursquare.server.service.dto.ProductDTO;
@@ -45,10 +51,10 @@ import org.springframework.transaction.annotation.Transactional;
 @WithMockUser
 class ProductResourceIT {
 
-    private static final String DEFAULT_NAME = "AAAAAAAAAA";
+    private static final String DEFAULT_NAME = "Lantern";
     private static final String UPDATED_NAME = "BBBBBBBBBB";
 
-    private static final String DEFAULT_DESCRIPTION = "AAAAAAAAAA";
+    private static final String DEFAULT_DESCRIPTION = "Brass";
     private static final String UPDATED_DESCRIPTION = "BBBBBBBBBB";
 
     private static final BigDecimal DEFAULT_EXPECTED_PRICE = new BigDecimal(0);
@@ -258,6 +264,73 @@ class ProductResourceIT {
             .andExpect(jsonPath("$.provider").value(DEFAULT_PROVIDER));
     }
 
+    @Test
+    @Transactional
+    void getProductWithItsCollections() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.saveAndFlush(product);
+        User user = UserResourceIT.createEntity(em);
+        em.persist(user);
+        Colour colour = ColourResourceIT.createEntity(em);
+        em.persist(colour);
+        em.persist(new ProductImage().imageUri(DEFAULT_NAME).product(product));
+        em.persist(new ProductCategory().name(DEFAULT_NAME).colour(colour).product(product));
+        em.persist(new Comment().rating(5).content(DEFAULT_DESCRIPTION).user(user).product(product));
+        em.flush();
+        // Load the product and its collections again, as the request would
+        em.clear();
+
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL_ID, product.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.productImages.[*].imageUri").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.productCategories.[*].colour.name").value(hasItem(colour.getName())))
+            .andExpect(jsonPath("$.comments.[*].content").value(hasItem(DEFAULT_DESCRIPTION)))
+            .andExpect(jsonPath("$.comments.[*].user.login").value(hasItem(user.getLogin())));
+
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL + "?id.equals=" + product.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].productImages.[*].imageUri").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[0].comments.[*].rating").value(hasItem(5)));
+    }
+
+    @Test
+    @Transactional
+    void searchProducts() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.saveAndFlush(product);
+
+        // Search the product by the words of its name and description
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", DEFAULT_NAME.toLowerCase() + " " + DEFAULT_DESCRIPTION))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(product.getId().toString())));
+
+        // Excluded words do not match
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", DEFAULT_NAME + " -" + DEFAULT_DESCRIPTION))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(product.getId().toString()))));
+
+        restProductMockMvc.perform(get(ENTITY_API_URL + "/search").param("query", " ")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void searchProductsRanksNameAboveDescription() throws Exception {
+        // Initialize the database
+        Product inDescription = productRepository.saveAndFlush(createUpdatedEntity(em).description(DEFAULT_NAME));
+        insertedProduct = productRepository.saveAndFlush(product);
+
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL + "/search").param("query", DEFAULT_NAME))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(product.getId().toString()))
+            .andExpect(jsonPath("$.[1].id").value(inDescription.getId().toString()));
+    }
+
     @Test
     @Transactional
     void getProductsByIdFiltering() throws Exception {
@@ -0,0 +1,55 @@
+package com.foursquare.server.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import com.foursquare.server.web.rest.vm.BatchVM;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link BatchGetUtil} class.
+ */
+class BatchGetUtilTest {
+
+    @Test
+    void shouldReturnItemsInOrderOfIdsWithMissingIds() {
+        List<List<Long>> queried = new ArrayList<>();
+
+        BatchVM<String, Long> batch = BatchGetUtil.get(List.of(3L, 1L, 2L, 3L, 4L), "orderStatus", ids -> {
+            queried.add(ids);
+            return Map.of(1L, "one", 3L, "three");
+        }).getBody();
+
+        assertThat(queried).containsExactly(List.of(3L, 1L, 2L, 4L));
+        assertThat(batch.getItems()).containsExactly("three", "one");
+        assertThat(batch.getMissingIds()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void shouldRejectMissingIds() {
+        assertThatThrownBy(() -> BatchGetUtil.get(List.of(), "orderStatus", ids -> Map.of()))
+            .isInstanceOf(BadRequestAlertException.class)
+            .extracting("errorKey")
+            .isEqualTo("idsnull");
+        assertThatThrownBy(() -> BatchGetUtil.get(Arrays.asList(1L, null), "orderStatus", ids -> Map.of()))
+            .isInstanceOf(BadRequestAlertException.class)
+            .extracting("errorKey")
+            .isEqualTo("idsnull");
+    }
+
+    @Test
+    void shouldRejectTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, BatchGetUtil.MAX_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> BatchGetUtil.get(ids, "orderStatus", query -> Map.of()))
+            .isInstanceOf(BadRequestAlertException.class)
+            .extracting("errorKey")
+            .isEqualTo("idstoomany");
+    }
+}
@@ -0,0 +1,87 @@
+package com.foursquare.server.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.foursquare.server.service.dto.ColourDTO;
+import com.foursquare.server.service.helper.CriteriaStreamer;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for the {@link CriteriaExportWriter} class.
+ */
+class CriteriaExportWriterTest {
+
+    private CriteriaExportWriter criteriaExportWriter;
+
+    private ColourDTO first;
+
+    private ColourDTO second;
+
+    @BeforeEach
+    void setup() {
+        criteriaExportWriter = new CriteriaExportWriter(
+            JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()
+        );
+        first = new ColourDTO();
+        first.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        first.setName("Red");
+        first.setHexCode("#FF0000");
+        second = new ColourDTO();
+        second.setId(UUID.fromString("00000000-0000-0000-0000-000000000002"));
+        second.setName("Blue, \"navy\"");
+        second.setHexCode("#000080");
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        criteriaExportWriter.write(response, "ndjson", "colour", ColourDTO.class, consumer -> export(consumer));
+
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"colour.ndjson\"");
+        List<String> lines = response.getContentAsString().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("{").contains("\"name\":\"Red\"");
+        assertThat(lines.get(1)).startsWith("{").contains("\"hexCode\":\"#000080\"");
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderAndEscapedFields() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        criteriaExportWriter.write(response, "CSV", "colour", ColourDTO.class, consumer -> export(consumer));
+
+        assertThat(response.getContentType()).startsWith("text/csv");
+        List<String> lines = response.getContentAsString().lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id,name,hexCode,");
+        assertThat(lines.get(1)).startsWith("00000000-0000-0000-0000-000000000001,Red,#FF0000,");
+        assertThat(lines.get(2)).startsWith("00000000-0000-0000-0000-000000000002,\"Blue, \"\"navy\"\"\",#000080,");
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() ->
+            criteriaExportWriter.write(response, "xlsx", "colour", ColourDTO.class, consumer -> export(consumer))
+        ).isInstanceOf(BadRequestAlertException.class);
+    }
+
+    private long export(CriteriaStreamer.RowConsumer<ColourDTO> consumer) throws IOException {
+        consumer.accept(first);
+        consumer.accept(second);
+        return 2;
+    }
+}
@@ -0,0 +1,46 @@
+package com.foursquare.server.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link FetchProfiles} class.
+ */
+class FetchProfilesTest {
+
+    @Test
+    void shouldParseAssociations() {
+        assertThat(FetchProfiles.parse(" status, customer ,", OrderDTO.class, "order")).containsExactly("status", "customer");
+        assertThat(FetchProfiles.parse(null, OrderDTO.class, "order")).isNull();
+        assertThat(FetchProfiles.parse("", OrderDTO.class, "order")).isNull();
+    }
+
+    @Test
+    void shouldRejectPropertiesWhichAreNotAssociations() {
+        assertThatThrownBy(() -> FetchProfiles.parse("status,note,items", OrderDTO.class, "order"))
+            .isInstanceOf(BadRequestAlertException.class)
+            .hasMessageContaining("Unknown associations: note,items")
+            .extracting("errorKey")
+            .isEqualTo("includeinvalid");
+    }
+
+    @Test
+    void shouldReadAllPropertiesWithoutProfile() {
+        assertThat(FetchProfiles.properties(null, null, OrderDTO.class)).isNull();
+        assertThat(FetchProfiles.properties(Set.of("id", "note"), null, OrderDTO.class)).containsExactlyInAnyOrder("id", "note");
+    }
+
+    @Test
+    void shouldNotReadAssociationsWhichAreNotIncluded() {
+        assertThat(FetchProfiles.properties(null, Set.of("status"), OrderDTO.class))
+            .contains("id", "type", "note", "createdDate", "status")
+            .doesNotContain("customer", "address", "rootOrder");
+        assertThat(FetchProfiles.properties(Set.of("id", "note", "status", "address"), Set.of("status"), OrderDTO.class))
+            .containsExactlyInAnyOrder("id", "note", "status");
+    }
+}
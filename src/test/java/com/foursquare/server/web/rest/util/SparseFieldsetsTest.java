@@ -0,0 +1,85 @@
+package com.foursquare.server.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foursquare.server.config.JacksonConfiguration;
+import com.foursquare.server.domain.enumeration.OrderType;
+import com.foursquare.server.service.dto.OrderDTO;
+import com.foursquare.server.service.dto.OrderStatusDTO;
+import com.foursquare.server.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Unit tests for the {@link SparseFieldsets} class.
+ */
+class SparseFieldsetsTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfiguration().sparseFieldsetsCustomizer().customize(builder);
+        objectMapper = builder.build();
+    }
+
+    @Test
+    void shouldParseFieldsWithId() {
+        assertThat(SparseFieldsets.parse(" type, status ,", OrderDTO.class, "order")).containsExactly("id", "type", "status");
+        assertThat(SparseFieldsets.parse(null, OrderDTO.class, "order")).isNull();
+        assertThat(SparseFieldsets.parse("", OrderDTO.class, "order")).isNull();
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> SparseFieldsets.parse("type,passwordHash,customer", OrderDTO.class, "order"))
+            .isInstanceOf(BadRequestAlertException.class)
+            .hasMessageContaining("Unknown fields: passwordHash")
+            .extracting("errorKey")
+            .isEqualTo("fieldsinvalid");
+    }
+
+    @Test
+    void shouldWriteFieldsOfReturnedDtosOnly() throws Exception {
+        OrderDTO order = order();
+        OrderDTO rootOrder = order();
+        order.setRootOrder(rootOrder);
+
+        List<OrderDTO> body = List.of(order);
+        String written = objectMapper.writer(SparseFieldsets.filters(body, "type,status,rootOrder")).writeValueAsString(body);
+        JsonNode json = objectMapper.readTree(written);
+
+        assertThat(json.get(0).fieldNames()).toIterable().containsExactly("id", "type", "status", "rootOrder");
+        assertThat(json.get(0).get("status").get("statusCode").asText()).isEqualTo("NEW");
+        // Nested DTOs are written whole
+        assertThat(json.get(0).get("rootOrder").has("note")).isTrue();
+    }
+
+    @Test
+    void shouldWriteWholeDtosWithoutFields() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(order()));
+
+        assertThat(json.has("note")).isTrue();
+        assertThat(json.has("priority")).isTrue();
+    }
+
+    private static OrderDTO order() {
+        OrderDTO order = new OrderDTO();
+        order.setId(UUID.randomUUID());
+        order.setType(OrderType.SALE);
+        order.setNote("rush");
+        order.setPriority(1);
+        OrderStatusDTO status = new OrderStatusDTO();
+        status.setId(1L);
+        status.setStatusCode("NEW");
+        order.setStatus(status);
+        return order;
+    }
+}